@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Locale;
+
+/**
+ * The databases the benchmarks can run against.
+ * Selected through the {@code database} JMH parameter.
+ * <p>
+ * The in-process databases need no setup. The Oracle database is located by the
+ * {@code bench.oracle.url}, {@code bench.oracle.user} and {@code bench.oracle.password}
+ * system properties, which default to those of the database container used by the
+ * test suite.
+ */
+public enum BenchmarkDatabase {
+	H2( "org.h2.Driver", "jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000", "sa", "" ),
+	HSQLDB( "org.hsqldb.jdbc.JDBCDriver", "jdbc:hsqldb:mem:bench", "sa", "" ),
+	ORACLE(
+			"oracle.jdbc.OracleDriver",
+			System.getProperty( "bench.oracle.url", "jdbc:oracle:thin:@localhost:1521/freepdb1" ),
+			System.getProperty( "bench.oracle.user", "hibernate_orm_test" ),
+			System.getProperty( "bench.oracle.password", "hibernate_orm_test" )
+	);
+
+	private final String driver;
+	private final String url;
+	private final String user;
+	private final String password;
+
+	BenchmarkDatabase(String driver, String url, String user, String password) {
+		this.driver = driver;
+		this.url = url;
+		this.user = user;
+		this.password = password;
+	}
+
+	public String getDriver() {
+		return driver;
+	}
+
+	public String getUrl() {
+		return url;
+	}
+
+	public String getUser() {
+		return user;
+	}
+
+	public String getPassword() {
+		return password;
+	}
+
+	public static BenchmarkDatabase fromParameter(String name) {
+		return valueOf( name.toUpperCase( Locale.ROOT ) );
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.orm.benchmark.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the flush-time dirty checking done by {@code DefaultFlushEntityEventListener}
+ * over a persistence context holding every book, with {@code dirtyCount} of them
+ * modified before each flush.
+ * <p>
+ * The transaction is rolled back at the end of each iteration, so the data is unchanged
+ * between iterations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DirtyCheckingFlushBenchmark {
+
+	@Param({ "0", "10", "100" })
+	public int dirtyCount;
+
+	private Session session;
+	private List<Book> books;
+	private int round;
+
+	@Setup(Level.Iteration)
+	public void loadBooks(SessionFactoryState state) {
+		session = state.getSessionFactory().openSession();
+		session.beginTransaction();
+		books = session.createSelectionQuery( "from Book", Book.class ).getResultList();
+	}
+
+	@TearDown(Level.Iteration)
+	public void rollback() {
+		session.getTransaction().rollback();
+		session.close();
+	}
+
+	@Benchmark
+	public void flush() {
+		final int offset = round++ * dirtyCount;
+		for ( int i = 0; i < dirtyCount; i++ ) {
+			final Book book = books.get( ( offset + i ) % books.size() );
+			book.setTitle( "Title " + round );
+		}
+		session.flush();
+	}
+}
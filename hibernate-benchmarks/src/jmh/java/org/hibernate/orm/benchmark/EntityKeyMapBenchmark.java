@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.internal.EntityKeyMap;
+import org.hibernate.engine.internal.EntityKeySet;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.orm.benchmark.model.Book;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the {@link EntityKeyMap} and {@link EntityKeySet} used by the
+ * persistence context and the batch fetch queue with the {@code HashMap}
+ * and {@code LinkedHashSet} they replaced, for a session holding
+ * {@code entityCount} entities.
+ * <p>
+ * Populating a collection allocates its whole footprint, so run with the
+ * GC profiler to get the memory cost per entry from {@code gc.alloc.rate.norm}:
+ * <pre>
+ *    ./gradlew :hibernate-benchmarks:jmh -PjmhIncludes=EntityKeyMap -PjmhProfilers=gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class EntityKeyMapBenchmark {
+	@Param({ "1000", "100000" })
+	public int entityCount;
+
+	private EntityKey[] keys;
+	private Map<EntityKey, Object> hashMap;
+	private Map<EntityKey, Object> entityKeyMap;
+
+	@Setup(Level.Trial)
+	public void createKeys(SessionFactoryState state) {
+		final EntityPersister persister =
+				state.getSessionFactory().getMappingMetamodel().getEntityDescriptor( Book.class );
+		keys = new EntityKey[entityCount];
+		for ( int i = 0; i < entityCount; i++ ) {
+			keys[i] = new EntityKey( (long) i, persister );
+		}
+		hashMap = populate( new HashMap<>() );
+		entityKeyMap = populate( new EntityKeyMap<>() );
+	}
+
+	private Map<EntityKey, Object> populate(Map<EntityKey, Object> map) {
+		for ( EntityKey key : keys ) {
+			map.put( key, key );
+		}
+		return map;
+	}
+
+	@Benchmark
+	public Map<EntityKey, Object> populateHashMap() {
+		return populate( new HashMap<>( 8 ) );
+	}
+
+	@Benchmark
+	public Map<EntityKey, Object> populateEntityKeyMap() {
+		return populate( new EntityKeyMap<>( 8 ) );
+	}
+
+	@Benchmark
+	public Set<EntityKey> populateLinkedHashSet() {
+		final Set<EntityKey> set = new LinkedHashSet<>( 8 );
+		for ( EntityKey key : keys ) {
+			set.add( key );
+		}
+		return set;
+	}
+
+	@Benchmark
+	public Set<EntityKey> populateEntityKeySet() {
+		final Set<EntityKey> set = new EntityKeySet( 8 );
+		for ( EntityKey key : keys ) {
+			set.add( key );
+		}
+		return set;
+	}
+
+	@Benchmark
+	public int lookupHashMap() {
+		return lookup( hashMap );
+	}
+
+	@Benchmark
+	public int lookupEntityKeyMap() {
+		return lookup( entityKeyMap );
+	}
+
+	private int lookup(Map<EntityKey, Object> map) {
+		int found = 0;
+		for ( EntityKey key : keys ) {
+			if ( map.get( key ) != null ) {
+				found++;
+			}
+		}
+		return found;
+	}
+}
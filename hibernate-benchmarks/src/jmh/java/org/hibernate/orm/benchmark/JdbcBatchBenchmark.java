@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.orm.benchmark.model.Author;
+import org.hibernate.orm.benchmark.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures a flush of {@code rows} new entities, which goes through
+ * {@code InsertCoordinatorStandard} and {@code BatchImpl.addToBatch}, or,
+ * with {@linkplain BatchSettings#MULTI_ROW_INSERTS multi-row inserts},
+ * {@code MultiRowInsertBatch.addToBatch}.
+ * Each invocation runs in its own transaction, rolled back afterwards.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JdbcBatchBenchmark {
+
+	@Param({ "500" })
+	public int rows;
+
+	private Session session;
+
+	@Setup(Level.Invocation)
+	public void begin(MultiRowState state) {
+		session = state.getSessionFactory().openSession();
+		session.beginTransaction();
+	}
+
+	@TearDown(Level.Invocation)
+	public void rollback() {
+		session.getTransaction().rollback();
+		session.close();
+	}
+
+	@Benchmark
+	public void persistAndFlush() {
+		final Author author = session.getReference( Author.class, 0L );
+		final LocalDate date = LocalDate.of( 2024, 1, 1 );
+		for ( int i = 0; i < rows; i++ ) {
+			session.persist( new Book( "New " + i, "new-" + i, BigDecimal.TEN, date, i, author ) );
+		}
+		session.flush();
+	}
+
+	@State(Scope.Benchmark)
+	public static class MultiRowState extends SessionFactoryState {
+		@Param({ "false", "true" })
+		public boolean multiRow;
+
+		@Override
+		protected void configure(Map<String, Object> settings) {
+			settings.put( BatchSettings.MULTI_ROW_INSERTS, multiRow );
+		}
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.orm.benchmark.model.Author;
+import org.hibernate.orm.benchmark.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures a wide flush of {@code rows} new entities, with the full JDBC batches
+ * executed synchronously, or {@linkplain BatchSettings#PIPELINED_EXECUTION pipelined}
+ * with the binding of the next batch.
+ * <p>
+ * Pipelining only takes effect with a dialect which supports asynchronous batch
+ * execution, so this should be run with {@code -PjmhDatabase=oracle}. Against the
+ * in-process databases, both variants measure the synchronous execution.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PipelinedFlushBenchmark {
+
+	@Param({ "50000" })
+	public int rows;
+
+	private Session session;
+
+	@Setup(Level.Invocation)
+	public void begin(PipelinedState state) {
+		session = state.getSessionFactory().openSession();
+		session.beginTransaction();
+	}
+
+	@TearDown(Level.Invocation)
+	public void rollback() {
+		session.getTransaction().rollback();
+		session.close();
+	}
+
+	@Benchmark
+	public void persistAndFlush() {
+		final Author author = session.getReference( Author.class, 0L );
+		final LocalDate date = LocalDate.of( 2024, 1, 1 );
+		for ( int i = 0; i < rows; i++ ) {
+			session.persist( new Book( "New " + i, "new-" + i, BigDecimal.TEN, date, i, author ) );
+		}
+		session.flush();
+	}
+
+	@State(Scope.Benchmark)
+	public static class PipelinedState extends SessionFactoryState {
+		@Param({ "false", "true" })
+		public boolean pipelined;
+
+		@Override
+		protected void configure(Map<String, Object> settings) {
+			settings.put( BatchSettings.PIPELINED_EXECUTION, pipelined );
+		}
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.internal.util.ReflectHelper;
+import org.hibernate.orm.benchmark.model.Book;
+import org.hibernate.property.access.internal.PropertyAccessStrategyFieldImpl;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.property.access.spi.Setter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares reading and writing the private fields of an entity through the
+ * {@link PropertyAccessStrategyFieldImpl field access strategy}, whose accessors
+ * are generated hidden classes, with plain {@link Field#get} and {@link Field#set},
+ * as done when hydrating and dehydrating an entity for which no
+ * {@link org.hibernate.bytecode.spi.ReflectionOptimizer} can be built.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class PropertyAccessBenchmark {
+	private static final String[] PROPERTIES = { "title", "isbn", "price", "publicationDate", "pages" };
+
+	private Book book;
+	private Object[] values;
+	private Field[] fields;
+	private Getter[] getters;
+	private Setter[] setters;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		book = new Book( "title", "isbn", BigDecimal.TEN, LocalDate.of( 2024, 1, 1 ), 100, null );
+		values = new Object[] { "other title", "other isbn", BigDecimal.ONE, LocalDate.of( 2025, 1, 1 ), 200 };
+		fields = new Field[PROPERTIES.length];
+		getters = new Getter[PROPERTIES.length];
+		setters = new Setter[PROPERTIES.length];
+		for ( int i = 0; i < PROPERTIES.length; i++ ) {
+			fields[i] = ReflectHelper.findField( Book.class, PROPERTIES[i] );
+			final PropertyAccess propertyAccess =
+					PropertyAccessStrategyFieldImpl.INSTANCE.buildPropertyAccess( Book.class, PROPERTIES[i], true );
+			getters[i] = propertyAccess.getGetter();
+			setters[i] = propertyAccess.getSetter();
+		}
+	}
+
+	@Benchmark
+	public void getReflectively(Blackhole blackhole) throws IllegalAccessException {
+		for ( Field field : fields ) {
+			blackhole.consume( field.get( book ) );
+		}
+	}
+
+	@Benchmark
+	public void getWithPropertyAccess(Blackhole blackhole) {
+		for ( Getter getter : getters ) {
+			blackhole.consume( getter.get( book ) );
+		}
+	}
+
+	@Benchmark
+	public Book setReflectively() throws IllegalAccessException {
+		for ( int i = 0; i < fields.length; i++ ) {
+			fields[i].set( book, values[i] );
+		}
+		return book;
+	}
+
+	@Benchmark
+	public Book setWithPropertyAccess() {
+		for ( int i = 0; i < setters.length; i++ ) {
+			setters[i].set( book, values[i] );
+		}
+		return book;
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.orm.benchmark.model.Book;
+import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.QueryEngine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures lookups in the {@code QueryInterpretationCache}: the uncontended and
+ * contended hit paths, and a workload with more distinct queries than the cache
+ * can hold, which exercises misses and eviction.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QueryInterpretationCacheBenchmark {
+	private static final String HQL = "from Book b where b.title = :title and b.pages > :pages";
+	private static final int DISTINCT_QUERIES = 4_096;
+
+	@Benchmark
+	public HqlInterpretation<Book> hit(SessionFactoryState state) {
+		return interpret( state, HQL );
+	}
+
+	@Benchmark
+	@Threads(8)
+	public HqlInterpretation<Book> hitContended(SessionFactoryState state) {
+		return interpret( state, HQL );
+	}
+
+	@Benchmark
+	public HqlInterpretation<Book> churn(SessionFactoryState state) {
+		final int n = ThreadLocalRandom.current().nextInt( DISTINCT_QUERIES );
+		return interpret( state, "from Book b where b.pages > " + n );
+	}
+
+	private static HqlInterpretation<Book> interpret(SessionFactoryState state, String hql) {
+		final QueryEngine queryEngine = state.getSessionFactory().getQueryEngine();
+		return queryEngine.interpretHql( hql, Book.class );
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.orm.benchmark.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures reading rows from {@code JdbcValuesResultSetImpl} through
+ * {@code StandardRowReader}, once hydrating managed entities and once
+ * assembling plain scalar tuples.
+ * <p>
+ * Run in isolation, each benchmark only ever sees the initializers and
+ * assemblers of its own query, so the call sites of {@code StandardRowReader}
+ * stay monomorphic. The {@code megamorphic} variants run the same queries
+ * after a variety of other queries have been read, as an application would,
+ * once with the standard row reader, and once with
+ * {@value QuerySettings#QUERY_ROW_READER_COMPILE_THRESHOLD} enabled, so
+ * that the rows are read by generated row readers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RowReadingBenchmark {
+
+	@Benchmark
+	public List<Book> readEntities(SessionFactoryState state) {
+		try ( Session session = state.getSessionFactory().openSession() ) {
+			return session.createSelectionQuery( "from Book", Book.class ).getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<Object[]> readScalars(SessionFactoryState state) {
+		try ( Session session = state.getSessionFactory().openSession() ) {
+			return session.createSelectionQuery(
+					"select b.id, b.title, b.isbn, b.price, b.publicationDate, b.pages from Book b",
+					Object[].class
+			).getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<Book> readEntitiesWithJoinFetch(SessionFactoryState state) {
+		try ( Session session = state.getSessionFactory().openSession() ) {
+			return session.createSelectionQuery( "from Book b join fetch b.author", Book.class ).getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<Book> readEntitiesMegamorphic(MegamorphicState state) {
+		return readEntities( state );
+	}
+
+	@Benchmark
+	public List<Object[]> readScalarsMegamorphic(MegamorphicState state) {
+		return readScalars( state );
+	}
+
+	@Benchmark
+	public List<Book> readEntitiesWithJoinFetchMegamorphic(MegamorphicState state) {
+		return readEntitiesWithJoinFetch( state );
+	}
+
+	@State(Scope.Benchmark)
+	public static class MegamorphicState extends SessionFactoryState {
+		/**
+		 * Queries reading results of different shapes, which are read
+		 * {@value #POLLUTION_ROUNDS} times each before the measurement.
+		 */
+		private static final List<String> OTHER_QUERIES = List.of(
+				"from Author",
+				"from Author a left join fetch a.books",
+				"select a.name, a.country from Author a",
+				"select b.title from Book b",
+				"select b, a from Book b join b.author a",
+				"select b.author from Book b",
+				"select new list(b.title, b.pages) from Book b",
+				"select a.country, count(b) from Book b join b.author a group by a.country"
+		);
+		private static final int POLLUTION_ROUNDS = 2_000;
+
+		@Param({ "false", "true" })
+		public boolean compiled;
+
+		@Override
+		protected void configure(Map<String, Object> settings) {
+			if ( compiled ) {
+				settings.put( QuerySettings.QUERY_ROW_READER_COMPILE_THRESHOLD, 1 );
+			}
+		}
+
+		@Override
+		protected void populate() {
+			super.populate();
+			// let the JIT compiler profile the shared call sites with many receiver types
+			for ( int i = 0; i < POLLUTION_ROUNDS; i++ ) {
+				getSessionFactory().inSession( session -> {
+					for ( String query : OTHER_QUERIES ) {
+						session.createSelectionQuery( query, Object.class ).setMaxResults( 50 ).getResultList();
+					}
+				} );
+			}
+		}
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.PersistenceSettings;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the time taken to build a {@code SessionFactory} for a synthetic model
+ * of {@code entities} entities, with the persisters initialized by the building
+ * thread, or by a pool of threads, as specified by
+ * {@value PersistenceSettings#BOOT_PARALLELISM}.
+ * <p>
+ * The model is generated as a dynamic-map mapping, so that its size is a
+ * parameter. Each entity has a version, a handful of basic attributes, a
+ * many-to-one association to the previous entity, and a one-to-many
+ * association to the next one.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SessionFactoryBootBenchmark {
+
+	@Param({ "h2" })
+	public String database;
+
+	@Param({ "500" })
+	public int entities;
+
+	@Param({ "1", "8" })
+	public int parallelism;
+
+	private byte[] mapping;
+
+	@Setup(Level.Trial)
+	public void generateModel() {
+		final StringBuilder xml = new StringBuilder()
+				.append( "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" )
+				.append( "<hibernate-mapping xmlns=\"http://www.hibernate.org/xsd/hibernate-mapping\">\n" );
+		for ( int i = 0; i < entities; i++ ) {
+			xml.append( "\t<class entity-name=\"Entity" ).append( i ).append( "\" table=\"entity_" ).append( i ).append( "\">\n" )
+					.append( "\t\t<id name=\"id\" type=\"long\"/>\n" )
+					.append( "\t\t<version name=\"version\" type=\"integer\"/>\n" )
+					.append( "\t\t<property name=\"name\" type=\"string\" length=\"100\"/>\n" )
+					.append( "\t\t<property name=\"code\" type=\"string\" length=\"20\"/>\n" )
+					.append( "\t\t<property name=\"quantity\" type=\"integer\"/>\n" )
+					.append( "\t\t<property name=\"price\" type=\"big_decimal\"/>\n" )
+					.append( "\t\t<property name=\"created\" type=\"timestamp\"/>\n" )
+					.append( "\t\t<property name=\"active\" type=\"boolean\"/>\n" );
+			if ( i > 0 ) {
+				xml.append( "\t\t<many-to-one name=\"previous\" entity-name=\"Entity" ).append( i - 1 )
+						.append( "\" column=\"previous_id\"/>\n" );
+			}
+			if ( i < entities - 1 ) {
+				xml.append( "\t\t<set name=\"next\" inverse=\"true\">\n" )
+						.append( "\t\t\t<key column=\"previous_id\"/>\n" )
+						.append( "\t\t\t<one-to-many entity-name=\"Entity" ).append( i + 1 ).append( "\"/>\n" )
+						.append( "\t\t</set>\n" );
+			}
+			xml.append( "\t</class>\n" );
+		}
+		xml.append( "</hibernate-mapping>\n" );
+		mapping = xml.toString().getBytes( StandardCharsets.UTF_8 );
+	}
+
+	@Benchmark
+	public SessionFactory build() {
+		final BenchmarkDatabase db = BenchmarkDatabase.fromParameter( database );
+
+		final Map<String, Object> settings = new HashMap<>();
+		settings.put( AvailableSettings.JAKARTA_JDBC_DRIVER, db.getDriver() );
+		settings.put( AvailableSettings.JAKARTA_JDBC_URL, db.getUrl() );
+		settings.put( AvailableSettings.JAKARTA_JDBC_USER, db.getUser() );
+		settings.put( AvailableSettings.JAKARTA_JDBC_PASSWORD, db.getPassword() );
+		settings.put( PersistenceSettings.BOOT_PARALLELISM, parallelism );
+
+		final StandardServiceRegistry serviceRegistry =
+				new StandardServiceRegistryBuilder().applySettings( settings ).build();
+		try {
+			final SessionFactory sessionFactory = new MetadataSources( serviceRegistry )
+					.addInputStream( new ByteArrayInputStream( mapping ) )
+					.buildMetadata()
+					.buildSessionFactory();
+			sessionFactory.close();
+			return sessionFactory;
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Author;
+import org.hibernate.orm.benchmark.model.Book;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Shared benchmark state: a {@link SessionFactoryImplementor} over an in-memory
+ * database, populated with {@value #AUTHOR_COUNT} authors and {@value #BOOK_COUNT} books.
+ * <p>
+ * Benchmarks needing different settings override {@link #configure(Map)}.
+ */
+@State(Scope.Benchmark)
+public class SessionFactoryState {
+	public static final int AUTHOR_COUNT = 100;
+	public static final int BOOK_COUNT = 1_000;
+
+	@Param({ "h2" })
+	public String database;
+
+	private StandardServiceRegistry serviceRegistry;
+	private SessionFactoryImplementor sessionFactory;
+	private long[] bookIds;
+
+	@Setup(Level.Trial)
+	public void buildSessionFactory() {
+		final BenchmarkDatabase db = BenchmarkDatabase.fromParameter( database );
+
+		final Map<String, Object> settings = new HashMap<>();
+		settings.put( AvailableSettings.JAKARTA_JDBC_DRIVER, db.getDriver() );
+		settings.put( AvailableSettings.JAKARTA_JDBC_URL, db.getUrl() );
+		settings.put( AvailableSettings.JAKARTA_JDBC_USER, db.getUser() );
+		settings.put( AvailableSettings.JAKARTA_JDBC_PASSWORD, db.getPassword() );
+		settings.put( AvailableSettings.HBM2DDL_AUTO, "create-drop" );
+		settings.put( AvailableSettings.SHOW_SQL, "false" );
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "50" );
+		settings.put( AvailableSettings.ORDER_INSERTS, "true" );
+		configure( settings );
+
+		serviceRegistry = new StandardServiceRegistryBuilder().applySettings( settings ).build();
+		try {
+			sessionFactory = new MetadataSources( serviceRegistry )
+					.addAnnotatedClass( Author.class )
+					.addAnnotatedClass( Book.class )
+					.buildMetadata()
+					.buildSessionFactory()
+					.unwrap( SessionFactoryImplementor.class );
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+			throw e;
+		}
+
+		populate();
+		bookIds = sessionFactory.fromSession( session -> session
+				.createSelectionQuery( "select id from Book order by id", Long.class )
+				.getResultStream()
+				.mapToLong( Long::longValue )
+				.toArray() );
+	}
+
+	/**
+	 * Hook for adjusting the configuration settings before the
+	 * {@code SessionFactory} is built.
+	 */
+	protected void configure(Map<String, Object> settings) {
+	}
+
+	protected void populate() {
+		sessionFactory.inTransaction( session -> {
+			for ( long a = 0; a < AUTHOR_COUNT; a++ ) {
+				final Author author = new Author( a, "Author " + a, a % 2 == 0 ? "CH" : "IT" );
+				session.persist( author );
+				for ( int b = 0; b < BOOK_COUNT / AUTHOR_COUNT; b++ ) {
+					session.persist( new Book(
+							"Title " + a + "-" + b,
+							"isbn-" + a + "-" + b,
+							BigDecimal.valueOf( 1000 + b, 2 ),
+							LocalDate.of( 2000 + b, 1 + b % 12, 1 ),
+							100 + b,
+							author
+					) );
+				}
+			}
+		} );
+	}
+
+	@TearDown(Level.Trial)
+	public void closeSessionFactory() {
+		if ( sessionFactory != null ) {
+			sessionFactory.close();
+		}
+		if ( serviceRegistry != null ) {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+	}
+
+	public SessionFactoryImplementor getSessionFactory() {
+		return sessionFactory;
+	}
+
+	/**
+	 * The identifiers of all persisted books, in ascending order.
+	 */
+	public long[] getBookIds() {
+		return bookIds;
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.orm.benchmark.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures {@code SessionImpl.find}, both when the entity has to be loaded
+ * from the database and when it is already managed by the persistence context.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SessionFindBenchmark {
+
+	@State(Scope.Thread)
+	public static class OpenSession {
+		Session session;
+
+		@Setup(Level.Iteration)
+		public void open(SessionFactoryState state) {
+			session = state.getSessionFactory().openSession();
+			for ( long id : state.getBookIds() ) {
+				session.find( Book.class, id );
+			}
+		}
+
+		@TearDown(Level.Iteration)
+		public void close() {
+			session.close();
+		}
+	}
+
+	@Benchmark
+	public Book findInNewSession(SessionFactoryState state) {
+		final long id = randomId( state );
+		try ( Session session = state.getSessionFactory().openSession() ) {
+			return session.find( Book.class, id );
+		}
+	}
+
+	@Benchmark
+	public Book findManaged(SessionFactoryState state, OpenSession openSession) {
+		return openSession.session.find( Book.class, randomId( state ) );
+	}
+
+	private static long randomId(SessionFactoryState state) {
+		final long[] ids = state.getBookIds();
+		return ids[ThreadLocalRandom.current().nextInt( ids.length )];
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.sqm.internal.QuerySqmImpl;
+import org.hibernate.query.sqm.sql.internal.StandardSqmTranslator;
+import org.hibernate.sql.ast.SqlAstTranslatorFactory;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures rendering of a pre-built SQL AST to a JDBC operation by
+ * {@code AbstractSqlAstTranslator}, isolated from HQL parsing and SQM
+ * interpretation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SqlAstRenderingBenchmark {
+	private static final String HQL = "select b from Book b join fetch b.author a"
+			+ " where a.country = 'CH' and b.pages between 100 and 500"
+			+ " order by b.publicationDate desc, b.title";
+
+	private SessionFactoryImplementor sessionFactory;
+	private SqlAstTranslatorFactory translatorFactory;
+	private SelectStatement sqlAst;
+
+	@Setup(Level.Trial)
+	public void buildSqlAst(SessionFactoryState state) {
+		sessionFactory = state.getSessionFactory();
+		translatorFactory = sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory();
+		try ( SessionImplementor session = sessionFactory.openSession().unwrap( SessionImplementor.class ) ) {
+			final QuerySqmImpl<?> query = (QuerySqmImpl<?>) session.createQuery( HQL, Object.class );
+			final StandardSqmTranslator<SelectStatement> translator = new StandardSqmTranslator<>(
+					query.getSqmStatement(),
+					query.getQueryOptions(),
+					query.getDomainParameterXref(),
+					query.getParameterBindings(),
+					new LoadQueryInfluencers( sessionFactory ),
+					sessionFactory,
+					true
+			);
+			sqlAst = translator.translate().getSqlAst();
+		}
+	}
+
+	@Benchmark
+	public JdbcOperationQuerySelect render() {
+		return translatorFactory.buildSelectTranslator( sessionFactory, sqlAst )
+				.translate( JdbcParameterBindings.NO_BINDINGS, QueryOptions.NONE );
+	}
+}
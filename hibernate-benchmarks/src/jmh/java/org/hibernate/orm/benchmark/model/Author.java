@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OneToMany;
+
+@Entity(name = "Author")
+public class Author {
+	@Id
+	private Long id;
+	private String name;
+	private String country;
+
+	@OneToMany(mappedBy = "author")
+	private List<Book> books = new ArrayList<>();
+
+	protected Author() {
+	}
+
+	public Author(Long id, String name, String country) {
+		this.id = id;
+		this.name = name;
+		this.country = country;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public String getCountry() {
+		return country;
+	}
+
+	public void setCountry(String country) {
+		this.country = country;
+	}
+
+	public List<Book> getBooks() {
+		return books;
+	}
+}
@@ -1194,6 +1194,31 @@ public interface Session extends SharedSessionContract, EntityManager {
 	 */
 	void setReadOnly(Object entityOrProxy, boolean readOnly);
 
+	/**
+	 * Inform the session that the given persistent object might have been
+	 * modified, so that it is dirty checked at the next flush.
+	 * <p>
+	 * This is only necessary when
+	 * {@linkplain org.hibernate.cfg.PersistenceSettings#FLUSH_EXPLICIT_DIRTY_TRACKING
+	 * explicit dirty tracking} is enabled, in which case a flush assumes that
+	 * an entity which is not bytecode enhanced was not modified unless it was
+	 * marked dirty or {@linkplain #merge(Object) merged}. Otherwise, every
+	 * entity is dirty checked, and this method has no effect.
+	 * <p>
+	 * An uninitialized proxy cannot have been modified, and is ignored.
+	 *
+	 * @param entityOrProxy an entity or proxy
+	 *
+	 * @throws IllegalArgumentException if the given entity is not
+	 *         associated with this session
+	 *
+	 * @see org.hibernate.cfg.PersistenceSettings#FLUSH_EXPLICIT_DIRTY_TRACKING
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	void markDirty(Object entityOrProxy);
+
 	/**
 	 * Is the {@link org.hibernate.annotations.FetchProfile fetch profile}
 	 * with the given name enabled in this session?
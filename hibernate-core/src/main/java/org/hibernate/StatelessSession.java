@@ -96,6 +96,10 @@ public interface StatelessSession extends SharedSessionContract {
 
 	/**
 	 * Insert multiple records.
+	 * <p>
+	 * If the number of instances reaches the {@linkplain org.hibernate.cfg.BatchSettings#BULK_INSERT_THRESHOLD
+	 * bulk insert threshold}, their rows might be loaded using the native bulk
+	 * load facility of the database.
 	 *
 	 * @param entities a list of transient instances to be inserted
 	 *
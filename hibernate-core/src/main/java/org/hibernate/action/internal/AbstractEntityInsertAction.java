@@ -39,6 +39,7 @@ public abstract class AbstractEntityInsertAction extends EntityAction {
 	private final boolean isVersionIncrementDisabled;
 	private boolean isExecuted;
 	private boolean areTransientReferencesNullified;
+	private boolean hasNullifiedReferences;
 
 	/**
 	 * Constructs an AbstractEntityInsertAction object.
@@ -119,8 +120,10 @@ public NonNullableTransientDependencies findNonNullableTransientEntities() {
 	 */
 	protected final void nullifyTransientReferencesIfNotAlready() {
 		if ( !areTransientReferencesNullified ) {
-			new ForeignKeys.Nullifier( getInstance(), false, isEarlyInsert(), getSession(), getPersister() )
-					.nullifyTransientReferences( getState() );
+			final ForeignKeys.Nullifier nullifier =
+					new ForeignKeys.Nullifier( getInstance(), false, isEarlyInsert(), getSession(), getPersister() );
+			nullifier.nullifyTransientReferences( getState() );
+			hasNullifiedReferences = nullifier.hasNullifiedReferences();
 			new Nullability( getSession() ).checkNullability( getState(), getPersister(), false );
 			areTransientReferencesNullified = true;
 		}
@@ -150,6 +153,12 @@ public final void makeEntityManaged() {
 				isVersionIncrementDisabled
 		);
 		entityHolder.setEntityEntry( entityEntry );
+		if ( hasNullifiedReferences ) {
+			// the state no longer matches the instance, and the foreign key
+			// must be written by an update once the referenced entity exists,
+			// even when only explicitly marked entities are dirty checked
+			entityEntry.markDirty();
+		}
 		if ( isEarlyInsert() ) {
 			addCollectionsByKeyToPersistenceContext( persistenceContextInternal, getState() );
 		}
@@ -79,6 +79,7 @@
 import static org.hibernate.cfg.AvailableSettings.AUTO_EVICT_COLLECTION_CACHE;
 import static org.hibernate.cfg.AvailableSettings.AUTO_SESSION_EVENTS_LISTENER;
 import static org.hibernate.cfg.AvailableSettings.BATCH_VERSIONED_DATA;
+import static org.hibernate.cfg.AvailableSettings.BULK_INSERT_THRESHOLD;
 import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_PREFIX;
 import static org.hibernate.cfg.AvailableSettings.CALLABLE_NAMED_PARAMS_ENABLED;
 import static org.hibernate.cfg.AvailableSettings.CHECK_NULLABILITY;
@@ -93,6 +94,8 @@
 import static org.hibernate.cfg.AvailableSettings.ENABLE_LAZY_LOAD_NO_TRANS;
 import static org.hibernate.cfg.AvailableSettings.FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH;
 import static org.hibernate.cfg.AvailableSettings.FLUSH_BEFORE_COMPLETION;
+import static org.hibernate.cfg.AvailableSettings.FLUSH_EXPLICIT_DIRTY_TRACKING;
+import static org.hibernate.cfg.AvailableSettings.FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD;
 import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
 import static org.hibernate.cfg.AvailableSettings.IMMUTABLE_ENTITY_UPDATE_QUERY_HANDLING_MODE;
 import static org.hibernate.cfg.AvailableSettings.INTERCEPTOR;
@@ -102,12 +105,14 @@
 import static org.hibernate.cfg.AvailableSettings.JTA_TRACK_BY_THREAD;
 import static org.hibernate.cfg.AvailableSettings.LOG_SESSION_METRICS;
 import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
+import static org.hibernate.cfg.AvailableSettings.MULTI_ROW_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
+import static org.hibernate.cfg.AvailableSettings.QUERY_ROW_READER_COMPILE_THRESHOLD;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STATISTICS_MAX_SIZE;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME_IS_JNDI;
@@ -126,6 +131,9 @@
 import static org.hibernate.cfg.AvailableSettings.USE_STRUCTURED_CACHE;
 import static org.hibernate.cfg.AvailableSettings.USE_SUBSELECT_FETCH;
 import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_LAYOUT;
+import static org.hibernate.cfg.CacheSettings.NEAR_CACHE_MAX_ENTRIES;
+import static org.hibernate.cfg.CacheSettings.NEAR_CACHE_TIME_TO_LIVE;
+import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_PARTITION_BY_TENANT;
 import static org.hibernate.cfg.PersistenceSettings.UNOWNED_ASSOCIATION_TRANSIENT_CHECK;
 import static org.hibernate.cfg.QuerySettings.DEFAULT_NULL_ORDERING;
 import static org.hibernate.cfg.QuerySettings.JSON_FUNCTIONS_ENABLED;
@@ -240,6 +248,9 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean secondLevelCacheEnabled;
 	private boolean queryCacheEnabled;
 	private CacheLayout queryCacheLayout;
+	private boolean queryCachePartitionedByTenant;
+	private int nearCacheMaxEntries;
+	private long nearCacheTimeToLive;
 	private TimestampsCacheFactory timestampsCacheFactory;
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
@@ -283,6 +294,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private final boolean xmlFunctionsEnabled;
 
 	private final int queryStatisticsMaxSize;
+	private final int rowReaderCompileThreshold;
+	private final int parallelDirtyCheckThreshold;
+	private final boolean explicitDirtyTrackingEnabled;
+	private final boolean multiRowInsertsEnabled;
+	private final int bulkInsertThreshold;
 
 
 	@SuppressWarnings( "unchecked" )
@@ -476,6 +492,8 @@ else if ( defaultNullPrecedence != null ) {
 					value -> CacheLayout.valueOf( value.toString().toUpperCase( Locale.ROOT ) ),
 					CacheLayout.FULL
 			);
+			this.queryCachePartitionedByTenant =
+					configurationService.getSetting( QUERY_CACHE_PARTITION_BY_TENANT, BOOLEAN, false );
 			this.timestampsCacheFactory = strategySelector.resolveDefaultableStrategy(
 					TimestampsCacheFactory.class,
 					configurationSettings.get( QUERY_CACHE_FACTORY ),
@@ -497,17 +515,22 @@ else if ( defaultNullPrecedence != null ) {
 					false
 			);
 			this.autoEvictCollectionCache = configurationService.getSetting( AUTO_EVICT_COLLECTION_CACHE, BOOLEAN, false );
+			this.nearCacheMaxEntries = getInt( NEAR_CACHE_MAX_ENTRIES, configurationSettings, 0 );
+			this.nearCacheTimeToLive = getInt( NEAR_CACHE_TIME_TO_LIVE, configurationSettings, 1000 );
 		}
 		else {
 			this.secondLevelCacheEnabled = false;
 			this.queryCacheEnabled = false;
 			this.queryCacheLayout = CacheLayout.AUTO;
+			this.queryCachePartitionedByTenant = false;
 			this.timestampsCacheFactory = null;
 			this.cacheRegionPrefix = null;
 			this.minimalPutsEnabled = false;
 			this.structuredCacheEntriesEnabled = false;
 			this.directReferenceCacheEntriesEnabled = false;
 			this.autoEvictCollectionCache = false;
+			this.nearCacheMaxEntries = 0;
+			this.nearCacheTimeToLive = 0;
 		}
 
 		try {
@@ -641,6 +664,36 @@ else if ( jdbcTimeZoneValue != null ) {
 				Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE
 		);
 
+		this.rowReaderCompileThreshold = getInt(
+				QUERY_ROW_READER_COMPILE_THRESHOLD,
+				configurationSettings,
+				0
+		);
+
+		this.parallelDirtyCheckThreshold = getInt(
+				FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD,
+				configurationSettings,
+				0
+		);
+
+		this.explicitDirtyTrackingEnabled = getBoolean(
+				FLUSH_EXPLICIT_DIRTY_TRACKING,
+				configurationSettings,
+				false
+		);
+
+		this.multiRowInsertsEnabled = getBoolean(
+				MULTI_ROW_INSERTS,
+				configurationSettings,
+				false
+		);
+
+		this.bulkInsertThreshold = getInt(
+				BULK_INSERT_THRESHOLD,
+				configurationSettings,
+				0
+		);
+
 		this.unownedAssociationTransientCheck = getBoolean(
 				UNOWNED_ASSOCIATION_TRANSIENT_CHECK,
 				configurationSettings,
@@ -1094,6 +1147,21 @@ public CacheLayout getQueryCacheLayout() {
 		return queryCacheLayout;
 	}
 
+	@Override
+	public boolean isQueryCachePartitionedByTenant() {
+		return queryCachePartitionedByTenant;
+	}
+
+	@Override
+	public int getNearCacheMaxEntries() {
+		return nearCacheMaxEntries;
+	}
+
+	@Override
+	public long getNearCacheTimeToLive() {
+		return nearCacheTimeToLive;
+	}
+
 	@Override
 	public TimestampsCacheFactory getTimestampsCacheFactory() {
 		return timestampsCacheFactory;
@@ -1269,6 +1337,31 @@ public int getQueryStatisticsMaxSize() {
 		return queryStatisticsMaxSize;
 	}
 
+	@Override
+	public int getRowReaderCompileThreshold() {
+		return rowReaderCompileThreshold;
+	}
+
+	@Override
+	public int getParallelDirtyCheckThreshold() {
+		return parallelDirtyCheckThreshold;
+	}
+
+	@Override
+	public boolean isExplicitDirtyTrackingEnabled() {
+		return explicitDirtyTrackingEnabled;
+	}
+
+	@Override
+	public boolean isMultiRowInsertsEnabled() {
+		return multiRowInsertsEnabled;
+	}
+
+	@Override
+	public int getBulkInsertThreshold() {
+		return bulkInsertThreshold;
+	}
+
 	@Override
 	public boolean areJPACallbacksEnabled() {
 		return callbacksEnabled;
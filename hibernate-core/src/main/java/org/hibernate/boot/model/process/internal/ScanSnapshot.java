@@ -0,0 +1,367 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.model.process.internal;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.hibernate.AssertionFailure;
+import org.hibernate.Version;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.jaxb.spi.Binding;
+import org.hibernate.boot.jaxb.spi.JaxbBindableMappingDescriptor;
+import org.hibernate.boot.model.convert.internal.ClassBasedConverterDescriptor;
+import org.hibernate.boot.model.convert.spi.ConverterDescriptor;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cfg.PersistenceSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.internal.util.SerializationHelper;
+
+import org.jboss.logging.Logger;
+
+/**
+ * The resources discovered by {@linkplain ScanningCoordinator scanning},
+ * in a form which may be written to a file, and read back when the same
+ * application is next started, instead of scanning again.
+ * <p>
+ * A snapshot records the names of the discovered classes, packages and
+ * converters, along with the already-parsed XML mapping files, and a
+ * fingerprint of the Hibernate version, the content of the scanned roots,
+ * and the XML mapping files. A snapshot whose fingerprint does not match
+ * the current roots is ignored, and replaced after scanning.
+ *
+ * @see PersistenceSettings#SCAN_SNAPSHOT
+ */
+public class ScanSnapshot implements Serializable {
+	private static final Logger log = Logger.getLogger( ScanSnapshot.class );
+
+	private final String fingerprint;
+	private final List<String> annotatedClassNames;
+	private final List<String> annotatedPackageNames;
+	private final List<String> converterClassNames;
+	private final List<Binding<JaxbBindableMappingDescriptor>> mappingFileBindings;
+
+	private ScanSnapshot(
+			String fingerprint,
+			List<String> annotatedClassNames,
+			List<String> annotatedPackageNames,
+			List<String> converterClassNames,
+			List<Binding<JaxbBindableMappingDescriptor>> mappingFileBindings) {
+		this.fingerprint = fingerprint;
+		this.annotatedClassNames = annotatedClassNames;
+		this.annotatedPackageNames = annotatedPackageNames;
+		this.converterClassNames = converterClassNames;
+		this.mappingFileBindings = mappingFileBindings;
+	}
+
+	/**
+	 * Capture the resources discovered by a scan.
+	 *
+	 * @param scanned the resources discovered by scanning, and nothing else
+	 */
+	static ScanSnapshot from(
+			ManagedResourcesImpl scanned,
+			BootstrapContext bootstrapContext,
+			boolean xmlMappingEnabled) {
+		final List<String> annotatedClassNames = new ArrayList<>( scanned.getAnnotatedClassNames() );
+		for ( Class<?> annotatedClass : scanned.getAnnotatedClassReferences() ) {
+			annotatedClassNames.add( annotatedClass.getName() );
+		}
+		final List<String> annotatedPackageNames = new ArrayList<>( scanned.getAnnotatedPackageNames() );
+		final List<String> converterClassNames = new ArrayList<>();
+		for ( ConverterDescriptor descriptor : scanned.getAttributeConverterDescriptors() ) {
+			converterClassNames.add( descriptor.getAttributeConverterClass().getName() );
+		}
+		return new ScanSnapshot(
+				fingerprint( xmlMappingEnabled, bootstrapContext ),
+				annotatedClassNames,
+				annotatedPackageNames,
+				converterClassNames,
+				new ArrayList<>( scanned.getXmlMappingBindings() )
+		);
+	}
+
+	/**
+	 * The snapshot file specified by {@value PersistenceSettings#SCAN_SNAPSHOT},
+	 * or {@code null} if none was specified.
+	 */
+	static File snapshotFile(BootstrapContext bootstrapContext) {
+		final ConfigurationService configurationService =
+				bootstrapContext.getServiceRegistry().getService( ConfigurationService.class );
+		if ( configurationService == null ) {
+			return null;
+		}
+		else {
+			final String fileName =
+					configurationService.getSetting( PersistenceSettings.SCAN_SNAPSHOT, StandardConverters.STRING );
+			return fileName == null || fileName.isBlank() ? null : new File( fileName );
+		}
+	}
+
+	/**
+	 * Read the snapshot from the given file, returning {@code null} if the
+	 * file does not exist, cannot be read, or does not match the scanned roots.
+	 */
+	static ScanSnapshot read(File file, BootstrapContext bootstrapContext, boolean xmlMappingEnabled) {
+		if ( !file.exists() ) {
+			log.debugf( "Scan snapshot [%s] does not exist", file );
+			return null;
+		}
+		final ScanSnapshot snapshot;
+		try ( InputStream stream = new FileInputStream( file ) ) {
+			snapshot = SerializationHelper.deserialize( stream );
+		}
+		catch (Exception e) {
+			log.debugf( e, "Unable to read scan snapshot [%s]", file );
+			return null;
+		}
+		final String fingerprint = fingerprint( xmlMappingEnabled, bootstrapContext );
+		if ( !fingerprint.equals( snapshot.fingerprint ) ) {
+			log.debugf( "Scan snapshot [%s] is obsolete", file );
+			return null;
+		}
+		log.debugf( "Using scan snapshot [%s]", file );
+		return snapshot;
+	}
+
+	/**
+	 * Write this snapshot to the given file, logging, but otherwise
+	 * ignoring, any failure.
+	 */
+	void write(File file) {
+		try ( FileOutputStream stream = new FileOutputStream( file ) ) {
+			SerializationHelper.serialize( this, stream );
+			log.debugf( "Wrote scan snapshot [%s]", file );
+		}
+		catch (Exception e) {
+			log.warnf( "Unable to write scan snapshot [%s]: %s", file, e.getMessage() );
+		}
+	}
+
+	/**
+	 * Add the resources recorded in this snapshot to the given {@link ManagedResourcesImpl}.
+	 */
+	void applyTo(ManagedResourcesImpl managedResources, BootstrapContext bootstrapContext) {
+		final ClassLoaderService classLoaderService =
+				bootstrapContext.getServiceRegistry().requireService( ClassLoaderService.class );
+		for ( String converterClassName : converterClassNames ) {
+			// converter classes are safe to load because we never enhance them
+			managedResources.addAttributeConverterDefinition(
+					new ClassBasedConverterDescriptor(
+							classLoaderService.classForName( converterClassName ),
+							bootstrapContext.getClassmateContext()
+					)
+			);
+		}
+		annotatedClassNames.forEach( managedResources::addAnnotatedClassName );
+		annotatedPackageNames.forEach( managedResources::addAnnotatedPackageName );
+		mappingFileBindings.forEach( managedResources::addXmlBinding );
+	}
+
+	/**
+	 * A fingerprint of the Hibernate version, the scanned roots, and the mapping
+	 * files. A jar is identified by the names, sizes, and CRCs of its entries,
+	 * read from its central directory, and a class directory by the relative
+	 * names, sizes, and modification times of the files it contains, so that a
+	 * class or resource added, removed, or changed under a root obsoletes the
+	 * snapshot without reading every class file. The content of mapping files
+	 * is checksummed, since an edited XML mapping does not necessarily change
+	 * its size. The location of a root is not part of the fingerprint.
+	 */
+	private static String fingerprint(boolean xmlMappingEnabled, BootstrapContext bootstrapContext) {
+		final ScanEnvironment scanEnvironment = bootstrapContext.getScanEnvironment();
+		final StringBuilder fingerprint = new StringBuilder()
+				.append( Version.getVersionString() ).append( ':' ).append( xmlMappingEnabled ).append( '\n' );
+		final List<String> explicitClassNames = scanEnvironment.getExplicitlyListedClassNames();
+		if ( explicitClassNames != null ) {
+			fingerprint.append( "classes " ).append( explicitClassNames ).append( '\n' );
+		}
+		appendRoot( fingerprint, scanEnvironment.getRootUrl() );
+		final List<URL> nonRootUrls = scanEnvironment.getNonRootUrls();
+		if ( nonRootUrls != null ) {
+			for ( URL nonRootUrl : nonRootUrls ) {
+				appendRoot( fingerprint, nonRootUrl );
+			}
+		}
+		final List<String> explicitMappingFileNames = scanEnvironment.getExplicitlyListedMappingFiles();
+		if ( explicitMappingFileNames != null ) {
+			final ClassLoaderService classLoaderService =
+					bootstrapContext.getServiceRegistry().requireService( ClassLoaderService.class );
+			for ( String mappingFileName : explicitMappingFileNames ) {
+				fingerprint.append( "mapping-file " ).append( mappingFileName ).append( ' ' )
+						.append( checksum( classLoaderService.locateResource( mappingFileName ) ) ).append( '\n' );
+			}
+		}
+		return hash( fingerprint );
+	}
+
+	private static void appendRoot(StringBuilder fingerprint, URL root) {
+		if ( root == null ) {
+			return;
+		}
+		// the location of a root is deliberately not part of the
+		// fingerprint, so that a snapshot may be moved with its jars
+		fingerprint.append( "root\n" );
+		final Path path = toPath( root );
+		if ( path == null ) {
+			appendUrl( fingerprint, root );
+		}
+		else if ( Files.isDirectory( path ) ) {
+			appendDirectory( fingerprint, path );
+		}
+		else {
+			try ( ZipFile jar = new ZipFile( path.toFile() ) ) {
+				appendJar( fingerprint, jar );
+			}
+			catch (IOException e) {
+				fingerprint.append( "unavailable\n" );
+			}
+		}
+	}
+
+	/**
+	 * The names, sizes, and CRCs of the entries of a jar, as recorded in its
+	 * central directory, which identify its content without reading it.
+	 */
+	private static void appendJar(StringBuilder fingerprint, ZipFile jar) {
+		final Enumeration<? extends ZipEntry> entries = jar.entries();
+		while ( entries.hasMoreElements() ) {
+			final ZipEntry entry = entries.nextElement();
+			fingerprint.append( entry.getName() ).append( ' ' ).append( entry.getSize() )
+					.append( ' ' ).append( Long.toHexString( entry.getCrc() ) ).append( '\n' );
+		}
+	}
+
+	/**
+	 * The names, sizes, and modification times of the files under a class
+	 * directory, relative to the directory, along with the checksums of the
+	 * XML files.
+	 */
+	private static void appendDirectory(StringBuilder fingerprint, Path directory) {
+		try ( Stream<Path> files = Files.walk( directory ) ) {
+			files.filter( Files::isRegularFile ).sorted().forEach( file -> {
+				fingerprint.append( directory.relativize( file ).toString().replace( File.separatorChar, '/' ) );
+				try {
+					fingerprint.append( ' ' ).append( Files.size( file ) )
+							.append( ' ' ).append( Files.getLastModifiedTime( file ).toMillis() );
+				}
+				catch (IOException e) {
+					fingerprint.append( " unavailable" );
+				}
+				if ( file.getFileName().toString().endsWith( ".xml" ) ) {
+					fingerprint.append( ' ' ).append( checksum( file ) );
+				}
+				fingerprint.append( '\n' );
+			} );
+		}
+		catch (IOException | UncheckedIOException e) {
+			fingerprint.append( "unavailable\n" );
+		}
+	}
+
+	private static void appendUrl(StringBuilder fingerprint, URL root) {
+		try {
+			final URLConnection connection = root.openConnection();
+			if ( connection instanceof JarURLConnection jarConnection ) {
+				jarConnection.setUseCaches( false );
+				try ( JarFile jar = jarConnection.getJarFile() ) {
+					appendJar( fingerprint, jar );
+				}
+			}
+			else {
+				// neither a file nor a jar, so fall back to
+				// whatever the connection tells us
+				fingerprint.append( root ).append( ' ' ).append( connection.getContentLengthLong() )
+						.append( ' ' ).append( connection.getLastModified() ).append( '\n' );
+			}
+		}
+		catch (IOException e) {
+			fingerprint.append( "unavailable\n" );
+		}
+	}
+
+	private static Path toPath(URL url) {
+		if ( "file".equals( url.getProtocol() ) ) {
+			try {
+				return Path.of( url.toURI() );
+			}
+			catch (URISyntaxException | IllegalArgumentException e) {
+				return null;
+			}
+		}
+		else {
+			return null;
+		}
+	}
+
+	private static String checksum(Path file) {
+		try ( InputStream stream = Files.newInputStream( file ) ) {
+			return checksum( stream );
+		}
+		catch (IOException e) {
+			return "unavailable";
+		}
+	}
+
+	private static String checksum(URL resource) {
+		if ( resource == null ) {
+			return "missing";
+		}
+		try ( InputStream stream = resource.openStream() ) {
+			return checksum( stream );
+		}
+		catch (IOException e) {
+			return "unavailable";
+		}
+	}
+
+	private static String checksum(InputStream stream) throws IOException {
+		final CRC32 checksum = new CRC32();
+		final byte[] buffer = new byte[8192];
+		int read;
+		while ( ( read = stream.read( buffer ) ) != -1 ) {
+			checksum.update( buffer, 0, read );
+		}
+		return Long.toHexString( checksum.getValue() );
+	}
+
+	private static String hash(CharSequence fingerprint) {
+		try {
+			return HexFormat.of().formatHex(
+					MessageDigest.getInstance( "SHA-256" )
+							.digest( fingerprint.toString().getBytes( StandardCharsets.UTF_8 ) )
+			);
+		}
+		catch (NoSuchAlgorithmException e) {
+			// every Java platform supports SHA-256
+			throw new AssertionFailure( "Unable to compute the fingerprint of the scan snapshot", e );
+		}
+	}
+}
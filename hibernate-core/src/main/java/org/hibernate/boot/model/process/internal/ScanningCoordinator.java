@@ -4,6 +4,7 @@
  */
 package org.hibernate.boot.model.process.internal;
 
+import java.io.File;
 import java.lang.reflect.Constructor;
 import java.net.URL;
 import java.util.ArrayList;
@@ -62,6 +63,29 @@ public void coordinateScan(
 			return;
 		}
 
+		final File snapshotFile = ScanSnapshot.snapshotFile( bootstrapContext );
+		if ( snapshotFile != null ) {
+			final boolean xmlMappingEnabled = xmlMappingBinderAccess != null;
+			ScanSnapshot snapshot = ScanSnapshot.read( snapshotFile, bootstrapContext, xmlMappingEnabled );
+			if ( snapshot == null ) {
+				// scan into an empty container, so that the snapshot
+				// records only the resources discovered by scanning
+				final ManagedResourcesImpl scannedResources = new ManagedResourcesImpl();
+				scan( scannedResources, bootstrapContext, xmlMappingBinderAccess );
+				snapshot = ScanSnapshot.from( scannedResources, bootstrapContext, xmlMappingEnabled );
+				snapshot.write( snapshotFile );
+			}
+			snapshot.applyTo( managedResources, bootstrapContext );
+		}
+		else {
+			scan( managedResources, bootstrapContext, xmlMappingBinderAccess );
+		}
+	}
+
+	private void scan(
+			ManagedResourcesImpl managedResources,
+			BootstrapContext bootstrapContext,
+			XmlMappingBinderAccess xmlMappingBinderAccess) {
 		final ClassLoaderAccess classLoaderAccess = new ClassLoaderAccessImpl(
 				bootstrapContext.getJpaTempClassLoader(),
 				bootstrapContext.getServiceRegistry().requireService( ClassLoaderService.class )
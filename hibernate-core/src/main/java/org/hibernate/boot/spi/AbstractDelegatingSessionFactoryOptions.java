@@ -259,6 +259,21 @@ public CacheLayout getQueryCacheLayout() {
 		return delegate.getQueryCacheLayout();
 	}
 
+	@Override
+	public boolean isQueryCachePartitionedByTenant() {
+		return delegate.isQueryCachePartitionedByTenant();
+	}
+
+	@Override
+	public int getNearCacheMaxEntries() {
+		return delegate.getNearCacheMaxEntries();
+	}
+
+	@Override
+	public long getNearCacheTimeToLive() {
+		return delegate.getNearCacheTimeToLive();
+	}
+
 	@Override
 	public TimestampsCacheFactory getTimestampsCacheFactory() {
 		return delegate.getTimestampsCacheFactory();
@@ -448,6 +463,31 @@ public int getQueryStatisticsMaxSize() {
 		return delegate.getQueryStatisticsMaxSize();
 	}
 
+	@Override
+	public int getRowReaderCompileThreshold() {
+		return delegate.getRowReaderCompileThreshold();
+	}
+
+	@Override
+	public int getParallelDirtyCheckThreshold() {
+		return delegate.getParallelDirtyCheckThreshold();
+	}
+
+	@Override
+	public boolean isExplicitDirtyTrackingEnabled() {
+		return delegate.isExplicitDirtyTrackingEnabled();
+	}
+
+	@Override
+	public boolean isMultiRowInsertsEnabled() {
+		return delegate.isMultiRowInsertsEnabled();
+	}
+
+	@Override
+	public int getBulkInsertThreshold() {
+		return delegate.getBulkInsertThreshold();
+	}
+
 	@Override
 	public boolean areJPACallbacksEnabled() {
 		return delegate.areJPACallbacksEnabled();
@@ -254,6 +254,38 @@ default boolean isAllowRefreshDetachedEntity() {
 	@Incubating
 	CacheLayout getQueryCacheLayout();
 
+	/**
+	 * Are the query spaces written by a tenant only invalidated for that
+	 * tenant?
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_PARTITION_BY_TENANT
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	boolean isQueryCachePartitionedByTenant();
+
+	/**
+	 * The maximum number of entries held by the near cache of each
+	 * domain data region, or zero if there is no near cache.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#NEAR_CACHE_MAX_ENTRIES
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	int getNearCacheMaxEntries();
+
+	/**
+	 * The number of milliseconds an entry is held by a near cache.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#NEAR_CACHE_TIME_TO_LIVE
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	long getNearCacheTimeToLive();
+
 	/**
 	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_FACTORY
 	 */
@@ -472,6 +504,65 @@ default boolean isPortableIntegerDivisionEnabled() {
 	 */
 	int getQueryStatisticsMaxSize();
 
+	/**
+	 * The number of executions after which a query reads its results
+	 * using a generated row reader, or {@code 0} if generated row
+	 * readers are disabled.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_ROW_READER_COMPILE_THRESHOLD
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	int getRowReaderCompileThreshold();
+
+	/**
+	 * The number of entities a persistence context must hold for its
+	 * entities to be dirty checked in parallel during flush, or
+	 * {@code 0} if parallel dirty checking is disabled.
+	 *
+	 * @see org.hibernate.cfg.PersistenceSettings#FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	int getParallelDirtyCheckThreshold();
+
+	/**
+	 * Should a flush only dirty check entities which are not bytecode
+	 * enhanced if they were {@linkplain org.hibernate.Session#markDirty
+	 * marked dirty}?
+	 *
+	 * @see org.hibernate.cfg.PersistenceSettings#FLUSH_EXPLICIT_DIRTY_TRACKING
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	boolean isExplicitDirtyTrackingEnabled();
+
+	/**
+	 * Should batched entity inserts be rewritten into statements
+	 * inserting multiple rows?
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERTS
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	boolean isMultiRowInsertsEnabled();
+
+	/**
+	 * The minimum number of entities inserted together by a stateless
+	 * session for the rows to be loaded in bulk, or {@code 0} if bulk
+	 * loading is disabled.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BULK_INSERT_THRESHOLD
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	int getBulkInsertThreshold();
+
 	/**
 	 * Should JPA entity lifecycle callbacks be processed by
 	 * the {@link org.hibernate.event.spi.EventEngine} and
@@ -12,8 +12,8 @@
 import org.hibernate.bytecode.enhance.internal.tracker.CompositeOwnerTracker;
 import org.hibernate.bytecode.enhance.internal.tracker.DirtyTracker;
 import org.hibernate.bytecode.enhance.internal.tracker.NoopCollectionTracker;
+import org.hibernate.bytecode.enhance.internal.tracker.OrdinalFieldTracker;
 import org.hibernate.bytecode.enhance.internal.tracker.SimpleCollectionTracker;
-import org.hibernate.bytecode.enhance.internal.tracker.SimpleFieldTracker;
 import org.hibernate.bytecode.enhance.spi.CollectionTracker;
 import org.hibernate.bytecode.enhance.spi.EnhancerConstants;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
@@ -65,18 +65,34 @@ static class TrackChange {
 		@Advice.OnMethodEnter
 		static void $$_hibernate_trackChange(
 				@Advice.Argument(0) String name,
+				@Advice.Origin Class<?> entityClass,
 				@Advice.FieldValue(value = EnhancerConstants.TRACKER_FIELD_NAME, readOnly = false) DirtyTracker $$_hibernate_tracker) {
 			if ( $$_hibernate_tracker == null ) {
-				$$_hibernate_tracker = new SimpleFieldTracker();
+				$$_hibernate_tracker = new OrdinalFieldTracker( entityClass );
 			}
 			$$_hibernate_tracker.add( name );
 		}
 	}
 
+	static class TrackChangeByOrdinal {
+		@Advice.OnMethodEnter
+		static void $$_hibernate_trackChange(
+				@Advice.Argument(0) int ordinal,
+				@Advice.Origin Class<?> entityClass,
+				@Advice.FieldValue(value = EnhancerConstants.TRACKER_FIELD_NAME, readOnly = false) DirtyTracker $$_hibernate_tracker) {
+			if ( $$_hibernate_tracker == null ) {
+				$$_hibernate_tracker = new OrdinalFieldTracker( entityClass );
+			}
+			// enhanced code only ever creates trackers which track ordinals
+			( (OrdinalFieldTracker) $$_hibernate_tracker ).add( ordinal );
+		}
+	}
+
 	static class GetDirtyAttributes {
 		@Advice.OnMethodExit
 		static void $$_hibernate_getDirtyAttributes(
 				@Advice.This ExtendedSelfDirtinessTracker self,
+				@Advice.Origin Class<?> entityClass,
 				@Advice.Return(readOnly = false) String[] returned,
 				@Advice.FieldValue(value = EnhancerConstants.TRACKER_FIELD_NAME, readOnly = false) DirtyTracker $$_hibernate_tracker,
 				@Advice.FieldValue(value = EnhancerConstants.TRACKER_COLLECTION_NAME, readOnly = false) CollectionTracker $$_hibernate_collectionTracker) {
@@ -85,7 +101,7 @@ static class GetDirtyAttributes {
 			}
 			else {
 				if ( $$_hibernate_tracker == null ) {
-					$$_hibernate_tracker = new SimpleFieldTracker();
+					$$_hibernate_tracker = new OrdinalFieldTracker( entityClass );
 				}
 				self.$$_hibernate_getCollectionFieldDirtyNames( $$_hibernate_tracker );
 				returned = $$_hibernate_tracker.get();
@@ -102,6 +118,40 @@ static class GetDirtyAttributesWithoutCollections {
 		}
 	}
 
+	static class GetDirtyAttributeOrdinals {
+		@Advice.OnMethodExit
+		static void $$_hibernate_getDirtyAttributeOrdinals(
+				@Advice.This ExtendedSelfDirtinessTracker self,
+				@Advice.Origin Class<?> entityClass,
+				@Advice.Return(readOnly = false) long[] returned,
+				@Advice.FieldValue(value = EnhancerConstants.TRACKER_FIELD_NAME, readOnly = false) DirtyTracker $$_hibernate_tracker,
+				@Advice.FieldValue(value = EnhancerConstants.TRACKER_COLLECTION_NAME, readOnly = false) CollectionTracker $$_hibernate_collectionTracker) {
+			if ( $$_hibernate_collectionTracker == null ) {
+				returned = ( $$_hibernate_tracker == null )
+						? ArrayHelper.EMPTY_LONG_ARRAY
+						: ( (OrdinalFieldTracker) $$_hibernate_tracker ).getOrdinals();
+			}
+			else {
+				if ( $$_hibernate_tracker == null ) {
+					$$_hibernate_tracker = new OrdinalFieldTracker( entityClass );
+				}
+				self.$$_hibernate_getCollectionFieldDirtyNames( $$_hibernate_tracker );
+				returned = ( (OrdinalFieldTracker) $$_hibernate_tracker ).getOrdinals();
+			}
+		}
+	}
+
+	static class GetDirtyAttributeOrdinalsWithoutCollections {
+		@Advice.OnMethodExit
+		static void $$_hibernate_getDirtyAttributeOrdinals(
+				@Advice.Return(readOnly = false) long[] returned,
+				@Advice.FieldValue(value = EnhancerConstants.TRACKER_FIELD_NAME) DirtyTracker $$_hibernate_tracker) {
+			returned = $$_hibernate_tracker == null
+					? ArrayHelper.EMPTY_LONG_ARRAY
+					: ( (OrdinalFieldTracker) $$_hibernate_tracker ).getOrdinals();
+		}
+	}
+
 	static class GetCollectionTrackerWithoutCollections {
 		@Advice.OnMethodExit
 		static void $$_hibernate_getCollectionTracker( @Advice.Return(readOnly = false) CollectionTracker returned) {
@@ -154,9 +204,10 @@ static class SuspendDirtyTracking {
 		@Advice.OnMethodEnter
 		static void $$_hibernate_suspendDirtyTracking(
 				@Advice.Argument(0) boolean suspend,
+				@Advice.Origin Class<?> entityClass,
 				@Advice.FieldValue(value = EnhancerConstants.TRACKER_FIELD_NAME, readOnly = false) DirtyTracker $$_hibernate_tracker) {
 			if ( $$_hibernate_tracker == null ) {
-				$$_hibernate_tracker = new SimpleFieldTracker();
+				$$_hibernate_tracker = new OrdinalFieldTracker( entityClass );
 			}
 			$$_hibernate_tracker.suspend( suspend );
 		}
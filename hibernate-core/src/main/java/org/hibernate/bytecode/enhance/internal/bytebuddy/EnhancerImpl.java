@@ -228,6 +228,11 @@ private DynamicType.Builder<?> doEnhance(Supplier<DynamicType.Builder<?>> builde
 									.intercept( constants.implementationTrackChange )
 							.defineMethod( EnhancerConstants.TRACKER_GET_NAME, constants.Type_Array_String, constants.methodModifierPUBLIC )
 									.intercept( constants.implementationGetDirtyAttributesWithoutCollections )
+							.defineMethod( EnhancerConstants.TRACKER_CHANGER_NAME, constants.TypeVoid, constants.methodModifierPUBLIC )
+									.withParameters( constants.TypeIntPrimitive )
+									.intercept( constants.implementationTrackChangeByOrdinal )
+							.defineMethod( EnhancerConstants.TRACKER_GET_ORDINALS_NAME, constants.Type_Array_Long, constants.methodModifierPUBLIC )
+									.intercept( constants.implementationGetDirtyAttributeOrdinalsWithoutCollections )
 							.defineMethod( EnhancerConstants.TRACKER_HAS_CHANGED_NAME, constants.TypeBooleanPrimitive, constants.methodModifierPUBLIC )
 									.intercept( constants.implementationAreFieldsDirtyWithoutCollections )
 							.defineMethod( EnhancerConstants.TRACKER_CLEAR_NAME, constants.TypeVoid, constants.methodModifierPUBLIC )
@@ -250,6 +255,11 @@ private DynamicType.Builder<?> doEnhance(Supplier<DynamicType.Builder<?>> builde
 									.intercept( constants.implementationTrackChange )
 							.defineMethod( EnhancerConstants.TRACKER_GET_NAME, constants.Type_Array_String, constants.methodModifierPUBLIC )
 									.intercept( constants.implementationGetDirtyAttributes )
+							.defineMethod( EnhancerConstants.TRACKER_CHANGER_NAME, constants.TypeVoid, constants.methodModifierPUBLIC )
+									.withParameters( constants.TypeIntPrimitive )
+									.intercept( constants.implementationTrackChangeByOrdinal )
+							.defineMethod( EnhancerConstants.TRACKER_GET_ORDINALS_NAME, constants.Type_Array_Long, constants.methodModifierPUBLIC )
+									.intercept( constants.implementationGetDirtyAttributeOrdinals )
 							.defineMethod( EnhancerConstants.TRACKER_HAS_CHANGED_NAME, constants.TypeBooleanPrimitive, constants.methodModifierPUBLIC )
 									.intercept( constants.implementationAreFieldsDirty )
 							.defineMethod( EnhancerConstants.TRACKER_CLEAR_NAME, constants.TypeVoid, constants.methodModifierPUBLIC )
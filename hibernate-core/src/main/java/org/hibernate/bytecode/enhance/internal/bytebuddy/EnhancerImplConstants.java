@@ -39,11 +39,14 @@ public final class EnhancerImplConstants {
 	final ClassFileLocator adviceLocator;
 
 	final Implementation implementationTrackChange;
+	final Implementation implementationTrackChangeByOrdinal;
 	final Implementation implementationGetDirtyAttributesWithoutCollections;
+	final Implementation implementationGetDirtyAttributeOrdinalsWithoutCollections;
 	final Implementation implementationAreFieldsDirtyWithoutCollections;
 	final Implementation implementationClearDirtyAttributesWithoutCollections;
 	final Implementation implementationSuspendDirtyTracking;
 	final Implementation implementationGetDirtyAttributes;
+	final Implementation implementationGetDirtyAttributeOrdinals;
 	final Implementation implementationAreFieldsDirty;
 	final Implementation implementationGetCollectionTrackerWithoutCollections;
 	final Implementation implementationClearDirtyAttributes;
@@ -74,21 +77,29 @@ public Class<? extends Annotation> annotationType() {
 	//Frequently used Types for method signatures:
 	final TypeDefinition TypeVoid = TypeDescription.ForLoadedType.of( void.class );
 	final TypeDefinition TypeBooleanPrimitive = TypeDescription.ForLoadedType.of( boolean.class );
+	final TypeDefinition TypeIntPrimitive = TypeDescription.ForLoadedType.of( int.class );
 	final TypeDefinition TypeManagedEntity = TypeDescription.ForLoadedType.of( ManagedEntity.class );
 	final TypeDefinition TypeEntityEntry = TypeDescription.ForLoadedType.of( EntityEntry.class );
 	final TypeDefinition TypePersistentAttributeInterceptor = TypeDescription.ForLoadedType.of( PersistentAttributeInterceptor.class );
 	final TypeDefinition TypeObject = TypeDescription.ForLoadedType.of( Object.class );
 	final TypeDefinition Type_Array_String = TypeDescription.ForLoadedType.of( String[].class );
+	final TypeDefinition Type_Array_Long = TypeDescription.ForLoadedType.of( long[].class );
 	final TypeDefinition TypeCollectionTracker = TypeDescription.ForLoadedType.of( CollectionTracker.class );
 
 	public EnhancerImplConstants() {
 		this.adviceLocator = ClassFileLocator.ForClassLoader.of( CodeTemplates.class.getClassLoader() );
 		this.implementationTrackChange = Advice.to( CodeTemplates.TrackChange.class, adviceLocator )
 				.wrap( StubMethod.INSTANCE );
+		this.implementationTrackChangeByOrdinal = Advice.to( CodeTemplates.TrackChangeByOrdinal.class, adviceLocator )
+				.wrap( StubMethod.INSTANCE );
 		this.implementationGetDirtyAttributesWithoutCollections = Advice.to(
 				CodeTemplates.GetDirtyAttributesWithoutCollections.class,
 				adviceLocator
 		).wrap( StubMethod.INSTANCE );
+		this.implementationGetDirtyAttributeOrdinalsWithoutCollections = Advice.to(
+				CodeTemplates.GetDirtyAttributeOrdinalsWithoutCollections.class,
+				adviceLocator
+		).wrap( StubMethod.INSTANCE );
 		this.implementationAreFieldsDirtyWithoutCollections = Advice.to(
 				CodeTemplates.AreFieldsDirtyWithoutCollections.class,
 				adviceLocator
@@ -101,6 +112,8 @@ public EnhancerImplConstants() {
 				.wrap( StubMethod.INSTANCE );
 		this.implementationGetDirtyAttributes = Advice.to( CodeTemplates.GetDirtyAttributes.class, adviceLocator ).wrap(
 				StubMethod.INSTANCE );
+		this.implementationGetDirtyAttributeOrdinals = Advice.to( CodeTemplates.GetDirtyAttributeOrdinals.class, adviceLocator ).wrap(
+				StubMethod.INSTANCE );
 		this.implementationAreFieldsDirty = Advice.to( CodeTemplates.AreFieldsDirty.class, adviceLocator ).wrap(
 				StubMethod.INSTANCE );
 		this.implementationGetCollectionTrackerWithoutCollections = Advice.to(
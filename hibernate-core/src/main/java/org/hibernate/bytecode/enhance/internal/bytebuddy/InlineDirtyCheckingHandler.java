@@ -39,16 +39,20 @@ final class InlineDirtyCheckingHandler implements Implementation, ByteCodeAppend
 	private final TypeDescription managedCtClass;
 
 	private final FieldDescription.InDefinedShape persistentField;
+	// the ordinal of the field in the tracked attributes of the entity
+	private final int ordinal;
 	private final boolean applyLazyCheck;
 
 	private InlineDirtyCheckingHandler(
 			Implementation delegate,
 			TypeDescription managedCtClass,
 			FieldDescription.InDefinedShape persistentField,
+			int ordinal,
 			boolean applyLazyCheck) {
 		this.delegate = delegate;
 		this.managedCtClass = managedCtClass;
 		this.persistentField = persistentField;
+		this.ordinal = ordinal;
 		this.applyLazyCheck = applyLazyCheck;
 	}
 
@@ -56,6 +60,7 @@ static Implementation wrap(
 			TypeDescription managedCtClass,
 			ByteBuddyEnhancementContext enhancementContext,
 			AnnotatedFieldDescription persistentField,
+			int ordinal,
 			Implementation implementation) {
 		if ( enhancementContext.doDirtyCheckingInline( managedCtClass ) ) {
 
@@ -70,6 +75,7 @@ else if ( !persistentField.hasAnnotation( Id.class )
 						implementation,
 						managedCtClass,
 						persistentField.asDefined(),
+						ordinal,
 						enhancementContext.hasLazyLoadableAttributes( managedCtClass )
 				);
 			}
@@ -203,14 +209,14 @@ else if ( persistentField.getType().represents( double.class ) ) {
 		}
 		Label skip = new Label();
 		methodVisitor.visitJumpInsn( branchCode, skip );
-		// this.$$_hibernate_trackChange(fieldName)
+		// this.$$_hibernate_trackChange(ordinal)
 		methodVisitor.visitVarInsn( Opcodes.ALOAD, 0 );
-		methodVisitor.visitLdcInsn( persistentField.getName() );
+		methodVisitor.visitLdcInsn( ordinal );
 		methodVisitor.visitMethodInsn(
 				Opcodes.INVOKEVIRTUAL,
 				managedCtClass.getInternalName(),
 				EnhancerConstants.TRACKER_CHANGER_NAME,
-				Type.getMethodDescriptor( Type.VOID_TYPE, STRING_TYPE ),
+				Type.getMethodDescriptor( Type.VOID_TYPE, Type.INT_TYPE ),
 				false
 		);
 		// }
@@ -230,13 +236,14 @@ public boolean equals(final Object o) {
 			return false;
 		}
 		final InlineDirtyCheckingHandler that = (InlineDirtyCheckingHandler) o;
-		return Objects.equals( delegate, that.delegate ) &&
+		return ordinal == that.ordinal &&
+			Objects.equals( delegate, that.delegate ) &&
 			Objects.equals( managedCtClass, that.managedCtClass ) &&
 			Objects.equals( persistentField, that.persistentField );
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash( delegate, managedCtClass, persistentField );
+		return Objects.hash( delegate, managedCtClass, persistentField, ordinal );
 	}
 }
@@ -27,6 +27,7 @@
 import net.bytebuddy.description.field.FieldDescription;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.modifier.ModifierContributor;
+import net.bytebuddy.description.modifier.Ownership;
 import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.description.type.TypeDefinition;
 import net.bytebuddy.description.type.TypeDescription;
@@ -35,6 +36,10 @@
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.StubMethod;
 import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.implementation.bytecode.StackManipulation;
+import net.bytebuddy.implementation.bytecode.collection.ArrayFactory;
+import net.bytebuddy.implementation.bytecode.constant.TextConstant;
+import net.bytebuddy.implementation.bytecode.member.MethodReturn;
 import net.bytebuddy.jar.asm.MethodVisitor;
 import net.bytebuddy.jar.asm.Opcodes;
 import net.bytebuddy.jar.asm.Type;
@@ -257,6 +262,24 @@ DynamicType.Builder<?> applyTo(DynamicType.Builder<?> builder) {
 						REMOVE_PRIVATE_FINAL_MODIFIER
 				)
 		);
+		// the ordinal of each enhanced field in the tracked attributes of an entity
+		int ordinal = 0;
+		if ( enhancementContext.isEntityClass( managedCtClass )
+				&& enhancementContext.doDirtyCheckingInline( managedCtClass ) ) {
+			final List<String> trackedAttributeNames = entitySuperclassTrackedAttributeNames( managedCtClass );
+			ordinal = trackedAttributeNames.size();
+			for ( AnnotatedFieldDescription enhancedField : enhancedFields ) {
+				trackedAttributeNames.add( enhancedField.getName() );
+			}
+			builder = builder
+					.defineMethod(
+							EnhancerConstants.TRACKER_ATTRIBUTE_NAMES_NAME,
+							String[].class,
+							Visibility.PUBLIC,
+							Ownership.STATIC
+					)
+					.intercept( trackedAttributeNames( trackedAttributeNames ) );
+		}
 		for ( AnnotatedFieldDescription enhancedField : enhancedFields ) {
 			builder = builder
 					.defineMethod(
@@ -275,8 +298,9 @@ DynamicType.Builder<?> applyTo(DynamicType.Builder<?> builder) {
 								Visibility.PUBLIC
 						)
 						.withParameters( enhancedField.asDefined().getType().asErasure() )
-						.intercept( fieldWriter( enhancedField ) );
+						.intercept( fieldWriter( enhancedField, ordinal ) );
 			}
+			ordinal++;
 
 			if ( !compositeOwner
 					&& !enhancementContext.isMappedSuperclassClass( managedCtClass )
@@ -320,10 +344,44 @@ private Implementation fieldReader(AnnotatedFieldDescription enhancedField) {
 		}
 	}
 
-	private Implementation fieldWriter(AnnotatedFieldDescription enhancedField) {
+	/**
+	 * The names of the fields of the nearest entity superclass whose changes are tracked by
+	 * ordinal, which precede the enhanced fields of this entity in its tracked attributes, so
+	 * that the ordinals tracked by the field writers of the superclass keep their meaning.
+	 */
+	private List<String> entitySuperclassTrackedAttributeNames(TypeDefinition managedCtClass) {
+		for ( TypeDefinition superclass = managedCtClass.getSuperClass();
+				superclass != null && !superclass.represents( Object.class );
+				superclass = superclass.getSuperClass() ) {
+			if ( enhancementContext.isEntityClass( superclass.asErasure() ) ) {
+				final List<String> trackedAttributeNames = entitySuperclassTrackedAttributeNames( superclass );
+				final PersistentAttributeTransformer superclassTransformer =
+						collectPersistentFields( superclass.asErasure(), enhancementContext, classPool );
+				for ( AnnotatedFieldDescription enhancedField : superclassTransformer.enhancedFields ) {
+					trackedAttributeNames.add( enhancedField.getName() );
+				}
+				return trackedAttributeNames;
+			}
+		}
+		return new ArrayList<>();
+	}
+
+	private static Implementation trackedAttributeNames(List<String> trackedAttributeNames) {
+		final List<StackManipulation> names = new ArrayList<>( trackedAttributeNames.size() );
+		for ( String trackedAttributeName : trackedAttributeNames ) {
+			names.add( new TextConstant( trackedAttributeName ) );
+		}
+		return new Implementation.Simple(
+				ArrayFactory.forType( TypeDescription.Generic.OfNonGenericType.ForLoadedType.of( String.class ) )
+						.withValues( names ),
+				MethodReturn.REFERENCE
+		);
+	}
+
+	private Implementation fieldWriter(AnnotatedFieldDescription enhancedField, int ordinal) {
 		Implementation implementation = fieldWriterImplementation( enhancedField );
 		if ( !enhancementContext.isMappedSuperclassClass( managedCtClass ) ) {
-			implementation = InlineDirtyCheckingHandler.wrap( managedCtClass, enhancementContext, enhancedField, implementation );
+			implementation = InlineDirtyCheckingHandler.wrap( managedCtClass, enhancementContext, enhancedField, ordinal, implementation );
 			implementation = BiDirectionalAssociationHandler.wrap( managedCtClass, enhancementContext, enhancedField, implementation );
 		}
 		return implementation;
@@ -0,0 +1,175 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.bytecode.enhance.internal.tracker;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import org.hibernate.HibernateException;
+import org.hibernate.bytecode.enhance.spi.EnhancerConstants;
+import org.hibernate.internal.util.ReflectHelper;
+import org.hibernate.internal.util.collections.ArrayHelper;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Keeps track of the changed fields of an enhanced entity class as a bitset over the
+ * ordinals assigned to its persistent fields by the enhancer, so that tracking a change
+ * neither allocates nor compares names.
+ * <p>
+ * The ordinals index the {@linkplain EnhancerConstants#TRACKER_ATTRIBUTE_NAMES_NAME
+ * tracked attribute names} of the entity class, which are only read when the changes
+ * are tracked or reported by name. Names which are not the name of a persistent field,
+ * usually paths into embeddables, are kept in an array, as by {@link SimpleFieldTracker}.
+ */
+public final class OrdinalFieldTracker implements DirtyTracker {
+
+	private static final ClassValue<String[]> TRACKED_ATTRIBUTE_NAMES = new ClassValue<>() {
+		@Override
+		protected String[] computeValue(Class<?> entityClass) {
+			try {
+				final Method method = entityClass.getDeclaredMethod( EnhancerConstants.TRACKER_ATTRIBUTE_NAMES_NAME );
+				ReflectHelper.ensureAccessibility( method );
+				return (String[]) method.invoke( null );
+			}
+			catch (NoSuchMethodException e) {
+				return ArrayHelper.EMPTY_STRING_ARRAY;
+			}
+			catch (ReflectiveOperationException e) {
+				throw new HibernateException( "Unable to read the tracked attributes of " + entityClass.getName(), e );
+			}
+		}
+	};
+
+	private final Class<?> entityClass;
+	// the changed fields, one bit per ordinal
+	private long[] fields = ArrayHelper.EMPTY_LONG_ARRAY;
+	// the changed fields, and the fields which own a changed path
+	private long[] dirtyFields = ArrayHelper.EMPTY_LONG_ARRAY;
+	private String[] paths = ArrayHelper.EMPTY_STRING_ARRAY;
+	// whether a changed path does not belong to a field of the class
+	private boolean unresolvedPaths;
+	private boolean suspended;
+
+	public OrdinalFieldTracker(Class<?> entityClass) {
+		this.entityClass = entityClass;
+	}
+
+	/**
+	 * The names of the persistent fields of the given enhanced entity class, indexed by
+	 * the ordinals tracked for them, or an empty array if the class does not track its
+	 * fields by ordinal.
+	 */
+	public static String[] getTrackedAttributeNames(Class<?> entityClass) {
+		return TRACKED_ATTRIBUTE_NAMES.get( entityClass );
+	}
+
+	/**
+	 * Track a change of the field with the given ordinal.
+	 */
+	public void add(int ordinal) {
+		if ( suspended ) {
+			return;
+		}
+		fields = set( fields, ordinal );
+		dirtyFields = set( dirtyFields, ordinal );
+	}
+
+	@Override
+	public void add(String name) {
+		if ( suspended ) {
+			return;
+		}
+		final int ordinal = ordinal( name );
+		if ( ordinal >= 0 ) {
+			add( ordinal );
+		}
+		else if ( !ArrayHelper.contains( paths, name ) ) {
+			paths = Arrays.copyOf( paths, paths.length + 1 );
+			paths[paths.length - 1] = name;
+			final int dot = name.indexOf( '.' );
+			final int owner = dot > 0 ? ordinal( name.substring( 0, dot ) ) : -1;
+			if ( owner >= 0 ) {
+				dirtyFields = set( dirtyFields, owner );
+			}
+			else {
+				unresolvedPaths = true;
+			}
+		}
+	}
+
+	@Override
+	public boolean contains(String name) {
+		final int ordinal = ordinal( name );
+		return ordinal >= 0 ? isSet( fields, ordinal ) : ArrayHelper.contains( paths, name );
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill( fields, 0L );
+		Arrays.fill( dirtyFields, 0L );
+		paths = ArrayHelper.EMPTY_STRING_ARRAY;
+		unresolvedPaths = false;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		if ( paths.length != 0 ) {
+			return false;
+		}
+		for ( long word : fields ) {
+			if ( word != 0L ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public String[] get() {
+		final String[] attributeNames = getTrackedAttributeNames( entityClass );
+		int count = paths.length;
+		for ( long word : fields ) {
+			count += Long.bitCount( word );
+		}
+		final String[] names = Arrays.copyOf( paths, count );
+		int index = paths.length;
+		for ( int i = 0; i < fields.length; i++ ) {
+			for ( long word = fields[i]; word != 0L; word &= word - 1 ) {
+				names[index++] = attributeNames[i * Long.SIZE + Long.numberOfTrailingZeros( word )];
+			}
+		}
+		return names;
+	}
+
+	/**
+	 * The changed fields, along with the fields which own a changed path, as a bitset
+	 * over their ordinals, or {@code null} if a changed path does not belong to a field.
+	 */
+	public long @Nullable [] getOrdinals() {
+		return unresolvedPaths ? null : dirtyFields;
+	}
+
+	@Override
+	public void suspend(boolean suspend) {
+		this.suspended = suspend;
+	}
+
+	private int ordinal(String name) {
+		return ArrayHelper.indexOf( getTrackedAttributeNames( entityClass ), name );
+	}
+
+	private static long[] set(long[] bits, int ordinal) {
+		final int word = ordinal / Long.SIZE;
+		final long[] result = word < bits.length ? bits : Arrays.copyOf( bits, word + 1 );
+		result[word] |= 1L << ordinal;
+		return result;
+	}
+
+	private static boolean isSet(long[] bits, int ordinal) {
+		final int word = ordinal / Long.SIZE;
+		return word < bits.length && ( bits[word] & 1L << ordinal ) != 0L;
+	}
+}
@@ -130,6 +130,20 @@ public final class EnhancerConstants {
 	 */
 	public static final String TRACKER_GET_NAME = "$$_hibernate_getDirtyAttributes";
 
+	/**
+	 * Name of method to fetch dirty attributes as a bitset over their ordinals
+	 *
+	 * @see #TRACKER_ATTRIBUTE_NAMES_NAME
+	 */
+	public static final String TRACKER_GET_ORDINALS_NAME = "$$_hibernate_getDirtyAttributeOrdinals";
+
+	/**
+	 * Name of the static method which returns the names of the tracked attributes,
+	 * indexed by the ordinals passed to the {@linkplain #TRACKER_CHANGER_NAME method
+	 * to add changed fields}
+	 */
+	public static final String TRACKER_ATTRIBUTE_NAMES_NAME = "$$_hibernate_getTrackedAttributeNames";
+
 	/**
 	 * Name of method to clear stored dirty attributes
 	 */
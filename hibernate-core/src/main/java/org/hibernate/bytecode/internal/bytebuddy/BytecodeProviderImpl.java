@@ -107,6 +107,8 @@ public boolean isSynthetic() {
 
 	private final ByteBuddyProxyHelper byteBuddyProxyHelper;
 
+	private final RowReaderCompiler rowReaderCompiler;
+
 	/**
 	 * Constructs a ByteBuddy BytecodeProvider instance which attempts to auto-detect the target JVM version
 	 * from the currently running one, with a fallback on Java 11.
@@ -122,6 +124,7 @@ public BytecodeProviderImpl() {
 	public BytecodeProviderImpl(ClassFileVersion targetCompatibleJVM) {
 		this.byteBuddyState = new ByteBuddyState( targetCompatibleJVM );
 		this.byteBuddyProxyHelper = new ByteBuddyProxyHelper( byteBuddyState );
+		this.rowReaderCompiler = new RowReaderCompiler( byteBuddyState );
 	}
 
 	@Override
@@ -578,6 +581,10 @@ public ByteBuddyProxyHelper getByteBuddyProxyHelper() {
 		return byteBuddyProxyHelper;
 	}
 
+	public RowReaderCompiler getRowReaderCompiler() {
+		return rowReaderCompiler;
+	}
+
 	private static class GetPropertyValues implements ByteCodeAppender {
 
 		private final Class<?> clazz;
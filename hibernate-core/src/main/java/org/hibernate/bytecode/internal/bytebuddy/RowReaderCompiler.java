@@ -0,0 +1,318 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.bytecode.internal.bytebuddy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import org.hibernate.HibernateException;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.graph.Initializer;
+import org.hibernate.sql.results.graph.InitializerData;
+import org.hibernate.sql.results.internal.StandardRowReader;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingResolution;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.sql.results.spi.RowTransformer;
+
+import net.bytebuddy.NamingStrategy;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.jar.asm.Label;
+import net.bytebuddy.jar.asm.MethodVisitor;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+
+/**
+ * Generates subclasses of {@link StandardRowReader} which invoke each initializer
+ * and assembler from a call site of its own, instead of from a loop shared by the
+ * row readers of every query.
+ * <p>
+ * The JIT compiler profiles the receiver types of each call site separately, so the
+ * calls made by a generated row reader are monomorphic and may be inlined, whereas
+ * the loops of {@link StandardRowReader} see every type of initializer and assembler
+ * in use, and dispatch megamorphically.
+ * <p>
+ * An instance is owned by the {@linkplain BytecodeProviderImpl bytecode provider} of a
+ * {@code SessionFactory}, whose {@link ByteBuddyState} generates the classes. They are
+ * defined as {@linkplain MethodHandles.Lookup#defineHiddenClass hidden classes} in the
+ * package of {@link StandardRowReader}, and so are not reachable from its class loader,
+ * and are unloaded as soon as the query they were generated for is evicted. The factory
+ * of a generated row reader is retained by the
+ * {@linkplain org.hibernate.sql.results.jdbc.internal.JdbcValuesMappingResolutionImpl
+ * resolution} it was generated for, so no class is generated twice for the same query.
+ * Classes are deliberately not shared by queries with results of the same shape, since
+ * that would make their call sites megamorphic again.
+ *
+ * @see org.hibernate.cfg.QuerySettings#QUERY_ROW_READER_COMPILE_THRESHOLD
+ *
+ * @since 7.0
+ */
+public final class RowReaderCompiler {
+	private static final String COMPILED_ROW_READER_NAMING_SUFFIX = "HibernateCompiledRowReader";
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(
+			void.class,
+			JdbcValuesMappingResolution.class,
+			RowTransformer.class,
+			Class.class
+	);
+	private static final MethodType FACTORY_TYPE = CONSTRUCTOR_TYPE.changeReturnType( StandardRowReader.class );
+
+	private static final String ROW_READER = Type.getInternalName( StandardRowReader.class );
+	private static final String INITIALIZER = Type.getInternalName( Initializer.class );
+	private static final String INITIALIZER_DATA = Type.getInternalName( InitializerData.class );
+	private static final String ASSEMBLER = Type.getInternalName( DomainResultAssembler.class );
+	private static final String STATE = Type.getInternalName( Initializer.State.class );
+	private static final String STATE_DESCRIPTOR = Type.getDescriptor( Initializer.State.class );
+	private static final String INITIALIZERS_DESCRIPTOR = Type.getDescriptor( Initializer[].class );
+	private static final String INITIALIZERS_DATA_DESCRIPTOR = Type.getDescriptor( InitializerData[].class );
+	private static final String ASSEMBLERS_DESCRIPTOR = Type.getDescriptor( DomainResultAssembler[].class );
+	private static final String INITIALIZER_METHOD_DESCRIPTOR =
+			Type.getMethodDescriptor( Type.VOID_TYPE, Type.getType( InitializerData.class ) );
+	private static final String ASSEMBLE_DESCRIPTOR =
+			Type.getMethodDescriptor( Type.getType( Object.class ), Type.getType( RowProcessingState.class ) );
+
+	private final ByteBuddyState byteBuddyState;
+
+	RowReaderCompiler(ByteBuddyState byteBuddyState) {
+		this.byteBuddyState = byteBuddyState;
+	}
+
+	/**
+	 * Generate a row reader for the given results.
+	 *
+	 * @return a {@link MethodHandle} of type {@code (JdbcValuesMappingResolution, RowTransformer, Class)StandardRowReader}
+	 */
+	public MethodHandle compile(JdbcValuesMappingResolution resolution) {
+		final int resultInitializerCount = resolution.getResultInitializers().length;
+		final int sortedForResolveInstanceCount = resolution.getSortedForResolveInstance().length;
+		final int initializerCount = resolution.getInitializers().length;
+		final int assemblerCount = resolution.getDomainResultAssemblers().length;
+
+		final byte[] rowReaderBytes = byteBuddyState.make( byteBuddy -> {
+			DynamicType.Builder<?> builder = byteBuddy
+					.with( new NamingStrategy.SuffixingRandom(
+							COMPILED_ROW_READER_NAMING_SUFFIX,
+							new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( StandardRowReader.class.getName() )
+					) )
+					.subclass( StandardRowReader.class, ConstructorStrategy.Default.IMITATE_SUPER_CLASS )
+					.method( named( "coordinateInitializers" ) )
+					.intercept( new Implementation.Simple( new CoordinateInitializers(
+							resultInitializerCount,
+							sortedForResolveInstanceCount,
+							initializerCount
+					) ) )
+					.method( named( "finishUpRow" ) )
+					.intercept( new Implementation.Simple( new FinishUpRow( initializerCount ) ) )
+					.method( named( "assembleRow" ) )
+					.intercept( new Implementation.Simple( new AssembleRow( assemblerCount ) ) );
+			if ( assemblerCount > 0 ) {
+				builder = builder.method( named( "assembleSingleResult" ) )
+						.intercept( new Implementation.Simple( new AssembleSingleResult() ) );
+			}
+			return builder;
+		} ).getBytes();
+
+		try {
+			// not a strong reference from the class loader: the class is
+			// collected along with the method handle of its constructor
+			final MethodHandles.Lookup rowReaderLookup =
+					MethodHandles.privateLookupIn( StandardRowReader.class, LOOKUP )
+							.defineHiddenClass( rowReaderBytes, true );
+			return rowReaderLookup
+					.findConstructor( rowReaderLookup.lookupClass(), CONSTRUCTOR_TYPE )
+					.asType( FACTORY_TYPE );
+		}
+		catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new HibernateException( "Unable to define generated row reader", e );
+		}
+	}
+
+	/**
+	 * Push the element at the given index of an array held by a field of the row reader.
+	 */
+	private static void loadElement(MethodVisitor methodVisitor, String field, String descriptor, int index) {
+		methodVisitor.visitVarInsn( Opcodes.ALOAD, 0 );
+		methodVisitor.visitFieldInsn( Opcodes.GETFIELD, ROW_READER, field, descriptor );
+		methodVisitor.visitLdcInsn( index );
+		methodVisitor.visitInsn( Opcodes.AALOAD );
+	}
+
+	private static void invokeInitializer(
+			MethodVisitor methodVisitor,
+			String initializers,
+			String initializersData,
+			int index,
+			String method) {
+		loadElement( methodVisitor, initializers, INITIALIZERS_DESCRIPTOR, index );
+		loadElement( methodVisitor, initializersData, INITIALIZERS_DATA_DESCRIPTOR, index );
+		methodVisitor.visitMethodInsn( Opcodes.INVOKEINTERFACE, INITIALIZER, method, INITIALIZER_METHOD_DESCRIPTOR, true );
+	}
+
+	/**
+	 * Unrolls {@code StandardRowReader#coordinateInitializers(RowProcessingState)}.
+	 */
+	private static class CoordinateInitializers implements ByteCodeAppender {
+		private final int resultInitializerCount;
+		private final int sortedForResolveInstanceCount;
+		private final int initializerCount;
+
+		private CoordinateInitializers(int resultInitializerCount, int sortedForResolveInstanceCount, int initializerCount) {
+			this.resultInitializerCount = resultInitializerCount;
+			this.sortedForResolveInstanceCount = sortedForResolveInstanceCount;
+			this.initializerCount = initializerCount;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			for ( int i = 0; i < resultInitializerCount; i++ ) {
+				invokeInitializer( methodVisitor, "resultInitializers", "resultInitializersData", i, "resolveKey" );
+			}
+			for ( int i = 0; i < sortedForResolveInstanceCount; i++ ) {
+				invokeInitializerInState(
+						methodVisitor,
+						implementationContext,
+						instrumentedMethod,
+						"sortedForResolveInstance",
+						"sortedForResolveInstanceData",
+						i,
+						"KEY_RESOLVED",
+						"resolveInstance"
+				);
+			}
+			for ( int i = 0; i < initializerCount; i++ ) {
+				invokeInitializerInState(
+						methodVisitor,
+						implementationContext,
+						instrumentedMethod,
+						"initializers",
+						"initializersData",
+						i,
+						"RESOLVED",
+						"initializeInstance"
+				);
+			}
+			methodVisitor.visitInsn( Opcodes.RETURN );
+			return new Size( 4, instrumentedMethod.getStackSize() );
+		}
+
+		private static void invokeInitializerInState(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod,
+				String initializers,
+				String initializersData,
+				int index,
+				String state,
+				String method) {
+			final Label skip = new Label();
+			loadElement( methodVisitor, initializersData, INITIALIZERS_DATA_DESCRIPTOR, index );
+			methodVisitor.visitMethodInsn(
+					Opcodes.INVOKEVIRTUAL,
+					INITIALIZER_DATA,
+					"getState",
+					Type.getMethodDescriptor( Type.getType( Initializer.State.class ) ),
+					false
+			);
+			methodVisitor.visitFieldInsn( Opcodes.GETSTATIC, STATE, state, STATE_DESCRIPTOR );
+			methodVisitor.visitJumpInsn( Opcodes.IF_ACMPNE, skip );
+			invokeInitializer( methodVisitor, initializers, initializersData, index, method );
+			methodVisitor.visitLabel( skip );
+			implementationContext.getFrameGeneration().same(
+					methodVisitor,
+					instrumentedMethod.getParameters().asTypeList()
+			);
+		}
+	}
+
+	/**
+	 * Unrolls {@code StandardRowReader#finishUpRow()}.
+	 */
+	private static class FinishUpRow implements ByteCodeAppender {
+		private final int initializerCount;
+
+		private FinishUpRow(int initializerCount) {
+			this.initializerCount = initializerCount;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			for ( int i = 0; i < initializerCount; i++ ) {
+				loadElement( methodVisitor, "initializersData", INITIALIZERS_DATA_DESCRIPTOR, i );
+				methodVisitor.visitFieldInsn( Opcodes.GETSTATIC, STATE, "UNINITIALIZED", STATE_DESCRIPTOR );
+				methodVisitor.visitMethodInsn(
+						Opcodes.INVOKEVIRTUAL,
+						INITIALIZER_DATA,
+						"setState",
+						Type.getMethodDescriptor( Type.VOID_TYPE, Type.getType( Initializer.State.class ) ),
+						false
+				);
+			}
+			methodVisitor.visitInsn( Opcodes.RETURN );
+			return new Size( 3, instrumentedMethod.getStackSize() );
+		}
+	}
+
+	/**
+	 * Unrolls {@code StandardRowReader#assembleRow(Object[], RowProcessingState)}.
+	 */
+	private static class AssembleRow implements ByteCodeAppender {
+		private final int assemblerCount;
+
+		private AssembleRow(int assemblerCount) {
+			this.assemblerCount = assemblerCount;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			for ( int i = 0; i < assemblerCount; i++ ) {
+				// resultRow[i] = resultAssemblers[i].assemble( rowProcessingState )
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+				methodVisitor.visitLdcInsn( i );
+				loadElement( methodVisitor, "resultAssemblers", ASSEMBLERS_DESCRIPTOR, i );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 2 );
+				methodVisitor.visitMethodInsn( Opcodes.INVOKEINTERFACE, ASSEMBLER, "assemble", ASSEMBLE_DESCRIPTOR, true );
+				methodVisitor.visitInsn( Opcodes.AASTORE );
+			}
+			methodVisitor.visitInsn( Opcodes.RETURN );
+			return new Size( 5, instrumentedMethod.getStackSize() );
+		}
+	}
+
+	/**
+	 * Implements {@code StandardRowReader#assembleSingleResult(RowProcessingState)}
+	 * with a call site of its own.
+	 */
+	private static class AssembleSingleResult implements ByteCodeAppender {
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			loadElement( methodVisitor, "resultAssemblers", ASSEMBLERS_DESCRIPTOR, 0 );
+			methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+			methodVisitor.visitMethodInsn( Opcodes.INVOKEINTERFACE, ASSEMBLER, "assemble", ASSEMBLE_DESCRIPTOR, true );
+			methodVisitor.visitInsn( Opcodes.ARETURN );
+			return new Size( 3, instrumentedMethod.getStackSize() );
+		}
+	}
+}
@@ -0,0 +1,288 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The results of a query, as stored in the query results cache, in a compact
+ * encoding.
+ * <p>
+ * The cached results consist of the {@linkplain JdbcValuesMetadata metadata}
+ * of the result set, if any, followed by the cached rows, which are either all
+ * arrays of the same length or all single values, and the number of results.
+ * Rather than an array per row, the values are stored per column, in an array
+ * of primitives for columns holding only non-null {@code Long} or {@code Integer}
+ * values. Equal values of the other columns, for example, the identifier of an
+ * entity referenced by many rows, are stored once, which also shortens their
+ * serialized form.
+ * <p>
+ * The rows are read in place by a cache hit, through accessors for the
+ * {@linkplain #getLong primitive} and {@linkplain #getObject other} columns.
+ * As a {@link List}, the results are unmodifiable and have their original form,
+ * which is only reconstructed when the list is first accessed.
+ *
+ * @see QueryResultsCacheImpl
+ */
+public final class CompactQueryResults extends AbstractList<Object> implements RandomAccess, Serializable {
+	private final @Nullable Object metadata;
+	private final int rowCount;
+	private final boolean singleValueRows;
+	// a long[], int[] or Object[] per column
+	private final Object[] columns;
+	private final int resultCount;
+
+	// the rows in their original form, reconstructed for the list view
+	private transient volatile Object @Nullable [] rows;
+
+	private CompactQueryResults(
+			@Nullable Object metadata,
+			int rowCount,
+			boolean singleValueRows,
+			Object[] columns,
+			int resultCount) {
+		this.metadata = metadata;
+		this.rowCount = rowCount;
+		this.singleValueRows = singleValueRows;
+		this.columns = columns;
+		this.resultCount = resultCount;
+	}
+
+	/**
+	 * Encode the given cached query results, or return {@code null} if they
+	 * don't have the form of the results cached by a query.
+	 */
+	public static @Nullable CompactQueryResults from(List<?> results) {
+		final int size = results.size();
+		if ( size == 0 || !( results.get( size - 1 ) instanceof Integer resultCount ) ) {
+			return null;
+		}
+		final Object metadata = results.get( 0 ) instanceof JdbcValuesMetadata ? results.get( 0 ) : null;
+		final int firstRow = metadata == null ? 0 : 1;
+		final int rowCount = size - firstRow - 1;
+
+		final boolean singleValueRows;
+		final int width;
+		if ( rowCount == 0 ) {
+			singleValueRows = true;
+			width = 0;
+		}
+		else if ( results.get( firstRow ) instanceof Object[] row ) {
+			if ( row.length == 0 ) {
+				return null;
+			}
+			singleValueRows = false;
+			width = row.length;
+		}
+		else {
+			singleValueRows = true;
+			width = 1;
+		}
+
+		final Object[] values = new Object[rowCount];
+		final Object[] columns = new Object[width];
+		for ( int column = 0; column < width; column++ ) {
+			for ( int row = 0; row < rowCount; row++ ) {
+				final Object result = results.get( firstRow + row );
+				if ( singleValueRows ) {
+					if ( result instanceof Object[] ) {
+						return null;
+					}
+					values[row] = result;
+				}
+				else {
+					if ( !( result instanceof Object[] rowValues ) || rowValues.length != width ) {
+						return null;
+					}
+					values[row] = rowValues[column];
+				}
+			}
+			columns[column] = encodeColumn( values );
+		}
+		return new CompactQueryResults( metadata, rowCount, singleValueRows, columns, resultCount );
+	}
+
+	private static Object encodeColumn(Object[] values) {
+		Class<?> valueClass = values.length == 0 || values[0] == null ? null : values[0].getClass();
+		for ( Object value : values ) {
+			if ( value == null || value.getClass() != valueClass ) {
+				valueClass = null;
+				break;
+			}
+		}
+		if ( valueClass == Long.class ) {
+			final long[] longs = new long[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				longs[i] = (Long) values[i];
+			}
+			return longs;
+		}
+		else if ( valueClass == Integer.class ) {
+			final int[] ints = new int[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				ints[i] = (Integer) values[i];
+			}
+			return ints;
+		}
+		else {
+			final Object[] column = new Object[values.length];
+			final Map<Object, Object> canonicalValues = new HashMap<>();
+			for ( int i = 0; i < values.length; i++ ) {
+				final Object value = values[i];
+				if ( value == null || value.getClass().isArray() ) {
+					column[i] = value;
+				}
+				else {
+					final Object canonical = canonicalValues.putIfAbsent( value, value );
+					// only share a value with an equal one of the same class
+					column[i] = canonical != null && canonical.getClass() == value.getClass() ? canonical : value;
+				}
+			}
+			return column;
+		}
+	}
+
+	/**
+	 * The metadata of the result set, if it was cached.
+	 */
+	public @Nullable Object getMetadata() {
+		return metadata;
+	}
+
+	/**
+	 * The number of cached rows.
+	 */
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * The number of results of the query, which might differ from the
+	 * number of cached rows.
+	 */
+	public int getResultCount() {
+		return resultCount;
+	}
+
+	/**
+	 * Whether each cached row is a single value, rather than an array.
+	 */
+	public boolean hasSingleValueRows() {
+		return singleValueRows;
+	}
+
+	/**
+	 * The number of values of each cached row.
+	 */
+	public int getColumnCount() {
+		return columns.length;
+	}
+
+	/**
+	 * Whether the values of the given column are all non-null {@code Long}s,
+	 * to be read by {@link #getLong}.
+	 */
+	public boolean isLongColumn(int column) {
+		return columns[column] instanceof long[];
+	}
+
+	/**
+	 * Whether the values of the given column are all non-null {@code Integer}s,
+	 * to be read by {@link #getInt}.
+	 */
+	public boolean isIntColumn(int column) {
+		return columns[column] instanceof int[];
+	}
+
+	/**
+	 * The value of the given {@linkplain #isLongColumn long column} of the given cached row.
+	 */
+	public long getLong(int row, int column) {
+		return ( (long[]) columns[column] )[row];
+	}
+
+	/**
+	 * The value of the given {@linkplain #isIntColumn int column} of the given cached row.
+	 */
+	public int getInt(int row, int column) {
+		return ( (int[]) columns[column] )[row];
+	}
+
+	/**
+	 * The value of the given column, which is neither a {@linkplain #isLongColumn long}
+	 * nor an {@linkplain #isIntColumn int} column, of the given cached row.
+	 */
+	public @Nullable Object getObject(int row, int column) {
+		return ( (Object[]) columns[column] )[row];
+	}
+
+	@Override
+	public Object get(int index) {
+		final int firstRow = metadata == null ? 0 : 1;
+		if ( index < 0 || index > rowCount + firstRow ) {
+			throw new IndexOutOfBoundsException( index );
+		}
+		else if ( index == rowCount + firstRow ) {
+			return resultCount;
+		}
+		else if ( index < firstRow ) {
+			return metadata;
+		}
+		else {
+			Object[] rows = this.rows;
+			if ( rows == null ) {
+				// racing threads reconstruct equal rows
+				this.rows = rows = reconstructRows();
+			}
+			return rows[index - firstRow];
+		}
+	}
+
+	private Object[] reconstructRows() {
+		final Object[] rows = new Object[rowCount];
+		if ( singleValueRows ) {
+			for ( int row = 0; row < rowCount; row++ ) {
+				rows[row] = value( row, 0 );
+			}
+		}
+		else {
+			for ( int row = 0; row < rowCount; row++ ) {
+				final Object[] values = new Object[columns.length];
+				for ( int column = 0; column < columns.length; column++ ) {
+					values[column] = value( row, column );
+				}
+				rows[row] = values;
+			}
+		}
+		return rows;
+	}
+
+	private @Nullable Object value(int row, int column) {
+		final Object values = columns[column];
+		if ( values instanceof long[] longs ) {
+			return longs[row];
+		}
+		else if ( values instanceof int[] ints ) {
+			return ints[row];
+		}
+		else {
+			return ( (Object[]) values )[row];
+		}
+	}
+
+	@Override
+	public int size() {
+		return rowCount + ( metadata == null ? 1 : 2 );
+	}
+}
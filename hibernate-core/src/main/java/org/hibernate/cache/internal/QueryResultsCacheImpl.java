@@ -6,6 +6,7 @@
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
@@ -24,6 +25,9 @@
  * The standard implementation of the Hibernate QueryCache interface.  Works
  * hind-in-hand with {@link TimestampsCache} to help in recognizing
  * stale query results.
+ * <p>
+ * The results of a query are cached as {@link CompactQueryResults}, which
+ * are read in place by a cache hit.
  *
  * @author Gavin King
  * @author Steve Ebersole
@@ -56,9 +60,10 @@ public boolean put(
 					session.getCacheTransactionSynchronization().getCachingTimestamp() );
 		}
 
+		final CompactQueryResults compactResults = CompactQueryResults.from( results );
 		final CacheItem cacheItem = new CacheItem(
 				session.getCacheTransactionSynchronization().getCachingTimestamp(),
-				deepCopy( results )
+				compactResults == null ? deepCopy( results ) : compactResults
 		);
 
 		final EventManager eventManager = session.getEventManager();
@@ -103,7 +108,7 @@ public List<?> get(
 			return null;
 		}
 
-		if ( !timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ) ) {
+		if ( !timestampsCache.isUpToDate( spaces, TimestampsCache.partition( session ), cacheItem.timestamp, session ) ) {
 			if ( loggerDebugEnabled ) {
 				L2CACHE_LOGGER.debug( "Cached query results were not up-to-date" );
 			}
@@ -136,7 +141,7 @@ public List<?> get(
 			return null;
 		}
 
-		if ( !timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ) ) {
+		if ( !timestampsCache.isUpToDate( Arrays.asList( spaces ), TimestampsCache.partition( session ), cacheItem.timestamp, session ) ) {
 			if ( loggerDebugEnabled ) {
 				L2CACHE_LOGGER.debug( "Cached query results were not up-to-date" );
 			}
@@ -147,7 +152,10 @@ public List<?> get(
 			L2CACHE_LOGGER.debug( "Returning cached query results" );
 		}
 
-		return deepCopy( cacheItem.results );
+		// the compact results are immutable
+		return cacheItem.results instanceof CompactQueryResults
+				? cacheItem.results
+				: deepCopy( cacheItem.results );
 	}
 
 	private CacheItem getCachedData(QueryKey key, SharedSessionContractImplementor session) {
@@ -4,6 +4,7 @@
  */
 package org.hibernate.cache.internal;
 
+import java.io.Serializable;
 import java.util.Collection;
 
 import org.hibernate.cache.spi.RegionFactory;
@@ -16,10 +17,18 @@
 import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.jboss.logging.Logger;
 
 /**
  * Standard implementation of TimestampsCache
+ * <p>
+ * The timestamp of a query space invalidated for a single partition of
+ * its rows is kept separately from the timestamp of the space itself,
+ * which is invalidated for every partition. Since a reader which does not
+ * belong to a partition sees the rows of every partition, an invalidation
+ * for a single partition also updates a timestamp of the space for any
+ * partition, which is checked by those readers.
  *
  * @author Steve Ebersole
  */
@@ -43,6 +52,14 @@ public TimestampsRegion getRegion() {
 	public void preInvalidate(
 			String[] spaces,
 			SharedSessionContractImplementor session) {
+		preInvalidate( spaces, null, session );
+	}
+
+	@Override
+	public void preInvalidate(
+			String[] spaces,
+			@Nullable Object partition,
+			SharedSessionContractImplementor session) {
 		final SessionFactoryImplementor factory = session.getFactory();
 		final RegionFactory regionFactory = factory.getCache().getRegionFactory();
 
@@ -54,9 +71,9 @@ public void preInvalidate(
 		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
 		final boolean debugEnabled = log.isDebugEnabled();
 
-		for ( String space : spaces ) {
+		for ( Object key : keys( spaces, partition ) ) {
 			if ( debugEnabled ) {
-				log.debugf( "Pre-invalidating space [%s], timestamp: %s", space, ts );
+				log.debugf( "Pre-invalidating space [%s], timestamp: %s", key, ts );
 			}
 			final EventManager eventManager = session.getEventManager();
 			final HibernateMonitoringEvent cachePutEvent = eventManager.beginCachePutEvent();
@@ -65,7 +82,7 @@ public void preInvalidate(
 
 				//put() has nowait semantics, is this really appropriate?
 				//note that it needs to be async replication, never local or sync
-				timestampsRegion.putIntoCache( space, ts, session );
+				timestampsRegion.putIntoCache( key, ts, session );
 			}
 			finally {
 				eventManager.completeCachePutEvent(
@@ -88,15 +105,23 @@ public void preInvalidate(
 	public void invalidate(
 			String[] spaces,
 			SharedSessionContractImplementor session) {
+		invalidate( spaces, null, session );
+	}
+
+	@Override
+	public void invalidate(
+			String[] spaces,
+			@Nullable Object partition,
+			SharedSessionContractImplementor session) {
 		final StatisticsImplementor statistics = session.getFactory().getStatistics();
 		final boolean stats = statistics.isStatisticsEnabled();
 
 		final Long ts = session.getFactory().getCache().getRegionFactory().nextTimestamp();
 		final boolean debugEnabled = log.isDebugEnabled();
 
-		for ( String space : spaces ) {
+		for ( Object key : keys( spaces, partition ) ) {
 			if ( debugEnabled ) {
-				log.debugf( "Invalidating space [%s], timestamp: %s", space, ts );
+				log.debugf( "Invalidating space [%s], timestamp: %s", key, ts );
 			}
 
 			final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
@@ -104,7 +129,7 @@ public void invalidate(
 			final HibernateMonitoringEvent cachePutEvent = eventManager.beginCachePutEvent();
 			try {
 				eventListenerManager.cachePutStart();
-				timestampsRegion.putIntoCache( space, ts, session );
+				timestampsRegion.putIntoCache( key, ts, session );
 			}
 			finally {
 				eventManager.completeCachePutEvent(
@@ -129,9 +154,10 @@ public boolean isUpToDate(
 			Long timestamp,
 			SharedSessionContractImplementor session) {
 		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final boolean partitioned = isPartitioned( session );
 
 		for ( String space : spaces ) {
-			if ( isSpaceOutOfDate( space, timestamp, session, statistics ) ) {
+			if ( isSpaceOutOfDate( space, null, partitioned, timestamp, session, statistics ) ) {
 				return false;
 			}
 		}
@@ -139,8 +165,32 @@ public boolean isUpToDate(
 		return true;
 	}
 
+	/**
+	 * Whether the space was invalidated after the given timestamp for the given
+	 * partition, or, if there is none, for any partition.
+	 */
 	private boolean isSpaceOutOfDate(
 			String space,
+			@Nullable Object partition,
+			boolean partitioned,
+			Long timestamp,
+			SharedSessionContractImplementor session,
+			StatisticsImplementor statistics) {
+		// the space might have been invalidated for every partition, or just for some
+		if ( isSpaceOutOfDate( space, timestamp, session, statistics ) ) {
+			return true;
+		}
+		else if ( partition != null ) {
+			return isSpaceOutOfDate( key( space, partition ), timestamp, session, statistics );
+		}
+		else {
+			// the rows of any partition might have been read
+			return partitioned && isSpaceOutOfDate( new AnyPartitionSpace( space ), timestamp, session, statistics );
+		}
+	}
+
+	private boolean isSpaceOutOfDate(
+			Object space,
 			Long timestamp,
 			SharedSessionContractImplementor session,
 			StatisticsImplementor statistics) {
@@ -179,10 +229,20 @@ public boolean isUpToDate(
 			Collection<String> spaces,
 			Long timestamp,
 			SharedSessionContractImplementor session) {
+		return isUpToDate( spaces, null, timestamp, session );
+	}
+
+	@Override
+	public boolean isUpToDate(
+			Collection<String> spaces,
+			@Nullable Object partition,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
 		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final boolean partitioned = isPartitioned( session );
 
 		for ( String space : spaces ) {
-			if ( isSpaceOutOfDate( space, timestamp, session, statistics ) ) {
+			if ( isSpaceOutOfDate( space, partition, partitioned, timestamp, session, statistics ) ) {
 				return false;
 			}
 		}
@@ -190,7 +250,31 @@ public boolean isUpToDate(
 		return true;
 	}
 
-	private Long getLastUpdateTimestampForSpace(String space, SharedSessionContractImplementor session) {
+	private static boolean isPartitioned(SharedSessionContractImplementor session) {
+		return session.getFactory().getSessionFactoryOptions().isQueryCachePartitionedByTenant();
+	}
+
+	private static Object key(String space, Object partition) {
+		return new PartitionedSpace( space, partition );
+	}
+
+	/**
+	 * The keys of the timestamps to update when invalidating the given spaces
+	 * for the given partition, or for every partition.
+	 */
+	private static Object[] keys(String[] spaces, @Nullable Object partition) {
+		if ( partition == null ) {
+			return spaces;
+		}
+		final Object[] keys = new Object[spaces.length * 2];
+		for ( int i = 0; i < spaces.length; i++ ) {
+			keys[2 * i] = key( spaces[i], partition );
+			keys[2 * i + 1] = new AnyPartitionSpace( spaces[i] );
+		}
+		return keys;
+	}
+
+	private Long getLastUpdateTimestampForSpace(Object space, SharedSessionContractImplementor session) {
 		Long ts = null;
 		final EventManager eventManager = session.getEventManager();
 		final HibernateMonitoringEvent cacheGetEvent = eventManager.beginCacheGetEvent();
@@ -210,4 +294,24 @@ private Long getLastUpdateTimestampForSpace(String space, SharedSessionContractI
 		return ts;
 	}
 
+	/**
+	 * The key of the timestamp of a query space for a partition of its rows.
+	 */
+	private record PartitionedSpace(String space, Object partition) implements Serializable {
+		@Override
+		public String toString() {
+			return space + '(' + partition + ')';
+		}
+	}
+
+	/**
+	 * The key of the timestamp of a query space invalidated for some partition
+	 * of its rows.
+	 */
+	private record AnyPartitionSpace(String space) implements Serializable {
+		@Override
+		public String toString() {
+			return space + "(*)";
+		}
+	}
 }
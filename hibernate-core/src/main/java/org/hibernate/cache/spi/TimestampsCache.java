@@ -6,9 +6,14 @@
 
 import java.util.Collection;
 
+import org.hibernate.Incubating;
 import org.hibernate.cache.CacheException;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * Tracks invalidation of "query spaces" (tables) for the purpose of
  * determining if a cached query result set is stale. Implementations
@@ -65,6 +70,92 @@ boolean isUpToDate(
 			Long timestamp,
 			SharedSessionContractImplementor session);
 
+	/**
+	 * Perform pre-invalidation of the passed spaces (table names)
+	 * against the timestamp region data, for the given partition of
+	 * their rows only.
+	 * <p>
+	 * By default, the spaces are pre-invalidated for every partition.
+	 *
+	 * @param partition The partition of the rows written, for example,
+	 * a tenant identifier, or {@code null} if they might belong to any
+	 * partition
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void preInvalidate(
+			String[] spaces,
+			@Nullable Object partition,
+			SharedSessionContractImplementor session) {
+		preInvalidate( spaces, session );
+	}
+
+	/**
+	 * Perform invalidation of the passed spaces (table names)
+	 * against the timestamp region data, for the given partition of
+	 * their rows only.
+	 * <p>
+	 * By default, the spaces are invalidated for every partition.
+	 *
+	 * @param partition The partition of the rows written, for example,
+	 * a tenant identifier, or {@code null} if they might belong to any
+	 * partition
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void invalidate(
+			String[] spaces,
+			@Nullable Object partition,
+			SharedSessionContractImplementor session) {
+		invalidate( spaces, session );
+	}
+
+	/**
+	 * Perform an up-to-date check for the given set of query spaces as
+	 * part of verifying the validity of cached query results which only
+	 * contain rows of the given partition.
+	 *
+	 * @param partition The partition of the rows read, or {@code null}
+	 * if they might belong to any partition
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isUpToDate(
+			Collection<String> spaces,
+			@Nullable Object partition,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
+		return isUpToDate( spaces, timestamp, session );
+	}
+
+	/**
+	 * The partition of the rows read and written by the given session, that
+	 * is, its tenant identifier, if query spaces are
+	 * {@linkplain org.hibernate.cfg.CacheSettings#QUERY_CACHE_PARTITION_BY_TENANT
+	 * invalidated per tenant}, or {@code null} if the session might read and
+	 * write the rows of any partition.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	static @Nullable Object partition(SharedSessionContractImplementor session) {
+		final SessionFactoryImplementor factory = session.getFactory();
+		if ( factory.getSessionFactoryOptions().isQueryCachePartitionedByTenant() ) {
+			final Object tenantIdentifier = session.getTenantIdentifierValue();
+			final CurrentTenantIdentifierResolver<Object> resolver = factory.getCurrentTenantIdentifierResolver();
+			// the "root" tenant has access to all partitions
+			return tenantIdentifier == null || resolver != null && resolver.isRoot( tenantIdentifier )
+					? null
+					: tenantIdentifier;
+		}
+		else {
+			return null;
+		}
+	}
+
 	default void clear() throws CacheException {
 		getRegion().clear();
 	}
@@ -55,6 +55,30 @@ public interface CachedDomainDataAccess {
 	 */
 	Object get(SharedSessionContractImplementor session, Object key);
 
+	/**
+	 * Attempt to retrieve the objects with the given keys from the cache,
+	 * in a single round trip to the cache provider, if it supports it.
+	 * Mainly used in attempting to resolve a batch of entities from the
+	 * second level cache.
+	 *
+	 * @param session Current session.
+	 * @param keys The keys of the items to be retrieved.
+	 *
+	 * @return an array holding the cached data for the key at the same
+	 *         index of the given array, or {@code null}
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @since 7.0
+	 */
+	default Object[] getAll(SharedSessionContractImplementor session, Object[] keys) {
+		final Object[] items = new Object[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			items[i] = get( session, keys[i] );
+		}
+		return items;
+	}
+
 	/**
 	 * Attempt to cache an object, afterQuery loading from the database.
 	 *
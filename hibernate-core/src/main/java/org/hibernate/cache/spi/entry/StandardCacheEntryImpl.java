@@ -55,7 +55,16 @@ public StandardCacheEntryImpl(
 		this.version = version;
 	}
 
-	StandardCacheEntryImpl(Serializable[] disassembledState, String subclass, Object version) {
+	/**
+	 * Constructs a StandardCacheEntryImpl from its already disassembled state,
+	 * for example, when reading it back from a cache which stores it in some
+	 * other form.
+	 *
+	 * @param disassembledState The disassembled state
+	 * @param subclass The entity name
+	 * @param version The version (if versioned)
+	 */
+	public StandardCacheEntryImpl(Serializable[] disassembledState, String subclass, Object version) {
 		this.disassembledState = disassembledState;
 		this.subclass = subclass;
 		this.version = version;
@@ -53,6 +53,11 @@ public Object get(SharedSessionContractImplementor session, Object key) {
 		return getStorageAccess().getFromCache( key, session );
 	}
 
+	@Override
+	public Object[] getAll(SharedSessionContractImplementor session, Object[] keys) {
+		return getStorageAccess().getAllFromCache( keys, session );
+	}
+
 	@Override
 	public boolean putFromLoad(
 			SharedSessionContractImplementor session,
@@ -97,6 +97,30 @@ public Object get(SharedSessionContractImplementor session, Object key) {
 		}
 	}
 
+	@Override
+	public Object[] getAll(SharedSessionContractImplementor session, Object[] keys) {
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Getting cached data from region [`%s` (%s)] by %s keys", getRegion().getName(), getAccessType(), keys.length );
+		}
+		final long txTimestamp = session.getCacheTransactionSynchronization().getCachingTimestamp();
+		try {
+			readLock.lock();
+			final Object[] items = getStorageAccess().getAllFromCache( keys, session );
+			for ( int i = 0; i < items.length; i++ ) {
+				final Lockable item = (Lockable) items[i];
+				if ( item != null ) {
+					// locked items and items created after the
+					// start of the transaction are not readable
+					items[i] = item.isReadable( txTimestamp ) ? item.getValue() : null;
+				}
+			}
+			return items;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
 	@Override
 	public boolean putFromLoad(
 			SharedSessionContractImplementor session,
@@ -277,7 +301,7 @@ public final static class Item implements Serializable, Lockable {
 		/**
 		 * Creates an unlocked item wrapping the given value with a version and creation timestamp.
 		 */
-		Item(Object value, Object version, long timestamp) {
+		public Item(Object value, Object version, long timestamp) {
 			this.value = value;
 			this.version = version;
 			this.timestamp = timestamp;
@@ -318,6 +342,14 @@ public Object getValue() {
 			return value;
 		}
 
+		public Object getVersion() {
+			return version;
+		}
+
+		public long getTimestamp() {
+			return timestamp;
+		}
+
 		@Override
 		public boolean isUnlockable(SoftLock lock) {
 			return false;
@@ -48,7 +48,11 @@ public DomainDataRegionTemplate(
 			CacheKeysFactory defaultKeysFactory,
 			DomainDataRegionBuildingContext buildingContext) {
 		super( regionConfig, regionFactory, defaultKeysFactory, buildingContext );
-		this.storageAccess = storageAccess;
+		this.storageAccess = NearCacheStorageAccess.decorate(
+				storageAccess,
+				getName(),
+				buildingContext.getSessionFactory().getSessionFactoryOptions()
+		);
 
 		// now the super-type calls will have access to the `DomainDataStorageAccess` reference
 		completeInstantiation( regionConfig, buildingContext );
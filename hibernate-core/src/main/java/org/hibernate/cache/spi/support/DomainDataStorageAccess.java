@@ -22,4 +22,24 @@ public interface DomainDataStorageAccess extends StorageAccess {
 	default void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
 		putIntoCache( key, value, session );
 	}
+
+	/**
+	 * Get the items with the given keys from the cache, in a single
+	 * operation if the caching provider supports it
+	 *
+	 * @return an array holding the item with the key at the same index
+	 *         of the given array, or {@code null} if there is no such item
+	 *
+	 * @implNote the method default is to call {@link #getFromCache}
+	 *           for each key
+	 *
+	 * @since 7.0
+	 */
+	default Object[] getAllFromCache(Object[] keys, SharedSessionContractImplementor session) {
+		final Object[] items = new Object[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			items[i] = getFromCache( keys[i], session );
+		}
+		return items;
+	}
 }
@@ -0,0 +1,224 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi.support;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.Incubating;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * A {@link DomainDataStorageAccess} which keeps the entries read from another
+ * {@code DomainDataStorageAccess} in a small bounded on-heap near cache, so that
+ * repeated reads of the same entries do not each call the cache provider.
+ * <p>
+ * Every write through this storage access, including the soft locks of the
+ * {@linkplain org.hibernate.cache.spi.access.AccessType#READ_WRITE read-write}
+ * access strategy, removes the entry from the near cache, so that the entries
+ * read by this {@code SessionFactory} are never older than its own writes. An
+ * entry is held for at most its time to live, after which it is read again from
+ * the cache provider, which bounds the staleness of the near cache with respect
+ * to the writes by other nodes of a cluster.
+ *
+ * @see org.hibernate.cfg.CacheSettings#NEAR_CACHE_MAX_ENTRIES
+ *
+ * @since 7.0
+ */
+@Incubating
+public class NearCacheStorageAccess implements DomainDataStorageAccess {
+	private final DomainDataStorageAccess underlyingStorageAccess;
+	private final String regionName;
+	private final long timeToLiveNanos;
+	private final BoundedConcurrentHashMap<Object, NearCacheEntry> entries;
+	// incremented by every write, so that a read which overlaps
+	// a write does not put an entry into the near cache
+	private final AtomicLong writeCount = new AtomicLong();
+
+	private record NearCacheEntry(Object value, long expiry) {
+	}
+
+	public NearCacheStorageAccess(
+			DomainDataStorageAccess underlyingStorageAccess,
+			String regionName,
+			int maxEntries,
+			long timeToLiveMillis) {
+		this.underlyingStorageAccess = underlyingStorageAccess;
+		this.regionName = regionName;
+		this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos( timeToLiveMillis );
+		this.entries = new BoundedConcurrentHashMap<>(
+				maxEntries,
+				Math.min( 16, maxEntries ),
+				BoundedConcurrentHashMap.Eviction.LRU
+		);
+	}
+
+	/**
+	 * Wrap the given storage access of the named region in a near cache, if
+	 * one is {@linkplain SessionFactoryOptions#getNearCacheMaxEntries() enabled}.
+	 */
+	public static DomainDataStorageAccess decorate(
+			DomainDataStorageAccess storageAccess,
+			String regionName,
+			SessionFactoryOptions options) {
+		final int maxEntries = options.getNearCacheMaxEntries();
+		return maxEntries > 0 && options.getNearCacheTimeToLive() > 0
+				? new NearCacheStorageAccess( storageAccess, regionName, maxEntries, options.getNearCacheTimeToLive() )
+				: storageAccess;
+	}
+
+	public DomainDataStorageAccess getUnderlyingStorageAccess() {
+		return underlyingStorageAccess;
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final NearCacheEntry entry = entries.get( key );
+		if ( entry != null ) {
+			if ( entry.expiry() - System.nanoTime() > 0 ) {
+				if ( statistics.isStatisticsEnabled() ) {
+					statistics.nearCacheHit( regionName );
+				}
+				return entry.value();
+			}
+			entries.remove( key, entry );
+		}
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.nearCacheMiss( regionName );
+		}
+
+		final long writes = writeCount.get();
+		final Object value = underlyingStorageAccess.getFromCache( key, session );
+		if ( value != null ) {
+			putIntoNearCache( key, new NearCacheEntry( value, System.nanoTime() + timeToLiveNanos ), writes );
+		}
+		return value;
+	}
+
+	@Override
+	public Object[] getAllFromCache(Object[] keys, SharedSessionContractImplementor session) {
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final Object[] items = new Object[keys.length];
+		final long now = System.nanoTime();
+		int misses = 0;
+		for ( int i = 0; i < keys.length; i++ ) {
+			final NearCacheEntry entry = entries.get( keys[i] );
+			if ( entry != null && entry.expiry() - now > 0 ) {
+				items[i] = entry.value();
+			}
+			else {
+				misses++;
+			}
+		}
+		if ( statistics.isStatisticsEnabled() ) {
+			for ( int i = 0; i < keys.length - misses; i++ ) {
+				statistics.nearCacheHit( regionName );
+			}
+			for ( int i = 0; i < misses; i++ ) {
+				statistics.nearCacheMiss( regionName );
+			}
+		}
+
+		if ( misses > 0 ) {
+			final Object[] missingKeys = new Object[misses];
+			final int[] positions = new int[misses];
+			for ( int i = 0, j = 0; i < keys.length; i++ ) {
+				if ( items[i] == null ) {
+					missingKeys[j] = keys[i];
+					positions[j++] = i;
+				}
+			}
+			final long writes = writeCount.get();
+			final Object[] missingItems = underlyingStorageAccess.getAllFromCache( missingKeys, session );
+			final long expiry = System.nanoTime() + timeToLiveNanos;
+			for ( int j = 0; j < misses; j++ ) {
+				final Object value = missingItems[j];
+				items[positions[j]] = value;
+				if ( value != null ) {
+					putIntoNearCache( missingKeys[j], new NearCacheEntry( value, expiry ), writes );
+				}
+			}
+		}
+		return items;
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		underlyingStorageAccess.putIntoCache( key, value, session );
+		invalidate( key );
+	}
+
+	@Override
+	public void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
+		underlyingStorageAccess.putFromLoad( key, value, session );
+		invalidate( key );
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		underlyingStorageAccess.removeFromCache( key, session );
+		invalidate( key );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		underlyingStorageAccess.clearCache( session );
+		invalidate();
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return underlyingStorageAccess.contains( key );
+	}
+
+	@Override
+	public void evictData() {
+		underlyingStorageAccess.evictData();
+		invalidate();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		underlyingStorageAccess.evictData( key );
+		invalidate( key );
+	}
+
+	@Override
+	public void release() {
+		invalidate();
+		underlyingStorageAccess.release();
+	}
+
+	/**
+	 * Put an entry read from the underlying storage access into the near cache,
+	 * unless a write happened since the given {@linkplain #writeCount count} of
+	 * writes was taken. A write which happens between the check and the put is
+	 * detected after the put, and the entry is then removed again: either the
+	 * second check sees the incremented count, or the write removes the entry
+	 * after it was put.
+	 */
+	private void putIntoNearCache(Object key, NearCacheEntry entry, long writes) {
+		if ( writeCount.get() == writes ) {
+			entries.put( key, entry );
+			if ( writeCount.get() != writes ) {
+				entries.remove( key, entry );
+			}
+		}
+	}
+
+	private void invalidate(Object key) {
+		writeCount.incrementAndGet();
+		entries.remove( key );
+	}
+
+	private void invalidate() {
+		writeCount.incrementAndGet();
+		entries.clear();
+	}
+}
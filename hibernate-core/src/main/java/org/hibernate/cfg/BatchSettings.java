@@ -63,6 +63,118 @@ public interface BatchSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * When enabled, a full JDBC batch is handed to the JDBC driver for asynchronous
+	 * execution while the flush goes on binding the next batch, so that the work of
+	 * preparing the statements overlaps with the round trip to the database. At most
+	 * one batch per session is executing at any time, so statements still reach the
+	 * database in the order in which they were added, and any other JDBC work waits
+	 * for the executing batch to complete.
+	 * <p/>
+	 * This has no effect unless the dialect {@linkplain org.hibernate.dialect.Dialect#supportsAsyncBatchExecution()
+	 * supports} asynchronous execution through an API of the JDBC driver. Currently,
+	 * the only such driver is the Oracle JDBC driver, since version 21, so that
+	 * batches are executed synchronously on every other database, and on Oracle
+	 * with an older driver. A failure is reported when the session next interacts
+	 * with the batch, rather than by the statement which filled it.
+	 *
+	 * @see #STATEMENT_BATCH_SIZE
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	String PIPELINED_EXECUTION = "hibernate.jdbc.batch.pipelined";
+
+	/**
+	 * When set to a positive number of milliseconds, the size of the JDBC batches
+	 * built for each {@linkplain org.hibernate.engine.jdbc.batch.spi.BatchKey batch
+	 * key} is adapted to the observed execution time of the full batches of that
+	 * key, so that the execution of a batch takes about the given time. Batches
+	 * start out with the size given by {@value #STATEMENT_BATCH_SIZE}, which must
+	 * enable batching, and their size is kept between {@value #ADAPTIVE_MIN_SIZE}
+	 * and {@value #ADAPTIVE_MAX_SIZE}.
+	 * <p/>
+	 * A batch size explicitly set for a session with
+	 * {@link org.hibernate.SharedSessionContract#setJdbcBatchSize(Integer)} is not adapted.
+	 * The sizes in use are available from
+	 * {@link org.hibernate.stat.Statistics#getJdbcBatchSizes()} when
+	 * statistics are enabled.
+	 *
+	 * @see #STATEMENT_BATCH_SIZE
+	 *
+	 * @settingDefault {@code 0}, which disables adaptive batch sizing
+	 *
+	 * @since 7.0
+	 */
+	String ADAPTIVE_TARGET_LATENCY = "hibernate.jdbc.batch.adaptive.target_latency";
+
+	/**
+	 * The smallest size to which an {@linkplain #ADAPTIVE_TARGET_LATENCY adaptive}
+	 * batch may shrink.
+	 *
+	 * @settingDefault {@code 2}
+	 *
+	 * @since 7.0
+	 */
+	String ADAPTIVE_MIN_SIZE = "hibernate.jdbc.batch.adaptive.min_size";
+
+	/**
+	 * The largest size to which an {@linkplain #ADAPTIVE_TARGET_LATENCY adaptive}
+	 * batch may grow.
+	 *
+	 * @settingDefault {@code 1000}
+	 *
+	 * @since 7.0
+	 */
+	String ADAPTIVE_MAX_SIZE = "hibernate.jdbc.batch.adaptive.max_size";
+
+	/**
+	 * When enabled, the batched inserts of an entity are not executed as a JDBC
+	 * batch of single-row statements, but are rewritten into statements of the
+	 * form {@code insert into ... values (...), (...), ...}, each inserting as
+	 * many rows as the {@linkplain org.hibernate.dialect.Dialect#getParameterCountLimit()
+	 * parameter limit} of the database allows. This helps with JDBC drivers which
+	 * send a separate statement to the database for each row of a batch.
+	 * <p/>
+	 * Only entities which can be {@linkplain #STATEMENT_BATCH_SIZE batched}, whose
+	 * inserts are neither {@linkplain org.hibernate.annotations.DynamicInsert dynamic}
+	 * nor {@linkplain org.hibernate.annotations.SQLInsert custom}, are affected. In
+	 * particular, entities with identifiers or other values generated by the insert
+	 * are never batched, and are still inserted one row at a time. Enabling
+	 * {@value #ORDER_INSERTS} lets more rows be inserted by each statement.
+	 *
+	 * @see org.hibernate.dialect.Dialect#supportsValuesListForInsert()
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	String MULTI_ROW_INSERTS = "hibernate.jdbc.batch.multi_row_inserts";
+
+	/**
+	 * The minimum number of entities passed to
+	 * {@link org.hibernate.StatelessSession#insertMultiple(java.util.List)} for
+	 * the rows to be loaded using the native bulk load facility of the database,
+	 * for example, {@code COPY ... FROM STDIN} on PostgreSQL, rather than by a
+	 * JDBC batch of inserts. A value of {@code 0} disables bulk loading.
+	 * <p/>
+	 * Bulk loading is only used when the {@linkplain org.hibernate.dialect.Dialect#getBulkInsertSupport()
+	 * Dialect supports it} for the column types of the entity, and under the same
+	 * conditions as {@value #MULTI_ROW_INSERTS}, except that it does not need
+	 * to be enabled. Otherwise, the entities are inserted by a JDBC batch.
+	 * Since bulk loading has no way to handle conflicts,
+	 * {@link org.hibernate.StatelessSession#upsertMultiple(java.util.List)}
+	 * always uses a JDBC batch.
+	 *
+	 * @see org.hibernate.dialect.bulk.BulkInsertSupport
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @since 7.0
+	 */
+	String BULK_INSERT_THRESHOLD = "hibernate.jdbc.bulk_insert_threshold";
+
 	/**
 	 * @deprecated Use {@link #BUILDER} instead
 	 */
@@ -88,6 +88,32 @@ public interface CacheSettings {
 	@Incubating
 	String QUERY_CACHE_LAYOUT = "hibernate.cache.query_cache_layout";
 
+	/**
+	 * When enabled, the query spaces written by the entity and collection
+	 * operations of a session with a {@linkplain org.hibernate.SharedSessionContract#getTenantIdentifier()
+	 * tenant identifier} are only invalidated for that tenant, so that they
+	 * do not invalidate the cached query results of other tenants. Bulk
+	 * mutation queries and native queries still invalidate the query spaces
+	 * for every tenant.
+	 * <p>
+	 * This is only correct when the rows written by one tenant are never
+	 * read by another, that is, when each tenant has its own schema or
+	 * database, or when every entity has a {@link org.hibernate.annotations.TenantId}.
+	 * Query results cached without a tenant identifier might include rows
+	 * of any tenant, and so are invalidated by the writes of every tenant,
+	 * while the writes of the
+	 * {@linkplain org.hibernate.context.spi.CurrentTenantIdentifierResolver#isRoot
+	 * root tenant} invalidate the query spaces for every tenant.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.cache.spi.TimestampsCache#invalidate(String[], Object, org.hibernate.engine.spi.SharedSessionContractImplementor)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_CACHE_PARTITION_BY_TENANT = "hibernate.cache.query_cache_partition_by_tenant";
+
 	/**
 	 * The {@link RegionFactory} implementation, either:
 	 * <ul>
@@ -184,6 +210,42 @@ public interface CacheSettings {
 	 */
 	String USE_DIRECT_REFERENCE_CACHE_ENTRIES = "hibernate.cache.use_reference_entries";
 
+	/**
+	 * The maximum number of entries held by the near cache of each domain data
+	 * region, a small on-heap tier which serves repeated reads of the same cache
+	 * entries without calling the cache provider. This is worthwhile when the
+	 * cache provider is remote or clustered, so that each read of the provider
+	 * costs a network round trip and the deserialization of the cache entry.
+	 * <p>
+	 * Writes through this {@code SessionFactory} update or invalidate the near
+	 * cache, but writes by other nodes of a cluster are only seen once the entry
+	 * has been held for longer than its {@linkplain #NEAR_CACHE_TIME_TO_LIVE time to live}.
+	 * <p>
+	 * A value of zero, the default, disables the near cache.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @see org.hibernate.cache.spi.support.NearCacheStorageAccess
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String NEAR_CACHE_MAX_ENTRIES = "hibernate.cache.near_cache_max_entries";
+
+	/**
+	 * The number of milliseconds an entry is held by the near cache of a domain
+	 * data region before it is read again from the cache provider, which bounds
+	 * how long the writes of other nodes of a cluster might go unnoticed.
+	 *
+	 * @settingDefault {@code 1000}
+	 *
+	 * @see #NEAR_CACHE_MAX_ENTRIES
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String NEAR_CACHE_TIME_TO_LIVE = "hibernate.cache.near_cache_time_to_live";
+
 	/**
 	 * Specifies the {@link org.hibernate.cache.spi.CacheKeysFactory} to use, either:
 	 * <ul>
@@ -120,6 +120,64 @@ public interface PersistenceSettings {
 	 */
 	String SCANNER = "hibernate.archive.scanner";
 
+	/**
+	 * Specifies the path of a file holding a snapshot of the resources discovered by
+	 * scanning the persistence unit. When the file exists, and was written by the same
+	 * version of Hibernate for the same scanned roots and mapping files, the resources
+	 * it records are used instead of scanning. Otherwise, the persistence unit is
+	 * scanned, and the file is written, so that it may be used the next time the
+	 * application starts.
+	 * <p>
+	 * A jar is identified by the names, sizes, and CRCs of its entries, and a class
+	 * directory by the relative names, sizes, and modification times of its files,
+	 * while mapping files are identified by their content. Adding, removing, or
+	 * changing a class or a resource under a root, or changing a mapping file, makes
+	 * the snapshot obsolete. The location of a root does not matter, so a snapshot
+	 * produced at build time for the packaged jars remains valid wherever they are
+	 * deployed. A snapshot of class directories, whose modification times change
+	 * when they are copied, is usually only valid on the machine which wrote it.
+	 *
+	 * @settingDefault {@code null}, meaning the persistence unit is always scanned
+	 *
+	 * @see #SCANNER
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String SCAN_SNAPSHOT = "hibernate.archive.scan_snapshot";
+
+	/**
+	 * Specifies the number of threads used to complete the initialization of the
+	 * entity and collection persisters, including the creation of their table
+	 * mappings, mutation coordinators, and loaders, when the {@link SessionFactory}
+	 * is built. This work depends only on the mapping model, so for a large domain
+	 * model it may be spread across processor cores.
+	 *
+	 * @settingDefault {@code 1}, meaning the persisters are initialized by the
+	 *                 thread building the {@code SessionFactory}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String BOOT_PARALLELISM = "hibernate.boot.parallelism";
+
+	/**
+	 * When enabled, the loaders, mutation coordinators, and lazy fetch group
+	 * load plans of an entity persister are not created when the {@link SessionFactory}
+	 * is built, but the first time they are needed. For a large domain model of
+	 * which a given process only uses a small part, this reduces both the time
+	 * taken to build the {@code SessionFactory} and its memory footprint.
+	 * <p>
+	 * When enabled, the static SQL of the entity persisters is not logged at
+	 * startup.
+	 *
+	 * @settingDefault {@code false}, meaning everything is created eagerly
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String LAZY_PERSISTER_INITIALIZATION = "hibernate.boot.lazy_persister_initialization";
+
 	/**
 	 * Specifies an {@link org.hibernate.boot.archive.spi.ArchiveDescriptorFactory} to use
 	 * in the scanning process, either:
@@ -175,6 +233,54 @@ public interface PersistenceSettings {
 	 */
 	String SESSION_FACTORY_OBSERVER = "hibernate.session_factory_observer";
 
+	/**
+	 * The number of entities a persistence context must hold for the dirty checking of its
+	 * entities during flush to be performed in parallel, using the common
+	 * {@link java.util.concurrent.ForkJoinPool}.
+	 * <p>
+	 * Only the reading of the current state of each entity, and its comparison with the
+	 * state it was loaded with, are performed in parallel, and only for entities which are
+	 * not bytecode enhanced and whose attributes are all of basic or embeddable type.
+	 * Updates are still scheduled by the flushing thread, in the same order as they are
+	 * when dirty checking is not parallel. Parallel dirty checking is skipped for a flush
+	 * when the session has an {@link org.hibernate.Interceptor}, or when one of its
+	 * entities has a {@link jakarta.persistence.PreUpdate} callback.
+	 * <p>
+	 * Getter methods of entities with property access, and the equality checks of custom
+	 * types, may then be called from other threads, and must be thread-safe.
+	 * <p>
+	 * A value of {@code 0} disables parallel dirty checking.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD = "hibernate.flush.parallel_dirty_check_threshold";
+
+	/**
+	 * When enabled, a flush only dirty checks those entities which are not bytecode enhanced
+	 * if they might have been modified since they were loaded, or since their state was last
+	 * written to the database, according to the session. Other entities are assumed to be
+	 * unmodified, so that the cost of a flush depends on the number of modified entities
+	 * rather than on the size of the persistence context.
+	 * <p>
+	 * Since modifications of entities which are not bytecode enhanced are not visible to
+	 * Hibernate, the application is responsible for reporting them, by calling
+	 * {@link org.hibernate.Session#markDirty(Object)} or by
+	 * {@linkplain org.hibernate.Session#merge(Object) merging} the modified entities.
+	 * Modifications which are not reported are not written to the database. Entities
+	 * whose insertion is still pending are always dirty checked.
+	 * <p>
+	 * Bytecode enhanced entities track their own modifications, and are not affected.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String FLUSH_EXPLICIT_DIRTY_TRACKING = "hibernate.flush.explicit_dirty_tracking";
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Legacy JPA settings
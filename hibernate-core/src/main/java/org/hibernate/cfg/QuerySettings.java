@@ -270,6 +270,71 @@ public interface QuerySettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * Selects how the {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+	 * query interpretation cache} is bounded:
+	 * <ul>
+	 *     <li>{@code tinylfu} (the default) uses a lock-free cache with frequency-based
+	 *     admission, bounded by the weight of its entries, where a query weighs 1 plus 1
+	 *     for every additional 512 characters of its query string,</li>
+	 *     <li>{@code lirs} uses the segmented LIRS cache of earlier versions, bounded
+	 *     by the number of entries.</li>
+	 * </ul>
+	 * <p>
+	 * In both cases, the bound is given by {@value #QUERY_PLAN_CACHE_MAX_SIZE}.
+	 *
+	 * @settingDefault {@code tinylfu}
+	 *
+	 * @see org.hibernate.internal.util.cache.EvictionPolicy
+	 *
+	 * @since 7.0
+	 */
+	String QUERY_PLAN_CACHE_EVICTION = "hibernate.query.plan_cache_eviction";
+
+	/**
+	 * When enabled, string and integer literals compared to an expression in the
+	 * {@code where}, {@code having}, or {@code on} clause of an HQL query, as in
+	 * {@code where status = 'OPEN' and region = 42}, are replaced by parameters
+	 * before the query is interpreted, so that queries differing only in these
+	 * values share a single entry in the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query plan cache},
+	 * and a single JDBC prepared statement.
+	 * <p>
+	 * The synthetic parameters are bound automatically, and are not visible to the
+	 * application through the parameters of the query. A query using ordinal
+	 * parameters, or comparing a literal to an expression of a type to which its
+	 * value cannot be coerced, is interpreted as written.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see #QUERY_PLAN_CACHE_ENABLED
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_PLAN_CACHE_PARAMETERIZE_LITERALS = "hibernate.query.plan_cache_parameterize_literals";
+
+	/**
+	 * The number of times a query must be executed before its results are read by a
+	 * {@linkplain org.hibernate.sql.results.spi.RowReader row reader} generated for
+	 * its results, instead of the generic row reader.
+	 * <p>
+	 * A generated row reader invokes each initializer and assembler of the query from
+	 * its own call site, which lets the JIT compiler inline calls that are otherwise
+	 * megamorphic when many different queries are executed. Generated row readers are
+	 * cached along with the interpretation of the query, and are defined as hidden
+	 * classes, which are unloaded when it is evicted. This requires the ByteBuddy
+	 * {@linkplain org.hibernate.bytecode.spi.BytecodeProvider bytecode provider}.
+	 * <p>
+	 * A value of {@code 0} disables generated row readers.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_ROW_READER_COMPILE_THRESHOLD = "hibernate.query.row_reader_compile_threshold";
+
 	/**
 	 * The maximum number of {@link org.hibernate.query.ParameterMetadata} instances
 	 * maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
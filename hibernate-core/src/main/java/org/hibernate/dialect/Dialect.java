@@ -23,6 +23,7 @@
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.dialect.aggregate.AggregateSupport;
 import org.hibernate.dialect.aggregate.AggregateSupportImpl;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
 import org.hibernate.dialect.function.CastFunction;
 import org.hibernate.dialect.function.CastStrEmulation;
 import org.hibernate.dialect.function.CoalesceIfnullEmulation;
@@ -199,6 +200,7 @@
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -4183,6 +4185,23 @@ public ScrollMode defaultScrollMode() {
 		return ScrollMode.SCROLL_INSENSITIVE;
 	}
 
+	/**
+	 * The JDBC fetch size to use when the results of a query are streamed by
+	 * {@link org.hibernate.query.SelectionQuery#getDetachedResultStream(int)}
+	 * and no fetch size was specified for the query.
+	 *
+	 * @apiNote Some drivers, for example, the PostgreSQL driver, read the
+	 *          whole result set into memory unless a fetch size is given.
+	 *
+	 * @return the fetch size, or {@code 0} to use the default fetch size of
+	 *         the JDBC driver
+	 *
+	 * @since 7.0
+	 */
+	public int getDefaultStreamingFetchSize() {
+		return 1000;
+	}
+
 	/**
 	 * Does this dialect support {@code offset} in subqueries?
 	 * <p>
@@ -4460,6 +4479,56 @@ public AggregateSupport getAggregateSupport() {
 		return AggregateSupportImpl.INSTANCE;
 	}
 
+	/**
+	 * How does this dialect support loading many rows into a table at once,
+	 * using a native bulk load facility of the database, if at all?
+	 *
+	 * @return The bulk load support, or {@code null} if the dialect does not
+	 * support bulk loading
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BULK_INSERT_THRESHOLD
+	 *
+	 * @since 7.0
+	 */
+	public @Nullable BulkInsertSupport getBulkInsertSupport() {
+		return null;
+	}
+
+	/**
+	 * Does the JDBC driver offer an API for executing a batch asynchronously,
+	 * which returns as soon as the batch has been sent to the database, and
+	 * allows other statements of the same connection to be bound and submitted
+	 * in the meantime?
+	 *
+	 * @see #executeBatchAsync(PreparedStatement)
+	 * @see org.hibernate.cfg.BatchSettings#PIPELINED_EXECUTION
+	 *
+	 * @since 7.0
+	 */
+	public boolean supportsAsyncBatchExecution() {
+		return false;
+	}
+
+	/**
+	 * Begin executing the batch of the given statement, through the asynchronous
+	 * API of the JDBC driver, and without waiting for the database. The driver
+	 * must execute the operations of a connection in the order in which they were
+	 * submitted.
+	 * <p>
+	 * The returned future is completed by a thread of the driver, and so it must
+	 * only ever be waited for, never used to run any other code.
+	 *
+	 * @return A future of the update counts of the batch
+	 *
+	 * @throws UnsupportedOperationException if the dialect does not
+	 * {@linkplain #supportsAsyncBatchExecution support} asynchronous execution
+	 *
+	 * @since 7.0
+	 */
+	public CompletableFuture<int[]> executeBatchAsync(PreparedStatement statement) throws SQLException {
+		throw new UnsupportedOperationException( getClass().getName() + " does not support asynchronous batch execution" );
+	}
+
 	/**
 	 * Does this database have native support for ANSI SQL standard arrays which
 	 * are expressed in terms of the element type name: {@code integer array}.
@@ -32,6 +32,7 @@
 import org.hibernate.boot.model.relational.AuxiliaryDatabaseObject;
 import org.hibernate.boot.model.relational.Sequence;
 import org.hibernate.dialect.aggregate.AggregateSupport;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
 import org.hibernate.dialect.identity.IdentityColumnSupport;
 import org.hibernate.dialect.lock.LockingStrategy;
 import org.hibernate.dialect.pagination.LimitHandler;
@@ -1183,6 +1184,11 @@ public ScrollMode defaultScrollMode() {
 		return wrapped.defaultScrollMode();
 	}
 
+	@Override
+	public int getDefaultStreamingFetchSize() {
+		return wrapped.getDefaultStreamingFetchSize();
+	}
+
 	@Override
 	public boolean supportsOffsetInSubquery() {
 		return wrapped.supportsOffsetInSubquery();
@@ -1278,6 +1284,11 @@ public AggregateSupport getAggregateSupport() {
 		return wrapped.getAggregateSupport();
 	}
 
+	@Override
+	public @Nullable BulkInsertSupport getBulkInsertSupport() {
+		return wrapped.getBulkInsertSupport();
+	}
+
 	@Override
 	public boolean supportsStandardArrays() {
 		return wrapped.supportsStandardArrays();
@@ -21,6 +21,8 @@
 import org.hibernate.boot.model.TypeContributions;
 import org.hibernate.dialect.aggregate.AggregateSupport;
 import org.hibernate.dialect.aggregate.H2AggregateSupport;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
+import org.hibernate.dialect.bulk.H2BulkInsertSupport;
 import org.hibernate.dialect.function.CommonFunctionFactory;
 import org.hibernate.dialect.identity.H2FinalTableIdentityColumnSupport;
 import org.hibernate.dialect.identity.IdentityColumnSupport;
@@ -257,6 +259,11 @@ public AggregateSupport getAggregateSupport() {
 		return H2AggregateSupport.valueOf( this );
 	}
 
+	@Override
+	public BulkInsertSupport getBulkInsertSupport() {
+		return H2BulkInsertSupport.INSTANCE;
+	}
+
 	@Override
 	public int getDefaultStatementBatchSize() {
 		return 15;
@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.dialect;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+import oracle.jdbc.OraclePreparedStatement;
+
+/**
+ * Executes a JDBC batch through the Reactive Extensions of the Oracle JDBC driver.
+ * Only ever loaded when the driver {@linkplain OracleDialect#supportsAsyncBatchExecution()
+ * supports them}, since it refers to the classes of the driver.
+ *
+ * @see OracleDialect#executeBatchAsync(PreparedStatement)
+ */
+final class OracleAsyncBatchExecution implements Flow.Subscriber<Long> {
+	private final CompletableFuture<int[]> result = new CompletableFuture<>();
+	private int[] rowCounts = new int[16];
+	private int numberOfRowCounts;
+
+	private OracleAsyncBatchExecution() {
+	}
+
+	static CompletableFuture<int[]> executeBatchAsync(PreparedStatement statement) throws SQLException {
+		final OracleAsyncBatchExecution execution = new OracleAsyncBatchExecution();
+		statement.unwrap( OraclePreparedStatement.class ).executeBatchAsyncOracle().subscribe( execution );
+		return execution.result;
+	}
+
+	@Override
+	public void onSubscribe(Flow.Subscription subscription) {
+		subscription.request( Long.MAX_VALUE );
+	}
+
+	@Override
+	public void onNext(Long rowCount) {
+		if ( numberOfRowCounts == rowCounts.length ) {
+			rowCounts = Arrays.copyOf( rowCounts, numberOfRowCounts * 2 );
+		}
+		rowCounts[numberOfRowCounts++] = rowCount.intValue();
+	}
+
+	@Override
+	public void onError(Throwable throwable) {
+		result.completeExceptionally( throwable );
+	}
+
+	@Override
+	public void onComplete() {
+		result.complete( Arrays.copyOf( rowCounts, numberOfRowCounts ) );
+	}
+}
@@ -6,12 +6,14 @@
 
 import java.sql.CallableStatement;
 import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.time.temporal.ChronoField;
 import java.time.temporal.TemporalAccessor;
 import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -1718,6 +1720,22 @@ public int getDriverMinorVersion() {
 		return driverMinorVersion;
 	}
 
+	/**
+	 * The Reactive Extensions of the Oracle JDBC driver are available since 21c.
+	 */
+	@Override
+	public boolean supportsAsyncBatchExecution() {
+		return driverMajorVersion >= 21;
+	}
+
+	@Override
+	public CompletableFuture<int[]> executeBatchAsync(PreparedStatement statement) throws SQLException {
+		if ( !supportsAsyncBatchExecution() ) {
+			return super.executeBatchAsync( statement );
+		}
+		return OracleAsyncBatchExecution.executeBatchAsync( statement );
+	}
+
 	@Override
 	public String getEnumTypeDeclaration(String name, String[] values) {
 		return getVersion().isSameOrAfter( 23 ) ? name : super.getEnumTypeDeclaration( name, values );
@@ -27,6 +27,8 @@
 import org.hibernate.boot.model.TypeContributions;
 import org.hibernate.dialect.aggregate.AggregateSupport;
 import org.hibernate.dialect.aggregate.PostgreSQLAggregateSupport;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
+import org.hibernate.dialect.bulk.PostgreSQLBulkInsertSupport;
 import org.hibernate.dialect.function.CommonFunctionFactory;
 import org.hibernate.dialect.function.PostgreSQLMinMaxFunction;
 import org.hibernate.dialect.function.PostgreSQLTruncFunction;
@@ -1184,6 +1186,11 @@ public AggregateSupport getAggregateSupport() {
 		return PostgreSQLAggregateSupport.valueOf( this );
 	}
 
+	@Override
+	public BulkInsertSupport getBulkInsertSupport() {
+		return PostgreSQLBulkInsertSupport.INSTANCE;
+	}
+
 	@Override
 	public void appendBinaryLiteral(SqlAppender appender, byte[] bytes) {
 		appender.appendSql( "bytea '\\x" );
@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.dialect.bulk;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * Support for the bulk load facilities which read the values of each row
+ * as text, limited to the column types with an unambiguous text form.
+ *
+ * @since 7.0
+ */
+public abstract class AbstractBulkInsertSupport implements BulkInsertSupport {
+
+	@Override
+	public boolean supportsBulkInsert(Connection connection, JdbcMapping[] columnTypes, WrapperOptions options)
+			throws SQLException {
+		for ( JdbcMapping columnType : columnTypes ) {
+			if ( !supportsColumnType( columnType.getJdbcType().getDefaultSqlTypeCode(), options ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	protected boolean supportsColumnType(int sqlTypeCode, WrapperOptions options) {
+		switch ( sqlTypeCode ) {
+			case SqlTypes.DATE:
+			case SqlTypes.TIMESTAMP:
+				// values are bound using a Calendar of the JDBC time zone otherwise
+				return options.getJdbcTimeZone() == null;
+			case SqlTypes.BOOLEAN:
+			case SqlTypes.UUID:
+				return true;
+			default:
+				return SqlTypes.isIntegral( sqlTypeCode )
+						|| SqlTypes.isNumericOrDecimal( sqlTypeCode )
+						|| SqlTypes.isFloatOrRealOrDouble( sqlTypeCode )
+						|| SqlTypes.isCharacterType( sqlTypeCode );
+		}
+	}
+
+	/**
+	 * The text form of a non-null value of a column of a
+	 * {@linkplain #supportsColumnType supported} type.
+	 */
+	protected String toText(Object value, JdbcMapping columnType, WrapperOptions options) {
+		//noinspection unchecked
+		final JavaType<Object> javaType = (JavaType<Object>) columnType.getJdbcJavaType();
+		final int sqlTypeCode = columnType.getJdbcType().getDefaultSqlTypeCode();
+		switch ( sqlTypeCode ) {
+			case SqlTypes.DATE:
+				return javaType.unwrap( value, Date.class, options ).toString();
+			case SqlTypes.TIMESTAMP:
+				return javaType.unwrap( value, Timestamp.class, options ).toString();
+			case SqlTypes.BOOLEAN:
+				return javaType.unwrap( value, Boolean.class, options ).toString();
+			case SqlTypes.UUID:
+				return javaType.unwrap( value, UUID.class, options ).toString();
+			default:
+				if ( SqlTypes.isIntegral( sqlTypeCode ) ) {
+					return javaType.unwrap( value, Long.class, options ).toString();
+				}
+				else if ( SqlTypes.isNumericOrDecimal( sqlTypeCode ) ) {
+					return javaType.unwrap( value, BigDecimal.class, options ).toPlainString();
+				}
+				else if ( SqlTypes.isFloatOrRealOrDouble( sqlTypeCode ) ) {
+					return javaType.unwrap( value, Double.class, options ).toString();
+				}
+				else {
+					return javaType.unwrap( value, String.class, options );
+				}
+		}
+	}
+}
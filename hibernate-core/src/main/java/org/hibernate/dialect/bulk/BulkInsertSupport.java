@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.dialect.bulk;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.hibernate.Incubating;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.type.descriptor.WrapperOptions;
+
+/**
+ * Loads rows into a table using the native bulk load facility of a certain
+ * {@link org.hibernate.dialect.Dialect SQL dialect}, for example, the
+ * {@code COPY} command of PostgreSQL, which is much faster than inserting
+ * the rows one statement at a time.
+ *
+ * @see org.hibernate.dialect.Dialect#getBulkInsertSupport()
+ * @see org.hibernate.cfg.BatchSettings#BULK_INSERT_THRESHOLD
+ *
+ * @since 7.0
+ */
+@Incubating
+public interface BulkInsertSupport {
+
+	/**
+	 * Whether rows with the given column types can be loaded in bulk
+	 * over the given connection.
+	 *
+	 * @param connection The JDBC connection the rows would be loaded over
+	 * @param columnTypes The types of the columns to load
+	 * @param options The options for converting the values of the columns
+	 */
+	boolean supportsBulkInsert(Connection connection, JdbcMapping[] columnTypes, WrapperOptions options)
+			throws SQLException;
+
+	/**
+	 * Load the given rows into the given table.
+	 *
+	 * @param connection The JDBC connection to load the rows over
+	 * @param tableName The name of the table, as rendered in SQL
+	 * @param columnNames The names of the columns to load, as rendered in SQL
+	 * @param columnTypes The types of the columns to load, which are
+	 * {@linkplain #supportsBulkInsert supported}
+	 * @param rows The values of the columns of each row, as they would be
+	 * bound to a JDBC statement
+	 * @param options The options for converting the values of the columns
+	 *
+	 * @return The number of rows loaded, or {@code -1} if it is unknown
+	 */
+	long bulkInsert(
+			Connection connection,
+			String tableName,
+			String[] columnNames,
+			JdbcMapping[] columnTypes,
+			List<Object[]> rows,
+			WrapperOptions options) throws SQLException;
+}
@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.dialect.bulk;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.hibernate.HibernateException;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.type.descriptor.WrapperOptions;
+
+/**
+ * Loads rows by writing them to a temporary CSV file which is then
+ * read by {@code insert ... select * from csvread(...)}. Since the
+ * file is read by the database, this is limited to embedded databases.
+ *
+ * @since 7.0
+ */
+public class H2BulkInsertSupport extends AbstractBulkInsertSupport {
+	public static final H2BulkInsertSupport INSTANCE = new H2BulkInsertSupport();
+
+	@Override
+	public boolean supportsBulkInsert(Connection connection, JdbcMapping[] columnTypes, WrapperOptions options)
+			throws SQLException {
+		final String url = connection.getMetaData().getURL();
+		return url != null
+			&& url.startsWith( "jdbc:h2:" )
+			// the database can't read a local file of a remote client
+			&& !url.startsWith( "jdbc:h2:tcp:" )
+			&& !url.startsWith( "jdbc:h2:ssl:" )
+			&& super.supportsBulkInsert( connection, columnTypes, options );
+	}
+
+	@Override
+	public long bulkInsert(
+			Connection connection,
+			String tableName,
+			String[] columnNames,
+			JdbcMapping[] columnTypes,
+			List<Object[]> rows,
+			WrapperOptions options) throws SQLException {
+		Path file = null;
+		try {
+			file = Files.createTempFile( "hibernate-bulk-insert", ".csv" );
+			try ( Writer writer = Files.newBufferedWriter( file, StandardCharsets.UTF_8 ) ) {
+				// the header names the columns read by csvread()
+				for ( int i = 0; i < columnNames.length; i++ ) {
+					if ( i > 0 ) {
+						writer.write( ',' );
+					}
+					writer.write( "C" + i );
+				}
+				writer.write( '\n' );
+				for ( Object[] row : rows ) {
+					for ( int i = 0; i < row.length; i++ ) {
+						if ( i > 0 ) {
+							writer.write( ',' );
+						}
+						// an unquoted empty value is read as null
+						if ( row[i] != null ) {
+							writer.write( '"' );
+							writer.write( toText( row[i], columnTypes[i], options ).replace( "\"", "\"\"" ) );
+							writer.write( '"' );
+						}
+					}
+					writer.write( '\n' );
+				}
+			}
+
+			final String sql = "insert into " + tableName + " (" + String.join( ",", columnNames ) + ")"
+					+ " select * from csvread('" + file.toAbsolutePath().toString().replace( "'", "''" )
+					+ "', null, 'charset=UTF-8')";
+			try ( Statement statement = connection.createStatement() ) {
+				return statement.executeUpdate( sql );
+			}
+		}
+		catch (IOException e) {
+			throw new HibernateException( "Could not write bulk insert file", e );
+		}
+		finally {
+			if ( file != null ) {
+				try {
+					Files.deleteIfExists( file );
+				}
+				catch (IOException ignore) {
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.dialect.bulk;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.type.descriptor.WrapperOptions;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+/**
+ * Loads rows using {@code COPY ... FROM STDIN} in text format, which
+ * requires the PostgreSQL JDBC driver.
+ *
+ * @since 7.0
+ */
+public class PostgreSQLBulkInsertSupport extends AbstractBulkInsertSupport {
+	public static final PostgreSQLBulkInsertSupport INSTANCE = new PostgreSQLBulkInsertSupport();
+
+	// the size of the chunks of text sent to the database
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	// whether the driver classes referenced by this class can be loaded
+	private static final boolean DRIVER_AVAILABLE = isDriverAvailable();
+
+	private static boolean isDriverAvailable() {
+		try {
+			Class.forName( "org.postgresql.copy.CopyIn", false, PostgreSQLBulkInsertSupport.class.getClassLoader() );
+			return true;
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	@Override
+	public boolean supportsBulkInsert(Connection connection, JdbcMapping[] columnTypes, WrapperOptions options)
+			throws SQLException {
+		return DRIVER_AVAILABLE
+			&& connection.isWrapperFor( PGConnection.class )
+			&& super.supportsBulkInsert( connection, columnTypes, options );
+	}
+
+	@Override
+	public long bulkInsert(
+			Connection connection,
+			String tableName,
+			String[] columnNames,
+			JdbcMapping[] columnTypes,
+			List<Object[]> rows,
+			WrapperOptions options) throws SQLException {
+		final String sql = "copy " + tableName + " (" + String.join( ",", columnNames ) + ") from stdin";
+		final CopyIn copyIn = connection.unwrap( PGConnection.class ).getCopyAPI().copyIn( sql );
+		try {
+			final StringBuilder text = new StringBuilder( BUFFER_SIZE );
+			for ( Object[] row : rows ) {
+				for ( int i = 0; i < row.length; i++ ) {
+					if ( i > 0 ) {
+						text.append( '\t' );
+					}
+					if ( row[i] == null ) {
+						text.append( "\\N" );
+					}
+					else {
+						appendEscaped( text, toText( row[i], columnTypes[i], options ) );
+					}
+				}
+				text.append( '\n' );
+				if ( text.length() >= BUFFER_SIZE ) {
+					write( copyIn, text );
+				}
+			}
+			write( copyIn, text );
+			return copyIn.endCopy();
+		}
+		finally {
+			if ( copyIn.isActive() ) {
+				copyIn.cancelCopy();
+			}
+		}
+	}
+
+	private static void write(CopyIn copyIn, StringBuilder text) throws SQLException {
+		final byte[] bytes = text.toString().getBytes( StandardCharsets.UTF_8 );
+		copyIn.writeToCopy( bytes, 0, bytes.length );
+		text.setLength( 0 );
+	}
+
+	private static void appendEscaped(StringBuilder text, String value) {
+		for ( int i = 0; i < value.length(); i++ ) {
+			final char c = value.charAt( i );
+			switch ( c ) {
+				case '\\':
+					text.append( "\\\\" );
+					break;
+				case '\t':
+					text.append( "\\t" );
+					break;
+				case '\n':
+					text.append( "\\n" );
+					break;
+				case '\r':
+					text.append( "\\r" );
+					break;
+				default:
+					text.append( c );
+			}
+		}
+	}
+}
@@ -0,0 +1,12 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+
+/**
+ * Support for the {@link org.hibernate.dialect.Dialect}-specific facilities
+ * for loading many rows into a table at once.
+ *
+ * @see org.hibernate.dialect.bulk.BulkInsertSupport
+ */
+package org.hibernate.dialect.bulk;
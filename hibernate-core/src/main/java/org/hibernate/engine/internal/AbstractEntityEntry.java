@@ -35,6 +35,7 @@
 import static org.hibernate.LockMode.PESSIMISTIC_FORCE_INCREMENT;
 import static org.hibernate.engine.internal.AbstractEntityEntry.BooleanState.EXISTS_IN_DATABASE;
 import static org.hibernate.engine.internal.AbstractEntityEntry.BooleanState.IS_BEING_REPLICATED;
+import static org.hibernate.engine.internal.AbstractEntityEntry.BooleanState.MARKED_DIRTY;
 import static org.hibernate.engine.internal.AbstractEntityEntry.EnumState.LOCK_MODE;
 import static org.hibernate.engine.internal.AbstractEntityEntry.EnumState.PREVIOUS_STATUS;
 import static org.hibernate.engine.internal.AbstractEntityEntry.EnumState.STATUS;
@@ -88,9 +89,10 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 	 * 3 - Previous Status
 	 * 4 - existsInDatabase
 	 * 5 - isBeingReplicated
-	 * 6 - loadedWithLazyPropertiesUnfetched; NOTE: this is not updated when properties are fetched lazily!
+	 * 6 - markedDirty; set by {@link #markDirty()}, and when a reference to a transient entity was nullified
+	 *     on insert, cleared after an update, consulted only if explicit dirty tracking is enabled
 	 *
-	 * 0000 0000 | 0000 0000 | 0654 3333 | 2222 1111
+	 * 0000 0000 | 0000 0000 | 6540 3333 | 2222 1111
 	 * </pre>
 	 * <p>
 	 * Use {@link #setCompressedValue(EnumState, Enum)},
@@ -159,6 +161,8 @@ protected AbstractEntityEntry(
 		setCompressedValue( LOCK_MODE, lockMode );
 		setCompressedValue( EXISTS_IN_DATABASE, existsInDatabase );
 		setCompressedValue( IS_BEING_REPLICATED, isBeingReplicated );
+		// we don't know what happened to the entity while it was serialized
+		setCompressedValue( MARKED_DIRTY, true );
 		this.rowId = null; // this is equivalent to the old behavior...
 		this.persistenceContext = persistenceContext;
 	}
@@ -278,6 +282,7 @@ public Object getRowId() {
 	public void postUpdate(Object entity, Object[] updatedState, Object nextVersion) {
 		loadedState = updatedState;
 		setLockMode( LockMode.WRITE );
+		setCompressedValue( MARKED_DIRTY, false );
 
 		if ( persister.isVersioned() ) {
 			version = nextVersion;
@@ -350,6 +355,16 @@ public void overwriteLoadedStateCollectionValue(String propertyName, PersistentC
 		}
 	}
 
+	@Override
+	public void markDirty() {
+		setCompressedValue( MARKED_DIRTY, true );
+	}
+
+	@Override
+	public void resetDirty() {
+		setCompressedValue( MARKED_DIRTY, false );
+	}
+
 	@Override
 	public boolean requiresDirtyCheck(Object entity) {
 		return isModifiableEntity()
@@ -395,6 +410,13 @@ else if ( isHibernateProxy( entity ) ) {
 			}
 
 			final SessionImplementor session = getPersistenceContext().getSession().asSessionImplementor();
+			if ( isExistsInDatabase()
+					&& !getCompressedValue( MARKED_DIRTY )
+					&& session.getFactory().getSessionFactoryOptions().isExplicitDirtyTrackingEnabled() ) {
+				// the application would have told us if it modified the entity
+				return true; //EARLY EXIT!
+			}
+
 			final CustomEntityDirtinessStrategy customEntityDirtinessStrategy =
 					session.getFactory().getCustomEntityDirtinessStrategy();
 			return customEntityDirtinessStrategy.canDirtyCheck( entity, getPersister(), session  )
@@ -655,7 +677,8 @@ private E[] getEnumConstants() {
 	protected enum BooleanState {
 
 		EXISTS_IN_DATABASE(13),
-		IS_BEING_REPLICATED(14);
+		IS_BEING_REPLICATED(14),
+		MARKED_DIRTY(15);
 
 		private final int offset;
 		private final int mask;
@@ -61,6 +61,50 @@ public static Object fromSharedCache(
 		return cachedValue;
 	}
 
+	/**
+	 * Read the entries with the given keys from the second-level cache,
+	 * in a single operation if the caching provider supports it.
+	 *
+	 * @return an array holding the entry with the key at the same index
+	 *         of the given array, or {@code null}
+	 */
+	public static Object[] fromSharedCache(
+			SharedSessionContractImplementor session,
+			Object[] cacheKeys,
+			EntityPersister persister,
+			CachedDomainDataAccess cacheAccess) {
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		Object[] cachedValues = null;
+		eventListenerManager.cacheGetStart();
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent cacheGetEvent = eventManager.beginCacheGetEvent();
+		try {
+			cachedValues = cacheAccess.getAll( session, cacheKeys );
+		}
+		finally {
+			final boolean hit = cachedValues != null && anyNonNull( cachedValues );
+			eventManager.completeCacheGetEvent(
+					cacheGetEvent,
+					session,
+					cacheAccess.getRegion(),
+					persister,
+					false,
+					hit
+			);
+			eventListenerManager.cacheGetEnd( hit );
+		}
+		return cachedValues;
+	}
+
+	private static boolean anyNonNull(Object[] values) {
+		for ( Object value : values ) {
+			if ( value != null ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	public static Object fromSharedCache(
 			SharedSessionContractImplementor session,
 			Object cacheKey,
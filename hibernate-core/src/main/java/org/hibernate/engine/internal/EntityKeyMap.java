@@ -0,0 +1,422 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.hibernate.engine.spi.EntityKey;
+
+/**
+ * A compact, insertion-ordered map keyed by {@link EntityKey}, used for the
+ * per-session maps which may hold one entry for each managed entity.
+ * <p>
+ * Unlike {@link java.util.HashMap} it allocates no node per entry. Keys and values
+ * live in two dense arrays, in insertion order, and an open-addressing table of
+ * {@code int}s, probed linearly, holds the position of each key in the dense
+ * arrays. With compressed references, an entry costs about 25 bytes, against
+ * about 36 bytes for a {@code HashMap} and 44 bytes for a {@code LinkedHashMap}.
+ * <p>
+ * Removing an entry leaves a hole in the dense arrays, which are compacted when
+ * they fill up. Iteration follows insertion order, like a {@code LinkedHashMap}.
+ * <p>
+ * This class is not thread-safe, and its iterators are fail-fast.
+ *
+ * @param <V> The type of the values
+ *
+ * @see EntityKeySet
+ */
+public final class EntityKeyMap<V> extends AbstractMap<EntityKey, V> {
+	private static final int FREE = 0;
+	private static final int DELETED = -1;
+	private static final int MINIMUM_CAPACITY = 4;
+
+	// dense arrays, in insertion order; a null key marks a removed entry
+	private EntityKey[] keys;
+	private Object[] values;
+	// positions in the dense arrays plus one, or FREE, or DELETED
+	private int[] table;
+	private int shift;
+
+	private int used;
+	private int size;
+	private int deleted;
+	private int modCount;
+
+	private Set<EntityKey> keySet;
+	private Collection<V> valuesView;
+	private Set<Entry<EntityKey, V>> entrySet;
+
+	public EntityKeyMap() {
+		this( MINIMUM_CAPACITY );
+	}
+
+	public EntityKeyMap(int expectedSize) {
+		final int capacity = Math.max( expectedSize, MINIMUM_CAPACITY );
+		keys = new EntityKey[capacity];
+		values = new Object[capacity];
+		allocateTable( capacity );
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return key instanceof EntityKey entityKey && find( entityKey ) >= 0;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		if ( key instanceof EntityKey entityKey ) {
+			final int slot = find( entityKey );
+			return slot < 0 ? null : (V) values[table[slot] - 1];
+		}
+		return null;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V put(EntityKey key, V value) {
+		final int slot = find( key );
+		if ( slot >= 0 ) {
+			final int position = table[slot] - 1;
+			final V previous = (V) values[position];
+			values[position] = value;
+			return previous;
+		}
+
+		ensureCapacity();
+		final int position = used++;
+		keys[position] = key;
+		values[position] = value;
+		insertIntoTable( key, position );
+		size++;
+		modCount++;
+		return null;
+	}
+
+	@Override
+	public V remove(Object key) {
+		if ( key instanceof EntityKey entityKey ) {
+			final int slot = find( entityKey );
+			if ( slot >= 0 ) {
+				return removeAt( slot );
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public void clear() {
+		if ( used > 0 || deleted > 0 ) {
+			Arrays.fill( keys, 0, used, null );
+			Arrays.fill( values, 0, used, null );
+			Arrays.fill( table, FREE );
+			used = 0;
+			size = 0;
+			deleted = 0;
+			modCount++;
+		}
+	}
+
+	@Override
+	public Set<EntityKey> keySet() {
+		if ( keySet == null ) {
+			keySet = new KeySet();
+		}
+		return keySet;
+	}
+
+	@Override
+	public Collection<V> values() {
+		if ( valuesView == null ) {
+			valuesView = new Values();
+		}
+		return valuesView;
+	}
+
+	@Override
+	public Set<Entry<EntityKey, V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new EntrySet();
+		}
+		return entrySet;
+	}
+
+	/**
+	 * The slot in the table holding the position of the key, or -1.
+	 */
+	private int find(EntityKey key) {
+		final int hash = key.hashCode();
+		final int mask = table.length - 1;
+		for ( int slot = indexFor( hash ); ; slot = ( slot + 1 ) & mask ) {
+			final int entry = table[slot];
+			if ( entry == FREE ) {
+				return -1;
+			}
+			else if ( entry != DELETED ) {
+				final EntityKey candidate = keys[entry - 1];
+				if ( candidate == key || candidate.hashCode() == hash && candidate.equals( key ) ) {
+					return slot;
+				}
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private V removeAt(int slot) {
+		final int position = table[slot] - 1;
+		final V previous = (V) values[position];
+		keys[position] = null;
+		values[position] = null;
+		table[slot] = DELETED;
+		deleted++;
+		size--;
+		modCount++;
+		if ( position == used - 1 ) {
+			used--;
+		}
+		return previous;
+	}
+
+	private void insertIntoTable(EntityKey key, int position) {
+		final int mask = table.length - 1;
+		int slot = indexFor( key.hashCode() );
+		while ( table[slot] > 0 ) {
+			slot = ( slot + 1 ) & mask;
+		}
+		if ( table[slot] == DELETED ) {
+			deleted--;
+		}
+		table[slot] = position + 1;
+	}
+
+	private int indexFor(int hash) {
+		// Fibonacci hashing spreads the sequential identifiers typical of
+		// entity keys evenly over the table
+		return ( hash * 0x9E3779B9 ) >>> shift;
+	}
+
+	private void ensureCapacity() {
+		if ( used == keys.length ) {
+			if ( size < used - ( used >> 2 ) ) {
+				// at least a quarter of the dense arrays are holes
+				compact();
+			}
+			else {
+				final int capacity = keys.length << 1;
+				keys = Arrays.copyOf( keys, capacity );
+				values = Arrays.copyOf( values, capacity );
+			}
+		}
+		// keep the table at most half full, counting deleted slots
+		if ( ( size + deleted + 1 ) << 1 > table.length ) {
+			rehash( Math.max( keys.length, size + 1 ) );
+		}
+	}
+
+	private void compact() {
+		int target = 0;
+		for ( int position = 0; position < used; position++ ) {
+			if ( keys[position] != null ) {
+				if ( position != target ) {
+					keys[target] = keys[position];
+					values[target] = values[position];
+				}
+				target++;
+			}
+		}
+		Arrays.fill( keys, target, used, null );
+		Arrays.fill( values, target, used, null );
+		used = target;
+		rehash( keys.length );
+	}
+
+	private void rehash(int capacity) {
+		allocateTable( capacity );
+		for ( int position = 0; position < used; position++ ) {
+			final EntityKey key = keys[position];
+			if ( key != null ) {
+				insertIntoTable( key, position );
+			}
+		}
+	}
+
+	private void allocateTable(int capacity) {
+		// a power of two, at least twice the capacity
+		final int tableSize = Integer.highestOneBit( capacity ) << 2;
+		table = new int[tableSize];
+		shift = Integer.numberOfLeadingZeros( tableSize ) + 1;
+		deleted = 0;
+	}
+
+	private abstract class DenseIterator<T> implements Iterator<T> {
+		private int next;
+		private int current = -1;
+		private int expectedModCount = modCount;
+
+		DenseIterator() {
+			advance();
+		}
+
+		private void advance() {
+			while ( next < used && keys[next] == null ) {
+				next++;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next < used;
+		}
+
+		@Override
+		public T next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( next >= used ) {
+				throw new NoSuchElementException();
+			}
+			current = next++;
+			advance();
+			return element( current );
+		}
+
+		abstract T element(int position);
+
+		@Override
+		public void remove() {
+			if ( current < 0 ) {
+				throw new IllegalStateException();
+			}
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			final int slot = find( keys[current] );
+			final boolean last = current == used - 1;
+			removeAt( slot );
+			if ( last ) {
+				// removeAt() trimmed the dense arrays
+				next = used;
+			}
+			current = -1;
+			expectedModCount = modCount;
+		}
+	}
+
+	private final class KeySet extends AbstractSet<EntityKey> {
+		@Override
+		public Iterator<EntityKey> iterator() {
+			return new DenseIterator<>() {
+				@Override
+				EntityKey element(int position) {
+					return keys[position];
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return containsKey( o );
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			final int before = size;
+			EntityKeyMap.this.remove( o );
+			return size != before;
+		}
+
+		@Override
+		public void clear() {
+			EntityKeyMap.this.clear();
+		}
+	}
+
+	private final class Values extends AbstractCollection<V> {
+		@Override
+		public Iterator<V> iterator() {
+			return new DenseIterator<>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				V element(int position) {
+					return (V) values[position];
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public void clear() {
+			EntityKeyMap.this.clear();
+		}
+	}
+
+	private final class EntrySet extends AbstractSet<Entry<EntityKey, V>> {
+		@Override
+		public Iterator<Entry<EntityKey, V>> iterator() {
+			return new DenseIterator<>() {
+				@Override
+				Entry<EntityKey, V> element(int position) {
+					return new MapEntry( position );
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public void clear() {
+			EntityKeyMap.this.clear();
+		}
+	}
+
+	private final class MapEntry extends SimpleEntry<EntityKey, V> {
+		private final int position;
+
+		@SuppressWarnings("unchecked")
+		private MapEntry(int position) {
+			super( keys[position], (V) values[position] );
+			this.position = position;
+		}
+
+		@Override
+		public V setValue(V value) {
+			if ( keys[position] == getKey() ) {
+				values[position] = value;
+			}
+			return super.setValue( value );
+		}
+	}
+}
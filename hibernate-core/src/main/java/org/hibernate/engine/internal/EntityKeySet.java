@@ -0,0 +1,62 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+
+import org.hibernate.engine.spi.EntityKey;
+
+/**
+ * A compact, insertion-ordered set of {@link EntityKey}s, backed by an
+ * {@link EntityKeyMap}. A replacement for {@code LinkedHashSet<EntityKey>}
+ * using about 40% less memory per element.
+ */
+public final class EntityKeySet extends AbstractSet<EntityKey> {
+	private final EntityKeyMap<Boolean> map;
+
+	public EntityKeySet() {
+		map = new EntityKeyMap<>();
+	}
+
+	public EntityKeySet(int expectedSize) {
+		map = new EntityKeyMap<>( expectedSize );
+	}
+
+	@Override
+	public boolean add(EntityKey key) {
+		return map.put( key, Boolean.TRUE ) == null;
+	}
+
+	@Override
+	public boolean remove(Object key) {
+		return map.remove( key ) != null;
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return map.containsKey( key );
+	}
+
+	@Override
+	public Iterator<EntityKey> iterator() {
+		return map.keySet().iterator();
+	}
+
+	@Override
+	public int size() {
+		return map.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return map.isEmpty();
+	}
+
+	@Override
+	public void clear() {
+		map.clear();
+	}
+}
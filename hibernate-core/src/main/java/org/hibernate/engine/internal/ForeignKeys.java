@@ -41,6 +41,7 @@ public static class Nullifier {
 		private final SharedSessionContractImplementor session;
 		private final Object self;
 		private final EntityPersister persister;
+		private boolean nullified;
 
 		/**
 		 * Constructs a Nullifier
@@ -73,11 +74,22 @@ public Nullifier(
 		public void nullifyTransientReferences(final Object[] values) {
 			final String[] propertyNames = persister.getPropertyNames();
 			final Type[] types = persister.getPropertyTypes();
+			nullified = false;
 			for ( int i = 0; i < types.length; i++ ) {
 				values[i] = nullifyTransientReferences( values[i], propertyNames[i], types[i] );
 			}
 		}
 
+		/**
+		 * Did the last call to {@link #nullifyTransientReferences(Object[])} nullify
+		 * any reference, so that the state differs from the entity instance?
+		 *
+		 * @return {@code true} if at least one reference was nullified
+		 */
+		public boolean hasNullifiedReferences() {
+			return nullified;
+		}
+
 		/**
 		 * Return null if the argument is an "unsaved" entity (ie. one with no existing database row), or the
 		 * input argument otherwise.  This is how Hibernate avoids foreign key constraint violations.
@@ -96,6 +108,7 @@ private Object nullifyTransientReferences(final Object value, final String prope
 			// When bytecode-enhancement is used for dirty-checking, the change should
 			// only be tracked when returnedValue was nullified (1).
 			if ( value != returnedValue && returnedValue == null ) {
+				nullified = true;
 				processIfSelfDirtinessTracker( self, SelfDirtinessTracker::$$_hibernate_trackChange, propertyName );
 			}
 			return returnedValue;
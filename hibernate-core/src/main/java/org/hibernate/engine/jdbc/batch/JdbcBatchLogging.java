@@ -8,6 +8,7 @@
 
 import org.jboss.logging.BasicLogger;
 import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageLogger;
@@ -44,6 +45,10 @@ public interface JdbcBatchLogging extends BasicLogger {
 	@Message(id=100503, value = "On release of batch it still contained JDBC statements")
 	void batchContainedStatementsOnRelease();
 
+	@LogMessage(level = WARN)
+	@Message(id=100504, value = "JDBC batch executing asynchronously failed before the batch was released - [%s]")
+	void asyncBatchExecutionFailedOnRelease(String string, @Cause Throwable cause);
+
 	@LogMessage(level = TRACE)
 	@Message("Created JDBC batch (%s) - [%s]")
 	void createBatch(int batchSize, String string);
@@ -55,4 +60,8 @@ public interface JdbcBatchLogging extends BasicLogger {
 	@LogMessage(level = TRACE)
 	@Message("Executing JDBC batch (%s / %s) - [%s]")
 	void executeBatch(int batchPosition, int batchSize, String string);
+
+	@LogMessage(level = TRACE)
+	@Message("Executing JDBC batch (%s / %s) asynchronously - [%s]")
+	void executeBatchAsync(int batchPosition, int batchSize, String string);
 }
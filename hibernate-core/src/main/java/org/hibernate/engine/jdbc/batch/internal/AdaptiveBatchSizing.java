@@ -0,0 +1,142 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.internal.util.config.ConfigurationException;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+
+/**
+ * Chooses the size of the JDBC batches built for each {@link BatchKey}, from the
+ * observed execution time of the full batches of that key, so that the execution
+ * of a batch takes about the target time.
+ * <p>
+ * The time it takes to execute a single statement of each key is estimated from a
+ * moving average over its executions. The batch size is only changed when the
+ * expected execution time of a batch strays too far from the target, and it at
+ * most doubles at a time, so that a single slow or fast execution does not throw
+ * it off.
+ *
+ * @see org.hibernate.cfg.BatchSettings#ADAPTIVE_TARGET_LATENCY
+ */
+public class AdaptiveBatchSizing {
+	// the weight of the latest execution in the estimated time per statement
+	private static final double SMOOTHING = 0.3;
+	// how far the expected execution time may stray from the target
+	private static final double TOLERANCE = 0.2;
+	private static final int MAX_GROWTH_FACTOR = 2;
+
+	private final long targetLatencyNanos;
+	private final int minBatchSize;
+	private final int maxBatchSize;
+
+	private final ConcurrentMap<BatchKey, KeyState> keyStates = new ConcurrentHashMap<>();
+
+	public AdaptiveBatchSizing(long targetLatencyMillis, int minBatchSize, int maxBatchSize) {
+		if ( targetLatencyMillis <= 0 ) {
+			throw new ConfigurationException( "Target batch latency must be positive: " + targetLatencyMillis );
+		}
+		if ( minBatchSize < 2 || maxBatchSize < minBatchSize ) {
+			throw new ConfigurationException(
+					"Adaptive batch size bounds must satisfy 2 <= minimum <= maximum, but were ["
+							+ minBatchSize + ", " + maxBatchSize + "]"
+			);
+		}
+		this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos( targetLatencyMillis );
+		this.minBatchSize = minBatchSize;
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	public long getTargetLatencyMillis() {
+		return TimeUnit.NANOSECONDS.toMillis( targetLatencyNanos );
+	}
+
+	public int getMinBatchSize() {
+		return minBatchSize;
+	}
+
+	public int getMaxBatchSize() {
+		return maxBatchSize;
+	}
+
+	/**
+	 * The size of the batches to build for the given key.
+	 *
+	 * @param initialBatchSize The size to start out with, if no batch of the
+	 * key was built before
+	 */
+	public int getBatchSize(BatchKey key, int initialBatchSize) {
+		return keyStates.computeIfAbsent( key, k -> new KeyState( bounded( initialBatchSize ) ) ).batchSize;
+	}
+
+	/**
+	 * Record the execution of a full batch of the given key. Batches of the
+	 * same key may be executed concurrently by different sessions.
+	 *
+	 * @return The size of the batches to build for the key from now on
+	 */
+	public int executed(BatchKey key, int statementCount, long nanos) {
+		final KeyState state = keyStates.computeIfAbsent( key, k -> new KeyState( bounded( statementCount ) ) );
+		if ( statementCount == 0 ) {
+			return state.batchSize;
+		}
+		final int batchSize = state.executed( statementCount, nanos );
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Executed %s batched statements in %sns, adaptive batch size is now %s - %s",
+					statementCount,
+					nanos,
+					batchSize,
+					key.toLoggableString()
+			);
+		}
+		return batchSize;
+	}
+
+	private int bounded(long batchSize) {
+		return (int) Math.max( minBatchSize, Math.min( maxBatchSize, batchSize ) );
+	}
+
+	private class KeyState {
+		/**
+		 * Use a lock instead of the monitor lock to avoid pinning when using virtual threads.
+		 */
+		private final Lock lock = new ReentrantLock();
+		private volatile int batchSize;
+		private double nanosPerStatement;
+
+		private KeyState(int batchSize) {
+			this.batchSize = batchSize;
+		}
+
+		private int executed(int statementCount, long nanos) {
+			lock.lock();
+			try {
+				final double observed = (double) nanos / statementCount;
+				nanosPerStatement = nanosPerStatement == 0
+						? observed
+						: nanosPerStatement + SMOOTHING * ( observed - nanosPerStatement );
+				if ( nanosPerStatement > 0 ) {
+					final double expected = nanosPerStatement * batchSize;
+					if ( Math.abs( expected - targetLatencyNanos ) > TOLERANCE * targetLatencyNanos ) {
+						final long ideal = (long) ( targetLatencyNanos / nanosPerStatement );
+						batchSize = bounded( Math.min( ideal, (long) batchSize * MAX_GROWTH_FACTOR ) );
+					}
+				}
+				return batchSize;
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+	}
+}
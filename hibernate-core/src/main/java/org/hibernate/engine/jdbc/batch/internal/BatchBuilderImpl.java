@@ -8,6 +8,7 @@
 import java.util.function.Supplier;
 
 import org.hibernate.Internal;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
@@ -15,6 +16,7 @@
 import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupSingleTable;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
@@ -23,11 +25,28 @@
 
 /**
  * A builder for {@link Batch} instances.
+ * <p>
+ * When {@linkplain org.hibernate.cfg.BatchSettings#PIPELINED_EXECUTION pipelined
+ * execution} is enabled, and the dialect {@linkplain org.hibernate.dialect.Dialect#supportsAsyncBatchExecution()
+ * supports} asynchronous execution, the batches it builds hand full batches to the
+ * JDBC driver without waiting for them.
+ * <p>
+ * When {@linkplain org.hibernate.cfg.BatchSettings#ADAPTIVE_TARGET_LATENCY adaptive
+ * batch sizing} is enabled, batches built with the global batch size have their
+ * size chosen per {@link BatchKey} by an {@link AdaptiveBatchSizing}.
+ * <p>
+ * The inserts batched with a {@link MultiRowInsertBatchKey} are executed by a
+ * {@link MultiRowInsertBatch}, unless their statements cannot be rewritten.
+ * The inserts batched with a {@link BulkInsertBatchKey}, by a session which
+ * {@linkplain SharedSessionContractImplementor#isBulkInsertEnabled() enables bulk
+ * inserts}, are executed by a {@link BulkInsertBatch}.
  *
  * @author Steve Ebersole
  */
 public class BatchBuilderImpl implements BatchBuilder {
 	private final int globalBatchSize;
+	private final boolean pipelined;
+	private final AdaptiveBatchSizing adaptiveSizing;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -36,14 +55,44 @@ public class BatchBuilderImpl implements BatchBuilder {
 	 * on {@link #buildBatch}
 	 */
 	public BatchBuilderImpl(int globalBatchSize) {
+		this( globalBatchSize, false );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param pipelined Whether batches are executed asynchronously while the
+	 * next batch is being bound, if the dialect supports it
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean pipelined) {
+		this( globalBatchSize, pipelined, null );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use, initially, when batch
+	 * sizes are adapted.  Can be overridden on {@link #buildBatch}
+	 * @param pipelined Whether batches are executed asynchronously while the
+	 * next batch is being bound, if the dialect supports it
+	 * @param adaptiveSizing Chooses the size of the batches built with the
+	 * global batch size, or {@code null} to always use the global batch size
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean pipelined, AdaptiveBatchSizing adaptiveSizing) {
 		if ( BATCH_LOGGER.isTraceEnabled() ) {
 			BATCH_LOGGER.tracef(
-					"Using standard BatchBuilder (%s)",
-					globalBatchSize
+					"Using standard BatchBuilder (%s, pipelined=%s, adaptive=%s)",
+					globalBatchSize,
+					pipelined,
+					adaptiveSizing != null
 			);
 		}
 
 		this.globalBatchSize = globalBatchSize;
+		this.pipelined = pipelined;
+		this.adaptiveSizing = adaptiveSizing;
 	}
 
 	public int getJdbcBatchSize() {
@@ -61,9 +110,38 @@ public Batch buildBatch(
 				: explicitBatchSize;
 		assert batchSize > 1;
 
-		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator );
+		final PreparedStatementGroup statementGroup = statementGroupSupplier.get();
+		if ( key instanceof EntityInsertBatchKey insertKey
+				&& jdbcCoordinator.getJdbcSessionOwner() instanceof SharedSessionContractImplementor session
+				&& MultiRowInsertBatch.canRewrite( insertKey, statementGroup ) ) {
+			final BulkInsertSupport bulkInsertSupport = key instanceof BulkInsertBatchKey
+					? session.getJdbcServices().getDialect().getBulkInsertSupport()
+					: null;
+			if ( bulkInsertSupport != null ) {
+				return new BulkInsertBatch( insertKey, statementGroup, batchSize, session, bulkInsertSupport );
+			}
+			else if ( key instanceof MultiRowInsertBatchKey ) {
+				return new MultiRowInsertBatch( insertKey, statementGroup, batchSize, session );
+			}
+		}
+
+		// a batch size explicitly set for the session is respected
+		final AdaptiveBatchSizing sizing = batchSize == globalBatchSize ? adaptiveSizing : null;
+		return new BatchImpl(
+				key,
+				statementGroup,
+				isPipelined( jdbcCoordinator ) ? statementGroupSupplier : null,
+				sizing == null ? batchSize : sizing.getBatchSize( key, batchSize ),
+				jdbcCoordinator,
+				sizing
+		);
 	}
 
+	private boolean isPipelined(JdbcCoordinator jdbcCoordinator) {
+		return pipelined
+			&& jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices().getDialect()
+					.supportsAsyncBatchExecution();
+	}
 
 	/**
 	 * Intended for use from tests
@@ -40,7 +40,9 @@ public BatchBuilder initiateService(Map<String, Object> configurationValues, Ser
 
 		if ( builder == null ) {
 			return new BatchBuilderImpl(
-					ConfigurationHelper.getInt( BatchSettings.STATEMENT_BATCH_SIZE, configurationValues, 1 )
+					ConfigurationHelper.getInt( BatchSettings.STATEMENT_BATCH_SIZE, configurationValues, 1 ),
+					ConfigurationHelper.getBoolean( BatchSettings.PIPELINED_EXECUTION, configurationValues ),
+					adaptiveSizing( configurationValues )
 			);
 		}
 
@@ -59,4 +61,16 @@ public BatchBuilder initiateService(Map<String, Object> configurationValues, Ser
 			throw new ServiceException( "Could not build explicit BatchBuilder [" + builderClassName + "]", e );
 		}
 	}
+
+	private static AdaptiveBatchSizing adaptiveSizing(Map<String, Object> configurationValues) {
+		final long targetLatency =
+				ConfigurationHelper.getLong( BatchSettings.ADAPTIVE_TARGET_LATENCY, configurationValues, 0 );
+		return targetLatency > 0
+				? new AdaptiveBatchSizing(
+						targetLatency,
+						ConfigurationHelper.getInt( BatchSettings.ADAPTIVE_MIN_SIZE, configurationValues, 2 ),
+						ConfigurationHelper.getInt( BatchSettings.ADAPTIVE_MAX_SIZE, configurationValues, 1000 )
+				)
+				: null;
+	}
 }
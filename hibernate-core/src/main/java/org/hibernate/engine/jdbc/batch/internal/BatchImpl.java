@@ -6,10 +6,16 @@
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
 import org.hibernate.HibernateException;
 import org.hibernate.StaleStateException;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
@@ -25,6 +31,7 @@
 import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static org.hibernate.engine.jdbc.JdbcLogging.JDBC_MESSAGE_LOGGER;
 import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
@@ -33,13 +40,33 @@
 
 /**
  * Standard implementation of {@link Batch}
+ * <p>
+ * When built for {@linkplain #BatchImpl(BatchKey, Supplier, int, JdbcCoordinator)
+ * pipelined execution}, a full batch is handed to the JDBC driver through the
+ * {@linkplain Dialect#executeBatchAsync asynchronous API} of the dialect, and the
+ * session goes on binding the next batch to a second group of statements. At most
+ * one execution is ever in flight, so statements still reach the database in the
+ * order in which they were added. All the work that follows the execution, that is,
+ * notifying the {@link JdbcEventHandler} and {@link EventManager}, and checking the
+ * row counts, is done by the session, when it next adds to, executes, or releases
+ * the batch, and never by a thread of the driver.
+ * <p>
+ * When built with an {@link AdaptiveBatchSizing}, the size of the batch is
+ * adjusted after each implicit execution, as chosen from the execution time of
+ * the full batches of its key.
  *
  * @author Steve Ebersole
  */
 public class BatchImpl implements Batch {
 	private final BatchKey key;
-	private final int batchSizeToUse;
-	private final PreparedStatementGroup statementGroup;
+	private int batchSizeToUse;
+	private PreparedStatementGroup statementGroup;
+
+	private final Supplier<PreparedStatementGroup> statementGroupSupplier;
+	private PreparedStatementGroup spareStatementGroup;
+	private PendingExecution pendingExecution;
+
+	private final AdaptiveBatchSizing adaptiveSizing;
 
 	private final JdbcCoordinator jdbcCoordinator;
 	private final SqlStatementLogger sqlStatementLogger;
@@ -56,6 +83,35 @@ public BatchImpl(
 			PreparedStatementGroup statementGroup,
 			int batchSizeToUse,
 			JdbcCoordinator jdbcCoordinator) {
+		this( key, statementGroup, null, batchSizeToUse, jdbcCoordinator, null );
+	}
+
+	/**
+	 * Constructs a batch which executes its full batches asynchronously, overlapping
+	 * the execution of each full batch with the binding of the next one. The supplier
+	 * is used to create the second group of statements. The dialect must
+	 * {@linkplain Dialect#supportsAsyncBatchExecution() support} asynchronous execution.
+	 */
+	public BatchImpl(
+			BatchKey key,
+			Supplier<PreparedStatementGroup> statementGroupSupplier,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator) {
+		this( key, statementGroupSupplier.get(), statementGroupSupplier, batchSizeToUse, jdbcCoordinator, null );
+	}
+
+	/**
+	 * Constructs a batch whose size is adapted to the execution time of its full
+	 * batches by the given {@link AdaptiveBatchSizing}, if any, and which is executed
+	 * asynchronously if it is given a supplier of a second group of statements.
+	 */
+	BatchImpl(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			Supplier<PreparedStatementGroup> statementGroupSupplier,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator,
+			AdaptiveBatchSizing adaptiveSizing) {
 		if ( key == null ) {
 			throw new IllegalArgumentException( "Batch key cannot be null" );
 		}
@@ -67,6 +123,8 @@ public BatchImpl(
 		this.key = key;
 		this.jdbcCoordinator = jdbcCoordinator;
 		this.statementGroup = statementGroup;
+		this.statementGroupSupplier = statementGroupSupplier;
+		this.adaptiveSizing = adaptiveSizing;
 
 		final JdbcServices jdbcServices = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices();
 		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
@@ -161,13 +219,43 @@ public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecke
 		batchPosition++;
 		if ( batchPosition == batchSizeToUse ) {
 			notifyObserversImplicitExecution();
-			performExecution();
+			if ( statementGroupSupplier == null ) {
+				performExecution();
+			}
+			else {
+				performPipelinedExecution();
+			}
 			batchPosition = 0;
 			batchExecuted = true;
+			if ( adaptiveSizing != null ) {
+				adaptBatchSize();
+			}
+		}
+	}
+
+	/**
+	 * Pick up the size chosen by the {@link AdaptiveBatchSizing} for the next batch.
+	 * Only the batches executed synchronously are measured, since the time taken by
+	 * an asynchronous execution is not observed until the session waits for it.
+	 */
+	private void adaptBatchSize() {
+		final int batchSize = adaptiveSizing.getBatchSize( key, batchSizeToUse );
+		if ( batchSize != batchSizeToUse ) {
+			batchSizeToUse = batchSize;
+			// they were sized for the previous batch size
+			staleStateMappers = null;
 		}
 	}
 
 	protected void releaseStatements() {
+		releaseStatements( statementGroup );
+		if ( spareStatementGroup != null ) {
+			releaseStatements( spareStatementGroup );
+		}
+		jdbcCoordinator.afterStatementExecution();
+	}
+
+	private void releaseStatements(PreparedStatementGroup statementGroup) {
 		statementGroup.forEachStatement( (tableName, statementDetails) -> {
 			if ( statementDetails.getStatement() == null ) {
 				BATCH_LOGGER.debugf(
@@ -181,7 +269,6 @@ protected void releaseStatements() {
 		} );
 
 		statementGroup.release();
-		jdbcCoordinator.afterStatementExecution();
 	}
 
 	protected void clearBatch(PreparedStatementDetails statementDetails) {
@@ -236,6 +323,7 @@ public void execute() {
 		notifyObserversExplicitExecution();
 		if ( getStatementGroup().getNumberOfStatements() != 0 ) {
 			try {
+				awaitPendingExecution();
 				if ( batchPosition == 0 ) {
 					if ( !batchExecuted && BATCH_LOGGER.isDebugEnabled() ) {
 						BATCH_LOGGER.debugf(
@@ -263,50 +351,208 @@ protected void performExecution() {
 			);
 		}
 
-		final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
-		final JdbcEventHandler eventHandler = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
 		try {
-			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
+			executeStatements( statementGroup, batchPosition, staleStateMappers, batchPosition == batchSizeToUse );
+		}
+		catch (RuntimeException e) {
+			abortBatch( e );
+			throw e;
+		}
+		finally {
+			batchPosition = 0;
+		}
+	}
+
+	/**
+	 * Hand the full batch over to the JDBC driver, and swap in the spare group of
+	 * statements for binding the next batch. Waits for the previous execution first,
+	 * since the spare statements are the ones it executes.
+	 */
+	private void performPipelinedExecution() {
+		awaitPendingExecution();
+
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_MESSAGE_LOGGER.executeBatchAsync(
+					batchPosition,
+					batchSizeToUse,
+					getKey().toLoggableString()
+			);
+		}
+
+		final PreparedStatementGroup executingStatementGroup = statementGroup;
+		final PendingExecution execution = new PendingExecution( batchPosition, staleStateMappers );
+		if ( spareStatementGroup == null ) {
+			spareStatementGroup = statementGroupSupplier.get();
+		}
+		statementGroup = spareStatementGroup;
+		spareStatementGroup = executingStatementGroup;
+		staleStateMappers = null;
+		pendingExecution = execution;
+
+		final Dialect dialect = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext()
+				.getJdbcServices().getDialect();
+		executingStatementGroup.forEachStatement( (tableName, statementDetails) -> {
+			if ( statementDetails.getStatement() != null ) {
+				execution.submit( statementDetails, dialect );
+			}
+		} );
+	}
+
+	@Override
+	public void awaitPendingExecution() {
+		final PendingExecution execution = pendingExecution;
+		if ( execution != null ) {
+			pendingExecution = null;
+			final RuntimeException failure = execution.complete();
+			if ( failure != null ) {
+				abortBatch( failure );
+				throw failure;
+			}
+		}
+	}
+
+	/**
+	 * The statements of a full batch which were handed to the JDBC driver for
+	 * asynchronous execution, in the order in which they were submitted.
+	 */
+	private class PendingExecution {
+		private final int batchPosition;
+		private final StaleStateMapper[] staleStateMappers;
+		private final List<PreparedStatementDetails> statements = new ArrayList<>();
+		private final List<CompletableFuture<int[]>> rowCounts = new ArrayList<>();
+		private final List<HibernateMonitoringEvent> executionEvents = new ArrayList<>();
+		private boolean failed;
+
+		private PendingExecution(int batchPosition, StaleStateMapper[] staleStateMappers) {
+			this.batchPosition = batchPosition;
+			this.staleStateMappers = staleStateMappers;
+		}
+
+		private void submit(PreparedStatementDetails statementDetails, Dialect dialect) {
+			if ( failed ) {
+				// the statements of the other tables depend on this one
+				return;
+			}
+			final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+			final boolean identifierTable = statementDetails.getMutatingTableDetails().isIdentifierTable();
+			if ( identifierTable ) {
+				executionEvents.add( jdbcSessionOwner.getEventManager().beginJdbcBatchExecutionEvent() );
+				jdbcSessionOwner.getJdbcSessionContext().getEventHandler().jdbcExecuteBatchStart();
+			}
+			else {
+				executionEvents.add( null );
+			}
+			statements.add( statementDetails );
+			CompletableFuture<int[]> execution;
+			try {
+				execution = dialect.executeBatchAsync( statementDetails.getStatement() );
+			}
+			catch (SQLException e) {
+				execution = CompletableFuture.failedFuture( e );
+				failed = true;
+			}
+			rowCounts.add( execution );
+		}
+
+		/**
+		 * Wait for every statement, then do the work which follows the execution
+		 * of a batch on the session thread.
+		 *
+		 * @return the first failure, if any
+		 */
+		private RuntimeException complete() {
+			final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+			final JdbcEventHandler eventHandler = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
+			final EventManager eventManager = jdbcSessionOwner.getEventManager();
+			RuntimeException failure = null;
+			for ( int i = 0; i < statements.size(); i++ ) {
+				final PreparedStatementDetails statementDetails = statements.get( i );
 				final String sql = statementDetails.getSqlString();
-				final PreparedStatement statement = statementDetails.getStatement();
-				if ( statement != null ) {
-					try {
-						if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
-							final int[] rowCounts;
-							final EventManager eventManager = jdbcSessionOwner.getEventManager();
-							final HibernateMonitoringEvent executionEvent = eventManager.beginJdbcBatchExecutionEvent();
-							try {
-								eventHandler.jdbcExecuteBatchStart();
-								rowCounts = statement.executeBatch();
-							}
-							finally {
-								eventManager.completeJdbcBatchExecutionEvent( executionEvent, sql );
-								eventHandler.jdbcExecuteBatchEnd();
-							}
-							checkRowCounts( rowCounts, statementDetails );
+				int[] counts = null;
+				try {
+					counts = rowCounts.get( i ).join();
+				}
+				catch (CompletionException e) {
+					if ( failure == null ) {
+						failure = e.getCause() instanceof SQLException sqlException
+								? sqlExceptionHelper.convert( sqlException, "could not execute batch", sql )
+								: new HibernateException( "Could not execute batch", e.getCause() );
+					}
+				}
+				final HibernateMonitoringEvent executionEvent = executionEvents.get( i );
+				if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+					eventManager.completeJdbcBatchExecutionEvent( executionEvent, sql );
+					eventHandler.jdbcExecuteBatchEnd();
+					if ( counts != null && failure == null ) {
+						try {
+							checkRowCounts( counts, statementDetails, batchPosition, staleStateMappers );
+						}
+						catch (SQLException e) {
+							failure = sqlExceptionHelper.convert( e, "could not execute batch", sql );
 						}
-						else {
-							statement.executeBatch();
+						catch (RuntimeException e) {
+							failure = e;
 						}
 					}
-					catch (SQLException e) {
-						abortBatch( e );
-						throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
+				}
+			}
+			return failure;
+		}
+	}
+
+	private void executeStatements(
+			PreparedStatementGroup statementGroup,
+			int batchPosition,
+			StaleStateMapper[] staleStateMappers,
+			boolean fullBatch) {
+		final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+		final JdbcEventHandler eventHandler = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
+		// only full batches tell how long a batch of the current size takes
+		final boolean measure = adaptiveSizing != null && fullBatch;
+		final long start = measure ? System.nanoTime() : 0L;
+		statementGroup.forEachStatement( (tableName, statementDetails) -> {
+			final String sql = statementDetails.getSqlString();
+			final PreparedStatement statement = statementDetails.getStatement();
+			if ( statement != null ) {
+				try {
+					if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+						final int[] rowCounts;
+						final EventManager eventManager = jdbcSessionOwner.getEventManager();
+						final HibernateMonitoringEvent executionEvent = eventManager.beginJdbcBatchExecutionEvent();
+						try {
+							eventHandler.jdbcExecuteBatchStart();
+							rowCounts = statement.executeBatch();
+						}
+						finally {
+							eventManager.completeJdbcBatchExecutionEvent( executionEvent, sql );
+							eventHandler.jdbcExecuteBatchEnd();
+						}
+						checkRowCounts( rowCounts, statementDetails, batchPosition, staleStateMappers );
 					}
-					catch (RuntimeException re) {
-						abortBatch( re );
-						throw re;
+					else {
+						statement.executeBatch();
 					}
 				}
-			} );
-		}
-		finally {
-			batchPosition = 0;
+				catch (SQLException e) {
+					throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
+				}
+			}
+		} );
+		if ( measure ) {
+			final int batchSize = adaptiveSizing.executed( key, batchPosition, System.nanoTime() - start );
+			final StatisticsImplementor statistics = jdbcSessionOwner.getJdbcSessionContext().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.jdbcBatchSizeAdapted( key.toLoggableString(), batchSize );
+			}
 		}
 	}
 
-	private void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementDetails)
-			throws SQLException, HibernateException {
+	private static void checkRowCounts(
+			int[] rowCounts,
+			PreparedStatementDetails statementDetails,
+			int batchPosition,
+			StaleStateMapper[] staleStateMappers)
+					throws SQLException, HibernateException {
 		final int numberOfRowCounts = rowCounts.length;
 		if ( batchPosition != 0 && numberOfRowCounts != batchPosition ) {
 			JDBC_MESSAGE_LOGGER.unexpectedRowCounts(
@@ -331,6 +577,16 @@ private void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementD
 
 	@Override
 	public void release() {
+		final PendingExecution execution = pendingExecution;
+		if ( execution != null ) {
+			// the batch is being released without being executed, usually after
+			// a failure, so there is no one left to report this one to
+			pendingExecution = null;
+			final RuntimeException failure = execution.complete();
+			if ( failure != null ) {
+				BATCH_MESSAGE_LOGGER.asyncBatchExecutionFailedOnRelease( getKey().toLoggableString(), failure );
+			}
+		}
 		if ( BATCH_MESSAGE_LOGGER.isInfoEnabled() ) {
 			final PreparedStatementGroup statementGroup = getStatementGroup();
 			if ( statementGroup.getNumberOfStatements() != 0
@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.dialect.bulk.BulkInsertSupport;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
+import org.hibernate.sql.model.ast.ColumnValueBinding;
+import org.hibernate.sql.model.ast.ColumnWriteFragment;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+
+/**
+ * A {@link Batch} of entity inserts which loads the rows of each table using
+ * the {@linkplain BulkInsertSupport native bulk load facility} of the database.
+ * <p>
+ * The rows of a table are inserted {@linkplain MultiRowInsertBatch by statements
+ * inserting multiple rows} instead when its insert binds anything but plain
+ * column values, or when the bulk load facility does not support the types of
+ * its columns.
+ *
+ * @see org.hibernate.cfg.BatchSettings#BULK_INSERT_THRESHOLD
+ */
+public class BulkInsertBatch extends MultiRowInsertBatch {
+	private final BulkInsertSupport bulkInsertSupport;
+
+	public BulkInsertBatch(
+			EntityInsertBatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			SharedSessionContractImplementor session,
+			BulkInsertSupport bulkInsertSupport) {
+		super( key, statementGroup, batchSizeToUse, session );
+		this.bulkInsertSupport = bulkInsertSupport;
+	}
+
+	@Override
+	protected void executeInserts(TableRows rows) {
+		final String tableName = rows.getStatementDetails().getMutatingTableDetails().getTableName();
+		final String[] columnNames = columnNames( rows );
+		if ( columnNames == null ) {
+			super.executeInserts( rows );
+			return;
+		}
+
+		final JdbcMapping[] columnTypes = new JdbcMapping[columnNames.length];
+		final List<Object[]> values = new ArrayList<>( rows.getRows().size() );
+		for ( Binding[] bindings : rows.getRows() ) {
+			if ( bindings.length != columnNames.length ) {
+				super.executeInserts( rows );
+				return;
+			}
+			final Object[] rowValues = new Object[columnNames.length];
+			for ( Binding binding : bindings ) {
+				final int index = binding.getPosition() - 1;
+				rowValues[index] = binding.getValue();
+				columnTypes[index] = binding.getValueDescriptor().getJdbcMapping();
+			}
+			values.add( rowValues );
+		}
+
+		final SharedSessionContractImplementor session = getSession();
+		final String description = "bulk insert into " + tableName;
+		try {
+			final Connection connection = getJdbcCoordinator().getLogicalConnection().getPhysicalConnection();
+			if ( !bulkInsertSupport.supportsBulkInsert( connection, columnTypes, session ) ) {
+				super.executeInserts( rows );
+				return;
+			}
+
+			BATCH_LOGGER.debugf( "Loading %s rows in bulk - %s", values.size(), getKey().toLoggableString() );
+			final long rowCount;
+			final EventManager eventManager = session.getEventManager();
+			final JdbcEventHandler eventHandler = session.getJdbcSessionContext().getEventHandler();
+			final HibernateMonitoringEvent executionEvent = eventManager.beginJdbcBatchExecutionEvent();
+			try {
+				eventHandler.jdbcExecuteBatchStart();
+				rowCount = bulkInsertSupport.bulkInsert(
+						connection,
+						tableName,
+						columnNames,
+						columnTypes,
+						values,
+						session
+				);
+			}
+			finally {
+				eventManager.completeJdbcBatchExecutionEvent( executionEvent, description );
+				eventHandler.jdbcExecuteBatchEnd();
+			}
+			checkRowCount( rows, rowCount, values.size(), description );
+		}
+		catch (SQLException e) {
+			throw getSqlExceptionHelper().convert( e, "could not execute bulk insert", description );
+		}
+	}
+
+	/**
+	 * The columns inserted into by the given rows, in the order of the parameters
+	 * of the insert, if it binds each of them to a parameter, or {@code null} if
+	 * some column is written by another expression.
+	 */
+	private static String @Nullable [] columnNames(TableRows rows) {
+		final List<ColumnValueBinding> valueBindings = rows.getTableInsert().getValueBindings();
+		final String[] columnNames = new String[valueBindings.size()];
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			final ColumnValueBinding valueBinding = valueBindings.get( i );
+			final ColumnWriteFragment valueExpression = valueBinding.getValueExpression();
+			if ( valueExpression.getParameters().size() != 1 || !"?".equals( valueExpression.getFragment() ) ) {
+				return null;
+			}
+			columnNames[i] = valueBinding.getColumnReference().getColumnExpression();
+		}
+		return columnNames;
+	}
+
+	@Override
+	public String toString() {
+		return "BulkInsertBatch(" + getKey().toLoggableString() + ")";
+	}
+}
@@ -0,0 +1,28 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import org.hibernate.sql.model.ast.MutationGroup;
+
+/**
+ * Key for the inserts of an entity batched by a session which
+ * {@linkplain org.hibernate.engine.spi.SharedSessionContractImplementor#isBulkInsertEnabled()
+ * enables bulk inserts}, and loaded in bulk by a {@link BulkInsertBatch}.
+ * It is distinct from the key for the other batched inserts of the entity,
+ * so that a batch is never shared between inserts loaded in bulk and other
+ * inserts.
+ *
+ * @see org.hibernate.cfg.BatchSettings#BULK_INSERT_THRESHOLD
+ */
+public class BulkInsertBatchKey extends EntityInsertBatchKey {
+	public BulkInsertBatchKey(String comparison, MutationGroup staticInsertGroup) {
+		super( comparison, staticInsertGroup );
+	}
+
+	@Override
+	public String toString() {
+		return "BulkInsertBatchKey(" + toLoggableString() + ")";
+	}
+}
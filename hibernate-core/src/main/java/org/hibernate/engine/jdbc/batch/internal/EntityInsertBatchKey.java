@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import org.hibernate.sql.model.ast.MutationGroup;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Key for the batched inserts of an entity.
+ *
+ * @see MultiRowInsertBatchKey
+ * @see BulkInsertBatchKey
+ */
+public class EntityInsertBatchKey extends BasicBatchKey {
+	private final @Nullable MutationGroup staticInsertGroup;
+
+	public EntityInsertBatchKey(String comparison) {
+		this( comparison, null );
+	}
+
+	/**
+	 * @param staticInsertGroup The inserts of the entity, from which the batch
+	 * may generate other statements, or {@code null} if its inserts are dynamic
+	 */
+	public EntityInsertBatchKey(String comparison, @Nullable MutationGroup staticInsertGroup) {
+		super( comparison );
+		this.staticInsertGroup = staticInsertGroup;
+	}
+
+	/**
+	 * The inserts of the entity into each of its tables, or {@code null}
+	 * if the inserts are dynamic.
+	 */
+	public @Nullable MutationGroup getStaticInsertGroup() {
+		return staticInsertGroup;
+	}
+
+	@Override
+	public String toString() {
+		return "EntityInsertBatchKey(" + toLoggableString() + ")";
+	}
+}
@@ -0,0 +1,464 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
+import org.hibernate.sql.model.TableMapping;
+import org.hibernate.sql.model.ast.ColumnValueBinding;
+import org.hibernate.sql.model.ast.MutationGroup;
+import org.hibernate.sql.model.ast.TableMutation;
+import org.hibernate.sql.model.internal.TableInsertStandard;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_MESSAGE_LOGGER;
+
+/**
+ * A {@link Batch} of entity inserts which, rather than relying on the JDBC driver
+ * to batch the single-row insert statement of each table, rewrites the inserts of
+ * each table into statements of the form {@code insert into ... values (...), (...)}.
+ * These statements are translated by the {@linkplain org.hibernate.sql.ast.SqlAstTranslator
+ * SQL AST translator} of the dialect from the {@linkplain TableInsertStandard insert}
+ * of the entity into the table, {@linkplain TableInsertStandard#withNumberOfRows
+ * repeated} for the number of rows.
+ * <p>
+ * The values bound for each row are collected as the rows are added to the batch,
+ * and only bound when the batch is executed, to statements inserting as many rows
+ * as the {@linkplain org.hibernate.dialect.Dialect#getParameterCountLimit()
+ * parameter limit} of the database allows. The tables are inserted into in the
+ * order of the statement group, so the rows of a joined subclass table are
+ * inserted after those of its superclass tables.
+ *
+ * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERTS
+ */
+public class MultiRowInsertBatch implements Batch {
+	private static final Binding[] NO_BINDINGS = new Binding[0];
+
+	private final EntityInsertBatchKey key;
+	private final PreparedStatementGroup statementGroup;
+	private final int batchSizeToUse;
+	private final SharedSessionContractImplementor session;
+	private final JdbcCoordinator jdbcCoordinator;
+	private final SqlStatementLogger sqlStatementLogger;
+	private final SqlExceptionHelper sqlExceptionHelper;
+
+	private final Map<String, TableRows> tableRows = new LinkedHashMap<>();
+	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
+
+	private int batchPosition;
+
+	public MultiRowInsertBatch(
+			EntityInsertBatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			SharedSessionContractImplementor session) {
+		this.key = key;
+		this.statementGroup = statementGroup;
+		this.batchSizeToUse = batchSizeToUse;
+		this.session = session;
+		this.jdbcCoordinator = session.getJdbcCoordinator();
+
+		final JdbcServices jdbcServices = session.getJdbcServices();
+		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
+		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+
+		final MutationGroup staticInsertGroup = key.getStaticInsertGroup();
+		assert staticInsertGroup != null;
+		final int parameterCountLimit = jdbcServices.getDialect().getParameterCountLimit();
+		statementGroup.forEachStatement( (tableName, statementDetails) -> {
+			final String mutatingTableName = statementDetails.getMutatingTableDetails().getTableName();
+			final TableInsertStandard tableInsert = tableInsert( staticInsertGroup, mutatingTableName );
+			assert tableInsert != null;
+			tableRows.put(
+					mutatingTableName,
+					new TableRows( statementDetails, tableInsert, parameterCountLimit )
+			);
+		} );
+
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_MESSAGE_LOGGER.createBatch( batchSizeToUse, key.toLoggableString() );
+		}
+	}
+
+	/**
+	 * Whether the inserts of the given statement group can be rewritten into
+	 * statements inserting multiple rows.
+	 */
+	public static boolean canRewrite(EntityInsertBatchKey key, PreparedStatementGroup statementGroup) {
+		final MutationGroup staticInsertGroup = key.getStaticInsertGroup();
+		if ( staticInsertGroup == null || statementGroup.getNumberOfStatements() == 0 ) {
+			return false;
+		}
+		final boolean[] rewritable = { true };
+		statementGroup.forEachStatement( (tableName, statementDetails) -> {
+			final TableMapping tableDetails = statementDetails.getMutatingTableDetails();
+			final TableMapping.MutationDetails insertDetails = tableDetails.getInsertDetails();
+			final Expectation expectation = statementDetails.getExpectation();
+			final TableInsertStandard tableInsert = tableInsert( staticInsertGroup, tableDetails.getTableName() );
+			if ( insertDetails == null
+					|| insertDetails.getCustomSql() != null
+					|| insertDetails.isCallable()
+					// we can only check the total row count of each statement
+					|| !( expectation instanceof Expectation.None || expectation.getClass() == Expectation.RowCount.class )
+					|| tableInsert == null
+					|| tableInsert.getNumberOfValueBindings() == 0
+					|| tableInsert.getNumberOfReturningColumns() > 0 ) {
+				rewritable[0] = false;
+			}
+		} );
+		return rewritable[0];
+	}
+
+	/**
+	 * The standard insert into the given table, if the given group has one.
+	 */
+	private static @Nullable TableInsertStandard tableInsert(MutationGroup insertGroup, String tableName) {
+		for ( int i = 0; i < insertGroup.getNumberOfTableMutations(); i++ ) {
+			final TableMutation<?> tableMutation = insertGroup.getTableMutation( i );
+			if ( tableMutation != null && tableMutation.getMutatingTable().getTableName().equals( tableName ) ) {
+				return tableMutation instanceof TableInsertStandard tableInsert ? tableInsert : null;
+			}
+		}
+		return null;
+	}
+
+	private static int countParameters(TableInsertStandard tableInsert) {
+		int count = 0;
+		for ( ColumnValueBinding valueBinding : tableInsert.getValueBindings() ) {
+			count += valueBinding.getValueExpression().getParameters().size();
+		}
+		return count;
+	}
+
+	@Override
+	public final EntityInsertBatchKey getKey() {
+		return key;
+	}
+
+	@Override
+	public PreparedStatementGroup getStatementGroup() {
+		return statementGroup;
+	}
+
+	@Override
+	public void addObserver(BatchObserver observer) {
+		observers.add( observer );
+	}
+
+	@Override
+	public void addToBatch(
+			JdbcValueBindings jdbcValueBindings,
+			TableInclusionChecker inclusionChecker,
+			StaleStateMapper staleStateMapper) {
+		// inserts are never stale
+		addToBatch( jdbcValueBindings, inclusionChecker );
+	}
+
+	@Override
+	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_MESSAGE_LOGGER.addToBatch( batchPosition + 1, batchSizeToUse, key.toLoggableString() );
+		}
+
+		for ( TableRows rows : tableRows.values() ) {
+			final TableMapping tableDetails = rows.getStatementDetails().getMutatingTableDetails();
+			if ( inclusionChecker == null || inclusionChecker.include( tableDetails ) ) {
+				final BindingGroup bindingGroup = jdbcValueBindings.getBindingGroup( tableDetails.getTableName() );
+				// the bindings themselves are immutable, but the group is cleared after the statement
+				rows.add( bindingGroup == null ? NO_BINDINGS : bindingGroup.getBindings().toArray( NO_BINDINGS ) );
+			}
+			jdbcValueBindings.afterStatement( tableDetails );
+		}
+
+		batchPosition++;
+		if ( batchPosition == batchSizeToUse ) {
+			notifyObserversImplicitExecution();
+			performExecution();
+		}
+	}
+
+	@Override
+	public void execute() {
+		notifyObserversExplicitExecution();
+		try {
+			if ( batchPosition == 0 ) {
+				BATCH_LOGGER.debugf( "No batched statements to execute - %s", key.toLoggableString() );
+			}
+			else {
+				performExecution();
+			}
+		}
+		finally {
+			releaseStatements();
+		}
+	}
+
+	protected void performExecution() {
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_MESSAGE_LOGGER.executeBatch( batchPosition, batchSizeToUse, key.toLoggableString() );
+		}
+
+		try {
+			for ( TableRows rows : tableRows.values() ) {
+				if ( !rows.getRows().isEmpty() ) {
+					executeInserts( rows );
+				}
+			}
+		}
+		catch (RuntimeException e) {
+			abortBatch( e );
+			throw e;
+		}
+		finally {
+			for ( TableRows rows : tableRows.values() ) {
+				rows.clear();
+			}
+			batchPosition = 0;
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+
+	/**
+	 * Insert the rows collected for a table.
+	 */
+	protected void executeInserts(TableRows rows) {
+		final int rowCount = rows.getRows().size();
+		final int rowsPerStatement = Math.min( rowCount, rows.maxRowsPerStatement );
+		final int fullStatements = rowCount / rowsPerStatement;
+		executeInserts( rows, 0, rowsPerStatement, fullStatements );
+		final int remainingRows = rowCount - fullStatements * rowsPerStatement;
+		if ( remainingRows > 0 ) {
+			executeInserts( rows, fullStatements * rowsPerStatement, remainingRows, 1 );
+		}
+	}
+
+	/**
+	 * Execute the given number of statements inserting the given number of rows
+	 * each, as a JDBC batch if there are more than one.
+	 */
+	private void executeInserts(TableRows rows, int firstRow, int rowsPerStatement, int statementCount) {
+		final String sql = rows.sql( rowsPerStatement );
+		sqlStatementLogger.logStatement( sql );
+		final PreparedStatement statement =
+				jdbcCoordinator.getMutationStatementPreparer().prepareStatement( sql, false );
+		try {
+			int row = firstRow;
+			for ( int i = 0; i < statementCount; i++ ) {
+				for ( int j = 0; j < rowsPerStatement; j++ ) {
+					bind( statement, rows.getRows().get( row++ ), j * rows.getParametersPerRow() );
+				}
+				if ( statementCount > 1 ) {
+					statement.addBatch();
+				}
+			}
+
+			final int[] rowCounts;
+			final EventManager eventManager = session.getEventManager();
+			final JdbcEventHandler eventHandler = session.getJdbcSessionContext().getEventHandler();
+			final HibernateMonitoringEvent executionEvent = eventManager.beginJdbcBatchExecutionEvent();
+			try {
+				eventHandler.jdbcExecuteBatchStart();
+				rowCounts = statementCount > 1
+						? statement.executeBatch()
+						: new int[] { statement.executeUpdate() };
+			}
+			finally {
+				eventManager.completeJdbcBatchExecutionEvent( executionEvent, sql );
+				eventHandler.jdbcExecuteBatchEnd();
+			}
+			for ( int rowCount : rowCounts ) {
+				checkRowCount( rows, rowCount, rowsPerStatement, sql );
+			}
+		}
+		catch (SQLException e) {
+			throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+		}
+	}
+
+	/**
+	 * Check the number of rows reported by the database for a statement
+	 * inserting the given number of rows.
+	 */
+	protected void checkRowCount(TableRows rows, long rowCount, int expectedRowCount, String sql) {
+		// a negative count means the driver does not know
+		if ( !( rows.getStatementDetails().getExpectation() instanceof Expectation.None )
+				&& rowCount >= 0 && rowCount != expectedRowCount ) {
+			throw new StaleStateException(
+					"Unexpected row count (expected row count " + expectedRowCount
+							+ " but was " + rowCount + ") [" + sql + "]"
+			);
+		}
+	}
+
+	private void bind(PreparedStatement statement, Binding[] bindings, int offset) throws SQLException {
+		for ( Binding binding : bindings ) {
+			binding.getValueBinder().bind( statement, binding.getValue(), offset + binding.getPosition(), session );
+		}
+	}
+
+	protected SharedSessionContractImplementor getSession() {
+		return session;
+	}
+
+	protected JdbcCoordinator getJdbcCoordinator() {
+		return jdbcCoordinator;
+	}
+
+	protected SqlStatementLogger getSqlStatementLogger() {
+		return sqlStatementLogger;
+	}
+
+	protected SqlExceptionHelper getSqlExceptionHelper() {
+		return sqlExceptionHelper;
+	}
+
+	protected void abortBatch(Exception cause) {
+		try {
+			jdbcCoordinator.abortBatch();
+		}
+		catch (RuntimeException e) {
+			cause.addSuppressed( e );
+		}
+	}
+
+	protected void releaseStatements() {
+		statementGroup.release();
+		jdbcCoordinator.afterStatementExecution();
+	}
+
+	protected final void notifyObserversExplicitExecution() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchExplicitlyExecuted();
+		}
+	}
+
+	protected final void notifyObserversImplicitExecution() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchImplicitlyExecuted();
+		}
+	}
+
+	@Override
+	public void release() {
+		if ( batchPosition != 0 ) {
+			BATCH_MESSAGE_LOGGER.batchContainedStatementsOnRelease();
+		}
+		for ( TableRows rows : tableRows.values() ) {
+			rows.clear();
+		}
+		batchPosition = 0;
+		releaseStatements();
+		observers.clear();
+	}
+
+	@Override
+	public String toString() {
+		return "MultiRowInsertBatch(" + key.toLoggableString() + ")";
+	}
+
+	/**
+	 * The rows to insert into a table.
+	 */
+	protected class TableRows {
+		private final PreparedStatementDetails statementDetails;
+		private final TableInsertStandard tableInsert;
+		private final int parametersPerRow;
+		private final int maxRowsPerStatement;
+		private final List<Binding[]> rows = new ArrayList<>();
+
+		private int sqlRowCount;
+		private String sql;
+
+		private TableRows(
+				PreparedStatementDetails statementDetails,
+				TableInsertStandard tableInsert,
+				int parameterCountLimit) {
+			this.statementDetails = statementDetails;
+			this.tableInsert = tableInsert;
+			this.parametersPerRow = countParameters( tableInsert );
+			this.maxRowsPerStatement = parameterCountLimit > 0 && parametersPerRow > 0
+					? Math.max( 1, parameterCountLimit / parametersPerRow )
+					: Integer.MAX_VALUE;
+		}
+
+		/**
+		 * The single-row insert into the table.
+		 */
+		public PreparedStatementDetails getStatementDetails() {
+			return statementDetails;
+		}
+
+		/**
+		 * The insert into the table, from which the single-row insert
+		 * was translated.
+		 */
+		public TableInsertStandard getTableInsert() {
+			return tableInsert;
+		}
+
+		public int getParametersPerRow() {
+			return parametersPerRow;
+		}
+
+		/**
+		 * The bindings of the parameters of each row, in the order
+		 * the rows were added to the batch.
+		 */
+		public List<Binding[]> getRows() {
+			return rows;
+		}
+
+		private void add(Binding[] bindings) {
+			rows.add( bindings );
+		}
+
+		private void clear() {
+			rows.clear();
+		}
+
+		/**
+		 * The insert of the given number of rows. Since most statements of a
+		 * batch insert the same number of rows, the last one is kept.
+		 */
+		private String sql(int rowsPerStatement) {
+			if ( rowsPerStatement != sqlRowCount ) {
+				sql = tableInsert.withNumberOfRows( rowsPerStatement )
+						.createMutationOperation( null, session.getFactory() )
+						.getSqlString();
+				sqlRowCount = rowsPerStatement;
+			}
+			return sql;
+		}
+	}
+}
@@ -0,0 +1,28 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import org.hibernate.sql.model.ast.MutationGroup;
+
+/**
+ * Key for the batched inserts of an entity which may be rewritten into
+ * statements inserting multiple rows by a {@link MultiRowInsertBatch}.
+ *
+ * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERTS
+ */
+public class MultiRowInsertBatchKey extends EntityInsertBatchKey {
+	/**
+	 * @param staticInsertGroup The single-row inserts of the entity, from which
+	 * the statements inserting multiple rows are generated
+	 */
+	public MultiRowInsertBatchKey(String comparison, MutationGroup staticInsertGroup) {
+		super( comparison, staticInsertGroup );
+	}
+
+	@Override
+	public String toString() {
+		return "MultiRowInsertBatchKey(" + toLoggableString() + ")";
+	}
+}
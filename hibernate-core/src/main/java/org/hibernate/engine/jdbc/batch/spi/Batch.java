@@ -67,6 +67,14 @@ interface StaleStateMapper {
 	 */
 	void execute();
 
+	/**
+	 * Wait for any part of this batch which is still being executed asynchronously
+	 * by the JDBC driver, so that other work for the same key does not overtake it.
+	 * Does nothing if the batch is always executed synchronously.
+	 */
+	default void awaitPendingExecution() {
+	}
+
 	/**
 	 * Used to indicate that the batch instance is no longer needed and that, therefore,
 	 * it can release its resources.
@@ -17,7 +17,9 @@
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.HibernateException;
@@ -353,6 +355,7 @@ public static class PooledConnections {
 
 		private final ConcurrentLinkedQueue<Connection> allConnections = new ConcurrentLinkedQueue<>();
 		private final ConcurrentLinkedQueue<Connection> availableConnections = new ConcurrentLinkedQueue<>();
+		private final Lock growLock = new ReentrantLock();
 
 		private final ConnectionCreator connectionCreator;
 		private final ConnectionValidator connectionValidator;
@@ -426,12 +429,22 @@ public Connection poll() throws SQLException {
 			do {
 				conn = availableConnections.poll();
 				if ( conn == null ) {
-					synchronized (allConnections) {
-						if ( allConnections.size() < maxSize ) {
+					// a lock rather than a monitor, since opening the connection blocks
+					// and must not pin the carrier thread of a virtual thread
+					final boolean added;
+					growLock.lock();
+					try {
+						added = allConnections.size() < maxSize;
+						if ( added ) {
 							addConnections( 1 );
-							return poll();
 						}
 					}
+					finally {
+						growLock.unlock();
+					}
+					if ( added ) {
+						return poll();
+					}
 					throw new HibernateException(
 							"The internal connection pool has reached its maximum size and no connection is currently available" );
 				}
@@ -190,9 +190,16 @@ public void executeBatch() {
 
 	@Override
 	public void conditionallyExecuteBatch(BatchKey key) {
-		if ( currentBatch != null && !currentBatch.getKey().equals( key ) ) {
-			JdbcBatchLogging.BATCH_LOGGER.debugf( "Conditionally executing batch - %s", currentBatch.getKey() );
-			currentBatch.execute();
+		if ( currentBatch != null ) {
+			if ( !currentBatch.getKey().equals( key ) ) {
+				JdbcBatchLogging.BATCH_LOGGER.debugf( "Conditionally executing batch - %s", currentBatch.getKey() );
+				currentBatch.execute();
+			}
+			else {
+				// non-batched work for the same key must not overtake
+				// a full batch which is still executing asynchronously
+				currentBatch.awaitPendingExecution();
+			}
 		}
 	}
 
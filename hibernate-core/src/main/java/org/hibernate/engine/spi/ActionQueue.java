@@ -10,6 +10,7 @@
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
@@ -28,6 +29,7 @@
 import org.hibernate.action.internal.CollectionRecreateAction;
 import org.hibernate.action.internal.CollectionRemoveAction;
 import org.hibernate.action.internal.CollectionUpdateAction;
+import org.hibernate.action.internal.EntityAction;
 import org.hibernate.action.internal.EntityActionVetoException;
 import org.hibernate.action.internal.EntityDeleteAction;
 import org.hibernate.action.internal.EntityIdentityInsertAction;
@@ -40,6 +42,7 @@
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
 import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreLogging;
@@ -57,6 +60,7 @@
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import static java.util.Collections.newSetFromMap;
 import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
 
 /**
@@ -412,10 +416,11 @@ public void addAction(QueuedOperationCollectionAction action) {
 	 * @param action The action representing the queued operation
 	 */
 	public void addAction(BulkOperationCleanupAction action) {
-		registerCleanupActions( action );
+		// a bulk operation might affect the rows of any tenant
+		registerCleanupActions( action, null );
 	}
 
-	private void registerCleanupActions(Executable executable) {
+	private void registerCleanupActions(Executable executable, @Nullable Object queryCachePartition) {
 		if ( executable.getBeforeTransactionCompletionProcess() != null ) {
 			if ( beforeTransactionProcesses == null ) {
 				beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
@@ -423,7 +428,7 @@ private void registerCleanupActions(Executable executable) {
 			beforeTransactionProcesses.register( executable.getBeforeTransactionCompletionProcess() );
 		}
 		if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
-			invalidateSpaces( executable.getPropertySpaces() );
+			invalidateSpaces( executable.getPropertySpaces(), queryCachePartition );
 		}
 		if ( executable.getAfterTransactionCompletionProcess() != null ) {
 			if ( afterTransactionProcesses == null ) {
@@ -661,7 +666,7 @@ private <E extends ComparableExecutable> void executeActions(@Nullable Executabl
 				// Strictly speaking, only a subset of the list may have been processed if a RuntimeException occurs.
 				// We still invalidate all spaces. I don't see this as a big deal - after all, RuntimeExceptions are
 				// unexpected.
-				invalidateSpaces( list.getQuerySpaces().toArray(new String[0]) );
+				invalidateSpaces( list.getQuerySpaces().toArray(new String[0]), TimestampsCache.partition( session ) );
 			}
 			// @NonNull String @Nullable [] - array nullable, elements not
 			// @Nullable String @NonNull [] - elements nullable, array not
@@ -679,7 +684,7 @@ public <E extends Executable & Comparable<?>> void execute(E executable) {
 			executable.execute();
 		}
 		finally {
-			registerCleanupActions( executable );
+			registerCleanupActions( executable, TimestampsCache.partition( session ) );
 		}
 	}
 
@@ -687,17 +692,18 @@ public <E extends Executable & Comparable<?>> void execute(E executable) {
 	 * This method is now called once per execution of an ExecutableList or once for execution of an Execution.
 	 *
 	 * @param spaces The spaces to invalidate
+	 * @param partition The partition of the rows written, or {@code null}
 	 */
-	private void invalidateSpaces(String @Nullable [] spaces) {
+	private void invalidateSpaces(String @Nullable [] spaces, @Nullable Object partition) {
 		if ( spaces != null && spaces.length > 0 ) {
 			for ( String space : spaces ) {
 				if ( afterTransactionProcesses == null ) {
 					afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
 				}
-				afterTransactionProcesses.addSpaceToInvalidate( space );
+				afterTransactionProcesses.addSpaceToInvalidate( space, partition );
 			}
 			// Performance win: If we are processing an ExecutableList, this will only be called once
-			session.getFactory().getCache().getTimestampsCache().preInvalidate( spaces, session );
+			session.getFactory().getCache().getTimestampsCache().preInvalidate( spaces, partition, session );
 		}
 	}
 
@@ -874,6 +880,33 @@ private boolean nonempty(@Nullable ExecutableList<?> list) {
 		return list != null && !list.isEmpty();
 	}
 
+	/**
+	 * The entity instances affected by a currently queued insertion, update, or
+	 * deletion. The returned set is a snapshot, compared by identity, so that a
+	 * caller checking many entities visits the queued actions only once.
+	 *
+	 * @return A new identity set of entity instances
+	 */
+	public Set<Object> getEntitiesWithQueuedActions() {
+		final Set<Object> entities = newSetFromMap( new IdentityHashMap<>() );
+		addInstances( insertions, entities );
+		addInstances( updates, entities );
+		addInstances( deletions, entities );
+		addInstances( orphanRemovals, entities );
+		return entities;
+	}
+
+	private static void addInstances(@Nullable ExecutableList<? extends EntityAction> actions, Set<Object> entities) {
+		if ( actions != null ) {
+			for ( int i = 0; i < actions.size(); i++ ) {
+				final Object instance = actions.get( i ).getInstance();
+				if ( instance != null ) {
+					entities.add( instance );
+				}
+			}
+		}
+	}
+
 	public void unScheduleUnloadedDeletion(Object newEntity) {
 		final EntityPersister entityPersister = session.getEntityPersister( null, newEntity );
 		final Object identifier = entityPersister.getIdentifier( newEntity, session );
@@ -1039,13 +1072,20 @@ public void beforeTransactionCompletion() {
 	private static class AfterTransactionCompletionProcessQueue
 			extends AbstractTransactionCompletionProcessQueue<AfterTransactionCompletionProcess> {
 		private final Set<String> querySpacesToInvalidate = new HashSet<>();
+		// the spaces to invalidate for a single partition only
+		private final Map<Object, Set<String>> partitionedQuerySpacesToInvalidate = new HashMap<>();
 
 		private AfterTransactionCompletionProcessQueue(SessionImplementor session) {
 			super( session );
 		}
 
-		public void addSpaceToInvalidate(String space) {
-			querySpacesToInvalidate.add( space );
+		public void addSpaceToInvalidate(String space, @Nullable Object partition) {
+			if ( partition == null ) {
+				querySpacesToInvalidate.add( space );
+			}
+			else {
+				partitionedQuerySpacesToInvalidate.computeIfAbsent( partition, p -> new HashSet<>() ).add( space );
+			}
 		}
 
 		public void afterTransactionCompletion(boolean success) {
@@ -1064,12 +1104,19 @@ public void afterTransactionCompletion(boolean success) {
 			}
 
 			if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
-				session.getFactory().getCache().getTimestampsCache().invalidate(
-						querySpacesToInvalidate.toArray(new String[0]),
-						session
-				);
+				final TimestampsCache timestampsCache = session.getFactory().getCache().getTimestampsCache();
+				timestampsCache.invalidate( querySpacesToInvalidate.toArray(new String[0]), session );
+				for ( Map.Entry<Object, Set<String>> entry : partitionedQuerySpacesToInvalidate.entrySet() ) {
+					final Set<String> spaces = entry.getValue();
+					// no need to invalidate a space for a partition if it was invalidated for all of them
+					spaces.removeAll( querySpacesToInvalidate );
+					if ( !spaces.isEmpty() ) {
+						timestampsCache.invalidate( spaces.toArray(new String[0]), entry.getKey(), session );
+					}
+				}
 			}
 			querySpacesToInvalidate.clear();
+			partitionedQuerySpacesToInvalidate.clear();
 		}
 	}
 
@@ -4,8 +4,9 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -13,6 +14,7 @@
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.internal.CacheHelper;
+import org.hibernate.engine.internal.EntityKeySet;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.util.IndexedConsumer;
 import org.hibernate.internal.util.collections.CollectionHelper;
@@ -56,7 +58,7 @@ public class BatchFetchQueue {
 	 * A Map structure is used to segment the keys by entity type since loading can only be done for a particular entity
 	 * type at a time.
 	 */
-	private @Nullable Map <String,LinkedHashSet<EntityKey>> batchLoadableEntityKeys;
+	private @Nullable Map <String,EntityKeySet> batchLoadableEntityKeys;
 
 	/**
 	 * Used to hold information about the collections that are currently eligible for batch-fetching. Ultimately
@@ -151,9 +153,9 @@ public void addBatchLoadableEntityKey(EntityKey key) {
 			if ( batchLoadableEntityKeys == null ) {
 				batchLoadableEntityKeys = CollectionHelper.mapOfSize( 12 );
 			}
-			final LinkedHashSet<EntityKey> keysForEntity = batchLoadableEntityKeys.computeIfAbsent(
+			final EntityKeySet keysForEntity = batchLoadableEntityKeys.computeIfAbsent(
 					key.getEntityName(),
-					k -> CollectionHelper.linkedSetOfSize( 8 )
+					k -> new EntityKeySet( 8 )
 			);
 
 			keysForEntity.add( key );
@@ -169,7 +171,7 @@ public void addBatchLoadableEntityKey(EntityKey key) {
 	public void removeBatchLoadableEntityKey(EntityKey key) {
 		if ( key.isBatchLoadable( context.getSession().getLoadQueryInfluencers() )
 				&& batchLoadableEntityKeys != null ) {
-			final LinkedHashSet<EntityKey> set = batchLoadableEntityKeys.get( key.getEntityName() );
+			final EntityKeySet set = batchLoadableEntityKeys.get( key.getEntityName() );
 			if ( set != null ) {
 				set.remove( key );
 			}
@@ -181,7 +183,7 @@ public void removeBatchLoadableEntityKey(EntityKey key) {
 	 */
 	public boolean containsEntityKey(EntityKey key) {
 		if ( key.isBatchLoadable( context.getSession().getLoadQueryInfluencers() ) && batchLoadableEntityKeys != null ) {
-			LinkedHashSet<EntityKey> set = batchLoadableEntityKeys.get( key.getEntityName() );
+			EntityKeySet set = batchLoadableEntityKeys.get( key.getEntityName() );
 			if ( set != null ) {
 				return set.contains( key );
 			}
@@ -207,17 +209,20 @@ public <T> void collectBatchLoadableEntityIds(
 			return;
 		}
 
-		final LinkedHashSet<EntityKey> set = batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
+		final EntityKeySet set = batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
 		if ( set == null ) {
 			return;
 		}
 
 		final EntityIdentifierMapping identifierMapping = entityDescriptor.getIdentifierMapping();
+		final CachedEntityKeys cachedKeys =
+				cachedEntityKeys( set, entityDescriptor.getEntityPersister(), domainBatchSize );
 
 		int batchPosition = 1;
 		int end = -1;
 		boolean checkForEnd = false;
 
+		int index = 0;
 		for ( EntityKey key : set ) {
 			if ( checkForEnd && batchPosition == end ) {
 				// the first id found after the given id
@@ -228,7 +233,7 @@ public <T> void collectBatchLoadableEntityIds(
 				end = batchPosition;
 			}
 			else {
-				if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
+				if ( cachedKeys == null || !cachedKeys.isCached( index ) ) {
 					//noinspection unchecked
 					collector.accept( batchPosition++, (T) key.getIdentifier() );
 				}
@@ -241,6 +246,7 @@ public <T> void collectBatchLoadableEntityIds(
 					checkForEnd = true;
 				}
 			}
+			index++;
 		}
 	}
 
@@ -268,11 +274,13 @@ public <T> void collectBatchLoadableEntityIds(
 
 		// TODO: this needn't exclude subclasses...
 
-		final LinkedHashSet<EntityKey> set =
+		final EntityKeySet set =
 				batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
 		final EntityPersister entityPersister = entityDescriptor.getEntityPersister();
 		final Type identifierType = entityPersister.getIdentifierType();
 		if ( set != null ) {
+			final CachedEntityKeys cachedKeys = cachedEntityKeys( set, entityPersister, maxBatchSize );
+			int index = 0;
 			for ( EntityKey key : set ) {
 				if ( checkForEnd && i == end ) {
 					// the first id found after the given id
@@ -283,7 +291,7 @@ public <T> void collectBatchLoadableEntityIds(
 					end = i;
 				}
 				else {
-					if ( !isCached( key, entityPersister ) ) {
+					if ( cachedKeys == null || !cachedKeys.isCached( index ) ) {
 						ids[i++] = key.getIdentifier();
 					}
 				}
@@ -294,6 +302,7 @@ public <T> void collectBatchLoadableEntityIds(
 						checkForEnd = true;
 					}
 				}
+				index++;
 			}
 		}
 
@@ -301,19 +310,72 @@ public <T> void collectBatchLoadableEntityIds(
 		return ids;
 	}
 
-	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
-		final SharedSessionContractImplementor session = context.getSession();
-		if ( context.getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
-			final EntityDataAccess cache = persister.getCacheAccessStrategy();
-			final Object key = cache.generateCacheKey(
-					entityKey.getIdentifier(),
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
-			);
-			return CacheHelper.fromSharedCache( session, key, persister, cache ) != null;
+	/**
+	 * Determine which of the given keys are in the second-level cache, or
+	 * return {@code null} if the second-level cache is not read.
+	 */
+	private @Nullable CachedEntityKeys cachedEntityKeys(EntityKeySet set, EntityPersister persister, int batchSize) {
+		return context.getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache()
+				? new CachedEntityKeys( set.iterator(), persister, batchSize )
+				: null;
+	}
+
+	/**
+	 * Determines which entity keys are in the second-level cache, reading
+	 * the cache entries of a whole batch of keys at once, as they are
+	 * visited, rather than one key at a time. The keys are read ahead of
+	 * the visited key through a second iterator over the same keys, so
+	 * that only the keys of one batch are held at any time.
+	 */
+	private final class CachedEntityKeys {
+		private final Iterator<EntityKey> keys;
+		private final EntityPersister persister;
+		private final Object[] cacheKeys;
+		private final boolean[] cached;
+		// the index of the first key of the current batch
+		private int batchStart;
+		// the index of the next key of the iterator
+		private int checkedKeys;
+
+		private CachedEntityKeys(Iterator<EntityKey> keys, EntityPersister persister, int batchSize) {
+			this.keys = keys;
+			this.persister = persister;
+			this.cacheKeys = new Object[Math.max( batchSize, 1 )];
+			this.cached = new boolean[cacheKeys.length];
+		}
+
+		private boolean isCached(int index) {
+			if ( index >= checkedKeys ) {
+				// skip the keys which were not asked for, that is, the key being loaded
+				while ( checkedKeys < index ) {
+					keys.next();
+					checkedKeys++;
+				}
+				final SharedSessionContractImplementor session = context.getSession();
+				final EntityDataAccess cache = persister.getCacheAccessStrategy();
+				int size = 0;
+				while ( size < cacheKeys.length && keys.hasNext() ) {
+					cacheKeys[size++] = cache.generateCacheKey(
+							keys.next().getIdentifier(),
+							persister,
+							session.getFactory(),
+							session.getTenantIdentifier()
+					);
+				}
+				final Object[] entries = CacheHelper.fromSharedCache(
+						session,
+						size == cacheKeys.length ? cacheKeys : Arrays.copyOf( cacheKeys, size ),
+						persister,
+						cache
+				);
+				for ( int i = 0; i < size; i++ ) {
+					cached[i] = entries[i] != null;
+				}
+				batchStart = index;
+				checkedKeys = index + size;
+			}
+			return cached[index - batchStart];
 		}
-		return false;
 	}
 
 
@@ -110,6 +110,25 @@ public interface EntityEntry {
 	 */
 	boolean requiresDirtyCheck(Object entity);
 
+	/**
+	 * Record that the entity might have been modified since its state was
+	 * last written to the database, or since it was loaded, so that it is
+	 * dirty checked at the next flush, even when
+	 * {@linkplain org.hibernate.cfg.PersistenceSettings#FLUSH_EXPLICIT_DIRTY_TRACKING
+	 * explicit dirty tracking} is enabled.
+	 *
+	 * @since 7.0
+	 */
+	void markDirty();
+
+	/**
+	 * Forget that the entity was {@linkplain #markDirty marked dirty},
+	 * after its dirty check found it unmodified.
+	 *
+	 * @since 7.0
+	 */
+	void resetDirty();
+
 	/**
 	 * Can the entity be modified?
 	 * <p>
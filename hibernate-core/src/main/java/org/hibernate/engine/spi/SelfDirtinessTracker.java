@@ -6,6 +6,8 @@
 
 import org.hibernate.bytecode.enhance.spi.CollectionTracker;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * Contract for an entity to report that it tracks the dirtiness of its own state,
  * as opposed to needing Hibernate to perform state-diff dirty calculations.
@@ -32,6 +34,21 @@ public interface SelfDirtinessTracker extends PrimeAmongSecondarySupertypes {
 	 */
 	String[] $$_hibernate_getDirtyAttributes();
 
+	/**
+	 * Retrieve the persistent attributes whose values have changed as a bitset over
+	 * the ordinals assigned to the attributes by bytecode enhancement.
+	 *
+	 * @return A bitset of the ordinals of the changed persistent attributes, or {@code null}
+	 * if the changes are only reported {@linkplain #$$_hibernate_getDirtyAttributes() by name}
+	 *
+	 * @see org.hibernate.bytecode.enhance.spi.EnhancerConstants#TRACKER_ATTRIBUTE_NAMES_NAME
+	 *
+	 * @since 7.0
+	 */
+	default long @Nullable [] $$_hibernate_getDirtyAttributeOrdinals() {
+		return null;
+	}
+
 	/**
 	 * Adds persistent attribute to the set of values that have changed
 	 */
@@ -1086,6 +1086,11 @@ public void setReadOnly(Object entityOrProxy, boolean readOnly) {
 		delegate.setReadOnly( entityOrProxy, readOnly );
 	}
 
+	@Override
+	public void markDirty(Object entityOrProxy) {
+		delegate.markDirty( entityOrProxy );
+	}
+
 	@Override
 	public void doWork(Work work) throws HibernateException {
 		delegate.doWork( work );
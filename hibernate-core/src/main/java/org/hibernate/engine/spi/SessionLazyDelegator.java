@@ -396,6 +396,11 @@ public void setReadOnly(Object entityOrProxy, boolean readOnly) {
 		this.lazySession.get().setReadOnly( entityOrProxy, readOnly );
 	}
 
+	@Override
+	public void markDirty(Object entityOrProxy) {
+		this.lazySession.get().markDirty( entityOrProxy );
+	}
+
 	@Override
 	public boolean isFetchProfileEnabled(String name) throws UnknownProfileException {
 		return this.lazySession.get().isFetchProfileEnabled( name );
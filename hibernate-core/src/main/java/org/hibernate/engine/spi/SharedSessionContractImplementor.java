@@ -13,6 +13,7 @@
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
 import org.hibernate.Interceptor;
 import org.hibernate.StatelessSession;
 import org.hibernate.boot.spi.SessionFactoryOptions;
@@ -510,6 +511,20 @@ default Integer getConfiguredJdbcBatchSize() {
 				: sessionJdbcBatchSize;
 	}
 
+	/**
+	 * Should the entity inserts currently batched by this session be loaded
+	 * in bulk, if the {@linkplain org.hibernate.dialect.Dialect#getBulkInsertSupport()
+	 * dialect supports it}?
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BULK_INSERT_THRESHOLD
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isBulkInsertEnabled() {
+		return false;
+	}
+
 	/**
 	 * Similar to {@link #getPersistenceContext()}, with two differences:
 	 * <ol>
@@ -337,6 +337,11 @@ public void setJdbcBatchSize(Integer jdbcBatchSize) {
 		delegate.setJdbcBatchSize( jdbcBatchSize );
 	}
 
+	@Override
+	public boolean isBulkInsertEnabled() {
+		return delegate.isBulkInsertEnabled();
+	}
+
 	@Override
 	public <T> T execute(Callback<T> callback) {
 		return delegate.execute( callback );
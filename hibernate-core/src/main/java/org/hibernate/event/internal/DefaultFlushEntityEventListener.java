@@ -33,6 +33,7 @@
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.jpa.event.spi.CallbackRegistry;
 import org.hibernate.jpa.event.spi.CallbackRegistryConsumer;
+import org.hibernate.jpa.event.spi.CallbackType;
 import org.hibernate.metamodel.mapping.NaturalIdMapping;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.stat.spi.StatisticsImplementor;
@@ -66,6 +67,13 @@ public void injectCallbackRegistry(CallbackRegistry callbackRegistry) {
 		this.callbackRegistry = callbackRegistry;
 	}
 
+	/**
+	 * Does the given entity class have {@link jakarta.persistence.PreUpdate} callbacks?
+	 */
+	boolean hasPreUpdateCallbacks(Class<?> entityClass) {
+		return callbackRegistry.hasRegisteredCallbacks( entityClass, CallbackType.PRE_UPDATE );
+	}
+
 	/**
 	 * Make sure user didn't mangle the id.
 	 */
@@ -132,7 +140,7 @@ public void onFlushEntity(FlushEntityEvent event) throws HibernateException {
 
 		final boolean mightBeDirty = entry.requiresDirtyCheck( entity );
 
-		final Object[] values = getValues( entity, entry, mightBeDirty, session );
+		final Object[] values = getValues( event, entity, entry, mightBeDirty, session );
 
 		event.setPropertyValues( values );
 
@@ -161,7 +169,12 @@ public void onFlushEntity(FlushEntityEvent event) throws HibernateException {
 
 	}
 
-	private Object[] getValues(Object entity, EntityEntry entry, boolean mightBeDirty, SessionImplementor session) {
+	private Object[] getValues(
+			FlushEntityEvent event,
+			Object entity,
+			EntityEntry entry,
+			boolean mightBeDirty,
+			SessionImplementor session) {
 		final Object[] loadedState = entry.getLoadedState();
 		if ( entry.getStatus() == Status.DELETED ) {
 			//grab its state saved at deletion
@@ -173,8 +186,9 @@ else if ( !mightBeDirty && loadedState != null ) {
 		else {
 			final EntityPersister persister = entry.getPersister();
 			checkId( entity, persister, entry.getId(), entry.getStatus(), session );
-			// grab its current state
-			final Object[] values = persister.getValues( entity );
+			// grab its current state, unless it was already read by a parallel dirty check
+			final Object[] precomputedValues = event.getPrecomputedPropertyValues();
+			final Object[] values = precomputedValues == null ? persister.getValues( entity ) : precomputedValues;
 			checkNaturalId( persister, entity, entry, values, loadedState, session );
 			return values;
 		}
@@ -218,6 +232,7 @@ private boolean isUpdateNecessary(final FlushEntityEvent event, final boolean mi
 				processIfManagedEntity( entity, DefaultFlushEntityEventListener::useTracker );
 				event.getFactory().getCustomEntityDirtinessStrategy()
 						.resetDirty( entity, entry.getPersister(), event.getSession() );
+				entry.resetDirty();
 				return false;
 			}
 		}
@@ -495,7 +510,16 @@ private static int[] performDirtyCheck(FlushEntityEvent event) {
 			final Object entity = event.getEntity();
 			if ( loadedState != null ) {
 				// dirty check against the usual snapshot of the entity
-				dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+				if ( values == event.getPrecomputedPropertyValues() ) {
+					// the state was compared by a parallel dirty check, and is
+					// unchanged since, but it must be compared again if it is
+					// modified by an interceptor
+					dirtyProperties = event.getPrecomputedDirtyProperties();
+					event.setPrecomputedDirtyCheck( null, null );
+				}
+				else {
+					dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+				}
 				dirtyCheckPossible = true;
 			}
 			else if ( entry.getStatus() == Status.DELETED && !entry.isModifiableEntity() ) {
@@ -605,6 +629,21 @@ private static int[] resolveDirtyAttributeIndex(
 			FlushEntityEvent event,
 			EntityPersister persister,
 			EntityEntry entry) {
+		// the persister only knows the ordinals of the tracked attributes of its mapped class
+		if ( tracker.getClass() == persister.getMappedClass() ) {
+			final long[] attributeOrdinals = tracker.$$_hibernate_getDirtyAttributeOrdinals();
+			if ( attributeOrdinals != null ) {
+				final int[] dirtyAttributeIndexes = persister.resolveDirtyAttributeIndexes(
+						event.getPropertyValues(),
+						entry.getLoadedState(),
+						attributeOrdinals,
+						event.getSession()
+				);
+				if ( dirtyAttributeIndexes != null ) {
+					return dirtyAttributeIndexes;
+				}
+			}
+		}
 		return persister.resolveDirtyAttributeIndexes(
 				event.getPropertyValues(),
 				entry.getLoadedState(),
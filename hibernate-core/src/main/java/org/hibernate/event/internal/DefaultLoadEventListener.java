@@ -598,6 +598,8 @@ private Object loadFromCacheOrDatasource(LoadEvent event, EntityPersister persis
 	 * @return The object loaded from the datasource, or null if not found.
 	 */
 	protected Object loadFromDatasource(final LoadEvent event, final EntityPersister persister) {
+		final StatisticsImplementor statistics = event.getFactory().getStatistics();
+		final long startTime = statistics.isStatisticsEnabled() ? System.nanoTime() : 0;
 		Object entity = persister.load(
 				event.getEntityId(),
 				event.getInstanceToLoad(),
@@ -605,6 +607,9 @@ protected Object loadFromDatasource(final LoadEvent event, final EntityPersister
 				event.getSession(),
 				event.getReadOnly()
 		);
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.entityFetchLatency( persister.getEntityName(), System.nanoTime() - startTime );
+		}
 
 		// todo (6.0) : this is a change from previous versions
 		//		specifically the load call previously always returned a non-proxy
@@ -617,7 +622,6 @@ protected Object loadFromDatasource(final LoadEvent event, final EntityPersister
 			entity = lazyInitializer.getImplementation();
 		}
 
-		final StatisticsImplementor statistics = event.getFactory().getStatistics();
 		if ( event.isAssociationFetch() && statistics.isStatisticsEnabled() ) {
 			statistics.fetchEntity( event.getEntityClassName() );
 		}
@@ -277,6 +277,7 @@ protected void entityIsPersistent(MergeEvent event, MergeContext copyCache) {
 		copyCache.put( entity, entity, true );  //before cascade!
 		cascadeOnMerge( source, persister, entity, copyCache );
 		copyValues( persister, entity, entity, source, copyCache );
+		markDirty( source, entity );
 		event.setResult( entity );
 	}
 
@@ -431,6 +432,7 @@ protected void entityIsDetached(MergeEvent event, Object copiedId, Object origin
 			copyValues( persister, entity, target, source, copyCache );
 			//copyValues works by reflection, so explicitly mark the entity instance dirty
 			markInterceptorDirty( entity, target );
+			markDirty( source, target );
 			event.setResult( result );
 		}
 	}
@@ -534,6 +536,14 @@ private static void markInterceptorDirty(final Object entity, final Object targe
 		}
 	}
 
+	private static void markDirty(EventSource source, Object target) {
+		// for explicit dirty tracking of entities which are not enhanced
+		final EntityEntry entry = source.getPersistenceContextInternal().getEntry( target );
+		if ( entry != null ) {
+			entry.markDirty();
+		}
+	}
+
 	private static boolean isVersionChanged(Object entity, EventSource source, EntityPersister persister, Object target) {
 		if ( persister.isVersioned() ) {
 			// for merging of versioned entities, we consider the version having
@@ -0,0 +1,197 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.internal;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.service.spi.EventListenerGroup;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.FlushEntityEvent;
+import org.hibernate.event.spi.FlushEntityEventListener;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.EmptyInterceptor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static org.hibernate.engine.internal.ManagedTypeHelper.isManagedEntity;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isSelfDirtinessTracker;
+
+/**
+ * Reads the current state of the entities of a persistence context, and compares
+ * it with their loaded state, in parallel, ahead of the flush of each entity by
+ * {@link DefaultFlushEntityEventListener}, which then picks up the results from
+ * the {@link FlushEntityEvent} instead of doing this work itself.
+ * <p>
+ * Everything else, including the scheduling of updates, still happens in the
+ * flushing thread, in the usual order. So this is limited to entities whose
+ * state can be read and compared without side effects: entities which are not
+ * bytecode enhanced, and whose attributes are all of basic or embeddable type.
+ * For other entities, nothing is computed ahead.
+ *
+ * @see org.hibernate.cfg.PersistenceSettings#FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD
+ */
+final class ParallelDirtyCheck {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( ParallelDirtyCheck.class );
+
+	private static final int CHUNK_SIZE = 256;
+
+	private final Map.Entry<Object, EntityEntry>[] entityEntries;
+	private final boolean[] candidates;
+	private final EventSource session;
+	private final Object[][] propertyValues;
+	private final int[][] dirtyProperties;
+
+	private ParallelDirtyCheck(
+			Map.Entry<Object, EntityEntry>[] entityEntries,
+			boolean[] candidates,
+			EventSource session) {
+		this.entityEntries = entityEntries;
+		this.candidates = candidates;
+		this.session = session;
+		this.propertyValues = new Object[entityEntries.length][];
+		this.dirtyProperties = new int[entityEntries.length][];
+	}
+
+	/**
+	 * Dirty check the given entities in parallel, if enabled and possible.
+	 *
+	 * @return The results, or {@code null} if the entities were not checked
+	 */
+	static @Nullable ParallelDirtyCheck perform(
+			Map.Entry<Object, EntityEntry>[] entityEntries,
+			EventListenerGroup<FlushEntityEventListener> flushListeners,
+			EventSource session) {
+		final int threshold = session.getFactory().getSessionFactoryOptions().getParallelDirtyCheckThreshold();
+		if ( threshold <= 0 || entityEntries.length < threshold
+				// an interceptor might modify other entities
+				|| session.getInterceptor() != EmptyInterceptor.INSTANCE ) {
+			return null;
+		}
+		final DefaultFlushEntityEventListener listener = defaultListener( flushListeners );
+		if ( listener == null ) {
+			return null;
+		}
+		final boolean[] candidates = new boolean[entityEntries.length];
+		final Map<EntityPersister, Boolean> supportedPersisters = new IdentityHashMap<>();
+		int candidateCount = 0;
+		for ( int i = 0; i < entityEntries.length; i++ ) {
+			final Object entity = entityEntries[i].getKey();
+			final EntityEntry entry = entityEntries[i].getValue();
+			if ( entry.getStatus() == Status.MANAGED
+					&& entry.getLoadedState() != null
+					&& entry.isModifiableEntity()
+					&& !isManagedEntity( entity )
+					&& !isPersistentAttributeInterceptable( entity )
+					&& !isSelfDirtinessTracker( entity ) ) {
+				final EntityPersister persister = entry.getPersister();
+				Boolean supported = supportedPersisters.get( persister );
+				if ( supported == null ) {
+					if ( listener.hasPreUpdateCallbacks( persister.getMappedClass() ) ) {
+						// a callback might modify other entities
+						return null;
+					}
+					supported = isSupported( persister.getPropertyTypes() );
+					supportedPersisters.put( persister, supported );
+				}
+				if ( supported ) {
+					candidates[i] = true;
+					candidateCount++;
+				}
+			}
+		}
+		if ( candidateCount < threshold ) {
+			return null;
+		}
+
+		LOG.tracef( "Dirty checking %s entities in parallel", candidateCount );
+		final ParallelDirtyCheck dirtyCheck = new ParallelDirtyCheck( entityEntries, candidates, session );
+		dirtyCheck.execute();
+		return dirtyCheck;
+	}
+
+	private static @Nullable DefaultFlushEntityEventListener defaultListener(
+			EventListenerGroup<FlushEntityEventListener> flushListeners) {
+		// other listeners might have side effects which the
+		// state read ahead of the flush would not reflect
+		if ( flushListeners.count() == 1 ) {
+			for ( FlushEntityEventListener listener : flushListeners.listeners() ) {
+				if ( listener.getClass() == DefaultFlushEntityEventListener.class ) {
+					return (DefaultFlushEntityEventListener) listener;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static boolean isSupported(Type[] types) {
+		for ( Type type : types ) {
+			if ( type instanceof CompositeType compositeType && type.isComponentType() ) {
+				if ( !isSupported( compositeType.getSubtypes() ) ) {
+					return false;
+				}
+			}
+			else if ( !( type instanceof BasicType ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void execute() {
+		final ForkJoinPool pool = ForkJoinPool.commonPool();
+		final List<ForkJoinTask<?>> tasks = new ArrayList<>();
+		for ( int start = 0; start < entityEntries.length; start += CHUNK_SIZE ) {
+			final int from = start;
+			final int to = Math.min( start + CHUNK_SIZE, entityEntries.length );
+			tasks.add( pool.submit( () -> check( from, to ) ) );
+		}
+		for ( ForkJoinTask<?> task : tasks ) {
+			task.join();
+		}
+	}
+
+	private void check(int from, int to) {
+		for ( int i = from; i < to; i++ ) {
+			if ( candidates[i] ) {
+				final Object entity = entityEntries[i].getKey();
+				final EntityEntry entry = entityEntries[i].getValue();
+				final EntityPersister persister = entry.getPersister();
+				try {
+					final Object[] values = persister.getValues( entity );
+					dirtyProperties[i] = persister.findDirty( values, entry.getLoadedState(), entity, session );
+					propertyValues[i] = values;
+				}
+				catch (RuntimeException e) {
+					// leave it to the flushing thread, so that the
+					// failure is reported in the usual order
+					dirtyProperties[i] = null;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Pass the results for the entity at the given index on to the event.
+	 */
+	void apply(int index, FlushEntityEvent event) {
+		final Object[] values = propertyValues[index];
+		if ( values != null ) {
+			event.setPrecomputedDirtyCheck( values, dirtyProperties[index] );
+		}
+	}
+}
@@ -4,6 +4,7 @@
  */
 package org.hibernate.event.spi;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.spi.EntityEntry;
 
 /**
@@ -21,6 +22,8 @@ public class FlushEntityEvent extends AbstractEvent {
 	private EntityEntry entityEntry;
 	private boolean allowedToReuse;//allows this event instance to be reused for multiple events: special case to GC
 	private int instanceGenerationId;//in support of event instance reuse: to double check no recursive/nested use is happening
+	private Object[] precomputedPropertyValues;
+	private int[] precomputedDirtyProperties;
 
 	public FlushEntityEvent(EventSource source, Object entity, EntityEntry entry) {
 		super(source);
@@ -77,6 +80,31 @@ public Object getEntity() {
 		return entity;
 	}
 
+	/**
+	 * The current state of the entity, if it was read ahead of the
+	 * flush of this entity by a parallel dirty check.
+	 */
+	@Incubating
+	public Object[] getPrecomputedPropertyValues() {
+		return precomputedPropertyValues;
+	}
+
+	/**
+	 * The dirty properties of the entity found by comparing its
+	 * {@linkplain #getPrecomputedPropertyValues precomputed state}
+	 * with its loaded state, or {@code null} if none were found.
+	 */
+	@Incubating
+	public int[] getPrecomputedDirtyProperties() {
+		return precomputedDirtyProperties;
+	}
+
+	@Incubating
+	public void setPrecomputedDirtyCheck(Object[] propertyValues, int[] dirtyProperties) {
+		this.precomputedPropertyValues = propertyValues;
+		this.precomputedDirtyProperties = dirtyProperties;
+	}
+
 	/**
 	 * This is a terrible anti-pattern, but particular circumstances call for being
 	 * able to reuse the same event instance: this is otherwise allocated in hot loops
@@ -100,6 +128,8 @@ public void resetAndReuseEventInstance(Object entity, EntityEntry entry) {
 		this.hasDirtyCollection = false;
 		this.dirtyCheckPossible = false;
 		this.dirtyCheckHandledByInterceptor = false;
+		this.precomputedPropertyValues = null;
+		this.precomputedDirtyProperties = null;
 	}
 
 	public boolean isAllowedToReuse() {
@@ -25,7 +25,10 @@ public interface Optimizer {
 	/**
 	 * Generate an identifier value accounting for this specific optimization.
 	 *
-	 * @implNote All known implementors are synchronized. Consider carefully
+	 * @implNote All known implementors are thread-safe, and guard their state
+	 *           with a {@link java.util.concurrent.locks.Lock} rather than a
+	 *           monitor, since the callback may block on the database, which
+	 *           must not pin the carrier of a virtual thread. Consider carefully
 	 *           if a new implementation could drop this requirement.
 	 *
 	 * @param callback Callback to access the underlying value source.
@@ -0,0 +1,210 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+import static org.hibernate.id.IdentifierGeneratorHelper.getIntegralDataTypeHolder;
+
+/**
+ * Optimizer which uses a pool of values, storing the next high value of the range
+ * in the database, exactly like the {@link PooledOptimizer}, but which never blocks
+ * callers while there are values left in the pool.
+ * <p>
+ * Values are drawn from the current range by an atomic increment, rather than under
+ * a lock. The caller which draws the value half way through a range fetches the next
+ * range from the database, while the other callers keep drawing values from the
+ * current range. Callers only wait when the current range is exhausted before the
+ * next one has been fetched.
+ * <p>
+ * Unlike the {@link PooledLoThreadLocalOptimizer}, all threads share the same range,
+ * so no values are lost to idle threads, however many threads there are.
+ *
+ * @see PooledOptimizer
+ * @see StandardOptimizerDescriptor#POOLED_CONCURRENT
+ *
+ * @since 7.0
+ */
+public class PooledConcurrentOptimizer extends AbstractOptimizer implements InitialValueAwareOptimizer {
+	private static final CoreMessageLogger log = Logger.getMessageLogger(
+			MethodHandles.lookup(),
+			CoreMessageLogger.class,
+			PooledConcurrentOptimizer.class.getName()
+	);
+
+	private long initialValue = -1;
+
+	private final GenerationState noTenantState = new GenerationState();
+	private final Map<String, GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a {@code PooledConcurrentOptimizer}
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledConcurrentOptimizer(Class<?> returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		if ( log.isTraceEnabled() ) {
+			log.tracev(
+					"Creating concurrent pooled optimizer with [incrementSize={0}; returnClass={1}]",
+					incrementSize,
+					returnClass.getName()
+			);
+		}
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		final String tenantIdentifier = callback.getTenantIdentifier();
+		final GenerationState generationState = tenantIdentifier == null
+				? noTenantState
+				: tenantSpecificState.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState() );
+		return generationState.generate( callback );
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		final IntegralDataTypeHolder lastSourceValue = noTenantState.lastSourceValue;
+		if ( lastSourceValue == null ) {
+			throw new IllegalStateException( "Could not locate previous generation state for no-tenant" );
+		}
+		return lastSourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+
+	@Override
+	public void injectInitialValue(long initialValue) {
+		this.initialValue = initialValue;
+	}
+
+	private Serializable toIdentifierValue(long value) {
+		if ( returnClass == Long.class ) {
+			return value;
+		}
+		else {
+			return getIntegralDataTypeHolder( returnClass ).initialize( value ).makeValue();
+		}
+	}
+
+	/**
+	 * A range of values fetched from the database. Values at or beyond the limit
+	 * may be drawn by callers racing to the end of the range, and are discarded.
+	 */
+	private static final class Range {
+		private final AtomicLong next;
+		private final long limit;
+		private final long prefetchValue;
+		private final AtomicReference<CompletableFuture<Range>> successor = new AtomicReference<>();
+
+		private Range(long first, long limit) {
+			this.next = new AtomicLong( first );
+			this.limit = limit;
+			this.prefetchValue = first + ( limit - first ) / 2;
+		}
+	}
+
+	private final class GenerationState {
+		// an empty range, whose successor is the first range fetched
+		private final Range initialRange = new Range( 0, 0 );
+		private final AtomicReference<Range> currentRange = new AtomicReference<>( initialRange );
+		private volatile IntegralDataTypeHolder lastSourceValue;
+
+		private Serializable generate(AccessCallback callback) {
+			while ( true ) {
+				final Range range = currentRange.get();
+				final long value = range.next.getAndIncrement();
+				if ( value < range.limit ) {
+					if ( value == range.prefetchValue ) {
+						// exactly one caller draws this value
+						fetchSuccessor( range, callback );
+					}
+					return toIdentifierValue( value );
+				}
+				else {
+					currentRange.compareAndSet( range, awaitSuccessor( range, callback ) );
+				}
+			}
+		}
+
+		/**
+		 * Fetch the next range, unless another caller already is.
+		 */
+		private void fetchSuccessor(Range range, AccessCallback callback) {
+			final CompletableFuture<Range> successor = new CompletableFuture<>();
+			if ( range.successor.compareAndSet( null, successor ) ) {
+				try {
+					successor.complete( fetchRange( range == initialRange, callback ) );
+				}
+				catch (RuntimeException e) {
+					// let the next caller try again
+					range.successor.set( null );
+					successor.completeExceptionally( e );
+					throw e;
+				}
+			}
+		}
+
+		private Range awaitSuccessor(Range range, AccessCallback callback) {
+			CompletableFuture<Range> successor = range.successor.get();
+			if ( successor == null ) {
+				fetchSuccessor( range, callback );
+				successor = range.successor.get();
+			}
+			if ( successor == null ) {
+				// the fetch failed, and was reset, after we started it
+				return range;
+			}
+			try {
+				return successor.join();
+			}
+			catch (CompletionException e) {
+				throw e.getCause() instanceof RuntimeException cause
+						? cause
+						: new HibernateException( "Unable to fetch next identifier range", e.getCause() );
+			}
+		}
+
+		private Range fetchRange(boolean first, AccessCallback callback) {
+			final IntegralDataTypeHolder hiValue = callback.getNextValue();
+			final long hi = hiValue.makeValue().longValue();
+			final long lo;
+			if ( first ) {
+				if ( hiValue.lt( 1 ) ) {
+					log.pooledOptimizerReportedInitialValue( hiValue );
+				}
+				// the call to obtain next-value just gave us the initialValue
+				lo = initialValue == -1 && hi < incrementSize || hi == initialValue
+						? hi
+						: hi - incrementSize + 1;
+			}
+			else {
+				lo = hi - incrementSize + 1;
+			}
+			lastSourceValue = hiValue;
+			return new Range( lo, hi + 1 );
+		}
+	}
+}
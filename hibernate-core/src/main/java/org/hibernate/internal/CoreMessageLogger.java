@@ -782,6 +782,10 @@ void cannotResolveNonNullableTransientDependencies(
 	@Message(value = "Query plan cache misses: %s", id = 493)
 	void queryPlanCacheMisses(long queryPlanCacheMissCount);
 
+	@LogMessage(level = INFO)
+	@Message(value = "Query plan cache evictions: %s", id = 499)
+	void queryPlanCacheEvictions(long queryPlanCacheEvictionCount);
+
 	@LogMessage(level = WARN)
 	@Message(value = "Attempt to merge an uninitialized collection with queued operations; queued operations will be ignored: %s", id = 494)
 	void ignoreQueuedOperationsOnMerge(String collectionInfoString);
@@ -1850,6 +1850,29 @@ public void setReadOnly(Object entity, boolean readOnly) {
 		persistenceContext.setReadOnly( entity, readOnly );
 	}
 
+	@Override
+	public void markDirty(Object object) {
+		checkOpen();
+		if ( object == null ) {
+			throw new IllegalArgumentException( "Null entity instance" );
+		}
+
+		final LazyInitializer lazyInitializer = extractLazyInitializer( object );
+		if ( lazyInitializer != null ) {
+			object = lazyInitializer.getImplementation( this );
+			if ( object == null ) {
+				// an uninitialized proxy
+				return;
+			}
+		}
+
+		final EntityEntry entry = persistenceContext.getEntry( object );
+		if ( entry == null ) {
+			throw new IllegalArgumentException( "Given entity is not associated with the persistence context" );
+		}
+		entry.markDirty();
+	}
+
 	@Override
 	public CacheStoreMode getCacheStoreMode() {
 		return getCacheMode().getJpaStoreMode();
@@ -98,6 +98,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	private final LoadQueryInfluencers influencers;
 	private final PersistenceContext temporaryPersistenceContext;
 	private final boolean connectionProvided;
+	private boolean bulkInsertEnabled;
 
 	public StatelessSessionImpl(SessionFactoryImpl factory, SessionCreationOptions options) {
 		super( factory, options );
@@ -124,16 +125,29 @@ public Object insert(Object entity) {
 	public void insertMultiple(List<Object> entities) {
 		final Integer batchSize = getJdbcBatchSize();
 		setJdbcBatchSize( entities.size() );
+		final int bulkInsertThreshold = getFactory().getSessionFactoryOptions().getBulkInsertThreshold();
+		bulkInsertEnabled = bulkInsertThreshold > 0 && entities.size() >= bulkInsertThreshold;
 		try {
 			for ( Object entity : entities ) {
 				insert( null, entity );
 			}
+			if ( bulkInsertEnabled ) {
+				// load the rows before returning, like the inserts
+				// of an entity without batching
+				getJdbcCoordinator().executeBatch();
+			}
 		}
 		finally {
+			bulkInsertEnabled = false;
 			setJdbcBatchSize( batchSize );
 		}
 	}
 
+	@Override
+	public boolean isBulkInsertEnabled() {
+		return bulkInsertEnabled;
+	}
+
 	@Override
 	public Object insert(String entityName, Object entity) {
 		checkOpen();
@@ -682,14 +696,16 @@ public void initializeCollection(PersistentCollection<?> collection, boolean wri
 				LOG.tracev( "Initializing collection {0}",
 						collectionInfoString( loadedPersister, collection, loadedKey, this ) );
 			}
+			final StatisticsImplementor statistics = getFactory().getStatistics();
+			final long startTime = statistics.isStatisticsEnabled() ? System.nanoTime() : 0;
 			loadedPersister.initialize( loadedKey, this );
 			handlePotentiallyEmptyCollection( collection, persistenceContext, loadedKey, loadedPersister );
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Collection initialized" );
 			}
-			final StatisticsImplementor statistics = getFactory().getStatistics();
 			if ( statistics.isStatisticsEnabled() ) {
 				statistics.fetchCollection( loadedPersister.getRole() );
+				statistics.collectionFetchLatency( loadedPersister.getRole(), System.nanoTime() - startTime );
 			}
 		}
 	}
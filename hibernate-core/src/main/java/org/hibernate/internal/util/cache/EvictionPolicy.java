@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal.util.cache;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ToIntBiFunction;
+
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+
+/**
+ * The available {@link InternalCache} implementations.
+ *
+ * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_EVICTION
+ */
+public enum EvictionPolicy {
+	/**
+	 * A {@link TinyLfuCache}: lock-free reads, admission by a frequency sketch,
+	 * bounded by the total weight of the entries.
+	 */
+	TINY_LFU {
+		@Override
+		public <K, V> InternalCache<K, V> createCache(
+				int maximumWeight,
+				ToIntBiFunction<? super K, ? super V> weigher,
+				BiConsumer<? super K, ? super V> evictionListener) {
+			return new TinyLfuCache<>( maximumWeight, weigher, evictionListener );
+		}
+	},
+	/**
+	 * A segmented {@link BoundedConcurrentHashMap} using LIRS eviction,
+	 * bounded by the number of entries. The weigher and eviction listener
+	 * are ignored.
+	 */
+	LIRS {
+		@Override
+		public <K, V> InternalCache<K, V> createCache(
+				int maximumWeight,
+				ToIntBiFunction<? super K, ? super V> weigher,
+				BiConsumer<? super K, ? super V> evictionListener) {
+			return new LirsCache<>( maximumWeight );
+		}
+	};
+
+	public abstract <K, V> InternalCache<K, V> createCache(
+			int maximumWeight,
+			ToIntBiFunction<? super K, ? super V> weigher,
+			BiConsumer<? super K, ? super V> evictionListener);
+
+	/**
+	 * Interpret a configuration setting value, which may be an
+	 * {@code EvictionPolicy} or its name, ignoring case and the
+	 * underscore (so both {@code tinylfu} and {@code TINY_LFU} are
+	 * accepted).
+	 */
+	public static EvictionPolicy interpret(Object setting, EvictionPolicy defaultValue) {
+		if ( setting == null ) {
+			return defaultValue;
+		}
+		if ( setting instanceof EvictionPolicy policy ) {
+			return policy;
+		}
+		final String name = setting.toString().trim().replace( "_", "" ).replace( "-", "" );
+		if ( name.isEmpty() ) {
+			return defaultValue;
+		}
+		for ( EvictionPolicy policy : values() ) {
+			if ( policy.name().replace( "_", "" ).equalsIgnoreCase( name ) ) {
+				return policy;
+			}
+		}
+		throw new IllegalArgumentException(
+				"Unrecognized cache eviction policy '" + setting + "' (expected one of 'tinylfu' or 'lirs')"
+		);
+	}
+
+	private static final class LirsCache<K, V> implements InternalCache<K, V> {
+		private final BoundedConcurrentHashMap<K, V> map;
+
+		private LirsCache(int capacity) {
+			map = new BoundedConcurrentHashMap<>( capacity, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+		}
+
+		@Override
+		public V get(K key) {
+			return map.get( key );
+		}
+
+		@Override
+		public void put(K key, V value) {
+			map.put( key, value );
+		}
+
+		@Override
+		public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+			return map.computeIfAbsent( key, mappingFunction );
+		}
+
+		@Override
+		public int size() {
+			return map.size();
+		}
+
+		@Override
+		public void clear() {
+			map.clear();
+		}
+
+		@Override
+		public String toString() {
+			return "LirsCache(" + map.size() + ")";
+		}
+	}
+}
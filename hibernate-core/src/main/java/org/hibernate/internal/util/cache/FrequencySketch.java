@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal.util.cache;
+
+import java.util.Arrays;
+
+/**
+ * A probabilistic estimate of how often keys have been accessed recently:
+ * a count-min sketch of 4-bit counters, four per key, packed sixteen to a
+ * {@code long}. When the number of recorded accesses reaches ten times the
+ * expected number of entries, every counter is halved, so that the estimate
+ * favors recent popularity over historic popularity.
+ * <p>
+ * This class is <em>not</em> thread-safe; {@link TinyLfuCache} only touches
+ * it while holding its eviction lock.
+ */
+final class FrequencySketch {
+	private static final long[] SEED = {
+			0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+	};
+	private static final long RESET_MASK = 0x7777777777777777L;
+	private static final long ONE_MASK = 0x1111111111111111L;
+	private static final int MAXIMUM_CAPACITY = 1 << 24;
+
+	private final long[] table;
+	private final int tableMask;
+	private final int sampleSize;
+	private int size;
+
+	FrequencySketch(long expectedEntries) {
+		final int capacity = (int) Math.min( Math.max( expectedEntries, 16 ), MAXIMUM_CAPACITY );
+		table = new long[Integer.highestOneBit( capacity - 1 ) << 1];
+		tableMask = table.length - 1;
+		sampleSize = 10 * capacity;
+	}
+
+	/**
+	 * The estimated number of accesses to the key, between 0 and 15.
+	 */
+	int frequency(Object key) {
+		final int hash = spread( key.hashCode() );
+		final int start = ( hash & 3 ) << 2;
+		int frequency = Integer.MAX_VALUE;
+		for ( int i = 0; i < 4; i++ ) {
+			final int index = indexOf( hash, i );
+			final int count = (int) ( ( table[index] >>> ( ( start + i ) << 2 ) ) & 0xfL );
+			frequency = Math.min( frequency, count );
+		}
+		return frequency;
+	}
+
+	/**
+	 * Record an access to the key.
+	 */
+	void increment(Object key) {
+		final int hash = spread( key.hashCode() );
+		final int start = ( hash & 3 ) << 2;
+		boolean added = false;
+		for ( int i = 0; i < 4; i++ ) {
+			added |= incrementAt( indexOf( hash, i ), start + i );
+		}
+		if ( added && ++size == sampleSize ) {
+			reset();
+		}
+	}
+
+	void clear() {
+		Arrays.fill( table, 0L );
+		size = 0;
+	}
+
+	private boolean incrementAt(int index, int counter) {
+		final int offset = counter << 2;
+		final long mask = 0xfL << offset;
+		if ( ( table[index] & mask ) != mask ) {
+			table[index] += 1L << offset;
+			return true;
+		}
+		return false;
+	}
+
+	private void reset() {
+		int odd = 0;
+		for ( int i = 0; i < table.length; i++ ) {
+			odd += Long.bitCount( table[i] & ONE_MASK );
+			table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+		}
+		size = ( size >>> 1 ) - ( odd >>> 2 );
+	}
+
+	private int indexOf(int hash, int i) {
+		long h = ( hash + SEED[i] ) * SEED[i];
+		h += h >>> 32;
+		return ( (int) h ) & tableMask;
+	}
+
+	private static int spread(int x) {
+		x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+		x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+		return ( x >>> 16 ) ^ x;
+	}
+}
@@ -0,0 +1,43 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal.util.cache;
+
+import java.util.function.Function;
+
+/**
+ * Contract for a bounded, thread-safe cache used by Hibernate internals.
+ * Entries may be evicted at any time once the bound is reached.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the cached values
+ *
+ * @see EvictionPolicy
+ */
+public interface InternalCache<K, V> {
+
+	/**
+	 * The cached value for the given key, or {@code null} if there is none.
+	 */
+	V get(K key);
+
+	/**
+	 * Cache the value for the given key, replacing any existing value.
+	 */
+	void put(K key, V value);
+
+	/**
+	 * The cached value for the given key, computing and caching it if needed.
+	 * The computation may be executed more than once for the same key when
+	 * several threads miss concurrently; only one of the results is cached.
+	 */
+	V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction);
+
+	/**
+	 * The approximate number of cached entries.
+	 */
+	int size();
+
+	void clear();
+}
@@ -0,0 +1,469 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal.util.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * A bounded cache using the W-TinyLFU policy, optimized for read-mostly
+ * workloads such as the query plan cache.
+ * <p>
+ * Entries live in a {@link ConcurrentHashMap}, so a cache hit never blocks:
+ * it is a map lookup plus an attempt to record the access in a small lossy,
+ * striped buffer. The buffers are drained, and the eviction policy updated,
+ * by whichever thread next writes to the cache, or by a reader finding its
+ * buffer full and managing to {@linkplain ReentrantLock#tryLock() acquire}
+ * the eviction lock without waiting. Accesses dropped because a buffer was
+ * full only make the policy slightly less accurate.
+ * <p>
+ * New entries are admitted into a small LRU <em>window</em>. Entries leaving
+ * the window compete with the least-recently used entry of the <em>main</em>
+ * segmented LRU space, and the one estimated by a {@link FrequencySketch} to
+ * be accessed less often is evicted. This protects frequently used entries
+ * from bursts of entries which are used only once.
+ * <p>
+ * The cache is bounded by the total weight of its entries, as computed by
+ * the given weigher, rather than by their number.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the cached values
+ */
+public final class TinyLfuCache<K, V> implements InternalCache<K, V> {
+	private static final int NUMBER_OF_READ_BUFFERS = ceilingPowerOfTwo( Runtime.getRuntime().availableProcessors() );
+	private static final int READ_BUFFER_MASK = NUMBER_OF_READ_BUFFERS - 1;
+
+	private static final byte UNLINKED = 0;
+	private static final byte WINDOW = 1;
+	private static final byte PROBATION = 2;
+	private static final byte PROTECTED = 3;
+
+	private final ConcurrentHashMap<K, Node<K, V>> data;
+	private final ToIntBiFunction<? super K, ? super V> weigher;
+	private final BiConsumer<? super K, ? super V> evictionListener;
+	private final ReadBuffer<K, V>[] readBuffers;
+
+	private final long maximumWeight;
+	private final long windowMaximumWeight;
+	private final long protectedMaximumWeight;
+
+	// everything below is guarded by the eviction lock
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final FrequencySketch sketch;
+	private final AccessOrderDeque<K, V> window = new AccessOrderDeque<>();
+	private final AccessOrderDeque<K, V> probation = new AccessOrderDeque<>();
+	private final AccessOrderDeque<K, V> protectedSpace = new AccessOrderDeque<>();
+	private long windowWeight;
+	private long protectedWeight;
+	private long totalWeight;
+
+	/**
+	 * @param maximumWeight the maximum total weight of the cached entries
+	 * @param weigher the weight of an entry, at least 1; may be {@code null}
+	 * if every entry weighs 1
+	 * @param evictionListener notified of each entry evicted to respect the
+	 * maximum weight; may be {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public TinyLfuCache(
+			long maximumWeight,
+			ToIntBiFunction<? super K, ? super V> weigher,
+			BiConsumer<? super K, ? super V> evictionListener) {
+		if ( maximumWeight <= 0 ) {
+			throw new IllegalArgumentException( "Maximum weight must be positive: " + maximumWeight );
+		}
+		this.maximumWeight = maximumWeight;
+		this.windowMaximumWeight = Math.max( 1, maximumWeight / 100 );
+		this.protectedMaximumWeight = ( maximumWeight - windowMaximumWeight ) * 4 / 5;
+		this.weigher = weigher;
+		this.evictionListener = evictionListener;
+		this.data = new ConcurrentHashMap<>( (int) Math.min( maximumWeight, 1024 ) );
+		this.sketch = new FrequencySketch( maximumWeight );
+		this.readBuffers = new ReadBuffer[NUMBER_OF_READ_BUFFERS];
+		for ( int i = 0; i < NUMBER_OF_READ_BUFFERS; i++ ) {
+			readBuffers[i] = new ReadBuffer<>();
+		}
+	}
+
+	@Override
+	public V get(K key) {
+		final Node<K, V> node = data.get( key );
+		if ( node == null ) {
+			return null;
+		}
+		afterRead( node );
+		return node.value;
+	}
+
+	@Override
+	public void put(K key, V value) {
+		final Node<K, V> node = new Node<>( key, value, weigh( key, value ) );
+		final Node<K, V> prior = data.put( key, node );
+		afterWrite( node, prior );
+	}
+
+	@Override
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		final Node<K, V> existing = data.get( key );
+		if ( existing != null ) {
+			afterRead( existing );
+			return existing.value;
+		}
+
+		final V value = mappingFunction.apply( key );
+		if ( value == null ) {
+			return null;
+		}
+		final Node<K, V> node = new Node<>( key, value, weigh( key, value ) );
+		final Node<K, V> raced = data.putIfAbsent( key, node );
+		if ( raced != null ) {
+			afterRead( raced );
+			return raced.value;
+		}
+		afterWrite( node, null );
+		return value;
+	}
+
+	@Override
+	public int size() {
+		return data.size();
+	}
+
+	@Override
+	public void clear() {
+		evictionLock.lock();
+		try {
+			data.clear();
+			for ( ReadBuffer<K, V> buffer : readBuffers ) {
+				buffer.discard();
+			}
+			window.clear();
+			probation.clear();
+			protectedSpace.clear();
+			windowWeight = 0;
+			protectedWeight = 0;
+			totalWeight = 0;
+			sketch.clear();
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * The total weight of the cached entries.
+	 */
+	public long weightedSize() {
+		evictionLock.lock();
+		try {
+			return totalWeight;
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "TinyLfuCache(" + data.size() + ")";
+	}
+
+	private int weigh(K key, V value) {
+		return weigher == null ? 1 : Math.max( 1, weigher.applyAsInt( key, value ) );
+	}
+
+	private void afterRead(Node<K, V> node) {
+		final ReadBuffer<K, V> buffer = readBuffers[probe() & READ_BUFFER_MASK];
+		if ( !buffer.offer( node ) && evictionLock.tryLock() ) {
+			try {
+				drainReadBuffers();
+			}
+			finally {
+				evictionLock.unlock();
+			}
+		}
+	}
+
+	private void afterWrite(Node<K, V> node, Node<K, V> prior) {
+		evictionLock.lock();
+		try {
+			drainReadBuffers();
+			if ( prior != null ) {
+				unlink( prior );
+			}
+			// the node might already have been replaced by a concurrent put
+			if ( data.get( node.key ) == node ) {
+				sketch.increment( node.key );
+				node.queue = WINDOW;
+				window.addLast( node );
+				windowWeight += node.weight;
+				totalWeight += node.weight;
+				evict();
+			}
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private static int ceilingPowerOfTwo(int n) {
+		return n <= 1 ? 1 : Integer.highestOneBit( n - 1 ) << 1;
+	}
+
+	private static int probe() {
+		final int hash = System.identityHashCode( Thread.currentThread() );
+		return hash ^ ( hash >>> 16 );
+	}
+
+	private void drainReadBuffers() {
+		for ( ReadBuffer<K, V> buffer : readBuffers ) {
+			long read = buffer.readCounter;
+			final long written = buffer.writeCounter.get();
+			for ( ; read < written; read++ ) {
+				final int index = (int) ( read & ReadBuffer.MASK );
+				final Node<K, V> node = buffer.slots.get( index );
+				if ( node == null ) {
+					// the writer has claimed the slot but not yet published the node
+					break;
+				}
+				buffer.slots.lazySet( index, null );
+				onAccess( node );
+			}
+			buffer.readCounter = read;
+		}
+	}
+
+	private void onAccess(Node<K, V> node) {
+		switch ( node.queue ) {
+			case WINDOW:
+				sketch.increment( node.key );
+				window.moveToBack( node );
+				break;
+			case PROBATION:
+				sketch.increment( node.key );
+				probation.remove( node );
+				node.queue = PROTECTED;
+				protectedSpace.addLast( node );
+				protectedWeight += node.weight;
+				demoteFromProtected();
+				break;
+			case PROTECTED:
+				sketch.increment( node.key );
+				protectedSpace.moveToBack( node );
+				break;
+			default:
+				// already removed or evicted
+		}
+	}
+
+	private void demoteFromProtected() {
+		while ( protectedWeight > protectedMaximumWeight ) {
+			final Node<K, V> demoted = protectedSpace.peekFirst();
+			protectedSpace.remove( demoted );
+			protectedWeight -= demoted.weight;
+			demoted.queue = PROBATION;
+			probation.addLast( demoted );
+		}
+	}
+
+	private void evict() {
+		// entries overflowing the window become candidates for the main space,
+		// at the most-recently-used end of the probation queue
+		Node<K, V> firstCandidate = null;
+		while ( windowWeight > windowMaximumWeight ) {
+			final Node<K, V> candidate = window.peekFirst();
+			window.remove( candidate );
+			windowWeight -= candidate.weight;
+			candidate.queue = PROBATION;
+			probation.addLast( candidate );
+			if ( firstCandidate == null ) {
+				firstCandidate = candidate;
+			}
+		}
+
+		while ( totalWeight > maximumWeight ) {
+			final Node<K, V> victim = probation.peekFirst();
+			final Node<K, V> candidate = probation.peekLast();
+			if ( victim == null ) {
+				// nothing in probation, fall back to the protected space and then the window
+				final Node<K, V> lru = protectedSpace.isEmpty() ? window.peekFirst() : protectedSpace.peekFirst();
+				if ( lru == null ) {
+					break;
+				}
+				evictNode( lru );
+			}
+			else if ( victim == candidate || firstCandidate == null || victim == firstCandidate ) {
+				// no more candidates competing with the existing entries
+				evictNode( victim );
+				firstCandidate = null;
+			}
+			else if ( sketch.frequency( candidate.key ) > sketch.frequency( victim.key ) ) {
+				evictNode( victim );
+			}
+			else {
+				if ( candidate == firstCandidate ) {
+					firstCandidate = null;
+				}
+				evictNode( candidate );
+			}
+		}
+	}
+
+	private void evictNode(Node<K, V> node) {
+		unlink( node );
+		if ( data.remove( node.key, node ) && evictionListener != null ) {
+			evictionListener.accept( node.key, node.value );
+		}
+	}
+
+	private void unlink(Node<K, V> node) {
+		switch ( node.queue ) {
+			case WINDOW:
+				window.remove( node );
+				windowWeight -= node.weight;
+				break;
+			case PROBATION:
+				probation.remove( node );
+				break;
+			case PROTECTED:
+				protectedSpace.remove( node );
+				protectedWeight -= node.weight;
+				break;
+			default:
+				return;
+		}
+		totalWeight -= node.weight;
+		node.queue = UNLINKED;
+	}
+
+	private static final class Node<K, V> {
+		final K key;
+		final V value;
+		final int weight;
+
+		// guarded by the eviction lock
+		byte queue = UNLINKED;
+		Node<K, V> previous;
+		Node<K, V> next;
+
+		Node(K key, V value, int weight) {
+			this.key = key;
+			this.value = value;
+			this.weight = weight;
+		}
+	}
+
+	/**
+	 * An intrusive doubly-linked list of nodes, least-recently used first.
+	 */
+	private static final class AccessOrderDeque<K, V> {
+		private Node<K, V> first;
+		private Node<K, V> last;
+
+		boolean isEmpty() {
+			return first == null;
+		}
+
+		Node<K, V> peekFirst() {
+			return first;
+		}
+
+		Node<K, V> peekLast() {
+			return last;
+		}
+
+		void addLast(Node<K, V> node) {
+			node.previous = last;
+			node.next = null;
+			if ( last == null ) {
+				first = node;
+			}
+			else {
+				last.next = node;
+			}
+			last = node;
+		}
+
+		void remove(Node<K, V> node) {
+			final Node<K, V> previous = node.previous;
+			final Node<K, V> next = node.next;
+			if ( previous == null ) {
+				first = next;
+			}
+			else {
+				previous.next = next;
+			}
+			if ( next == null ) {
+				last = previous;
+			}
+			else {
+				next.previous = previous;
+			}
+			node.previous = null;
+			node.next = null;
+		}
+
+		void moveToBack(Node<K, V> node) {
+			if ( node != last ) {
+				remove( node );
+				addLast( node );
+			}
+		}
+
+		void clear() {
+			Node<K, V> node = first;
+			while ( node != null ) {
+				final Node<K, V> next = node.next;
+				node.previous = null;
+				node.next = null;
+				node.queue = UNLINKED;
+				node = next;
+			}
+			first = null;
+			last = null;
+		}
+	}
+
+	/**
+	 * A lossy ring buffer of recently read nodes. Readers claim a slot
+	 * with a CAS and give up if the buffer is full or the CAS fails;
+	 * the buffer is only drained while holding the eviction lock.
+	 */
+	private static final class ReadBuffer<K, V> {
+		static final int SIZE = 16;
+		static final int MASK = SIZE - 1;
+
+		final AtomicReferenceArray<Node<K, V>> slots = new AtomicReferenceArray<>( SIZE );
+		final AtomicLong writeCounter = new AtomicLong();
+		// only written while holding the eviction lock
+		volatile long readCounter;
+
+		/**
+		 * @return {@code false} if the buffer is full and should be drained
+		 */
+		boolean offer(Node<K, V> node) {
+			final long write = writeCounter.get();
+			if ( write - readCounter >= SIZE ) {
+				return false;
+			}
+			if ( writeCounter.compareAndSet( write, write + 1 ) ) {
+				slots.lazySet( (int) ( write & MASK ), node );
+			}
+			return true;
+		}
+
+		void discard() {
+			for ( int i = 0; i < SIZE; i++ ) {
+				slots.lazySet( i, null );
+			}
+			readCounter = writeCounter.get();
+		}
+	}
+}
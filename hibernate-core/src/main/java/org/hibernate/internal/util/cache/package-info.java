@@ -0,0 +1,10 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+
+/**
+ * Bounded, concurrent caches used internally, for example by the
+ * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query plan cache}.
+ */
+package org.hibernate.internal.util.cache;
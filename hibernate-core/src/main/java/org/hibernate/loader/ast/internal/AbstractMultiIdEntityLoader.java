@@ -9,6 +9,7 @@
 import org.hibernate.LockOptions;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.LoadEvent;
@@ -125,11 +126,18 @@ private List<T> orderedMultiLoad(
 		final List<Object> idsInBatch = new ArrayList<>();
 		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
 
+		final EntityKey[] entityKeys = new EntityKey[ids.length];
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id = idCoercionEnabled ? idType.coerce( ids[i], session ) : ids[i];
-			final EntityKey entityKey = new EntityKey( id, getLoadable().getEntityPersister() );
+			entityKeys[i] = new EntityKey( id, getLoadable().getEntityPersister() );
+		}
+		final Object[] cachedEntities = loadFromSecondLevelCache( entityKeys, loadOptions, lockOptions, session );
+
+		for ( int i = 0; i < ids.length; i++ ) {
+			final EntityKey entityKey = entityKeys[i];
+			final Object id = entityKey.getIdentifier();
 
-			if ( !loadFromEnabledCaches( loadOptions, session, id, lockOptions, entityKey, result, i ) ) {
+			if ( !loadFromEnabledCaches( loadOptions, session, id, lockOptions, entityKey, cachedEntities[i], result, i ) ) {
 				// if we did not hit any of the continues above,
 				// then we need to batch load the entity state.
 				idsInBatch.add( id );
@@ -185,10 +193,11 @@ protected boolean loadFromEnabledCaches(
 			Object id,
 			LockOptions lockOptions,
 			EntityKey entityKey,
+			Object cachedEntity,
 			List<Object> result,
 			int i) {
 		if ( loadOptions.isSessionCheckingEnabled() || loadOptions.isSecondLevelCacheCheckingEnabled() ) {
-			return loadFromCaches( loadOptions, entityKey, result, i,
+			return loadFromCaches( loadOptions, entityKey, cachedEntity, result, i,
 					new LoadEvent(
 							id,
 							getLoadable().getJavaType().getJavaTypeClass().getName(),
@@ -206,6 +215,7 @@ protected boolean loadFromEnabledCaches(
 	private boolean loadFromCaches(
 			MultiIdLoadOptions loadOptions,
 			EntityKey entityKey,
+			Object cachedEntity,
 			List<Object> result,
 			int i,
 			LoadEvent loadEvent) {
@@ -226,14 +236,9 @@ private boolean loadFromCaches(
 			}
 		}
 
-		if ( managedEntity == null
-				&& loadOptions.isSecondLevelCacheCheckingEnabled() ) {
-			// look for it in the SessionFactory
-			managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
-					loadEvent,
-					getLoadable().getEntityPersister(),
-					entityKey
-			);
+		if ( managedEntity == null ) {
+			// the entity loaded from the SessionFactory, if any
+			managedEntity = cachedEntity;
 		}
 
 		if ( managedEntity != null ) {
@@ -294,11 +299,18 @@ protected final <R> Object[] resolveInCaches(
 		final boolean idCoercionEnabled = isIdCoercionEnabled();
 		final JavaType<?> idType = getLoadable().getIdentifierMapping().getJavaType();
 
-		List<Object> unresolvedIds = null;
+		final EntityKey[] entityKeys = new EntityKey[ids.length];
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id = idCoercionEnabled ? idType.coerce( ids[i], session ) : ids[i];
-			final EntityKey entityKey = new EntityKey( id, getLoadable().getEntityPersister() );
-			unresolvedIds = loadFromCaches( id, entityKey, i, unresolvedIds, loadOptions, resolutionConsumer,
+			entityKeys[i] = new EntityKey( id, getLoadable().getEntityPersister() );
+		}
+		final Object[] cachedEntities = loadFromSecondLevelCache( entityKeys, loadOptions, lockOptions, session );
+
+		List<Object> unresolvedIds = null;
+		for ( int i = 0; i < ids.length; i++ ) {
+			final EntityKey entityKey = entityKeys[i];
+			final Object id = entityKey.getIdentifier();
+			unresolvedIds = loadFromCaches( id, entityKey, cachedEntities[i], i, unresolvedIds, loadOptions, resolutionConsumer,
 					new LoadEvent(
 							id,
 							getLoadable().getJavaType().getJavaTypeClass().getName(),
@@ -323,6 +335,45 @@ else if ( unresolvedIds.size() == ids.length ) {
 		}
 	}
 
+	/**
+	 * Load the entities with the given keys which are not yet associated with
+	 * the session from the second-level cache, if it is to be checked, reading
+	 * all their cache entries in a single operation.
+	 *
+	 * @return an array holding the entity loaded from the second-level cache
+	 *         for the key at the same index of the given array, or null
+	 */
+	private Object[] loadFromSecondLevelCache(
+			EntityKey[] entityKeys,
+			MultiIdLoadOptions loadOptions,
+			LockOptions lockOptions,
+			EventSource session) {
+		final Object[] cachedEntities = new Object[entityKeys.length];
+		if ( loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final List<EntityKey> keysToLoad = new ArrayList<>( entityKeys.length );
+			final List<Integer> positions = new ArrayList<>( entityKeys.length );
+			for ( int i = 0; i < entityKeys.length; i++ ) {
+				if ( persistenceContext.getEntity( entityKeys[i] ) == null ) {
+					keysToLoad.add( entityKeys[i] );
+					positions.add( i );
+				}
+			}
+			if ( !keysToLoad.isEmpty() ) {
+				final Object[] entities = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
+						session,
+						lockOptions.getLockMode(),
+						getLoadable().getEntityPersister(),
+						keysToLoad.toArray( new EntityKey[0] )
+				);
+				for ( int i = 0; i < entities.length; i++ ) {
+					cachedEntities[positions.get( i )] = entities[i];
+				}
+			}
+		}
+		return cachedEntities;
+	}
+
 	private boolean isIdCoercionEnabled() {
 		return !getSessionFactory().getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
 	}
@@ -331,7 +382,7 @@ private boolean isIdCoercionEnabled() {
 		void consume(int position, EntityKey entityKey, T resolvedRef);
 	}
 	private <R, K> List<K> loadFromCaches(
-			K id, EntityKey entityKey, int i,
+			K id, EntityKey entityKey, Object secondLevelCachedEntity, int i,
 			List<K> unresolvedIds,
 			MultiIdLoadOptions loadOptions,
 			ResolutionConsumer<R> resolutionConsumer,
@@ -352,12 +403,8 @@ private <R, K> List<K> loadFromCaches(
 			}
 		}
 
-		if ( cachedEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled() ) {
-			cachedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
-					loadEvent,
-					getLoadable().getEntityPersister(),
-					entityKey
-			);
+		if ( cachedEntity == null ) {
+			cachedEntity = secondLevelCachedEntity;
 		}
 
 		if ( cachedEntity != null ) {
@@ -243,6 +243,96 @@ public Object loadFromSecondLevelCache(
 	}
 
 
+	/**
+	 * Attempts to load the entities with the given keys from the second-level
+	 * cache, reading all their cache entries in a single operation.
+	 *
+	 * @param source The source
+	 * @param lockMode The lock mode
+	 * @param persister The persister for the entities being requested for load
+	 * @param entityKeys The entity keys
+	 *
+	 * @return An array holding the entity from the second-level cache for the
+	 *         entity key at the same index of the given array, or null.
+	 */
+	public Object[] loadFromSecondLevelCache(
+			final EventSource source,
+			final LockMode lockMode,
+			final EntityPersister persister,
+			final EntityKey[] entityKeys) {
+		final Object[] entities = new Object[entityKeys.length];
+		final boolean useCache =
+				persister.canReadFromCache()
+						&& source.getCacheMode().isGetEnabled()
+						&& lockMode.lessThan( LockMode.READ );
+		if ( useCache && entityKeys.length > 0 ) {
+			final Object[] entries = getFromSharedCache( entityKeys, persister, source );
+			final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
+			for ( int i = 0; i < entityKeys.length; i++ ) {
+				final EntityKey entityKey = entityKeys[i];
+				if ( entries[i] != null ) {
+					// the same key might occur more than once
+					final Object managed = persistenceContext.getEntity( entityKey );
+					if ( managed != null ) {
+						entities[i] = managed;
+					}
+					else {
+						final Object entity = processCachedEntry( null, persister, entries[i], source, entityKey );
+						if ( entity != null ) {
+							//PostLoad is needed for EJB3
+							final PostLoadEvent postLoadEvent =
+									new PostLoadEvent( source )
+											.setEntity( entity )
+											.setId( entityKey.getIdentifier() )
+											.setPersister( persister );
+							source.getFactory()
+									.getFastSessionServices()
+									.firePostLoadEvent( postLoadEvent );
+						}
+						entities[i] = entity;
+					}
+				}
+			}
+		}
+		return entities;
+	}
+
+	private Object[] getFromSharedCache(
+			final EntityKey[] entityKeys,
+			final EntityPersister persister,
+			SessionImplementor source) {
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final SessionFactoryImplementor factory = source.getFactory();
+		final Object[] cacheKeys = new Object[entityKeys.length];
+		for ( int i = 0; i < entityKeys.length; i++ ) {
+			cacheKeys[i] = cache.generateCacheKey(
+					entityKeys[i].getIdentifier(),
+					persister,
+					factory,
+					source.getTenantIdentifier()
+			);
+		}
+		final Object[] entries = fromSharedCache( source, cacheKeys, persister, cache );
+		final StatisticsImplementor statistics = factory.getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			for ( Object ce : entries ) {
+				if ( ce == null ) {
+					statistics.entityCacheMiss(
+							StatsHelper.getRootEntityRole( persister ),
+							cache.getRegion().getName()
+					);
+				}
+				else {
+					statistics.entityCacheHit(
+							StatsHelper.getRootEntityRole( persister ),
+							cache.getRegion().getName()
+					);
+				}
+			}
+		}
+		return entries;
+	}
+
 	private Object getFromSharedCache(
 			final Object entityId,
 			final EntityPersister persister,
@@ -7,12 +7,16 @@
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -27,6 +31,7 @@
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cfg.PersistenceSettings;
 import org.hibernate.graph.RootGraph;
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.internal.CoreLogging;
@@ -82,6 +87,7 @@
 import jakarta.persistence.metamodel.Metamodel;
 
 import static org.hibernate.internal.util.collections.ArrayHelper.EMPTY_STRING_ARRAY;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 import static org.hibernate.metamodel.internal.JpaMetamodelPopulationSetting.determineJpaMetaModelPopulationSetting;
 import static org.hibernate.metamodel.internal.JpaStaticMetamodelPopulationSetting.determineJpaStaticMetaModelPopulationSetting;
 
@@ -181,20 +187,29 @@ public void finishInitialization(RuntimeModelCreationContext context) {
 
 		MappingModelCreationProcess.process( entityPersisterMap, collectionPersisterMap, context );
 
-		for ( EntityPersister persister : entityPersisterMap.values() ) {
-			persister.postInstantiate();
-			registerEntityNameResolvers( persister, entityNameResolvers );
+		final Map<String, Object> settings = context.getSettings();
+		final int parallelism = getInt( PersistenceSettings.BOOT_PARALLELISM, settings, 1 );
+		if ( parallelism > 1 ) {
+			for ( EntityPersister persister : entityPersisterMap.values() ) {
+				registerEntityNameResolvers( persister, entityNameResolvers );
+			}
+			initializePersistersInParallel( parallelism );
 		}
+		else {
+			for ( EntityPersister persister : entityPersisterMap.values() ) {
+				persister.postInstantiate();
+				registerEntityNameResolvers( persister, entityNameResolvers );
+			}
 
-		for ( EntityPersister persister : entityPersisterMap.values() ) {
-			persister.prepareLoaders();
-		}
+			for ( EntityPersister persister : entityPersisterMap.values() ) {
+				persister.prepareLoaders();
+			}
 
-		collectionPersisterMap.values().forEach( CollectionPersister::postInstantiate );
+			collectionPersisterMap.values().forEach( CollectionPersister::postInstantiate );
+		}
 
 		registerEmbeddableMappingType( bootModel );
 
-		final Map<String, Object> settings = context.getSettings();
 		( (JpaMetamodelImpl) jpaMetamodel ).processJpa(
 				bootModel,
 				this,
@@ -206,6 +221,44 @@ public void finishInitialization(RuntimeModelCreationContext context) {
 		);
 	}
 
+	/**
+	 * Complete the initialization of the entity persisters, then create their loaders,
+	 * and then those of the collection persisters, using a pool of the given number of
+	 * threads. Each persister builds its own table mappings, mutation coordinators, and
+	 * loaders from the already-complete mapping model, which is also what happens when
+	 * they are built on first use with {@value PersistenceSettings#LAZY_PERSISTER_INITIALIZATION},
+	 * so the persisters are independent of each other, but each phase is joined before
+	 * the next begins.
+	 */
+	private void initializePersistersInParallel(int parallelism) {
+		final ForkJoinPool pool = new ForkJoinPool( parallelism );
+		try {
+			// an entity persister may be registered under both
+			// its entity name and its class name
+			final Set<EntityPersister> entityPersisters =
+					Collections.newSetFromMap( new IdentityHashMap<>() );
+			entityPersisters.addAll( entityPersisterMap.values() );
+			joinAll( pool, entityPersisters, EntityPersister::postInstantiate );
+			joinAll( pool, entityPersisters, EntityPersister::prepareLoaders );
+			joinAll( pool, collectionPersisterMap.values(), CollectionPersister::postInstantiate );
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	private static <T> void joinAll(ForkJoinPool pool, java.util.Collection<T> items, Consumer<T> action) {
+		final List<ForkJoinTask<?>> tasks = new ArrayList<>( items.size() );
+		for ( T item : items ) {
+			tasks.add( pool.submit( () -> action.accept( item ) ) );
+		}
+		// join in submission order, so that the failure
+		// reported does not depend on the scheduling
+		for ( ForkJoinTask<?> task : tasks ) {
+			task.join();
+		}
+	}
+
 	private void registerEmbeddableMappingType(MetadataImplementor bootModel) {
 		bootModel.visitRegisteredComponents(
 				composite -> {
@@ -23,6 +23,7 @@
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.bytecode.enhance.internal.tracker.OrdinalFieldTracker;
 import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.bytecode.enhance.spi.interceptor.BytecodeLazyAttributeInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
@@ -288,6 +289,7 @@
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
+import static org.hibernate.cfg.PersistenceSettings.LAZY_PERSISTER_INITIALIZATION;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.processIfManagedEntity;
@@ -296,6 +298,7 @@
 import static org.hibernate.generator.EventType.INSERT;
 import static org.hibernate.generator.EventType.UPDATE;
 import static org.hibernate.internal.util.ReflectHelper.isAbstractClass;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.internal.util.StringHelper.isEmpty;
 import static org.hibernate.internal.util.StringHelper.qualifyConditionally;
 import static org.hibernate.internal.util.collections.ArrayHelper.contains;
@@ -339,8 +342,10 @@
 	private final String sqlAliasStem;
 	private final String jpaEntityName;
 
-	private SingleIdEntityLoader<?> singleIdLoader;
-	private MultiIdEntityLoader<?> multiIdLoader;
+	// when lazyInitialization is enabled, these are built on first use
+	private final boolean lazyInitialization;
+	private volatile SingleIdEntityLoader<?> singleIdLoader;
+	private volatile MultiIdEntityLoader<?> multiIdLoader;
 	private NaturalIdLoader<?> naturalIdLoader;
 	private MultiNaturalIdLoader<?> multiNaturalIdLoader;
 
@@ -386,15 +391,15 @@
 	private final String[][] subclassPropertyColumnReaderTemplateClosure;
 	private final FetchMode[] subclassPropertyFetchModeClosure;
 
-	private Map<String, SingleIdArrayLoadPlan> lazyLoadPlanByFetchGroup;
+	private volatile Map<String, SingleIdArrayLoadPlan> lazyLoadPlanByFetchGroup;
 	private final LockModeEnumMap<LockingStrategy> lockers = new LockModeEnumMap<>();
 	private String sqlVersionSelectString;
 
 	private EntityTableMapping[] tableMappings;
-	private InsertCoordinator insertCoordinator;
-	private UpdateCoordinator updateCoordinator;
-	private DeleteCoordinator deleteCoordinator;
-	private UpdateCoordinator mergeCoordinator;
+	private volatile InsertCoordinator insertCoordinator;
+	private volatile UpdateCoordinator updateCoordinator;
+	private volatile DeleteCoordinator deleteCoordinator;
+	private volatile UpdateCoordinator mergeCoordinator;
 
 	private SqmMultiTableMutationStrategy sqmMultiTableMutationStrategy;
 	private SqmMultiTableInsertStrategy sqmMultiTableInsertStrategy;
@@ -424,6 +429,8 @@
 	private String identitySelectString;
 
 	private final JavaType<?> javaType;
+	// the state array position of each attribute tracked by ordinal by an enhanced entity
+	private final int @Nullable [] trackedAttributePositions;
 	private final EntityRepresentationStrategy representationStrategy;
 
 	private EntityMappingType superMappingType;
@@ -485,6 +492,8 @@ public AbstractEntityPersister(
 
 		final SessionFactoryOptions sessionFactoryOptions = creationContext.getSessionFactoryOptions();
 
+		lazyInitialization = getBoolean( LAZY_PERSISTER_INITIALIZATION, creationContext.getSettings() );
+
 		if ( sessionFactoryOptions.isSecondLevelCacheEnabled() ) {
 			this.cacheAccessStrategy = cacheAccessStrategy;
 			this.naturalIdRegionAccessStrategy = naturalIdRegionAccessStrategy;
@@ -522,6 +531,7 @@ public AbstractEntityPersister(
 				.resolveStrategy( persistentClass, this, creationContext );
 
 		javaType = representationStrategy.getLoadJavaType();
+		trackedAttributePositions = resolveTrackedAttributePositions( javaType.getJavaTypeClass() );
 		assert javaType != null;
 		this.implementsLifecycle = Lifecycle.class.isAssignableFrom( javaType.getJavaTypeClass() );
 
@@ -1008,26 +1018,66 @@ public String[] getRootTableKeyColumnNames() {
 	}
 
 	SingleIdArrayLoadPlan getSQLLazySelectLoadPlan(String fetchGroup) {
-		return lazyLoadPlanByFetchGroup.get( fetchGroup );
+		final Map<String, SingleIdArrayLoadPlan> loadPlans = lazyLoadPlanByFetchGroup;
+		return ( loadPlans == null ? initLazyLoadPlanByFetchGroup() : loadPlans ).get( fetchGroup );
+	}
+
+	private synchronized Map<String, SingleIdArrayLoadPlan> initLazyLoadPlanByFetchGroup() {
+		if ( lazyLoadPlanByFetchGroup == null ) {
+			lazyLoadPlanByFetchGroup = getLazyLoadPlanByFetchGroup();
+		}
+		return lazyLoadPlanByFetchGroup;
 	}
 
 	@Override
 	public InsertCoordinator getInsertCoordinator() {
+		final InsertCoordinator coordinator = insertCoordinator;
+		return coordinator == null ? initInsertCoordinator() : coordinator;
+	}
+
+	private synchronized InsertCoordinator initInsertCoordinator() {
+		if ( insertCoordinator == null ) {
+			insertCoordinator = buildInsertCoordinator();
+		}
 		return insertCoordinator;
 	}
 
 	@Override
 	public UpdateCoordinator getUpdateCoordinator() {
+		final UpdateCoordinator coordinator = updateCoordinator;
+		return coordinator == null ? initUpdateCoordinator() : coordinator;
+	}
+
+	private synchronized UpdateCoordinator initUpdateCoordinator() {
+		if ( updateCoordinator == null ) {
+			updateCoordinator = buildUpdateCoordinator();
+		}
 		return updateCoordinator;
 	}
 
 	@Override
 	public DeleteCoordinator getDeleteCoordinator() {
+		final DeleteCoordinator coordinator = deleteCoordinator;
+		return coordinator == null ? initDeleteCoordinator() : coordinator;
+	}
+
+	private synchronized DeleteCoordinator initDeleteCoordinator() {
+		if ( deleteCoordinator == null ) {
+			deleteCoordinator = buildDeleteCoordinator();
+		}
 		return deleteCoordinator;
 	}
 
 	@Override
 	public UpdateCoordinator getMergeCoordinator() {
+		final UpdateCoordinator coordinator = mergeCoordinator;
+		return coordinator == null ? initMergeCoordinator() : coordinator;
+	}
+
+	private synchronized UpdateCoordinator initMergeCoordinator() {
+		if ( mergeCoordinator == null ) {
+			mergeCoordinator = buildMergeCoordinator();
+		}
 		return mergeCoordinator;
 	}
 
@@ -2017,7 +2067,7 @@ public String getDiscriminatorAlias(String suffix) {
 
 	@Override
 	public Object[] getDatabaseSnapshot(Object id, SharedSessionContractImplementor session) throws HibernateException {
-		return singleIdLoader.loadDatabaseSnapshot( id, session );
+		return getSingleIdLoader().loadDatabaseSnapshot( id, session );
 	}
 
 	@Override
@@ -2061,7 +2111,7 @@ protected GeneratedValuesProcessor createGeneratedValuesProcessor(
 	public Object forceVersionIncrement(Object id, Object currentVersion, SharedSessionContractImplementor session) {
 		assert getMappedTableDetails().getTableName().equals( getVersionedTableName() );
 		final Object nextVersion = calculateNextVersion( id, currentVersion, session );
-		updateCoordinator.forceVersionIncrement( id, currentVersion, nextVersion, session );
+		getUpdateCoordinator().forceVersionIncrement( id, currentVersion, nextVersion, session );
 		return nextVersion;
 	}
 
@@ -2073,7 +2123,7 @@ public Object forceVersionIncrement(
 			SharedSessionContractImplementor session) throws HibernateException {
 		assert getMappedTableDetails().getTableName().equals( getVersionedTableName() );
 		final Object nextVersion = calculateNextVersion( id, currentVersion, session );
-		updateCoordinator.forceVersionIncrement( id, currentVersion, nextVersion, batching, session );
+		getUpdateCoordinator().forceVersionIncrement( id, currentVersion, nextVersion, batching, session );
 		return nextVersion;
 	}
 
@@ -2420,84 +2470,133 @@ public int[] resolveDirtyAttributeIndexes(
 			final String[] attributeNames,
 			final SessionImplementor session) {
 		final BitSet mutablePropertiesIndexes = entityMetamodel.getMutablePropertiesIndexes();
-		final int estimatedSize = attributeNames == null ? 0 : attributeNames.length + mutablePropertiesIndexes.cardinality();
-		final List<Integer> fields = new ArrayList<>( estimatedSize );
-		if ( estimatedSize == 0 ) {
+		if ( attributeNames == null || ( attributeNames.length == 0 && mutablePropertiesIndexes.isEmpty() ) ) {
 			return ArrayHelper.EMPTY_INT_ARRAY;
 		}
+		// the dirty attributes, indexed by state array position,
+		// so that the result needs no sorting or de-duplication
+		final boolean[] dirty = new boolean[entityMetamodel.getPropertySpan()];
+		int count = findDirtyMutableProperties( currentState, previousState, dirty, session );
+		final boolean[] propertyUpdateability = entityMetamodel.getPropertyUpdateability();
+		for ( String attributeName : attributeNames ) {
+			final int index = resolveDirtyAttributeIndex( attributeName );
+			if ( index >= 0 && propertyUpdateability[index] && !dirty[index] ) {
+				dirty[index] = true;
+				count++;
+			}
+		}
+		return toIndexes( dirty, count );
+	}
+
+	@Override
+	public int @Nullable [] resolveDirtyAttributeIndexes(
+			final Object[] currentState,
+			final Object[] previousState,
+			final long[] attributeOrdinals,
+			final SessionImplementor session) {
+		if ( trackedAttributePositions == null ) {
+			return null;
+		}
+		final boolean[] dirty = new boolean[entityMetamodel.getPropertySpan()];
+		int count = findDirtyMutableProperties( currentState, previousState, dirty, session );
+		final boolean[] propertyUpdateability = entityMetamodel.getPropertyUpdateability();
+		final int trackedAttributes = Math.min( attributeOrdinals.length * Long.SIZE, trackedAttributePositions.length );
+		for ( int i = 0; i < attributeOrdinals.length; i++ ) {
+			for ( long word = attributeOrdinals[i]; word != 0L; word &= word - 1 ) {
+				final int ordinal = i * Long.SIZE + Long.numberOfTrailingZeros( word );
+				if ( ordinal < trackedAttributes ) {
+					final int index = trackedAttributePositions[ordinal];
+					if ( index >= 0 && propertyUpdateability[index] && !dirty[index] ) {
+						dirty[index] = true;
+						count++;
+					}
+				}
+			}
+		}
+		return toIndexes( dirty, count );
+	}
+
+	/**
+	 * Mark the {@linkplain EntityMetamodel#getMutablePropertiesIndexes() mutable properties}
+	 * whose state changed as dirty, since dirty tracking is not aware of mutable types.
+	 *
+	 * @return the number of properties marked dirty
+	 */
+	private int findDirtyMutableProperties(
+			Object[] currentState,
+			Object[] previousState,
+			boolean[] dirty,
+			SessionImplementor session) {
+		final BitSet mutablePropertiesIndexes = entityMetamodel.getMutablePropertiesIndexes();
+		int count = 0;
 		if ( !mutablePropertiesIndexes.isEmpty() ) {
-			// We have to check the state for "mutable" properties as dirty tracking isn't aware of mutable types
 			final Type[] propertyTypes = entityMetamodel.getPropertyTypes();
 			final boolean[] propertyCheckability = entityMetamodel.getPropertyCheckability();
 			for ( int i = mutablePropertiesIndexes.nextSetBit(0); i >= 0;
 					i = mutablePropertiesIndexes.nextSetBit(i + 1) ) {
 				// This is kindly borrowed from org.hibernate.type.TypeHelper.findDirty
 				if ( isDirty( currentState, previousState, propertyTypes, propertyCheckability, i, session ) ) {
-					fields.add( i );
+					dirty[i] = true;
+					count++;
 				}
 			}
 		}
+		return count;
+	}
 
-		if ( attributeNames.length != 0 ) {
-			final boolean[] propertyUpdateability = entityMetamodel.getPropertyUpdateability();
-			if ( superMappingType == null ) {
-				/*
-						Sort attribute names so that we can traverse mappings efficiently
-						we cannot do this when there is a supertype because given:
-
-						class SuperEntity {
-							private String bSuper;
-							private String aSuper;
-						}
-
-						class ChildEntity extends SuperEntity {
-							private String aChild;
-							private String bChild;
-						}
+	private static int[] toIndexes(boolean[] dirty, int count) {
+		final int[] indexes = new int[count];
+		for ( int i = 0, j = 0; j < count; i++ ) {
+			if ( dirty[i] ) {
+				indexes[j++] = i;
+			}
+		}
+		return indexes;
+	}
 
-						`attributeMappings` contains { aSuper, bSuper, aChild, bChild	}
-						while the sorted `attributeNames` { aChild, aSuper, bChild, bSuper }
-				 */
+	/**
+	 * The state array positions of the attributes tracked by ordinal by the enhanced
+	 * entity class, indexed by ordinal, or {@code null} if the class does not track
+	 * its attributes by ordinal. A tracked field which is not a property, such as the
+	 * identifier, has no position.
+	 */
+	private int @Nullable [] resolveTrackedAttributePositions(Class<?> mappedClass) {
+		if ( mappedClass == null || !SelfDirtinessTracker.class.isAssignableFrom( mappedClass ) ) {
+			return null;
+		}
+		final String[] trackedAttributeNames = OrdinalFieldTracker.getTrackedAttributeNames( mappedClass );
+		if ( trackedAttributeNames.length == 0 ) {
+			return null;
+		}
+		final int[] positions = new int[trackedAttributeNames.length];
+		for ( int i = 0; i < trackedAttributeNames.length; i++ ) {
+			final Integer index = entityMetamodel.getPropertyIndexOrNull( trackedAttributeNames[i] );
+			positions[i] = index == null ? -1 : index;
+		}
+		return positions;
+	}
 
-				Arrays.sort( attributeNames );
-				int index = 0;
-				for ( int i = 0; i < attributeMappings.size(); i++ ) {
-					final AttributeMapping attributeMapping = attributeMappings.get( i );
-					final String attributeName = attributeMapping.getAttributeName();
-					if ( isPrefix( attributeMapping, attributeNames[index] ) ) {
-						final int position = attributeMapping.getStateArrayPosition();
-						if ( propertyUpdateability[position] && !fields.contains( position ) ) {
-							fields.add( position );
-						}
-						index++;
-						if ( index < attributeNames.length ) {
-							// Skip duplicates
-							do {
-								if ( attributeNames[index].equals( attributeName ) ) {
-									index++;
-								}
-								else {
-									break;
-								}
-							} while ( index < attributeNames.length );
-						}
-						else {
-							break;
-						}
-					}
-				}
+	/**
+	 * The state array position of the attribute with the given name, as
+	 * reported by the dirty tracker of an enhanced entity, or -1 if the
+	 * name does not belong to a persistent attribute.
+	 */
+	private int resolveDirtyAttributeIndex(String attributeName) {
+		final Integer index = entityMetamodel.getPropertyIndexOrNull( attributeName );
+		if ( index != null ) {
+			return index;
+		}
+		else {
+			// a path into a nested embeddable, for example "address.zip.code"
+			final int dot = attributeName.indexOf( '.' );
+			if ( dot > 0 ) {
+				final Integer ownerIndex = entityMetamodel.getPropertyIndexOrNull( attributeName.substring( 0, dot ) );
+				return ownerIndex == null ? -1 : ownerIndex;
 			}
 			else {
-				for ( String attributeName : attributeNames ) {
-					final Integer index = entityMetamodel.getPropertyIndexOrNull( attributeName );
-					if ( index != null && propertyUpdateability[index] && !fields.contains( index ) ) {
-						fields.add( index );
-					}
-				}
+				return -1;
 			}
 		}
-
-		return toIntArray( fields );
 	}
 
 	private boolean isDirty(
@@ -2736,7 +2835,7 @@ public ModelPart getIdentifierDescriptor() {
 	protected void logStaticSQL() {
 		if ( LOG.isDebugEnabled() ) {
 			LOG.debugf( "Static SQL for entity: %s", getEntityName() );
-			for ( Map.Entry<String, SingleIdArrayLoadPlan> entry : lazyLoadPlanByFetchGroup.entrySet() ) {
+			for ( Map.Entry<String, SingleIdArrayLoadPlan> entry : initLazyLoadPlanByFetchGroup().entrySet() ) {
 				LOG.debugf( " Lazy select (%s) : %s", entry.getKey(), entry.getValue().getJdbcSelect().getSqlString() );
 			}
 			if ( sqlVersionSelectString != null ) {
@@ -2744,7 +2843,7 @@ protected void logStaticSQL() {
 			}
 
 			{
-				final MutationOperationGroup staticInsertGroup = insertCoordinator.getStaticMutationOperationGroup();
+				final MutationOperationGroup staticInsertGroup = getInsertCoordinator().getStaticMutationOperationGroup();
 				if ( staticInsertGroup != null ) {
 					for ( int i = 0; i < staticInsertGroup.getNumberOfOperations(); i++ ) {
 						final MutationOperation mutation = staticInsertGroup.getOperation( i );
@@ -2756,7 +2855,7 @@ protected void logStaticSQL() {
 			}
 
 			{
-				final MutationOperationGroup staticUpdateGroup = updateCoordinator.getStaticMutationOperationGroup();
+				final MutationOperationGroup staticUpdateGroup = getUpdateCoordinator().getStaticMutationOperationGroup();
 				if ( staticUpdateGroup != null ) {
 					for ( int i = 0; i < staticUpdateGroup.getNumberOfOperations(); i++ ) {
 						final MutationOperation mutation = staticUpdateGroup.getOperation( i );
@@ -2768,7 +2867,7 @@ protected void logStaticSQL() {
 			}
 
 			{
-				final MutationOperationGroup staticDeleteGroup = deleteCoordinator.getStaticMutationOperationGroup();
+				final MutationOperationGroup staticDeleteGroup = getDeleteCoordinator().getStaticMutationOperationGroup();
 				if ( staticDeleteGroup != null ) {
 					for ( int i = 0; i < staticDeleteGroup.getNumberOfOperations(); i++ ) {
 						final MutationOperation mutation = staticDeleteGroup.getOperation( i );
@@ -3179,13 +3278,15 @@ protected void postConstruct(Metadata mapping) throws MappingException {
 
 	@Override
 	public void prepareLoaders() {
-		// Hibernate Reactive needs to override the loaders
-		singleIdLoader = buildSingleIdEntityLoader();
-		multiIdLoader = buildMultiIdLoader();
+		if ( !lazyInitialization ) {
+			// Hibernate Reactive needs to override the loaders
+			singleIdLoader = buildSingleIdEntityLoader();
+			multiIdLoader = buildMultiIdLoader();
 
-		lazyLoadPlanByFetchGroup = getLazyLoadPlanByFetchGroup();
+			lazyLoadPlanByFetchGroup = getLazyLoadPlanByFetchGroup();
 
-		logStaticSQL();
+			logStaticSQL();
+		}
 	}
 
 	private void doLateInit() {
@@ -3215,10 +3316,12 @@ private void doLateInit() {
 			updateGeneratedValuesProcessor = createGeneratedValuesProcessor( UPDATE, updateGeneratedAttributes );
 		}
 
-		insertCoordinator = buildInsertCoordinator();
-		updateCoordinator = buildUpdateCoordinator();
-		deleteCoordinator = buildDeleteCoordinator();
-		mergeCoordinator = buildMergeCoordinator();
+		if ( !lazyInitialization ) {
+			insertCoordinator = buildInsertCoordinator();
+			updateCoordinator = buildUpdateCoordinator();
+			deleteCoordinator = buildDeleteCoordinator();
+			mergeCoordinator = buildMergeCoordinator();
+		}
 
 		//select SQL
 		sqlVersionSelectString = generateSelectVersionString();
@@ -3550,9 +3653,29 @@ private boolean hasNamedQueryLoader() {
 	}
 
 	public SingleIdEntityLoader<?> getSingleIdLoader() {
+		final SingleIdEntityLoader<?> loader = singleIdLoader;
+		return loader == null ? initSingleIdLoader() : loader;
+	}
+
+	private synchronized SingleIdEntityLoader<?> initSingleIdLoader() {
+		if ( singleIdLoader == null ) {
+			singleIdLoader = buildSingleIdEntityLoader();
+		}
 		return singleIdLoader;
 	}
 
+	private MultiIdEntityLoader<?> getMultiIdLoader() {
+		final MultiIdEntityLoader<?> loader = multiIdLoader;
+		return loader == null ? initMultiIdLoader() : loader;
+	}
+
+	private synchronized MultiIdEntityLoader<?> initMultiIdLoader() {
+		if ( multiIdLoader == null ) {
+			multiIdLoader = buildMultiIdLoader();
+		}
+		return multiIdLoader;
+	}
+
 	@Override
 	public Object initializeEnhancedEntityUsedAsProxy(
 			Object entity,
@@ -3604,7 +3727,7 @@ else if ( interceptor.isAttributeLoaded( nameOfAttributeBeingAccessed ) ) {
 
 	@Override
 	public List<?> multiLoad(Object[] ids, EventSource session, MultiIdLoadOptions loadOptions) {
-		return multiIdLoader.load( ids, loadOptions, session );
+		return getMultiIdLoader().load( ids, loadOptions, session );
 	}
 
 	@Override
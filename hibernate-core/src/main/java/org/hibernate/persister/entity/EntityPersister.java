@@ -1289,6 +1289,27 @@ default int[] resolveDirtyAttributeIndexes(
 		return resolveAttributeIndexes( attributeNames );
 	}
 
+	/**
+	 * Like {@link #resolveDirtyAttributeIndexes(Object[], Object[], String[], SessionImplementor)},
+	 * but for the attributes reported as a bitset over the ordinals assigned to them by
+	 * bytecode enhancement.
+	 *
+	 * @param attributeOrdinals The ordinals of the dirty attributes, as reported by
+	 * {@link org.hibernate.engine.spi.SelfDirtinessTracker#$$_hibernate_getDirtyAttributeOrdinals()}
+	 *
+	 * @return A set of unique indexes of the dirty attributes, or {@code null} if the
+	 * ordinals of the attributes of the mapped class are not known
+	 *
+	 * @since 7.0
+	 */
+	default int @Nullable [] resolveDirtyAttributeIndexes(
+			Object[] values,
+			Object[] loadedState,
+			long[] attributeOrdinals,
+			SessionImplementor session) {
+		return null;
+	}
+
 	boolean canUseReferenceCacheEntries();
 
 	@Incubating
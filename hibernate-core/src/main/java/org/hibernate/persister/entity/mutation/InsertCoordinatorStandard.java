@@ -11,12 +11,16 @@
 import org.hibernate.Internal;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.internal.BulkInsertBatchKey;
+import org.hibernate.engine.jdbc.batch.internal.EntityInsertBatchKey;
+import org.hibernate.engine.jdbc.batch.internal.MultiRowInsertBatchKey;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
 import org.hibernate.engine.jdbc.mutation.MutationExecutor;
 import org.hibernate.engine.jdbc.mutation.ParameterUsage;
 import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.spi.BatchKeyAccess;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.generator.BeforeExecutionGenerator;
@@ -34,6 +38,7 @@
 import org.hibernate.sql.model.MutationType;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.ValuesAnalysis;
+import org.hibernate.sql.model.ast.MutationGroup;
 import org.hibernate.sql.model.ast.builder.MutationGroupBuilder;
 import org.hibernate.sql.model.ast.builder.TableInsertBuilder;
 import org.hibernate.sql.model.ast.builder.TableInsertBuilderStandard;
@@ -55,26 +60,40 @@
 public class InsertCoordinatorStandard extends AbstractMutationCoordinator implements InsertCoordinator {
 	private final MutationOperationGroup staticInsertGroup;
 	private final BasicBatchKey batchKey;
+	private final @Nullable BulkInsertBatchKey bulkInsertBatchKey;
 
 	public InsertCoordinatorStandard(EntityPersister entityPersister, SessionFactoryImplementor factory) {
 		super( entityPersister, factory );
 
+		// the entity specified dynamic-insert - skip generating the
+		// static inserts as we will create them every time
+		final MutationGroup staticInsertMutations = entityPersister.getEntityMetamodel().isDynamicInsert()
+				? null
+				: generateStaticMutationGroup();
+
 		if ( entityPersister.isIdentifierAssignedByInsert() || entityPersister.hasInsertGeneratedProperties() ) {
 			// disable batching in case of insert generated identifier or properties
 			batchKey = null;
 		}
-		else {
-			batchKey = new BasicBatchKey( entityPersister.getEntityName() + "#INSERT" );
-		}
-
-		if ( entityPersister.getEntityMetamodel().isDynamicInsert() ) {
-			// the entity specified dynamic-insert - skip generating the
-			// static inserts as we will create them every time
-			staticInsertGroup = null;
+		else if ( staticInsertMutations != null
+				&& factory.getSessionFactoryOptions().isMultiRowInsertsEnabled()
+				&& factory.getJdbcServices().getDialect().supportsValuesListForInsert() ) {
+			// the batch falls back to single-row inserts if the statements can't be rewritten
+			batchKey = new MultiRowInsertBatchKey( entityPersister.getEntityName() + "#INSERT", staticInsertMutations );
 		}
 		else {
-			staticInsertGroup = generateStaticOperationGroup();
+			batchKey = new EntityInsertBatchKey( entityPersister.getEntityName() + "#INSERT", staticInsertMutations );
 		}
+
+		bulkInsertBatchKey = batchKey != null && staticInsertMutations != null
+				&& factory.getSessionFactoryOptions().getBulkInsertThreshold() > 0
+				&& factory.getJdbcServices().getDialect().getBulkInsertSupport() != null
+				? new BulkInsertBatchKey( entityPersister.getEntityName() + "#BULK_INSERT", staticInsertMutations )
+				: null;
+
+		staticInsertGroup = staticInsertMutations == null
+				? null
+				: createOperationGroup( null, staticInsertMutations );
 	}
 
 	@Override
@@ -87,6 +106,15 @@ protected BatchKey getBatchKey() {
 		return batchKey;
 	}
 
+	@Override
+	protected BatchKeyAccess resolveBatchKeyAccess(boolean dynamicUpdate, SharedSessionContractImplementor session) {
+		final BatchKeyAccess batchKeyAccess = super.resolveBatchKeyAccess( dynamicUpdate, session );
+		// inserts loaded in bulk never share a batch with other inserts
+		return bulkInsertBatchKey != null && session.isBulkInsertEnabled() && batchKeyAccess.getBatchKey() != null
+				? () -> bulkInsertBatchKey
+				: batchKeyAccess;
+	}
+
 	@Override
 	public @Nullable GeneratedValues insert(Object entity, Object[] values, SharedSessionContractImplementor session) {
 		return coordinateInsert( null, values, entity, session );
@@ -365,12 +393,16 @@ protected MutationOperationGroup generateDynamicInsertSqlGroup(
 	}
 
 	public MutationOperationGroup generateStaticOperationGroup() {
+		return createOperationGroup( null, generateStaticMutationGroup() );
+	}
+
+	private MutationGroup generateStaticMutationGroup() {
 		final MutationGroupBuilder insertGroupBuilder = new MutationGroupBuilder( MutationType.INSERT, entityPersister() );
 		entityPersister().forEachMutableTable(
 				(tableMapping) -> insertGroupBuilder.addTableDetailsBuilder( createTableInsertBuilder( tableMapping, false ) )
 		);
 		applyTableInsertDetails( insertGroupBuilder, entityPersister().getPropertyInsertability(), null, null, false );
-		return createOperationGroup( null, insertGroupBuilder.buildMutationGroup() );
+		return insertGroupBuilder.buildMutationGroup();
 	}
 
 	private TableMutationBuilder<?> createTableInsertBuilder(EntityTableMapping tableMapping, boolean forceIdentifierBinding) {
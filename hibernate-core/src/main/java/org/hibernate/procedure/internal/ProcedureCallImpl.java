@@ -51,6 +51,7 @@
 import org.hibernate.query.procedure.ProcedureParameter;
 import org.hibernate.query.results.ResultSetMapping;
 import org.hibernate.query.spi.AbstractQuery;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.MutableQueryOptions;
 import org.hibernate.query.spi.QueryImplementor;
 import org.hibernate.query.spi.QueryParameterBinding;
@@ -996,6 +997,11 @@ protected ScrollableResultsImplementor<R> doScroll(ScrollMode scrollMode) {
 		throw new UnsupportedOperationException( "scroll() is not implemented for ProcedureCall/StoredProcedureQuery" );
 	}
 
+	@Override
+	protected ScrollableResultsImplementor<R> doScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
+		throw new UnsupportedOperationException( "scroll() is not implemented for ProcedureCall/StoredProcedureQuery" );
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public List<R> getResultList() {
@@ -1259,6 +1265,11 @@ public Stream<R> stream() {
 		return getResultStream();
 	}
 
+	@Override
+	public Stream<R> getDetachedResultStream(int chunkSize) {
+		return getResultStream();
+	}
+
 	public ResultSetMapping getResultSetMapping() {
 		return resultSetMapping;
 	}
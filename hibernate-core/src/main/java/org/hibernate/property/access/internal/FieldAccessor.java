@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.property.access.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.Internal;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Reads and writes a persistent field on behalf of
+ * {@link org.hibernate.property.access.spi.GetterFieldImpl} and
+ * {@link org.hibernate.property.access.spi.SetterFieldImpl}.
+ * <p>
+ * The accessor of a field is an instance of a hidden class, defined from the
+ * bytes of {@link GeneratedFieldAccessor} the first time the field is accessed,
+ * whose static final fields hold {@link MethodHandle}s reading and writing the
+ * field. The JIT compiler treats those handles as constants, so that accessing
+ * the field costs no more than a direct field access, unlike {@link Field#get}
+ * and {@link Field#set}. The hidden classes are not reachable from the class
+ * loader of Hibernate, and are unloaded along with the class declaring the field.
+ * <p>
+ * The accessor does not convert values, nor report problems the way reflection
+ * does: when it fails, callers should retry with {@code Field.get()} or
+ * {@code Field.set()}. When no hidden class can be defined, for example because
+ * the field is static, or was not made {@linkplain Field#setAccessible accessible},
+ * the accessor simply delegates to reflection.
+ *
+ * @since 7.0
+ */
+@Internal
+public abstract class FieldAccessor {
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType( Object.class, Object.class );
+	private static final MethodType SETTER_TYPE = MethodType.methodType( void.class, Object.class, Object.class );
+
+	private static final ClassValue<Map<String, FieldAccessor>> ACCESSORS = new ClassValue<>() {
+		@Override
+		protected Map<String, FieldAccessor> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private static final byte @Nullable [] TEMPLATE = readTemplate();
+
+	FieldAccessor() {
+	}
+
+	/**
+	 * Read the value of the field of the given instance.
+	 */
+	public abstract @Nullable Object get(Object owner);
+
+	/**
+	 * Assign the given value to the field of the given instance.
+	 */
+	public abstract void set(Object owner, @Nullable Object value);
+
+	/**
+	 * The accessor of the given field, generated the first time it is requested
+	 * for a field of the declaring class.
+	 */
+	public static FieldAccessor forField(Field field) {
+		return ACCESSORS.get( field.getDeclaringClass() )
+				.computeIfAbsent( field.getName(), name -> generate( field ) );
+	}
+
+	private static FieldAccessor generate(Field field) {
+		if ( TEMPLATE == null || Modifier.isStatic( field.getModifiers() ) ) {
+			return new ReflectiveFieldAccessor( field );
+		}
+		try {
+			final Class<?> wrapperType = MethodType.methodType( field.getType() ).wrap().returnType();
+			// convert through the wrapper type, so that the handle
+			// neither widens nor narrows primitive values, which
+			// Field.set() does not agree with in every case
+			final MethodHandle getter = LOOKUP.unreflectGetter( field ).asType( GETTER_TYPE );
+			final MethodHandle setter = LOOKUP.unreflectSetter( field )
+					.asType( MethodType.methodType( void.class, Object.class, wrapperType ) )
+					.asType( SETTER_TYPE );
+			final MethodHandles.Lookup accessorLookup =
+					LOOKUP.defineHiddenClassWithClassData( TEMPLATE, List.of( getter, setter ), true );
+			return (FieldAccessor) accessorLookup.findConstructor(
+					accessorLookup.lookupClass(),
+					MethodType.methodType( void.class )
+			).invoke();
+		}
+		catch (Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			// typically, the field is not accessible, or
+			// hidden classes are not supported at runtime
+			return new ReflectiveFieldAccessor( field );
+		}
+	}
+
+	private static byte @Nullable [] readTemplate() {
+		try ( InputStream stream = FieldAccessor.class.getResourceAsStream( "GeneratedFieldAccessor.class" ) ) {
+			return stream == null ? null : stream.readAllBytes();
+		}
+		catch (IOException e) {
+			return null;
+		}
+	}
+
+	private static class ReflectiveFieldAccessor extends FieldAccessor {
+		private final Field field;
+
+		private ReflectiveFieldAccessor(Field field) {
+			this.field = field;
+		}
+
+		@Override
+		public @Nullable Object get(Object owner) {
+			try {
+				return field.get( owner );
+			}
+			catch (IllegalAccessException e) {
+				throw new IllegalStateException( e );
+			}
+		}
+
+		@Override
+		public void set(Object owner, @Nullable Object value) {
+			try {
+				field.set( owner, value );
+			}
+			catch (IllegalAccessException e) {
+				throw new IllegalStateException( e );
+			}
+		}
+	}
+}
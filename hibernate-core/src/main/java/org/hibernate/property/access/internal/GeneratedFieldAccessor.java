@@ -0,0 +1,68 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.property.access.internal;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+import org.hibernate.AssertionFailure;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The template of the hidden classes defined by {@link FieldAccessor#forField}.
+ * This class itself is never loaded: each hidden class defined from its bytes
+ * receives the handles reading and writing one field as its class data.
+ */
+final class GeneratedFieldAccessor extends FieldAccessor {
+	private static final MethodHandle GETTER;
+	private static final MethodHandle SETTER;
+
+	static {
+		try {
+			final List<?> handles = MethodHandles.classData(
+					MethodHandles.lookup(),
+					ConstantDescs.DEFAULT_NAME,
+					List.class
+			);
+			GETTER = (MethodHandle) handles.get( 0 );
+			SETTER = (MethodHandle) handles.get( 1 );
+		}
+		catch (IllegalAccessException e) {
+			throw new AssertionFailure( "Unable to access the class data of a field accessor", e );
+		}
+	}
+
+	private GeneratedFieldAccessor() {
+	}
+
+	@Override
+	public @Nullable Object get(Object owner) {
+		try {
+			return (Object) GETTER.invokeExact( owner );
+		}
+		catch (RuntimeException | Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			throw new AssertionFailure( "Unexpected exception reading a field", e );
+		}
+	}
+
+	@Override
+	public void set(Object owner, @Nullable Object value) {
+		try {
+			SETTER.invokeExact( owner, value );
+		}
+		catch (RuntimeException | Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			throw new AssertionFailure( "Unexpected exception writing a field", e );
+		}
+	}
+}
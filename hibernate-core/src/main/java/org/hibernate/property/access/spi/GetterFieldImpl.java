@@ -17,11 +17,15 @@
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.ReflectHelper;
 import org.hibernate.property.access.internal.AbstractFieldSerialForm;
+import org.hibernate.property.access.internal.FieldAccessor;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Field-based implementation of Getter
+ * <p>
+ * The field is read by a {@link FieldAccessor} generated the first time
+ * it is needed, falling back to reflection when the accessor fails.
  *
  * @author Steve Ebersole
  */
@@ -31,6 +35,7 @@ public class GetterFieldImpl implements Getter {
 	private final String propertyName;
 	private final Field field;
 	private final @Nullable Method getterMethod;
+	private @Nullable FieldAccessor fieldAccessor;
 
 	public GetterFieldImpl(Class<?> containerClass, String propertyName, Field field) {
 		this.containerClass = containerClass;
@@ -42,6 +47,12 @@ public GetterFieldImpl(Class<?> containerClass, String propertyName, Field field
 
 	@Override
 	public @Nullable Object get(Object owner) {
+		try {
+			return fieldAccessor().get( owner );
+		}
+		catch (RuntimeException e) {
+			// let reflection report the problem
+		}
 		try {
 			return field.get( owner );
 		}
@@ -60,6 +71,15 @@ public GetterFieldImpl(Class<?> containerClass, String propertyName, Field field
 		}
 	}
 
+	private FieldAccessor fieldAccessor() {
+		FieldAccessor accessor = fieldAccessor;
+		if ( accessor == null ) {
+			// a benign race, since there is one accessor per field
+			accessor = fieldAccessor = FieldAccessor.forField( field );
+		}
+		return accessor;
+	}
+
 	@SuppressWarnings("rawtypes")
 	@Override
 	public @Nullable Object getForInsert(Object owner, Map mergeMap, SharedSessionContractImplementor session) {
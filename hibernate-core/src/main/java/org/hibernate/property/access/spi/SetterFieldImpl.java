@@ -13,6 +13,7 @@
 import org.hibernate.PropertyAccessException;
 import org.hibernate.internal.util.ReflectHelper;
 import org.hibernate.property.access.internal.AbstractFieldSerialForm;
+import org.hibernate.property.access.internal.FieldAccessor;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
 
@@ -20,6 +21,10 @@
 
 /**
  * Field-based implementation of Setter
+ * <p>
+ * The field is written by a {@link FieldAccessor} generated the first time
+ * it is needed, falling back to reflection, which converts the value, or
+ * reports the problem, when the accessor fails.
  *
  * @author Steve Ebersole
  */
@@ -29,6 +34,7 @@ public class SetterFieldImpl implements Setter {
 	private final String propertyName;
 	private final Field field;
 	private final @Nullable Method setterMethod;
+	private @Nullable FieldAccessor fieldAccessor;
 
 	public SetterFieldImpl(Class<?> containerClass, String propertyName, Field field) {
 		this.containerClass = containerClass;
@@ -51,6 +57,13 @@ public Field getField() {
 
 	@Override
 	public void set(Object target, @Nullable Object value) {
+		try {
+			fieldAccessor().set( target, value );
+			return;
+		}
+		catch (RuntimeException e) {
+			// let reflection convert the value, or report the problem
+		}
 		try {
 			field.set( target, value );
 		}
@@ -96,6 +109,15 @@ else if ( value != null ) {
 		}
 	}
 
+	private FieldAccessor fieldAccessor() {
+		FieldAccessor accessor = fieldAccessor;
+		if ( accessor == null ) {
+			// a benign race, since there is one accessor per field
+			accessor = fieldAccessor = FieldAccessor.forField( field );
+		}
+		return accessor;
+	}
+
 	@Override
 	public @Nullable String getMethodName() {
 		return setterMethod != null ? setterMethod.getName() : null;
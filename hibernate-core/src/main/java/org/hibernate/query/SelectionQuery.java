@@ -194,6 +194,49 @@ default Stream<R> stream() {
 		return list().stream();
 	}
 
+	/**
+	 * Execute the query and return the query results as a {@link Stream}
+	 * whose memory footprint does not grow with the number of results.
+	 * <p>
+	 * Results are read from a {@linkplain ScrollMode#FORWARD_ONLY forward-only}
+	 * cursor in chunks of the given size. The entities loaded by the query
+	 * for a chunk remain associated with the session until the stream moves
+	 * on to the next chunk, and are then detached, along with every other
+	 * entity which became associated with the session while the chunk was
+	 * being processed, for example by fetching a lazy association. Lazy
+	 * associations of the entities in a chunk may therefore be fetched while
+	 * the chunk is being processed, and benefit from
+	 * {@linkplain org.hibernate.annotations.BatchSize batch fetching} across
+	 * the whole chunk. Modifications made to detached entities are not
+	 * flushed, unless the session is flushed before the stream moves on to
+	 * the next chunk. Entities which were associated with the session before
+	 * the query was executed, and entities which were removed or persisted
+	 * while the chunk was being processed, and not yet flushed, are never
+	 * detached.
+	 * <p>
+	 * If no {@linkplain #setFetchSize(int) fetch size} was specified for this
+	 * query, the {@linkplain org.hibernate.dialect.Dialect#getDefaultStreamingFetchSize
+	 * default streaming fetch size} of the dialect is used.
+	 * <p>
+	 * The client should call {@link Stream#close()} after processing the
+	 * stream so that resources are freed as soon as possible.
+	 *
+	 * @param chunkSize the number of results to read before detaching the
+	 *                  entities read for the previous results
+	 *
+	 * @return The results as a {@link Stream}
+	 *
+	 * @implNote The default implementation defined here simply returns
+	 *           {@link #stream()}. Concrete implementations may be more
+	 *           efficient.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default Stream<R> getDetachedResultStream(int chunkSize) {
+		return stream();
+	}
+
 	/**
 	 * Execute the query and return the single result of the query,
 	 * or {@code null} if the query returns no results.
@@ -0,0 +1,275 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.hql.internal;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.hibernate.HibernateException;
+import org.hibernate.grammars.hql.HqlLexer;
+import org.hibernate.internal.util.type.PrimitiveWrapperHelper;
+import org.hibernate.query.BindableType;
+import org.hibernate.query.QueryParameter;
+import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.ParameterMetadataImplementor;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.sqm.NodeBuilder;
+import org.hibernate.query.sqm.SqmExpressible;
+import org.hibernate.type.descriptor.java.JavaType;
+
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+import static org.hibernate.internal.util.QuotingHelper.unquoteStringLiteral;
+
+/**
+ * An HQL query in which literal values compared to an expression have been
+ * replaced by synthetic named parameters, so that queries which differ only
+ * in these values share a single {@linkplain org.hibernate.query.spi.HqlInterpretation
+ * interpretation} and {@linkplain org.hibernate.query.spi.QueryPlan query plan}.
+ * <p>
+ * Only string and integral literals which form the right-hand side of a comparison
+ * operator in a {@code where}, {@code having}, or {@code on} clause, and which are
+ * immediately followed by the end of the predicate, are replaced. Literals elsewhere,
+ * for example, in the {@code select} list, in the assignments of an {@code update},
+ * in function arguments, or in arithmetic expressions, are left alone, since a
+ * parameter would change the semantics of the query, or might not be accepted by
+ * the database.
+ *
+ * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_PARAMETERIZE_LITERALS
+ */
+public final class ParameterizedHql {
+	/**
+	 * The prefix of the names of the synthetic parameters.
+	 */
+	public static final String PARAMETER_NAME_PREFIX = "_literal";
+
+	private final String queryString;
+	private final Object[] values;
+
+	private ParameterizedHql(String queryString, Object[] values) {
+		this.queryString = queryString;
+		this.values = values;
+	}
+
+	/**
+	 * Replace the eligible literals of the given HQL query by parameters.
+	 *
+	 * @return the parameterized query, or {@code null} if the query has no
+	 *         eligible literal, uses ordinal parameters, or cannot be lexed
+	 */
+	public static ParameterizedHql parameterize(String hql) {
+		if ( hql.codePointCount( 0, hql.length() ) != hql.length() ) {
+			// the lexer counts token positions in code points
+			return null;
+		}
+
+		final List<? extends Token> tokens;
+		try {
+			final HqlLexer lexer = HqlParseTreeBuilder.INSTANCE.buildHqlLexer( hql );
+			lexer.removeErrorListeners();
+			lexer.addErrorListener( new BaseErrorListener() {
+				@Override
+				public void syntaxError(
+						Recognizer<?, ?> recognizer,
+						Object offendingSymbol,
+						int line,
+						int charPositionInLine,
+						String msg,
+						RecognitionException e) {
+					throw new ParseCancellationException( msg );
+				}
+			} );
+			tokens = lexer.getAllTokens();
+		}
+		catch (ParseCancellationException e) {
+			// let the parser report the problem
+			return null;
+		}
+
+		StringBuilder result = null;
+		List<Object> values = null;
+		int copied = 0;
+		// whether the current token belongs to a predicate, and the
+		// same for each enclosing parenthesized expression or subquery
+		boolean predicate = false;
+		final BitSet enclosingPredicates = new BitSet();
+		int depth = 0;
+		for ( int i = 0; i < tokens.size(); i++ ) {
+			final Token token = tokens.get( i );
+			switch ( token.getType() ) {
+				case HqlLexer.QUESTION_MARK:
+					// ordinal parameters may not be mixed with named parameters
+					return null;
+				case HqlLexer.COLON:
+					if ( i + 1 < tokens.size() && tokens.get( i + 1 ).getText().startsWith( PARAMETER_NAME_PREFIX ) ) {
+						return null;
+					}
+					break;
+				case HqlLexer.LEFT_PAREN:
+					enclosingPredicates.set( depth++, predicate );
+					break;
+				case HqlLexer.RIGHT_PAREN:
+					if ( depth > 0 ) {
+						predicate = enclosingPredicates.get( --depth );
+					}
+					break;
+				case HqlLexer.WHERE, HqlLexer.HAVING, HqlLexer.ON, HqlLexer.WITH:
+					if ( !isAttributeName( tokens, i ) ) {
+						predicate = true;
+					}
+					break;
+				case HqlLexer.SELECT, HqlLexer.FROM, HqlLexer.JOIN, HqlLexer.SET, HqlLexer.VALUES,
+						HqlLexer.GROUP, HqlLexer.ORDER, HqlLexer.CONFLICT:
+					if ( !isAttributeName( tokens, i ) ) {
+						predicate = false;
+					}
+					break;
+				default:
+					if ( predicate && i > 0 && isComparison( tokens.get( i - 1 ) )
+							&& ( i + 1 == tokens.size() || isPredicateEnd( tokens.get( i + 1 ) ) ) ) {
+						final Object value = literalValue( token );
+						if ( value != null ) {
+							if ( result == null ) {
+								result = new StringBuilder( hql.length() + 16 );
+								values = new ArrayList<>();
+							}
+							result.append( hql, copied, token.getStartIndex() )
+									.append( ':' ).append( PARAMETER_NAME_PREFIX ).append( values.size() );
+							values.add( value );
+							copied = token.getStopIndex() + 1;
+						}
+					}
+			}
+		}
+
+		if ( result == null ) {
+			return null;
+		}
+		else {
+			result.append( hql, copied, hql.length() );
+			return new ParameterizedHql( result.toString(), values.toArray() );
+		}
+	}
+
+	/**
+	 * Whether the keyword at the given index is used as the name of an attribute.
+	 */
+	private static boolean isAttributeName(List<? extends Token> tokens, int index) {
+		return index > 0 && tokens.get( index - 1 ).getType() == HqlLexer.DOT;
+	}
+
+	private static boolean isComparison(Token token) {
+		return switch ( token.getType() ) {
+			case HqlLexer.EQUAL, HqlLexer.NOT_EQUAL,
+					HqlLexer.LESS, HqlLexer.LESS_EQUAL,
+					HqlLexer.GREATER, HqlLexer.GREATER_EQUAL -> true;
+			default -> false;
+		};
+	}
+
+	private static boolean isPredicateEnd(Token token) {
+		return switch ( token.getType() ) {
+			case HqlLexer.AND, HqlLexer.OR, HqlLexer.RIGHT_PAREN,
+					HqlLexer.WHERE, HqlLexer.GROUP, HqlLexer.HAVING, HqlLexer.ORDER,
+					HqlLexer.LIMIT, HqlLexer.OFFSET, HqlLexer.FETCH,
+					HqlLexer.UNION, HqlLexer.INTERSECT, HqlLexer.EXCEPT -> true;
+			default -> false;
+		};
+	}
+
+	private static Object literalValue(Token token) {
+		final String text = token.getText();
+		try {
+			return switch ( token.getType() ) {
+				case HqlLexer.STRING_LITERAL -> unquoteStringLiteral( text );
+				// octal literals and out-of-range values are left alone
+				case HqlLexer.INTEGER_LITERAL -> text.startsWith( "0" ) && text.length() > 1
+						? null
+						: Integer.valueOf( text.replace( "_", "" ) );
+				case HqlLexer.LONG_LITERAL -> text.startsWith( "0" ) && text.length() > 2
+						? null
+						: Long.valueOf( text.substring( 0, text.length() - 1 ).replace( "_", "" ) );
+				default -> null;
+			};
+		}
+		catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * The query string, with the literals replaced by parameters.
+	 */
+	public String getQueryString() {
+		return queryString;
+	}
+
+	/**
+	 * Coerce each replaced literal value to the Java type of its parameter, as
+	 * inferred by the given interpretation of the {@linkplain #getQueryString()
+	 * parameterized query}, as the query would when binding a value to it.
+	 * A literal whose type cannot be coerced to the type of the expression it
+	 * is compared to, for example, a string compared to an enumerated value,
+	 * may only be interpreted by the query translator.
+	 *
+	 * @return the query with the coerced values, or {@code null} if a value
+	 *         cannot be coerced to the type of its parameter
+	 */
+	public ParameterizedHql coerceLiterals(HqlInterpretation<?> interpretation) {
+		final ParameterMetadataImplementor parameterMetadata = interpretation.getParameterMetadata();
+		final NodeBuilder nodeBuilder = interpretation.getSqmStatement().nodeBuilder();
+		final Object[] coercedValues = new Object[values.length];
+		for ( int i = 0; i < values.length; i++ ) {
+			final QueryParameter<?> parameter = parameterMetadata.findQueryParameter( PARAMETER_NAME_PREFIX + i );
+			final BindableType<?> type = parameter == null ? null : parameter.getHibernateType();
+			final SqmExpressible<?> expressible = type == null ? null : type.resolveExpressible( nodeBuilder );
+			final JavaType<?> javaType = expressible == null ? null : expressible.getExpressibleJavaType();
+			if ( javaType == null ) {
+				return null;
+			}
+			try {
+				coercedValues[i] = javaType.coerce( values[i], nodeBuilder::getTypeConfiguration );
+			}
+			catch (HibernateException e) {
+				// for example, a value out of the range of the type
+				return null;
+			}
+			if ( !isInstance( javaType.getJavaTypeClass(), coercedValues[i] ) ) {
+				return null;
+			}
+		}
+		return new ParameterizedHql( queryString, coercedValues );
+	}
+
+	private static boolean isInstance(Class<?> javaType, Object value) {
+		final Class<?> type = javaType.isPrimitive()
+				? PrimitiveWrapperHelper.getDescriptorByPrimitiveType( javaType ).getWrapperClass()
+				: javaType;
+		return type.isInstance( value );
+	}
+
+	/**
+	 * Bind the replaced literal values to their parameters.
+	 */
+	public void bindLiterals(QueryParameterBindings bindings) {
+		for ( int i = 0; i < values.length; i++ ) {
+			bindings.getBinding( PARAMETER_NAME_PREFIX + i ).setBindValue( values[i] );
+		}
+	}
+
+	/**
+	 * Whether the given parameter is one of the synthetic parameters
+	 * replacing a literal.
+	 */
+	public static boolean isLiteralParameter(QueryParameter<?> parameter) {
+		final String name = parameter.getName();
+		return name != null && name.startsWith( PARAMETER_NAME_PREFIX );
+	}
+}
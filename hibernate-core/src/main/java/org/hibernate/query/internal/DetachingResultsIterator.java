@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.internal;
+
+import java.util.ArrayDeque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.hibernate.engine.spi.ActionQueue;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.query.spi.CloseableIterator;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.newSetFromMap;
+
+/**
+ * Iterates the results of a {@linkplain org.hibernate.ScrollMode#FORWARD_ONLY forward-only}
+ * {@link ScrollableResultsImplementor} in chunks, detaching the entities associated with
+ * the session while one chunk was read and processed before the next chunk is read, so
+ * that the size of the persistence context is bounded by the size of a chunk.
+ * <p>
+ * Entities are detached whether they were loaded by the query, or lazily, or otherwise
+ * while the chunk was processed. Entities which were already associated with the session
+ * when the query was executed, as {@linkplain AttachedEntities recorded} beforehand, are
+ * never detached, and neither are entities which were removed, or which are affected by
+ * a queued action.
+ *
+ * @see org.hibernate.query.SelectionQuery#getDetachedResultStream(int)
+ *
+ * @since 7.0
+ */
+public class DetachingResultsIterator<T> implements CloseableIterator<T> {
+	private final ScrollableResultsImplementor<T> scrollableResults;
+	private final AttachedEntities attachedEntities;
+	private final int chunkSize;
+	private final ArrayDeque<T> chunk;
+	private boolean exhausted;
+
+	/**
+	 * @param scrollableResults The forward-only results to iterate
+	 * @param attachedEntities The entities associated with the session before the query
+	 *                         was executed, or {@code null} if the results are read by a
+	 *                         stateless session
+	 * @param chunkSize The number of results to read ahead before detaching
+	 */
+	public DetachingResultsIterator(
+			ScrollableResultsImplementor<T> scrollableResults,
+			AttachedEntities attachedEntities,
+			int chunkSize) {
+		this.scrollableResults = scrollableResults;
+		this.attachedEntities = attachedEntities;
+		this.chunkSize = chunkSize;
+		this.chunk = new ArrayDeque<>( Math.min( chunkSize, 1024 ) );
+	}
+
+	@Override
+	public boolean hasNext() {
+		if ( chunk.isEmpty() && !exhausted ) {
+			detachLoadedEntities();
+			readChunk();
+		}
+		return !chunk.isEmpty();
+	}
+
+	@Override
+	public T next() {
+		if ( !hasNext() ) {
+			throw new NoSuchElementException();
+		}
+		return chunk.poll();
+	}
+
+	@Override
+	public void close() {
+		chunk.clear();
+		exhausted = true;
+		scrollableResults.close();
+		detachLoadedEntities();
+	}
+
+	private void readChunk() {
+		while ( chunk.size() < chunkSize ) {
+			if ( scrollableResults.isClosed() || !scrollableResults.next() ) {
+				exhausted = true;
+				return;
+			}
+			chunk.add( scrollableResults.get() );
+		}
+	}
+
+	/**
+	 * Detach the entities associated with the session since the query was executed,
+	 * unless they were removed, or an action affecting them is queued.
+	 */
+	private void detachLoadedEntities() {
+		if ( attachedEntities != null ) {
+			final SessionImplementor session = attachedEntities.session;
+			if ( !session.isClosed() ) {
+				final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+				if ( persistenceContext.getNumberOfManagedEntities() > 0 ) {
+					final ActionQueue actionQueue = session.getActionQueue();
+					final Set<Object> entitiesWithQueuedActions = actionQueue.hasAnyQueuedActions()
+							? actionQueue.getEntitiesWithQueuedActions()
+							: emptySet();
+					for ( Map.Entry<Object, EntityEntry> entityEntry : persistenceContext.reentrantSafeEntityEntries() ) {
+						final Object entity = entityEntry.getKey();
+						if ( !attachedEntities.entities.contains( entity )
+								&& !entitiesWithQueuedActions.contains( entity ) ) {
+							// evicting an entity may cascade to some of the others
+							final EntityEntry entry = persistenceContext.getEntry( entity );
+							if ( entry != null && entry.getStatus() == Status.MANAGED ) {
+								session.evict( entity );
+							}
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Records the entities associated with a session before a query is executed,
+	 * which are not detached by the iterator of its results.
+	 */
+	public static class AttachedEntities {
+		private final SessionImplementor session;
+		private final Set<Object> entities;
+
+		public AttachedEntities(SessionImplementor session) {
+			this.session = session;
+			final Map.Entry<Object, EntityEntry>[] entityEntries =
+					session.getPersistenceContextInternal().reentrantSafeEntityEntries();
+			this.entities = newSetFromMap( new IdentityHashMap<>( entityEntries.length ) );
+			for ( Map.Entry<Object, EntityEntry> entityEntry : entityEntries ) {
+				entities.add( entityEntry.getKey() );
+			}
+		}
+	}
+}
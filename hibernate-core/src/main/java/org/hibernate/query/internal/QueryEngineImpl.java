@@ -13,6 +13,7 @@
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.query.spi.NativeQueryInterpreter;
 import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.util.cache.EvictionPolicy;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.query.BindingContext;
 import org.hibernate.query.hql.HqlTranslator;
@@ -202,7 +203,17 @@ private static QueryInterpretationCache buildInterpretationCache(
 					? explicitMaxPlanSize
 					: QueryEngine.DEFAULT_QUERY_PLAN_MAX_COUNT;
 
-			return new QueryInterpretationCacheStandardImpl( size, serviceRegistry );
+			final EvictionPolicy evictionPolicy = EvictionPolicy.interpret(
+					properties.get( AvailableSettings.QUERY_PLAN_CACHE_EVICTION ),
+					EvictionPolicy.TINY_LFU
+			);
+
+			final boolean parameterizeLiterals = ConfigurationHelper.getBoolean(
+					AvailableSettings.QUERY_PLAN_CACHE_PARAMETERIZE_LITERALS,
+					properties
+			);
+
+			return new QueryInterpretationCacheStandardImpl( size, evictionPolicy, parameterizeLiterals, serviceRegistry );
 		}
 		else {
 			// disabled
@@ -8,12 +8,15 @@
 import java.util.function.Function;
 import java.util.function.Supplier;
 
-import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.cache.EvictionPolicy;
+import org.hibernate.internal.util.cache.InternalCache;
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.hql.HqlTranslator;
+import org.hibernate.query.hql.internal.ParameterizedHql;
 import org.hibernate.query.spi.HqlInterpretation;
 import org.hibernate.query.spi.NonSelectQueryPlan;
 import org.hibernate.query.spi.ParameterMetadataImplementor;
+import org.hibernate.query.spi.ParameterizedHqlInterpretation;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryPlan;
 import org.hibernate.query.spi.SelectQueryPlan;
@@ -28,29 +31,85 @@
 
 /**
  * Standard QueryInterpretationCache implementation
+ * <p>
+ * The caches are bounded using the configured {@link EvictionPolicy}.
+ * With {@link EvictionPolicy#TINY_LFU} entries are weighed by the length of
+ * their query string, a cheap proxy for the size of the SQM and SQL ASTs,
+ * so that a few huge generated queries cannot crowd out many ordinary ones.
+ * <p>
+ * When {@linkplain org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_PARAMETERIZE_LITERALS
+ * enabled}, HQL queries which differ only in the literal values they compare
+ * share one {@linkplain ParameterizedHqlInterpretation parameterized interpretation}.
  *
  * @author Steve Ebersole
  */
 public class QueryInterpretationCacheStandardImpl implements QueryInterpretationCache {
 	private static final Logger log = QueryLogging.subLogger( "plan.cache" );
 
+	/**
+	 * Query strings up to this length weigh 1, longer ones one more per
+	 * additional chunk of this many characters.
+	 */
+	private static final int QUERY_STRING_WEIGHT_UNIT = 512;
+
 	/**
 	 * the cache of the actual plans...
 	 */
-	private final BoundedConcurrentHashMap<Key, QueryPlan> queryPlanCache;
+	private final InternalCache<Key, QueryPlan> queryPlanCache;
 
 	private final ServiceRegistry serviceRegistry;
-	private final BoundedConcurrentHashMap<Object, HqlInterpretation<?>> hqlInterpretationCache;
-	private final BoundedConcurrentHashMap<String, ParameterInterpretation> nativeQueryParamCache;
+	private final InternalCache<Object, HqlInterpretation<?>> hqlInterpretationCache;
+	private final InternalCache<String, ParameterInterpretation> nativeQueryParamCache;
+	private final boolean parameterizeLiterals;
+	/**
+	 * the parameterized interpretations of HQL query strings with literals,
+	 * so that a query string is only lexed the first time it is seen
+	 */
+	private final InternalCache<Object, ParameterizedHqlInterpretation<?>> parameterizedHqlInterpretationCache;
 
 	private StatisticsImplementor statistics;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, ServiceRegistry serviceRegistry) {
-		log.debugf( "Starting QueryInterpretationCache(%s)", maxQueryPlanCount );
+		this( maxQueryPlanCount, EvictionPolicy.TINY_LFU, serviceRegistry );
+	}
 
-		this.queryPlanCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.hqlInterpretationCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.nativeQueryParamCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+	public QueryInterpretationCacheStandardImpl(
+			int maxQueryPlanCount,
+			EvictionPolicy evictionPolicy,
+			ServiceRegistry serviceRegistry) {
+		this( maxQueryPlanCount, evictionPolicy, false, serviceRegistry );
+	}
+
+	public QueryInterpretationCacheStandardImpl(
+			int maxQueryPlanCount,
+			EvictionPolicy evictionPolicy,
+			boolean parameterizeLiterals,
+			ServiceRegistry serviceRegistry) {
+		log.debugf( "Starting QueryInterpretationCache(%s, %s)", maxQueryPlanCount, evictionPolicy );
+
+		this.queryPlanCache = evictionPolicy.createCache(
+				maxQueryPlanCount,
+				(key, plan) -> weigh( key.getQueryString() ),
+				(key, plan) -> evicted( key.getQueryString() )
+		);
+		this.hqlInterpretationCache = evictionPolicy.createCache(
+				maxQueryPlanCount,
+				(key, interpretation) -> weigh( queryString( key ) ),
+				(key, interpretation) -> evicted( queryString( key ) )
+		);
+		this.nativeQueryParamCache = evictionPolicy.createCache(
+				maxQueryPlanCount,
+				(queryString, interpretation) -> weigh( queryString ),
+				(queryString, interpretation) -> evicted( queryString )
+		);
+		this.parameterizeLiterals = parameterizeLiterals;
+		this.parameterizedHqlInterpretationCache = parameterizeLiterals
+				? evictionPolicy.createCache(
+						maxQueryPlanCount,
+						(key, interpretation) -> weigh( queryString( key ) ),
+						(key, interpretation) -> {}
+				)
+				: null;
 		this.serviceRegistry = serviceRegistry;
 	}
 
@@ -71,6 +130,23 @@ private StatisticsImplementor getStatistics() {
 		return statistics;
 	}
 
+	private static int weigh(String queryString) {
+		return queryString == null ? 1 : 1 + queryString.length() / QUERY_STRING_WEIGHT_UNIT;
+	}
+
+	private static String queryString(Object hqlInterpretationKey) {
+		return hqlInterpretationKey instanceof HqlInterpretationCacheKey key
+				? key.queryString
+				: (String) hqlInterpretationKey;
+	}
+
+	private void evicted(String queryString) {
+		final StatisticsImplementor statistics = getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryPlanCacheEviction( queryString );
+		}
+	}
+
 	@Override
 	public <R> SelectQueryPlan<R> resolveSelectQueryPlan(
 			Key key,
@@ -119,20 +195,25 @@ public <R> HqlInterpretation<R> resolveHqlInterpretation(
 				? new HqlInterpretationCacheKey( queryString, expectedResultType )
 				: queryString;
 
-		final HqlInterpretation<?> existing = hqlInterpretationCache.get( cacheKey );
+		final HqlInterpretation<?> existing = getCachedHqlInterpretation( queryString, cacheKey, statistics );
 		if ( existing != null ) {
-			if ( statistics.isStatisticsEnabled() ) {
-				statistics.queryPlanCacheHit( queryString );
-			}
 			return (HqlInterpretation<R>) existing;
 		}
-		else if ( expectedResultType != null ) {
-			final HqlInterpretation<?> existingQueryOnly = hqlInterpretationCache.get( queryString );
-			if ( existingQueryOnly != null ) {
+
+		if ( parameterizeLiterals ) {
+			final ParameterizedHqlInterpretation<?> existingParameterized =
+					parameterizedHqlInterpretationCache.get( cacheKey );
+			if ( existingParameterized != null ) {
 				if ( statistics.isStatisticsEnabled() ) {
 					statistics.queryPlanCacheHit( queryString );
 				}
-				return (HqlInterpretation<R>) existingQueryOnly;
+				return (HqlInterpretation<R>) existingParameterized;
+			}
+			final ParameterizedHqlInterpretation<R> parameterized =
+					resolveParameterizedHqlInterpretation( queryString, expectedResultType, translator, statistics );
+			if ( parameterized != null ) {
+				parameterizedHqlInterpretationCache.put( cacheKey, parameterized );
+				return parameterized;
 			}
 		}
 
@@ -142,6 +223,59 @@ else if ( expectedResultType != null ) {
 		return hqlInterpretation;
 	}
 
+	private HqlInterpretation<?> getCachedHqlInterpretation(
+			String queryString,
+			Object cacheKey,
+			StatisticsImplementor statistics) {
+		HqlInterpretation<?> existing = hqlInterpretationCache.get( cacheKey );
+		if ( existing == null && cacheKey != queryString ) {
+			existing = hqlInterpretationCache.get( queryString );
+		}
+		if ( existing != null && statistics.isStatisticsEnabled() ) {
+			statistics.queryPlanCacheHit( queryString );
+		}
+		return existing;
+	}
+
+	/**
+	 * Interpret the given query with its eligible literals replaced by parameters,
+	 * returning {@code null} if it has no such literal, or if the literals cannot
+	 * be bound to the resulting parameters, in which case the original query will
+	 * be interpreted and cached, and will be found by the next lookup.
+	 */
+	private <R> ParameterizedHqlInterpretation<R> resolveParameterizedHqlInterpretation(
+			String queryString,
+			Class<R> expectedResultType,
+			HqlTranslator translator,
+			StatisticsImplementor statistics) {
+		final ParameterizedHql parameterizedHql = ParameterizedHql.parameterize( queryString );
+		if ( parameterizedHql == null ) {
+			return null;
+		}
+
+		final String parameterizedQueryString = parameterizedHql.getQueryString();
+		final Object cacheKey = expectedResultType != null
+				? new HqlInterpretationCacheKey( parameterizedQueryString, expectedResultType )
+				: parameterizedQueryString;
+		HqlInterpretation<R> hqlInterpretation =
+				(HqlInterpretation<R>) getCachedHqlInterpretation( parameterizedQueryString, cacheKey, statistics );
+		if ( hqlInterpretation == null ) {
+			try {
+				hqlInterpretation =
+						createHqlInterpretation( parameterizedQueryString, expectedResultType, translator, statistics );
+			}
+			catch (RuntimeException e) {
+				log.debugf( "Unable to interpret query with parameterized literals `%s`: %s",
+						parameterizedQueryString, e.getMessage() );
+				return null;
+			}
+			hqlInterpretationCache.put( cacheKey, hqlInterpretation );
+		}
+
+		final ParameterizedHql coercedHql = parameterizedHql.coerceLiterals( hqlInterpretation );
+		return coercedHql == null ? null : new ParameterizedHqlInterpretation<>( hqlInterpretation, coercedHql );
+	}
+
 	protected static <R> HqlInterpretation<R> createHqlInterpretation(
 			String queryString,
 			Class<R> expectedResultType,
@@ -196,6 +330,9 @@ public boolean isEnabled() {
 	public void close() {
 		// todo (6.0) : clear maps/caches and LOG
 		hqlInterpretationCache.clear();
+		if ( parameterizedHqlInterpretationCache != null ) {
+			parameterizedHqlInterpretationCache.clear();
+		}
 		nativeQueryParamCache.clear();
 		queryPlanCache.clear();
 	}
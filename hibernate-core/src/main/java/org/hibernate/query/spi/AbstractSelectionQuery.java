@@ -36,6 +36,9 @@
 import org.hibernate.query.IllegalQueryOperationException;
 import org.hibernate.query.QueryParameter;
 import org.hibernate.query.SelectionQuery;
+import org.hibernate.query.internal.DelegatingDomainQueryExecutionContext;
+import org.hibernate.query.internal.DetachingResultsIterator;
+import org.hibernate.query.internal.DetachingResultsIterator.AttachedEntities;
 import org.hibernate.query.internal.ScrollableResultsIterator;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.sql.exec.internal.CallbackImpl;
@@ -262,6 +265,63 @@ public Stream stream() {
 		return (Stream) stream.onClose( scrollableResults::close );
 	}
 
+	@Override
+	public Stream<R> getDetachedResultStream(int chunkSize) {
+		if ( chunkSize < 1 ) {
+			throw new IllegalArgumentException( "Chunk size must be positive" );
+		}
+		final SharedSessionContractImplementor session = getSession();
+		final AttachedEntities attachedEntities =
+				session.isSessionImplementor() ? new AttachedEntities( session.asSessionImplementor() ) : null;
+		final ScrollableResultsImplementor<R> scrollableResults;
+		final HashSet<String> fetchProfiles = beforeQueryHandlingFetchProfiles();
+		try {
+			scrollableResults = doScroll( ScrollMode.FORWARD_ONLY, detachedExecutionContext() );
+		}
+		finally {
+			afterQueryHandlingFetchProfiles( fetchProfiles );
+		}
+		final DetachingResultsIterator<R> iterator =
+				new DetachingResultsIterator<>( scrollableResults, attachedEntities, chunkSize );
+		final Spliterator<R> spliterator = spliteratorUnknownSize( iterator, Spliterator.NONNULL );
+		return StreamSupport.stream( spliterator, false ).onClose( iterator::close );
+	}
+
+	/**
+	 * The context for executing the query of a {@linkplain #getDetachedResultStream
+	 * detached result stream}, which applies the default streaming fetch size of the
+	 * dialect.
+	 */
+	private DomainQueryExecutionContext detachedExecutionContext() {
+		if ( getFetchSize() == null ) {
+			final int fetchSize = getSessionFactory().getJdbcServices().getDialect().getDefaultStreamingFetchSize();
+			if ( fetchSize > 0 ) {
+				final QueryOptions queryOptions = new DelegatingQueryOptions( getQueryOptions() ) {
+					@Override
+					public Integer getFetchSize() {
+						return fetchSize;
+					}
+				};
+				return new DelegatingDomainQueryExecutionContext( this ) {
+					@Override
+					public QueryOptions getQueryOptions() {
+						return queryOptions;
+					}
+				};
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Scroll the results of the query, executing it with the given context, which
+	 * is either this query, or {@linkplain DelegatingDomainQueryExecutionContext
+	 * delegates} to it.
+	 */
+	protected abstract ScrollableResultsImplementor<R> doScroll(
+			ScrollMode scrollMode,
+			DomainQueryExecutionContext executionContext);
+
 	@Override
 	public R uniqueResult() {
 		return uniqueElement( list() );
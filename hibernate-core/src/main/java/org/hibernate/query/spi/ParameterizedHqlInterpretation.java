@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.spi;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.hql.internal.ParameterizedHql;
+import org.hibernate.query.internal.ParameterMetadataImpl;
+import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.query.sqm.tree.expression.SqmParameter;
+
+/**
+ * The {@link HqlInterpretation} of an HQL query whose literals were replaced by
+ * parameters, which is shared by every query differing only in these literals.
+ * The query should {@linkplain #createBindings create its parameter bindings}
+ * with the values of the literals already bound, and identify its
+ * {@linkplain QueryPlan query plan} by the {@linkplain #getQueryString()
+ * parameterized query string}.
+ * <p>
+ * The synthetic parameters are not part of the {@linkplain #getParameterMetadata()
+ * parameter metadata} exposed to the application.
+ *
+ * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_PARAMETERIZE_LITERALS
+ */
+public class ParameterizedHqlInterpretation<R> implements HqlInterpretation<R> {
+	private final HqlInterpretation<R> interpretation;
+	private final ParameterMetadataImplementor parameterMetadata;
+	private final ParameterizedHql parameterizedHql;
+
+	public ParameterizedHqlInterpretation(HqlInterpretation<R> interpretation, ParameterizedHql parameterizedHql) {
+		this.interpretation = interpretation;
+		this.parameterMetadata = withoutLiteralParameters( interpretation.getDomainParameterXref() );
+		this.parameterizedHql = parameterizedHql;
+	}
+
+	private static ParameterMetadataImplementor withoutLiteralParameters(DomainParameterXref domainParameterXref) {
+		final Map<QueryParameterImplementor<?>, List<SqmParameter<?>>> queryParameters = new LinkedHashMap<>();
+		domainParameterXref.getQueryParameters().forEach( (parameter, sqmParameters) -> {
+			if ( !ParameterizedHql.isLiteralParameter( parameter ) ) {
+				queryParameters.put( parameter, sqmParameters );
+			}
+		} );
+		return queryParameters.isEmpty()
+				? ParameterMetadataImpl.EMPTY
+				: new ParameterMetadataImpl( queryParameters );
+	}
+
+	/**
+	 * The query string with the literals replaced by parameters.
+	 */
+	public String getQueryString() {
+		return parameterizedHql.getQueryString();
+	}
+
+	/**
+	 * Create the parameter bindings of a query, including the bindings of the
+	 * synthetic parameters, to which the values of the replaced literals are bound.
+	 */
+	public QueryParameterBindings createBindings(SessionFactoryImplementor sessionFactory) {
+		final QueryParameterBindings bindings = interpretation.getParameterMetadata().createBindings( sessionFactory );
+		parameterizedHql.bindLiterals( bindings );
+		return bindings;
+	}
+
+	@Override
+	public SqmStatement<R> getSqmStatement() {
+		return interpretation.getSqmStatement();
+	}
+
+	@Override
+	public ParameterMetadataImplementor getParameterMetadata() {
+		return parameterMetadata;
+	}
+
+	@Override
+	public DomainParameterXref getDomainParameterXref() {
+		return interpretation.getDomainParameterXref();
+	}
+
+	@Override
+	public void validateResultType(Class<?> resultType) {
+		interpretation.validateResultType( resultType );
+	}
+}
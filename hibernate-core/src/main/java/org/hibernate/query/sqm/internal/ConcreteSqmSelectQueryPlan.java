@@ -8,6 +8,8 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import jakarta.persistence.Tuple;
 
@@ -80,6 +82,7 @@
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
 
 	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
+	private final Lock lock = new ReentrantLock();
 
 	public ConcreteSqmSelectQueryPlan(
 			SqmSelectStatement<?> sqm,
@@ -379,8 +382,8 @@ public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, Doma
 	private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
 		// NOTE : VERY IMPORTANT - intentional double-lock checking
 		//		The other option would be to leverage `java.util.concurrent.locks.ReadWriteLock`
-		//		to protect access.  However, synchronized is much simpler here.  We will verify
-		// 		during throughput testing whether this is an issue and consider changes then
+		//		to protect access.  However, a simple lock is enough here.  It is not a monitor,
+		// 		so that threads waiting for the translation do not pin virtual thread carriers
 
 		CacheableSqmInterpretation localCopy = cacheableSqmInterpretation;
 		JdbcParameterBindings jdbcParameterBindings = null;
@@ -388,7 +391,8 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 		executionContext.getSession().autoPreFlush();
 
 		if ( localCopy == null ) {
-			synchronized ( this ) {
+			lock.lock();
+			try {
 				localCopy = cacheableSqmInterpretation;
 				if ( localCopy == null ) {
 					localCopy = buildCacheableSqmInterpretation(
@@ -420,6 +424,9 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 					}
 				}
 			}
+			finally {
+				lock.unlock();
+			}
 		}
 		else {
 			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
@@ -58,6 +58,7 @@
 import org.hibernate.query.spi.MutableQueryOptions;
 import org.hibernate.query.spi.NonSelectQueryPlan;
 import org.hibernate.query.spi.ParameterMetadataImplementor;
+import org.hibernate.query.spi.ParameterizedHqlInterpretation;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBindings;
@@ -121,6 +122,7 @@
 		implements SqmQueryImplementor<R>, InterpretationsKeySource, DomainQueryExecutionContext {
 
 	private final String hql;
+	private String parameterizedHql;
 	private SqmStatement<R> sqm;
 
 	private final ParameterMetadataImplementor parameterMetadata;
@@ -173,7 +175,13 @@ public QuerySqmImpl(
 		this.parameterMetadata = hqlInterpretation.getParameterMetadata();
 		this.domainParameterXref = hqlInterpretation.getDomainParameterXref();
 
-		this.parameterBindings = parameterMetadata.createBindings( session.getFactory() );
+		if ( hqlInterpretation instanceof ParameterizedHqlInterpretation<R> parameterizedInterpretation ) {
+			parameterizedHql = parameterizedInterpretation.getQueryString();
+			this.parameterBindings = parameterizedInterpretation.createBindings( session.getFactory() );
+		}
+		else {
+			this.parameterBindings = parameterMetadata.createBindings( session.getFactory() );
+		}
 
 		if ( sqm instanceof SqmSelectStatement<?> ) {
 			hqlInterpretation.validateResultType( resultType );
@@ -264,6 +272,11 @@ public String getQueryString() {
 		return hql;
 	}
 
+	@Override
+	public String getQueryPlanString() {
+		return parameterizedHql == null ? hql : parameterizedHql;
+	}
+
 	@Override
 	public SqmStatement<R> getSqmStatement() {
 		return sqm;
@@ -445,7 +458,12 @@ public ListResultsConsumer.UniqueSemantic getUniqueSemantic() {
 
 	@Override
 	protected ScrollableResultsImplementor<R> doScroll(ScrollMode scrollMode) {
-		return resolveSelectQueryPlan().performScroll( scrollMode, this );
+		return doScroll( scrollMode, this );
+	}
+
+	@Override
+	protected ScrollableResultsImplementor<R> doScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
+		return resolveSelectQueryPlan().performScroll( scrollMode, executionContext );
 	}
 
 
@@ -28,6 +28,14 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 	public interface CacheabilityInfluencers {
 		boolean isQueryPlanCacheable();
 		String getQueryString();
+		/**
+		 * The query string identifying the query plan, which differs from the
+		 * {@linkplain #getQueryString() query string} when the literals of an
+		 * HQL query were replaced by parameters.
+		 */
+		default String getQueryPlanString() {
+			return getQueryString();
+		}
 		SqmStatement<?> getSqmStatement();
 		QueryOptions getQueryOptions();
 		LoadQueryInfluencers getLoadQueryInfluencers();
@@ -42,7 +50,7 @@ public static SqmInterpretationsKey createInterpretationsKey(InterpretationsKeyS
 		if ( isCacheable ( keySource ) ) {
 			final Object query = CRITERIA_HQL_STRING.equals( keySource.getQueryString() )
 					? keySource.getSqmStatement()
-					: keySource.getQueryString();
+					: keySource.getQueryPlanString();
 			return new SqmInterpretationsKey(
 					query,
 					query.hashCode(),
@@ -43,6 +43,7 @@
 import org.hibernate.query.spi.HqlInterpretation;
 import org.hibernate.query.spi.MutableQueryOptions;
 import org.hibernate.query.spi.ParameterMetadataImplementor;
+import org.hibernate.query.spi.ParameterizedHqlInterpretation;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBinding;
@@ -88,6 +89,7 @@
 public class SqmSelectionQueryImpl<R> extends AbstractSqmSelectionQuery<R>
 		implements SqmSelectionQueryImplementor<R>, InterpretationsKeySource {
 	private final String hql;
+	private String parameterizedHql;
 	private SqmSelectStatement<R> sqm;
 
 	private final ParameterMetadataImplementor parameterMetadata;
@@ -111,8 +113,13 @@ public SqmSelectionQueryImpl(
 
 		this.parameterMetadata = hqlInterpretation.getParameterMetadata();
 		this.domainParameterXref = hqlInterpretation.getDomainParameterXref();
-		this.parameterBindings = parameterMetadata.createBindings( session.getFactory() );
-
+		if ( hqlInterpretation instanceof ParameterizedHqlInterpretation<R> parameterizedInterpretation ) {
+			parameterizedHql = parameterizedInterpretation.getQueryString();
+			this.parameterBindings = parameterizedInterpretation.createBindings( session.getFactory() );
+		}
+		else {
+			this.parameterBindings = parameterMetadata.createBindings( session.getFactory() );
+		}
 
 		this.expectedResultType = expectedResultType;
 		this.resultType = determineResultType( sqm, expectedResultType );
@@ -347,6 +354,11 @@ public String getQueryString() {
 		return hql;
 	}
 
+	@Override
+	public String getQueryPlanString() {
+		return parameterizedHql == null ? hql : parameterizedHql;
+	}
+
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// convenience methods
 
@@ -438,7 +450,12 @@ public QueryOptions getQueryOptions() {
 
 	@Override
 	protected ScrollableResultsImplementor<R> doScroll(ScrollMode scrollMode) {
-		return resolveQueryPlan().performScroll( scrollMode, this );
+		return doScroll( scrollMode, this );
+	}
+
+	@Override
+	protected ScrollableResultsImplementor<R> doScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
+		return resolveQueryPlan().performScroll( scrollMode, executionContext );
 	}
 
 	@Override
@@ -135,6 +135,11 @@ public Stream<R> stream() {
 		return getDelegate().stream();
 	}
 
+	@Override
+	public Stream<R> getDetachedResultStream(int chunkSize) {
+		return getDelegate().getDetachedResultStream( chunkSize );
+	}
+
 	@Override
 	public R uniqueResult() {
 		return getDelegate().uniqueResult();
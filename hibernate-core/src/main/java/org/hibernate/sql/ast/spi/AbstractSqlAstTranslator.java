@@ -8859,20 +8859,25 @@ private void renderInsertInto(TableInsertStandard tableInsert) {
 
 		getCurrentClauseStack().push( Clause.VALUES );
 		try {
-			sqlBuffer.append( ") values (" );
+			sqlBuffer.append( ") values " );
 
-			tableInsert.forEachValueBinding( (columnPosition, columnValueBinding) -> {
-				if ( columnPosition > 0 ) {
+			for ( int row = 0; row < tableInsert.getNumberOfRows(); row++ ) {
+				if ( row > 0 ) {
 					sqlBuffer.append( ',' );
 				}
-				columnValueBinding.getValueExpression().accept( this );
-			} );
+				sqlBuffer.append( '(' );
+				tableInsert.forEachValueBinding( (columnPosition, columnValueBinding) -> {
+					if ( columnPosition > 0 ) {
+						sqlBuffer.append( ',' );
+					}
+					columnValueBinding.getValueExpression().accept( this );
+				} );
+				sqlBuffer.append( ')' );
+			}
 		}
 		finally {
 			getCurrentClauseStack().pop();
 		}
-
-		sqlBuffer.append( ")" );
 	}
 
 	/**
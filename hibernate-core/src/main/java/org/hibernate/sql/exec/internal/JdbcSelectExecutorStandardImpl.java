@@ -9,6 +9,7 @@
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.CacheMode;
+import org.hibernate.cache.internal.CompactQueryResults;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.engine.spi.PersistenceContext;
@@ -231,11 +232,9 @@ public boolean shouldReturnProxies() {
 		if ( stats ) {
 			final long endTime = System.nanoTime();
 			final long milliseconds = TimeUnit.MILLISECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
-			statistics.queryExecuted(
-					executionContext.getQueryIdentifier( jdbcSelect.getSqlString() ),
-					getResultSize( result ),
-					milliseconds
-			);
+			final String queryIdentifier = executionContext.getQueryIdentifier( jdbcSelect.getSqlString() );
+			statistics.queryExecuted( queryIdentifier, getResultSize( result ), milliseconds );
+			statistics.queryLatency( queryIdentifier, endTime - startTime );
 		}
 
 		return result;
@@ -357,12 +356,19 @@ private JdbcValues resolveJdbcValuesSource(
 			);
 		}
 		else {
+			final Object cachedMetadata;
+			if ( cachedResults instanceof CompactQueryResults compactResults ) {
+				cachedMetadata = compactResults.getMetadata();
+			}
+			else {
+				cachedMetadata = cachedResults.isEmpty() ? null : cachedResults.get( 0 );
+			}
 			final JdbcValuesMapping jdbcValuesMapping;
-			if ( cachedResults.isEmpty() || !( cachedResults.get( 0 ) instanceof JdbcValuesMetadata ) ) {
+			if ( !( cachedMetadata instanceof JdbcValuesMetadata jdbcValuesMetadata ) ) {
 				jdbcValuesMapping = mappingProducer.resolve( resultSetAccess, session.getLoadQueryInfluencers(), factory );
 			}
 			else {
-				jdbcValuesMapping = mappingProducer.resolve( (JdbcValuesMetadata) cachedResults.get( 0 ), session.getLoadQueryInfluencers(), factory );
+				jdbcValuesMapping = mappingProducer.resolve( jdbcValuesMetadata, session.getLoadQueryInfluencers(), factory );
 			}
 			return new JdbcValuesCacheHit( cachedResults, jdbcValuesMapping );
 		}
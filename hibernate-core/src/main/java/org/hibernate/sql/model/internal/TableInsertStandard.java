@@ -20,6 +20,7 @@
  */
 public class TableInsertStandard extends AbstractTableInsert {
 	private final List<ColumnReference> returningColumns;
+	private final int numberOfRows;
 
 	public TableInsertStandard(
 			MutatingTableReference mutatingTable,
@@ -27,8 +28,46 @@ public TableInsertStandard(
 			List<ColumnValueBinding> valueBindings,
 			List<ColumnReference> returningColumns,
 			List<ColumnValueParameter> parameters) {
+		this( mutatingTable, mutationTarget, valueBindings, returningColumns, parameters, 1 );
+	}
+
+	/**
+	 * An insert of the given number of rows, each with the given value bindings.
+	 * The parameters of the value bindings are rendered once for each row.
+	 */
+	public TableInsertStandard(
+			MutatingTableReference mutatingTable,
+			MutationTarget<?> mutationTarget,
+			List<ColumnValueBinding> valueBindings,
+			List<ColumnReference> returningColumns,
+			List<ColumnValueParameter> parameters,
+			int numberOfRows) {
 		super( mutatingTable, mutationTarget, parameters, valueBindings );
 		this.returningColumns = returningColumns;
+		this.numberOfRows = numberOfRows;
+	}
+
+	/**
+	 * The same insert, of the given number of rows.
+	 *
+	 * @see org.hibernate.dialect.Dialect#supportsValuesListForInsert()
+	 */
+	public TableInsertStandard withNumberOfRows(int numberOfRows) {
+		return new TableInsertStandard(
+				getMutatingTable(),
+				getMutationTarget(),
+				getValueBindings(),
+				returningColumns,
+				getParameters(),
+				numberOfRows
+		);
+	}
+
+	/**
+	 * The number of rows inserted by the statement.
+	 */
+	public int getNumberOfRows() {
+		return numberOfRows;
 	}
 
 	@Override
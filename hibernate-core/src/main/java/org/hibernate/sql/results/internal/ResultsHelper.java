@@ -4,8 +4,13 @@
  */
 package org.hibernate.sql.results.internal;
 
+import java.lang.invoke.MethodHandle;
 
 import org.hibernate.CacheMode;
+import org.hibernate.HibernateException;
+import org.hibernate.bytecode.internal.bytebuddy.BytecodeProviderImpl;
+import org.hibernate.bytecode.internal.bytebuddy.RowReaderCompiler;
+import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.entry.CollectionCacheEntry;
 import org.hibernate.collection.spi.PersistentCollection;
@@ -24,6 +29,7 @@
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesMappingResolutionImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValues;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingResolution;
@@ -53,6 +59,14 @@ public static <R> RowReader<R> createRowReader(
 			Class<R> transformedResultJavaType,
 			JdbcValuesMapping jdbcValuesMapping) {
 		final JdbcValuesMappingResolution jdbcValuesMappingResolution = jdbcValuesMapping.resolveAssemblers( sessionFactory );
+		final int compileThreshold = sessionFactory.getSessionFactoryOptions().getRowReaderCompileThreshold();
+		if ( compileThreshold > 0
+				&& jdbcValuesMappingResolution instanceof JdbcValuesMappingResolutionImpl resolution ) {
+			final MethodHandle factory = compiledRowReaderFactory( sessionFactory, resolution, compileThreshold );
+			if ( factory != null ) {
+				return createCompiledRowReader( factory, resolution, rowTransformer, transformedResultJavaType );
+			}
+		}
 		return new StandardRowReader<>(
 				jdbcValuesMappingResolution,
 				rowTransformer,
@@ -60,6 +74,51 @@ public static <R> RowReader<R> createRowReader(
 		);
 	}
 
+	private static MethodHandle compiledRowReaderFactory(
+			SessionFactoryImplementor sessionFactory,
+			JdbcValuesMappingResolutionImpl resolution,
+			int threshold) {
+		try {
+			return resolution.getCompiledRowReaderFactory(
+					threshold,
+					toCompile -> rowReaderCompiler( sessionFactory ).compile( toCompile )
+			);
+		}
+		catch (RuntimeException e) {
+			// the standard row reader is always a valid fallback
+			LOG.debug( "Unable to generate row reader, using standard row reader", e );
+			return null;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <R> RowReader<R> createCompiledRowReader(
+			MethodHandle factory,
+			JdbcValuesMappingResolution resolution,
+			RowTransformer<R> rowTransformer,
+			Class<R> transformedResultJavaType) {
+		try {
+			return (StandardRowReader<R>) factory.invokeExact( resolution, rowTransformer, transformedResultJavaType );
+		}
+		catch (RuntimeException | Error e) {
+			throw e;
+		}
+		catch (Throwable t) {
+			throw new HibernateException( "Unable to instantiate generated row reader", t );
+		}
+	}
+
+	private static RowReaderCompiler rowReaderCompiler(SessionFactoryImplementor sessionFactory) {
+		final BytecodeProvider bytecodeProvider =
+				sessionFactory.getServiceRegistry().requireService( BytecodeProvider.class );
+		if ( bytecodeProvider instanceof BytecodeProviderImpl byteBuddyBytecodeProvider ) {
+			return byteBuddyBytecodeProvider.getRowReaderCompiler();
+		}
+		else {
+			throw new HibernateException( "Generated row readers require the ByteBuddy bytecode provider" );
+		}
+	}
+
 	public static void finalizeCollectionLoading(
 			PersistenceContext persistenceContext,
 			CollectionPersister collectionDescriptor,
@@ -22,17 +22,22 @@
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
+ * @implNote The arrays of assemblers and initializers, and of their data, are
+ * package-private so that the row readers generated by
+ * {@link org.hibernate.bytecode.internal.bytebuddy.RowReaderCompiler} may
+ * access them.
+ *
  * @author Steve Ebersole
  */
 @SuppressWarnings("rawtypes")
 public class StandardRowReader<T> implements RowReader<T> {
-	private final DomainResultAssembler<?>[] resultAssemblers;
-	private final Initializer<InitializerData>[] resultInitializers;
-	private final InitializerData[] resultInitializersData;
-	private final Initializer<InitializerData>[] initializers;
-	private final InitializerData[] initializersData;
-	private final Initializer<InitializerData>[] sortedForResolveInstance;
-	private final InitializerData[] sortedForResolveInstanceData;
+	final DomainResultAssembler<?>[] resultAssemblers;
+	final Initializer<InitializerData>[] resultInitializers;
+	final InitializerData[] resultInitializersData;
+	final Initializer<InitializerData>[] initializers;
+	final InitializerData[] initializersData;
+	final Initializer<InitializerData>[] sortedForResolveInstance;
+	final InitializerData[] sortedForResolveInstanceData;
 	private final boolean hasCollectionInitializers;
 	private final @Nullable RowTransformer<T> rowTransformer;
 	private final Class<T> domainResultJavaType;
@@ -140,13 +145,11 @@ public T readRow(RowProcessingState rowProcessingState) {
 		else {
 			if ( resultAssemblers.length == 1 && rowTransformer == null ) {
 				//noinspection unchecked
-				result = (T) resultAssemblers[0].assemble( rowProcessingState );
+				result = (T) assembleSingleResult( rowProcessingState );
 			}
 			else {
 				final Object[] resultRow = (Object[]) Array.newInstance( resultElementClass, resultAssemblers.length );
-				for ( int i = 0; i < resultAssemblers.length; i++ ) {
-					resultRow[i] = resultAssemblers[i].assemble( rowProcessingState );
-				}
+				assembleRow( resultRow, rowProcessingState );
 				//noinspection unchecked
 				result = rowTransformer == null
 						? (T) resultRow
@@ -217,13 +220,29 @@ private T readPrimitiveRow(RowProcessingState rowProcessingState) {
 		}
 	}
 
-	private void finishUpRow() {
+	/**
+	 * Assemble the result of a row with a single result and no row transformer.
+	 */
+	protected Object assembleSingleResult(RowProcessingState rowProcessingState) {
+		return resultAssemblers[0].assemble( rowProcessingState );
+	}
+
+	/**
+	 * Assemble each result of a row into the given array.
+	 */
+	protected void assembleRow(Object[] resultRow, RowProcessingState rowProcessingState) {
+		for ( int i = 0; i < resultAssemblers.length; i++ ) {
+			resultRow[i] = resultAssemblers[i].assemble( rowProcessingState );
+		}
+	}
+
+	protected void finishUpRow() {
 		for ( InitializerData data : initializersData ) {
 			data.setState( Initializer.State.UNINITIALIZED );
 		}
 	}
 
-	private void coordinateInitializers(RowProcessingState rowProcessingState) {
+	protected void coordinateInitializers(RowProcessingState rowProcessingState) {
 		for ( int i = 0; i < resultInitializers.length; i++ ) {
 			resultInitializers[i].resolveKey( resultInitializersData[i] );
 		}
@@ -4,8 +4,10 @@
  */
 package org.hibernate.sql.results.jdbc.internal;
 
+import java.util.Arrays;
 import java.util.List;
 
+import org.hibernate.cache.internal.CompactQueryResults;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
@@ -17,6 +19,7 @@
  */
 public class JdbcValuesCacheHit extends AbstractJdbcValues {
 	private List<?> cachedResults;
+	private CompactQueryResults compactResults;
 	private final int numberOfRows;
 	private final JdbcValuesMapping resolvedMapping;
 	private final int[] valueIndexesToCacheIndexes;
@@ -24,12 +27,29 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 	private final int resultCount;
 	private int position = -1;
 
+	// the boxed values of the primitive columns of the compact results,
+	// and the positions they were read at, so that each is boxed once
+	private Object[] boxedValues;
+	private int[] boxedPositions;
+
 	public JdbcValuesCacheHit(List<?> cachedResults, JdbcValuesMapping resolvedMapping) {
 		// See QueryCachePutManagerEnabledImpl for what is being put into the cached results
 		this.cachedResults = cachedResults;
-		this.offset = !cachedResults.isEmpty() && cachedResults.get( 0 ) instanceof CachedJdbcValuesMetadata ? 1 : 0;
-		this.numberOfRows = cachedResults.size() - offset - 1;
-		this.resultCount = cachedResults.isEmpty() ? 0 : (int) cachedResults.get( cachedResults.size() - 1 );
+		if ( cachedResults instanceof CompactQueryResults compact ) {
+			// read the values in place, without reconstructing the rows
+			this.compactResults = compact;
+			this.offset = 0;
+			this.numberOfRows = compact.getRowCount();
+			this.resultCount = compact.getResultCount();
+			this.boxedValues = new Object[compact.getColumnCount()];
+			this.boxedPositions = new int[compact.getColumnCount()];
+			Arrays.fill( boxedPositions, -1 );
+		}
+		else {
+			this.offset = !cachedResults.isEmpty() && cachedResults.get( 0 ) instanceof CachedJdbcValuesMetadata ? 1 : 0;
+			this.numberOfRows = cachedResults.size() - offset - 1;
+			this.resultCount = cachedResults.isEmpty() ? 0 : (int) cachedResults.get( cachedResults.size() - 1 );
+		}
 		this.resolvedMapping = resolvedMapping;
 		this.valueIndexesToCacheIndexes = resolvedMapping.getValueIndexesToCacheIndexes();
 	}
@@ -170,6 +190,20 @@ public Object getCurrentRowValue(int valueIndex) {
 		if ( position >= numberOfRows ) {
 			return null;
 		}
+		if ( compactResults != null ) {
+			final int column;
+			if ( valueIndexesToCacheIndexes == null ) {
+				column = valueIndex;
+			}
+			else if ( compactResults.hasSingleValueRows() ) {
+				assert valueIndexesToCacheIndexes[valueIndex] == 0;
+				column = 0;
+			}
+			else {
+				column = valueIndexesToCacheIndexes[valueIndex];
+			}
+			return getCompactValue( column );
+		}
 		final Object row = cachedResults.get( position + offset );
 		if ( valueIndexesToCacheIndexes == null ) {
 			return ( (Object[]) row )[valueIndex];
@@ -183,9 +217,26 @@ else if ( row instanceof Object[] ) {
 		}
 	}
 
+	private Object getCompactValue(int column) {
+		final boolean longColumn = compactResults.isLongColumn( column );
+		if ( !longColumn && !compactResults.isIntColumn( column ) ) {
+			return compactResults.getObject( position, column );
+		}
+		else if ( boxedPositions[column] != position ) {
+			boxedValues[column] = longColumn
+					? (Object) compactResults.getLong( position, column )
+					: (Object) compactResults.getInt( position, column );
+			boxedPositions[column] = position;
+		}
+		return boxedValues[column];
+	}
+
 	@Override
 	public void finishUp(SharedSessionContractImplementor session) {
 		cachedResults = null;
+		compactResults = null;
+		boxedValues = null;
+		boxedPositions = null;
 	}
 
 	@Override
@@ -4,13 +4,18 @@
  */
 package org.hibernate.sql.results.jdbc.internal;
 
+import java.lang.invoke.MethodHandle;
 import java.util.LinkedHashSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import org.hibernate.sql.results.graph.DomainResultAssembler;
 import org.hibernate.sql.results.graph.Initializer;
 import org.hibernate.sql.results.internal.InitializersList;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingResolution;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 public class JdbcValuesMappingResolutionImpl implements JdbcValuesMappingResolution {
 
 	private final DomainResultAssembler<?>[] domainResultAssemblers;
@@ -18,6 +23,10 @@ public class JdbcValuesMappingResolutionImpl implements JdbcValuesMappingResolut
 	private final boolean hasCollectionInitializers;
 	private final InitializersList initializersList;
 
+	private final AtomicInteger executionCount = new AtomicInteger();
+	private volatile @Nullable MethodHandle compiledRowReaderFactory;
+	private volatile boolean compilationFailed;
+
 	public JdbcValuesMappingResolutionImpl(
 			DomainResultAssembler<?>[] domainResultAssemblers,
 			boolean hasCollectionInitializers,
@@ -69,4 +78,36 @@ public Initializer<?>[] getSortedForResolveInstance() {
 		return initializersList.getSortedForResolveInstance();
 	}
 
+	/**
+	 * Record an execution of a query whose results are read using this resolution,
+	 * and return the factory for generated row readers once the given number of
+	 * executions has been reached.
+	 *
+	 * @param threshold the number of executions before a row reader is generated
+	 * @param compiler generates a row reader for this resolution, returning its factory
+	 *
+	 * @return the factory, or {@code null} if the threshold has not been reached yet,
+	 *         or if the row reader could not be generated
+	 */
+	public @Nullable MethodHandle getCompiledRowReaderFactory(
+			int threshold,
+			Function<JdbcValuesMappingResolution, MethodHandle> compiler) {
+		final MethodHandle factory = compiledRowReaderFactory;
+		if ( factory != null || compilationFailed ) {
+			return factory;
+		}
+		// only the execution which reaches the threshold generates the row reader,
+		// the others keep using the standard row reader until it is available
+		if ( executionCount.incrementAndGet() == threshold ) {
+			try {
+				return compiledRowReaderFactory = compiler.apply( this );
+			}
+			catch (RuntimeException e) {
+				compilationFailed = true;
+				throw e;
+			}
+		}
+		return null;
+	}
+
 }
@@ -39,6 +39,24 @@ public interface CacheRegionStatistics extends Serializable {
 	 */
 	long getMissCount();
 
+	/**
+	 * The number of reads from the region which were served by its
+	 * {@linkplain org.hibernate.cfg.CacheSettings#NEAR_CACHE_MAX_ENTRIES near cache},
+	 * without calling the cache provider, since the last Statistics clearing
+	 *
+	 * @since 7.0
+	 */
+	long getNearCacheHitCount();
+
+	/**
+	 * The number of reads from the region which were not served by its
+	 * {@linkplain org.hibernate.cfg.CacheSettings#NEAR_CACHE_MAX_ENTRIES near cache},
+	 * and so called the cache provider, since the last Statistics clearing
+	 *
+	 * @since 7.0
+	 */
+	long getNearCacheMissCount();
+
 	/**
 	 * The number of elements currently in memory within the cache provider.
 	 * <p>
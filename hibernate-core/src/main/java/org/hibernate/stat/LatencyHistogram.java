@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+import org.hibernate.Incubating;
+
+/**
+ * A histogram of the latencies of some operation, for example, of the
+ * executions of a query, from which the percentiles of the latency may
+ * be estimated.
+ * <p>
+ * The latencies are counted in buckets whose width grows with the
+ * latency, so that a value is estimated with a relative error of at
+ * most 1/16, using a fixed amount of memory.
+ *
+ * @see org.hibernate.stat.spi.StatisticsImplementor#getQueryLatencyHistogram(String)
+ *
+ * @since 7.0
+ */
+@Incubating
+public interface LatencyHistogram extends Serializable {
+	/**
+	 * The number of latencies recorded since the last Statistics clearing
+	 */
+	long getCount();
+
+	/**
+	 * The highest latency recorded, in microseconds
+	 */
+	long getMaxValue();
+
+	/**
+	 * An estimate of the latency, in microseconds, which is not exceeded by
+	 * the given percentage of the recorded latencies, or zero if no latency
+	 * has been recorded.
+	 *
+	 * @param percentile a percentage between 0 and 100, for example,
+	 *                   {@code 99.0} for the 99th percentile
+	 */
+	long getValueAtPercentile(double percentile);
+}
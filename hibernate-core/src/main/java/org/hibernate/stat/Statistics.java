@@ -341,6 +341,18 @@ public interface Statistics {
 	 */
 	Map<String,Long> getSlowQueries();
 
+	/**
+	 * If {@value org.hibernate.cfg.BatchSettings#ADAPTIVE_TARGET_LATENCY}
+	 * is enabled, a map from the {@linkplain
+	 * org.hibernate.engine.jdbc.batch.spi.BatchKey#toLoggableString() batch key}
+	 * to the size currently chosen for the JDBC batches of that key.
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#ADAPTIVE_TARGET_LATENCY
+	 */
+	Map<String,Integer> getJdbcBatchSizes();
+
 	/**
 	 * The names of all entities.
 	 */
@@ -393,4 +405,12 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The global number of entries evicted from the query plan cache
+	 * because it reached its maximum size.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_MAX_SIZE
+	 */
+	long getQueryPlanCacheEvictionCount();
 }
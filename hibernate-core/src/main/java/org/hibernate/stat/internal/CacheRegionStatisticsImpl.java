@@ -22,6 +22,8 @@ public class CacheRegionStatisticsImpl implements CacheRegionStatistics, Seriali
 	private final LongAdder hitCount = new LongAdder();
 	private final LongAdder missCount = new LongAdder();
 	private final LongAdder putCount = new LongAdder();
+	private final LongAdder nearCacheHitCount = new LongAdder();
+	private final LongAdder nearCacheMissCount = new LongAdder();
 
 	CacheRegionStatisticsImpl(Region region) {
 		this.region = region;
@@ -47,6 +49,16 @@ public long getPutCount() {
 		return putCount.sum();
 	}
 
+	@Override
+	public long getNearCacheHitCount() {
+		return nearCacheHitCount.sum();
+	}
+
+	@Override
+	public long getNearCacheMissCount() {
+		return nearCacheMissCount.sum();
+	}
+
 	@Override
 	public long getElementCountInMemory() {
 		if ( region instanceof ExtendedStatisticsSupport ) {
@@ -83,6 +95,14 @@ void incrementPutCount() {
 		putCount.increment();
 	}
 
+	void incrementNearCacheHitCount() {
+		nearCacheHitCount.increment();
+	}
+
+	void incrementNearCacheMissCount() {
+		nearCacheMissCount.increment();
+	}
+
 	@Override
 	public String toString() {
 		String buf = "CacheRegionStatistics" +
@@ -90,6 +110,8 @@ public String toString() {
 				",hitCount=" + this.hitCount +
 				",missCount=" + this.missCount +
 				",putCount=" + this.putCount +
+				",nearCacheHitCount=" + this.nearCacheHitCount +
+				",nearCacheMissCount=" + this.nearCacheMissCount +
 				",elementCountInMemory=" + this.getElementCountInMemory() +
 				",elementCountOnDisk=" + this.getElementCountOnDisk() +
 				",sizeInMemory=" + this.getSizeInMemory() +
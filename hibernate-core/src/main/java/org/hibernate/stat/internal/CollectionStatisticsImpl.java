@@ -8,6 +8,7 @@
 import java.util.concurrent.atomic.LongAdder;
 
 import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.stat.LatencyHistogram;
 import org.hibernate.stat.CollectionStatistics;
 
 /**
@@ -23,6 +24,7 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 	private final LongAdder updateCount = new LongAdder();
 	private final LongAdder removeCount = new LongAdder();
 	private final LongAdder recreateCount = new LongAdder();
+	private final LatencyHistogramImpl fetchLatency = new LatencyHistogramImpl();
 
 	CollectionStatisticsImpl(CollectionPersister persister) {
 		super(
@@ -54,6 +56,17 @@ public long getUpdateCount() {
 		return updateCount.sum();
 	}
 
+	/**
+	 * The latencies of the fetches of this collection from the database
+	 */
+	public LatencyHistogram getFetchLatencyHistogram() {
+		return fetchLatency;
+	}
+
+	void recordFetchLatency(long nanoseconds) {
+		fetchLatency.record( nanoseconds );
+	}
+
 	void incrementLoadCount() {
 		loadCount.increment();
 	}
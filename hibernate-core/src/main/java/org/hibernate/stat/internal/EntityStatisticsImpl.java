@@ -8,6 +8,7 @@
 import java.util.concurrent.atomic.LongAdder;
 
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.LatencyHistogram;
 import org.hibernate.stat.EntityStatistics;
 
 /**
@@ -24,6 +25,7 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 	private final LongAdder deleteCount = new LongAdder();
 	private final LongAdder fetchCount = new LongAdder();
 	private final LongAdder optimisticFailureCount = new LongAdder();
+	private final LatencyHistogramImpl fetchLatency = new LatencyHistogramImpl();
 
 	EntityStatisticsImpl(EntityPersister rootEntityDescriptor) {
 		super(
@@ -58,6 +60,17 @@ public long getOptimisticFailureCount() {
 		return optimisticFailureCount.sum();
 	}
 
+	/**
+	 * The latencies of the fetches of this entity from the database
+	 */
+	public LatencyHistogram getFetchLatencyHistogram() {
+		return fetchLatency;
+	}
+
+	void recordFetchLatency(long nanoseconds) {
+		fetchLatency.record( nanoseconds );
+	}
+
 	void incrementLoadCount() {
 		loadCount.increment();
 	}
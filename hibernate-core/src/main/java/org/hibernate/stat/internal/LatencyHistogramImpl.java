@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.hibernate.stat.LatencyHistogram;
+
+/**
+ * A {@link LatencyHistogram} with log-linear buckets, in the style of an
+ * HDR histogram: latencies below {@value #SUB_BUCKETS} microseconds each
+ * have their own bucket, and every other power of two is divided into
+ * {@value #SUB_BUCKETS} buckets of equal width. Latencies are recorded
+ * without locking, by incrementing the count of their bucket.
+ */
+public class LatencyHistogramImpl implements LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	// latencies above 2^36 microseconds (about 19 hours) share the last bucket
+	private static final int MAX_EXPONENT = 36;
+	private static final long MAX_VALUE = ( 1L << ( MAX_EXPONENT + 1 ) ) - 1;
+	private static final int BUCKETS = SUB_BUCKETS * ( MAX_EXPONENT - SUB_BUCKET_BITS + 2 );
+
+	private final AtomicLongArray counts = new AtomicLongArray( BUCKETS );
+	private final AtomicLong maxValue = new AtomicLong();
+
+	/**
+	 * Record a latency
+	 *
+	 * @param nanoseconds the latency in nanoseconds
+	 */
+	public void record(long nanoseconds) {
+		final long value = Math.min( Math.max( TimeUnit.NANOSECONDS.toMicros( nanoseconds ), 0 ), MAX_VALUE );
+		counts.incrementAndGet( bucket( value ) );
+		for ( long old = maxValue.get(); value > old && !maxValue.compareAndSet( old, value ); old = maxValue.get() ) {
+		}
+	}
+
+	private static int bucket(long value) {
+		if ( value < SUB_BUCKETS ) {
+			return (int) value;
+		}
+		else {
+			final int exponent = 63 - Long.numberOfLeadingZeros( value );
+			final int subBucket = (int) ( value >>> ( exponent - SUB_BUCKET_BITS ) ) & ( SUB_BUCKETS - 1 );
+			return SUB_BUCKETS * ( exponent - SUB_BUCKET_BITS + 1 ) + subBucket;
+		}
+	}
+
+	/**
+	 * The highest value which falls in the given bucket
+	 */
+	private static long highestValue(int bucket) {
+		if ( bucket < SUB_BUCKETS ) {
+			return bucket;
+		}
+		else {
+			final int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+			final long subBucket = bucket % SUB_BUCKETS;
+			final int shift = exponent - SUB_BUCKET_BITS;
+			return ( ( SUB_BUCKETS + subBucket + 1 ) << shift ) - 1;
+		}
+	}
+
+	@Override
+	public long getCount() {
+		long count = 0;
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			count += counts.get( i );
+		}
+		return count;
+	}
+
+	@Override
+	public long getMaxValue() {
+		return maxValue.get();
+	}
+
+	@Override
+	public long getValueAtPercentile(double percentile) {
+		final long[] snapshot = new long[BUCKETS];
+		long count = 0;
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			snapshot[i] = counts.get( i );
+			count += snapshot[i];
+		}
+		if ( count == 0 ) {
+			return 0;
+		}
+		final double fraction = Math.min( Math.max( percentile, 0.0 ), 100.0 ) / 100.0;
+		final long rank = Math.max( 1, (long) Math.ceil( fraction * count ) );
+		long seen = 0;
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			seen += snapshot[i];
+			if ( seen >= rank ) {
+				// never report more than the highest recorded value
+				return Math.min( highestValue( i ), maxValue.get() );
+			}
+		}
+		return maxValue.get();
+	}
+
+	@Override
+	public String toString() {
+		return "LatencyHistogram[count=" + getCount()
+				+ ",p50=" + getValueAtPercentile( 50.0 )
+				+ ",p99=" + getValueAtPercentile( 99.0 )
+				+ ",max=" + getMaxValue()
+				+ ']';
+	}
+}
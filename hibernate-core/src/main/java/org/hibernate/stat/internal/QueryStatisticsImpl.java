@@ -11,6 +11,7 @@
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.query.Query;
+import org.hibernate.stat.LatencyHistogram;
 import org.hibernate.stat.QueryStatistics;
 
 /**
@@ -36,6 +37,8 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	private final LongAdder planCacheMissCount = new LongAdder();
 	private final AtomicLong planCompilationTotalMicroseconds = new AtomicLong();
 
+	private final LatencyHistogramImpl executionLatency = new LatencyHistogramImpl();
+
 
 	private final Lock readLock;
 	private final Lock writeLock;
@@ -175,6 +178,22 @@ public void executed(long rows, long time) {
 		}
 	}
 
+	/**
+	 * The latencies of the executions of this query onto the DB
+	 */
+	public LatencyHistogram getExecutionLatencyHistogram() {
+		return executionLatency;
+	}
+
+	/**
+	 * add the latency of an execution of this query onto the DB
+	 *
+	 * @param nanoseconds time taken
+	 */
+	void recordExecutionLatency(long nanoseconds) {
+		executionLatency.record( nanoseconds );
+	}
+
 	/**
 	 * add plan statistics report of a DB query
 	 *
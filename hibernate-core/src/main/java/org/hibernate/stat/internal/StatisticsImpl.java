@@ -26,6 +26,7 @@
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.Service;
+import org.hibernate.stat.LatencyHistogram;
 import org.hibernate.stat.Statistics;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -96,6 +97,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
+	private final LongAdder queryPlanCacheEvictionCount = new LongAdder();
 
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
@@ -125,6 +127,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	 */
 	private final Map<String, Long> slowQueries = new ConcurrentHashMap<>();
 
+	/**
+	 * Keyed by batch key
+	 */
+	private final Map<String, Integer> jdbcBatchSizes = new ConcurrentHashMap<>();
+
 	public StatisticsImpl(SessionFactoryImplementor sessionFactory) {
 		Objects.requireNonNull( sessionFactory );
 		SessionFactoryOptions sessionFactoryOptions = sessionFactory.getSessionFactoryOptions();
@@ -207,6 +214,7 @@ public void clear() {
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		queryPlanCacheEvictionCount.reset();
 
 		resetStart();
 	}
@@ -771,6 +779,11 @@ public long getQueryPlanCacheMissCount() {
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public long getQueryPlanCacheEvictionCount() {
+		return queryPlanCacheEvictionCount.sum();
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -798,6 +811,11 @@ public void queryPlanCacheMiss(String query) {
 		}
 	}
 
+	@Override
+	public void queryPlanCacheEviction(String query) {
+		queryPlanCacheEvictionCount.increment();
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return NullnessUtil.castNonNull(
 					l2CacheStatsMap.getOrCompute(
@@ -929,6 +947,7 @@ public void logSummary() {
 		LOG.maxQueryTime( queryExecutionMaxTime.get() );
 		LOG.queryPlanCacheHits( queryPlanCacheHitCount.sum() );
 		LOG.queryPlanCacheMisses( queryPlanCacheMissCount.sum() );
+		LOG.queryPlanCacheEvictions( queryPlanCacheEvictionCount.sum() );
 	}
 
 	@Override
@@ -972,6 +991,7 @@ public String toString() {
 				",max query time=" + queryExecutionMaxTime +
 				",query plan cache hits=" + queryPlanCacheHitCount +
 				",query plan cache misses=" + queryPlanCacheMissCount +
+				",query plan cache evictions=" + queryPlanCacheEvictionCount +
 				']';
 	}
 
@@ -1037,4 +1057,59 @@ public Map<String, Long> getSlowQueries() {
 	public void slowQuery(String sql, long executionTime) {
 		slowQueries.merge( sql, executionTime, Math::max );
 	}
+
+	@Override
+	public Map<String, Integer> getJdbcBatchSizes() {
+		return jdbcBatchSizes;
+	}
+
+	@Override
+	public void jdbcBatchSizeAdapted(String batchKey, int batchSize) {
+		jdbcBatchSizes.put( batchKey, batchSize );
+	}
+
+	@Override
+	public void nearCacheHit(String regionName) {
+		getDomainDataRegionStatistics( regionName ).incrementNearCacheHitCount();
+	}
+
+	@Override
+	public void nearCacheMiss(String regionName) {
+		getDomainDataRegionStatistics( regionName ).incrementNearCacheMissCount();
+	}
+
+	@Override
+	public void queryLatency(String hql, long nanoseconds) {
+		if ( hql != null ) {
+			getQueryStatistics( hql ).recordExecutionLatency( nanoseconds );
+		}
+	}
+
+	@Override
+	public void entityFetchLatency(String entityName, long nanoseconds) {
+		getEntityStatistics( entityName ).recordFetchLatency( nanoseconds );
+	}
+
+	@Override
+	public void collectionFetchLatency(String role, long nanoseconds) {
+		getCollectionStatistics( role ).recordFetchLatency( nanoseconds );
+	}
+
+	@Override
+	public @Nullable LatencyHistogram getQueryLatencyHistogram(String hql) {
+		final QueryStatisticsImpl statistics = queryStatsMap.get( hql );
+		return statistics == null ? null : statistics.getExecutionLatencyHistogram();
+	}
+
+	@Override
+	public @Nullable LatencyHistogram getEntityFetchLatencyHistogram(String entityName) {
+		final EntityStatisticsImpl statistics = entityStatsMap.get( entityName );
+		return statistics == null ? null : statistics.getFetchLatencyHistogram();
+	}
+
+	@Override
+	public @Nullable LatencyHistogram getCollectionFetchLatencyHistogram(String role) {
+		final CollectionStatisticsImpl statistics = collectionStatsMap.get( role );
+		return statistics == null ? null : statistics.getFetchLatencyHistogram();
+	}
 }
@@ -4,10 +4,14 @@
  */
 package org.hibernate.stat.spi;
 
+import org.hibernate.Incubating;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.service.Service;
+import org.hibernate.stat.LatencyHistogram;
 import org.hibernate.stat.Statistics;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import java.util.Map;
 
 import static java.util.Collections.emptyMap;
@@ -267,6 +271,16 @@ default void queryPlanCacheMiss(String query) {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating an entry was evicted from the query plan cache
+	 * to keep it within its configured bound.
+	 *
+	 * @param query The query, or {@code null} for a criteria query
+	 */
+	default void queryPlanCacheEviction(String query) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
@@ -289,4 +303,107 @@ default Map<String, Long> getSlowQueries() {
 		//For backward compatibility
 		return emptyMap();
 	}
+
+	/**
+	 * Register the size chosen for the JDBC batches of the given batch key
+	 * after the execution of one of its batches.
+	 */
+	default void jdbcBatchSizeAdapted(String batchKey, int batchSize) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a get from the near cache of a second-level
+	 * cache region resulted in a hit.
+	 *
+	 * @param regionName The name of the domain data region
+	 */
+	default void nearCacheHit(String regionName) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a get from the near cache of a second-level
+	 * cache region resulted in a miss.
+	 *
+	 * @param regionName The name of the domain data region
+	 */
+	default void nearCacheMiss(String regionName) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating the latency of an execution of a query,
+	 * to be recorded in its {@linkplain #getQueryLatencyHistogram latency histogram}.
+	 *
+	 * @param hql The query
+	 * @param nanoseconds The time taken by the execution
+	 */
+	default void queryLatency(String hql, long nanoseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating the latency of a fetch of an entity from the database,
+	 * to be recorded in its {@linkplain #getEntityFetchLatencyHistogram latency histogram}.
+	 *
+	 * @param entityName The name of the entity
+	 * @param nanoseconds The time taken by the fetch
+	 */
+	default void entityFetchLatency(String entityName, long nanoseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating the latency of a fetch of a collection from the database,
+	 * to be recorded in its {@linkplain #getCollectionFetchLatencyHistogram latency histogram}.
+	 *
+	 * @param role The collection role
+	 * @param nanoseconds The time taken by the fetch
+	 */
+	default void collectionFetchLatency(String role, long nanoseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * The histogram of the latencies of the executions of the given query,
+	 * or {@code null} if no latency has been recorded for the query.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default @Nullable LatencyHistogram getQueryLatencyHistogram(String hql) {
+		//For backward compatibility
+		return null;
+	}
+
+	/**
+	 * The histogram of the latencies of the fetches of the given entity,
+	 * or {@code null} if no latency has been recorded for the entity.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default @Nullable LatencyHistogram getEntityFetchLatencyHistogram(String entityName) {
+		//For backward compatibility
+		return null;
+	}
+
+	/**
+	 * The histogram of the latencies of the fetches of the given collection,
+	 * or {@code null} if no latency has been recorded for the collection.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default @Nullable LatencyHistogram getCollectionFetchLatencyHistogram(String role) {
+		//For backward compatibility
+		return null;
+	}
+
+	@Override
+	default Map<String, Integer> getJdbcBatchSizes() {
+		//For backward compatibility
+		return emptyMap();
+	}
 }
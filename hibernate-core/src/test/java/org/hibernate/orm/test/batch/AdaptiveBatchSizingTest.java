@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.engine.jdbc.batch.internal.AdaptiveBatchSizing;
+import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BatchSettings#ADAPTIVE_TARGET_LATENCY}
+ */
+@DomainModel(annotatedClasses = { AdaptiveBatchSizingTest.Item.class, AdaptiveBatchSizingTest.Tag.class })
+@SessionFactory
+@ServiceRegistry(
+		settings = {
+				@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "5"),
+				// far longer than any batch of the test takes
+				@Setting(name = BatchSettings.ADAPTIVE_TARGET_LATENCY, value = "60000"),
+				@Setting(name = BatchSettings.ADAPTIVE_MAX_SIZE, value = "40"),
+				@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+		}
+)
+public class AdaptiveBatchSizingTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testBatchSizeGrowsToMaximum(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 200; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getJdbcBatchSizes() ).containsEntry( Item.class.getName() + "#INSERT", 40 );
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Item", Long.class ).getSingleResult()
+		).isEqualTo( 200L ) );
+	}
+
+	@Test
+	public void testSessionBatchSizeIsNotAdapted(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.setJdbcBatchSize( 7 );
+			for ( int i = 1; i <= 50; i++ ) {
+				session.persist( new Tag( i ) );
+			}
+		} );
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getJdbcBatchSizes() ).doesNotContainKey( Tag.class.getName() + "#INSERT" );
+	}
+
+	@Test
+	public void testBatchSizeShrinksWithinBounds() {
+		final AdaptiveBatchSizing sizing = new AdaptiveBatchSizing( 10, 2, 100 );
+		final BatchKey key = new BasicBatchKey( "Item#UPDATE" );
+		assertThat( sizing.getBatchSize( key, 50 ) ).isEqualTo( 50 );
+		// 1ms per statement, so 10 statements for 10ms
+		assertThat( sizing.executed( key, 50, TimeUnit.MILLISECONDS.toNanos( 50 ) ) ).isEqualTo( 10 );
+		// close enough to the target
+		assertThat( sizing.executed( key, 10, TimeUnit.MILLISECONDS.toNanos( 11 ) ) ).isEqualTo( 10 );
+		// much slower, but never below the minimum
+		for ( int i = 0; i < 10; i++ ) {
+			sizing.executed( key, 10, TimeUnit.MILLISECONDS.toNanos( 1000 ) );
+		}
+		assertThat( sizing.getBatchSize( key, 50 ) ).isEqualTo( 2 );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Tag")
+	public static class Tag {
+		@Id
+		private Integer id;
+
+		public Tag() {
+		}
+
+		public Tag(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BatchSettings#BULK_INSERT_THRESHOLD}
+ */
+@DomainModel(annotatedClasses = { BulkInsertTest.Item.class, BulkInsertTest.Attachment.class })
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = @Setting(name = BatchSettings.BULK_INSERT_THRESHOLD, value = "5"))
+@RequiresDialect(H2Dialect.class)
+@RequiresDialect(PostgreSQLDialect.class)
+public class BulkInsertTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testRowsAreLoadedInBulk(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+		final List<Object> items = new ArrayList<>();
+		for ( int i = 1; i <= 20; i++ ) {
+			items.add( item( i ) );
+		}
+		scope.inStatelessTransaction( session -> session.insertMultiple( items ) );
+		// the bulk load does not go through the statement inspector
+		assertThat( inspector.getSqlQueries() ).noneMatch( sql -> sql.startsWith( "insert" ) );
+
+		scope.inTransaction( session -> {
+			final List<Item> loaded = session.createSelectionQuery( "from Item order by id", Item.class )
+					.getResultList();
+			assertThat( loaded ).hasSize( 20 );
+			for ( Item item : loaded ) {
+				final Item expected = item( item.id );
+				assertThat( item.name ).isEqualTo( expected.name );
+				assertThat( item.price ).isEqualByComparingTo( expected.price );
+				assertThat( item.available ).isEqualTo( expected.available );
+				assertThat( item.released ).isEqualTo( expected.released );
+				assertThat( item.code ).isEqualTo( expected.code );
+			}
+		} );
+	}
+
+	@Test
+	public void testFewRowsAreBatched(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+		scope.inStatelessTransaction( session -> session.insertMultiple( List.of( item( 1 ), item( 2 ) ) ) );
+		assertThat( inspector.getSqlQueries() ).filteredOn( sql -> sql.startsWith( "insert" ) ).hasSize( 1 );
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Item", Long.class ).getSingleResult()
+		).isEqualTo( 2L ) );
+	}
+
+	@Test
+	public void testBulkInsertDoesNotShareBatch(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+		final List<Object> items = new ArrayList<>();
+		for ( int i = 3; i <= 12; i++ ) {
+			items.add( item( i ) );
+		}
+		scope.inStatelessTransaction( session -> {
+			// the session keeps the batch of these inserts, which must not be reused for the next ones
+			session.insertMultiple( List.of( item( 1 ), item( 2 ) ) );
+			session.insertMultiple( items );
+			session.insertMultiple( List.of( item( 13 ), item( 14 ) ) );
+		} );
+		// only the rows of the first and the last call are inserted by statements
+		assertThat( inspector.getSqlQueries() ).filteredOn( sql -> sql.startsWith( "insert" ) ).hasSize( 2 );
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Item", Long.class ).getSingleResult()
+		).isEqualTo( 14L ) );
+	}
+
+	@Test
+	public void testUnsupportedColumnTypesAreBatched(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+		final List<Object> attachments = new ArrayList<>();
+		for ( int i = 1; i <= 10; i++ ) {
+			attachments.add( new Attachment( i, new byte[] { (byte) i } ) );
+		}
+		scope.inStatelessTransaction( session -> session.insertMultiple( attachments ) );
+		assertThat( inspector.getSqlQueries() ).anyMatch( sql -> sql.startsWith( "insert" ) );
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Attachment", Long.class ).getSingleResult()
+		).isEqualTo( 10L ) );
+	}
+
+	private static Item item(int id) {
+		return new Item(
+				id,
+				// values which need quoting or escaping, and nulls
+				id % 4 == 0 ? null : "item \"" + id + "\",\t'\\",
+				id % 5 == 0 ? null : new BigDecimal( id + ".25" ),
+				id % 2 == 0,
+				LocalDate.of( 2024, 1, 1 ).plusDays( id ),
+				new UUID( 0, id )
+		);
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+		private BigDecimal price;
+		private boolean available;
+		private LocalDate released;
+		private UUID code;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name, BigDecimal price, boolean available, LocalDate released, UUID code) {
+			this.id = id;
+			this.name = name;
+			this.price = price;
+			this.available = available;
+			this.released = released;
+			this.code = code;
+		}
+	}
+
+	@Entity(name = "Attachment")
+	public static class Attachment {
+		@Id
+		private Integer id;
+		private byte[] content;
+
+		public Attachment() {
+		}
+
+		public Attachment(Integer id, byte[] content) {
+			this.id = id;
+			this.content = content;
+		}
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import org.hibernate.cfg.BatchSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BatchSettings#MULTI_ROW_INSERTS}
+ */
+@DomainModel(annotatedClasses = {
+		MultiRowInsertTest.Item.class,
+		MultiRowInsertTest.Vehicle.class,
+		MultiRowInsertTest.Car.class,
+		MultiRowInsertTest.Event.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "10"),
+				@Setting(name = BatchSettings.MULTI_ROW_INSERTS, value = "true")
+		}
+)
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsValuesListForInsert.class)
+public class MultiRowInsertTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testInsertsAreRewritten(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 25; i++ ) {
+				session.persist( new Item( i, i % 3 == 0 ? null : "item " + i ) );
+			}
+		} );
+		// two statements of ten rows, and one of five
+		assertThat( inspector.getSqlQueries() ).hasSize( 3 );
+		assertThat( inspector.getSqlQueries() ).allMatch( sql -> sql.contains( "),(" ) );
+
+		scope.inTransaction( session -> {
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class )
+					.getResultList();
+			assertThat( items ).hasSize( 25 );
+			for ( Item item : items ) {
+				assertThat( item.name ).isEqualTo( item.id % 3 == 0 ? null : "item " + item.id );
+			}
+		} );
+	}
+
+	@Test
+	public void testJoinedSubclassInserts(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 15; i++ ) {
+				session.persist( i % 2 == 0 ? new Car( i, "car " + i, i ) : new Vehicle( i, "vehicle " + i ) );
+			}
+		} );
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "select count(*) from Vehicle", Long.class ).getSingleResult() )
+					.isEqualTo( 15L );
+			final List<Car> cars = session.createSelectionQuery( "from Car order by id", Car.class ).getResultList();
+			assertThat( cars ).hasSize( 7 );
+			assertThat( cars ).allMatch( car -> car.seats == car.id && car.name.equals( "car " + car.id ) );
+		} );
+	}
+
+	@Test
+	@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsIdentityColumns.class)
+	public void testGeneratedIdentifiersAreInsertedOneByOne(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				session.persist( new Event( "event " + i ) );
+			}
+		} );
+		assertThat( inspector.getSqlQueries() ).noneMatch( sql -> sql.contains( "),(" ) );
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Event", Long.class ).getSingleResult()
+		).isEqualTo( 5L ) );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Vehicle")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Vehicle {
+		@Id
+		Integer id;
+		String name;
+
+		public Vehicle() {
+		}
+
+		public Vehicle(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Car")
+	public static class Car extends Vehicle {
+		int seats;
+
+		public Car() {
+		}
+
+		public Car(Integer id, String name, int seats) {
+			super( id, name );
+			this.seats = seats;
+		}
+	}
+
+	@Entity(name = "Event")
+	public static class Event {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+		private String name;
+
+		public Event() {
+		}
+
+		public Event(String name) {
+			this.name = name;
+		}
+	}
+}
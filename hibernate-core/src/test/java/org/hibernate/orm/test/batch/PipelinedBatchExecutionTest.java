@@ -0,0 +1,206 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.exception.ConstraintViolationException;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link BatchSettings#PIPELINED_EXECUTION}
+ */
+@DomainModel(annotatedClasses = PipelinedBatchExecutionTest.Item.class)
+@SessionFactory
+@ServiceRegistry(
+		settingProviders = @SettingProvider(
+				provider = PipelinedBatchExecutionTest.AsyncBatchDialectProvider.class,
+				settingName = AvailableSettings.DIALECT
+		),
+		settings = {
+				@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "5"),
+				@Setting(name = BatchSettings.PIPELINED_EXECUTION, value = "true"),
+				// so that we can force in-db not-null constraint violations
+				@Setting(name = AvailableSettings.CHECK_NULLABILITY, value = "false")
+		}
+)
+@RequiresDialect(H2Dialect.class)
+public class PipelinedBatchExecutionTest {
+
+	private static final AtomicInteger asyncExecutions = new AtomicInteger();
+	private static final AtomicInteger completedAsyncExecutions = new AtomicInteger();
+	private static volatile boolean completeLate;
+
+	public static class AsyncBatchDialectProvider implements SettingProvider.Provider<String> {
+		@Override
+		public String getSetting() {
+			return AsyncBatchDialect.class.getName();
+		}
+	}
+
+	/**
+	 * Executes each batch before returning, since H2 has no asynchronous API,
+	 * but reports the result through the future, like an asynchronous driver.
+	 * When {@link #completeLate} is set, each batch is instead executed by
+	 * another thread, some time after the future is returned.
+	 */
+	public static class AsyncBatchDialect extends H2Dialect {
+		@Override
+		public boolean supportsAsyncBatchExecution() {
+			return true;
+		}
+
+		@Override
+		public CompletableFuture<int[]> executeBatchAsync(PreparedStatement statement) {
+			asyncExecutions.incrementAndGet();
+			if ( completeLate ) {
+				return CompletableFuture.supplyAsync(
+						() -> executeBatch( statement ),
+						CompletableFuture.delayedExecutor( 200, TimeUnit.MILLISECONDS )
+				);
+			}
+			try {
+				return CompletableFuture.completedFuture( statement.executeBatch() );
+			}
+			catch (SQLException e) {
+				return CompletableFuture.failedFuture( e );
+			}
+		}
+
+		private static int[] executeBatch(PreparedStatement statement) {
+			try {
+				final int[] rowCounts = statement.executeBatch();
+				completedAsyncExecutions.incrementAndGet();
+				return rowCounts;
+			}
+			catch (SQLException e) {
+				throw new CompletionException( e );
+			}
+		}
+	}
+
+	@BeforeEach
+	public void resetExecutions() {
+		asyncExecutions.set( 0 );
+		completedAsyncExecutions.set( 0 );
+		completeLate = false;
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testInsertUpdateDelete(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 103; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+		// the last, partial, batch is executed synchronously
+		assertThat( asyncExecutions ).hasValue( 20 );
+		scope.inTransaction( session -> {
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class ).getResultList();
+			assertThat( items ).hasSize( 103 );
+			for ( Item item : items ) {
+				item.name = "updated " + item.id;
+			}
+		} );
+		scope.inTransaction( session -> {
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class ).getResultList();
+			assertThat( items ).extracting( item -> item.name ).allMatch( name -> name.startsWith( "updated " ) );
+			items.stream().filter( item -> item.id % 2 == 0 ).forEach( session::remove );
+		} );
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Item", Long.class ).getSingleResult()
+		).isEqualTo( 52L ) );
+	}
+
+	@Test
+	public void testQueryWaitsForExecutingBatch(SessionFactoryScope scope) {
+		completeLate = true;
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 12; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+			session.flush();
+			// the batches are only executed well after being handed over,
+			// so the flush must have waited for them to complete
+			assertThat( asyncExecutions ).hasValue( 2 );
+			assertThat( completedAsyncExecutions ).hasValue( 2 );
+			assertThat(
+					session.createNativeQuery( "select count(*) from items", Long.class ).getSingleResult()
+			).isEqualTo( 12L );
+		} );
+	}
+
+	@Test
+	public void testFailureInBackgroundIsReported(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			session.getTransaction().begin();
+			try {
+				// the first batch fails while the second one is being bound,
+				// and the failure is reported when the second one is full
+				session.persist( new Item( 1, "ok" ) );
+				session.persist( new Item( 2, null ) );
+				for ( int i = 3; i <= 12; i++ ) {
+					session.persist( new Item( i, "ok" ) );
+				}
+				assertThatThrownBy( session::flush ).isInstanceOf( ConstraintViolationException.class );
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		} );
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Item", Long.class ).getSingleResult()
+		).isZero() );
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "items")
+	public static class Item {
+		@Id
+		private Integer id;
+		@Column(nullable = false)
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
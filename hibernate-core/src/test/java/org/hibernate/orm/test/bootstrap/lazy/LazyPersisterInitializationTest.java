@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bootstrap.lazy;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.cfg.PersistenceSettings;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.mutation.InsertCoordinator;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PersistenceSettings#LAZY_PERSISTER_INITIALIZATION}
+ */
+@DomainModel(annotatedClasses = LazyPersisterInitializationTest.Document.class)
+@SessionFactory
+@ServiceRegistry(settings = @Setting(name = PersistenceSettings.LAZY_PERSISTER_INITIALIZATION, value = "true"))
+public class LazyPersisterInitializationTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testLifecycle(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Document( 1L, "draft" ) );
+			session.persist( new Document( 2L, "other" ) );
+		} );
+
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1L );
+			assertThat( document.title ).isEqualTo( "draft" );
+			document.title = "final";
+		} );
+
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1L, LockModeType.OPTIMISTIC_FORCE_INCREMENT );
+			assertThat( document.title ).isEqualTo( "final" );
+			assertThat( document.version ).isEqualTo( 1 );
+		} );
+
+		scope.inTransaction( session -> {
+			final Document document = session.merge( new Document( 3L, "merged" ) );
+			assertThat( document.version ).isEqualTo( 0 );
+			final List<Document> documents = session.findMultiple( Document.class, List.of( 1L, 2L, 4L ) );
+			assertThat( documents ).hasSize( 3 );
+			assertThat( documents.get( 0 ).version ).isEqualTo( 2 );
+			assertThat( documents.get( 2 ) ).isNull();
+			session.remove( documents.get( 1 ) );
+		} );
+
+		scope.inTransaction( session -> {
+			assertThat( session.find( Document.class, 2L ) ).isNull();
+			assertThat( session.find( Document.class, 3L ).title ).isEqualTo( "merged" );
+		} );
+	}
+
+	@Test
+	public void testConcurrentInitialization(SessionFactoryScope scope) throws Exception {
+		final AbstractEntityPersister persister = (AbstractEntityPersister)
+				scope.getSessionFactory().getMappingMetamodel().getEntityDescriptor( Document.class );
+		final Callable<InsertCoordinator> task = persister::getInsertCoordinator;
+		final ExecutorService executor = Executors.newFixedThreadPool( 4 );
+		try {
+			final List<Future<InsertCoordinator>> futures = executor.invokeAll( List.of( task, task, task, task ) );
+			for ( Future<InsertCoordinator> future : futures ) {
+				assertThat( future.get() ).isNotNull().isSameAs( persister.getInsertCoordinator() );
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+		assertThat( persister.getSingleIdLoader() ).isSameAs( persister.getSingleIdLoader() );
+	}
+
+	@Entity(name = "Document")
+	public static class Document {
+		@Id
+		Long id;
+		@Version
+		int version;
+		String title;
+
+		public Document() {
+		}
+
+		public Document(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
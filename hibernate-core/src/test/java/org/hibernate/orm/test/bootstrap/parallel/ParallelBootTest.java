@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bootstrap.parallel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.PersistenceSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PersistenceSettings#BOOT_PARALLELISM}
+ */
+@DomainModel(annotatedClasses = {
+		ParallelBootTest.Publisher.class,
+		ParallelBootTest.Book.class,
+		ParallelBootTest.Author.class
+})
+@SessionFactory
+@ServiceRegistry(settings = @Setting(name = PersistenceSettings.BOOT_PARALLELISM, value = "4"))
+public class ParallelBootTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testLoaders(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Publisher publisher = new Publisher( 1L );
+			session.persist( publisher );
+			final Author author = new Author( 1L );
+			author.nicknames.add( "Jim" );
+			session.persist( author );
+			final Book book = new Book( 1L );
+			book.publisher = publisher;
+			book.authors.add( author );
+			session.persist( book );
+		} );
+
+		scope.inTransaction( session -> {
+			final Book book = session.find( Book.class, 1L );
+			assertThat( book.publisher.id ).isEqualTo( 1L );
+			assertThat( Hibernate.isInitialized( book.authors ) ).isFalse();
+			assertThat( book.authors ).hasSize( 1 );
+			assertThat( book.authors.get( 0 ).nicknames ).containsExactly( "Jim" );
+			assertThat( session.findMultiple( Author.class, List.of( 1L, 2L ) ) ).hasSize( 2 );
+		} );
+
+		scope.inTransaction( session -> session.remove( session.find( Book.class, 1L ) ) );
+		scope.inTransaction( session -> assertThat( session.find( Book.class, 1L ) ).isNull() );
+	}
+
+	@Entity(name = "Publisher")
+	public static class Publisher {
+		@Id
+		Long id;
+
+		public Publisher() {
+		}
+
+		public Publisher(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Long id;
+		@ManyToOne
+		Publisher publisher;
+		@OneToMany
+		List<Author> authors = new ArrayList<>();
+
+		public Book() {
+		}
+
+		public Book(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		Long id;
+		@ElementCollection
+		List<String> nicknames = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(Long id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bootstrap.scanning;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.hibernate.archive.scan.internal.ClassDescriptorImpl;
+import org.hibernate.archive.scan.internal.PackageDescriptorImpl;
+import org.hibernate.archive.scan.internal.ScanResultImpl;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.archive.internal.ByteArrayInputStreamAccess;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.Scanner;
+import org.hibernate.boot.archive.spi.InputStreamAccess;
+import org.hibernate.boot.model.process.internal.ManagedResourcesImpl;
+import org.hibernate.boot.model.process.internal.ScanningCoordinator;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.boot.spi.ClassmateContext;
+import org.hibernate.boot.spi.MetadataBuildingOptions;
+import org.hibernate.cfg.PersistenceSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link PersistenceSettings#SCAN_SNAPSHOT}
+ */
+public class ScanSnapshotTest {
+	@TempDir
+	File tempDir;
+	@TempDir
+	File rootDir;
+
+	private final BootstrapContext bootstrapContext = Mockito.mock( BootstrapContext.class );
+	private final StandardServiceRegistry serviceRegistry = Mockito.mock( StandardServiceRegistry.class );
+	private final ClassLoaderService classLoaderService = Mockito.mock( ClassLoaderService.class );
+	private final ConfigurationService configurationService = Mockito.mock( ConfigurationService.class );
+	private final MetadataBuildingOptions metadataBuildingOptions = Mockito.mock( MetadataBuildingOptions.class );
+	private final ScanEnvironment scanEnvironment = Mockito.mock( ScanEnvironment.class );
+	private final AtomicInteger scans = new AtomicInteger();
+
+	@BeforeEach
+	public void init() throws IOException {
+		new File( rootDir, "org/example" ).mkdirs();
+		new File( rootDir, "META-INF" ).mkdirs();
+		Files.write( new File( rootDir, "org/example/Book.class" ).toPath(), new byte[] { 1, 2 } );
+		Files.writeString( new File( rootDir, "META-INF/orm.xml" ).toPath(), "<entity-mappings version=\"3.1\"/>" );
+		when( scanEnvironment.getRootUrl() ).thenReturn( rootDir.toURI().toURL() );
+		when( bootstrapContext.getScanEnvironment() ).thenReturn( scanEnvironment );
+		when( bootstrapContext.getClassmateContext() ).thenReturn( new ClassmateContext() );
+		when( bootstrapContext.getServiceRegistry() ).thenReturn( serviceRegistry );
+		when( bootstrapContext.getMetadataBuildingOptions() ).thenReturn( metadataBuildingOptions );
+		when( serviceRegistry.requireService( ClassLoaderService.class ) ).thenReturn( classLoaderService );
+		when( serviceRegistry.getService( ConfigurationService.class ) ).thenReturn( configurationService );
+		when( configurationService.getSetting( eq( PersistenceSettings.SCAN_SNAPSHOT ), eq( StandardConverters.STRING ) ) )
+				.thenReturn( new File( tempDir, "scan.bin" ).getPath() );
+		when( classLoaderService.classForName( "converter" ) ).thenReturn( (Class) IntegerToVarcharConverter.class );
+
+		final Scanner scanner = (environment, options, parameters) -> {
+			scans.incrementAndGet();
+			final InputStreamAccess dummyInputStreamAccess = new ByteArrayInputStreamAccess( "dummy", new byte[0] );
+			return new ScanResultImpl(
+					Set.of( new PackageDescriptorImpl( "org.example", dummyInputStreamAccess ) ),
+					Set.of(
+							new ClassDescriptorImpl( "org.example.Book", ClassDescriptor.Categorization.MODEL, dummyInputStreamAccess ),
+							new ClassDescriptorImpl( "converter", ClassDescriptor.Categorization.CONVERTER, dummyInputStreamAccess )
+					),
+					Set.of()
+			);
+		};
+		when( bootstrapContext.getScanner() ).thenReturn( scanner );
+	}
+
+	@Test
+	public void testSnapshotReplacesScan() {
+		final ManagedResourcesImpl scanned = scan();
+		assertThat( scans.get() ).isEqualTo( 1 );
+		assertThat( new File( tempDir, "scan.bin" ) ).exists();
+
+		final ManagedResourcesImpl restored = scan();
+		assertThat( scans.get() ).isEqualTo( 1 );
+		assertThat( restored.getAnnotatedClassNames() ).containsExactlyElementsOf( scanned.getAnnotatedClassNames() );
+		assertThat( restored.getAnnotatedPackageNames() ).containsExactly( "org.example" );
+		assertThat( restored.getAttributeConverterDescriptors() ).hasSize( 1 );
+		assertThat( restored.getAttributeConverterDescriptors().iterator().next().getAttributeConverterClass() )
+				.isEqualTo( IntegerToVarcharConverter.class );
+	}
+
+	@Test
+	public void testObsoleteSnapshotIsReplaced() throws IOException {
+		scan();
+		assertThat( scans.get() ).isEqualTo( 1 );
+
+		// a class has been added under the root since the snapshot was written
+		Files.write( new File( rootDir, "org/example/Author.class" ).toPath(), new byte[] { 1, 2, 3 } );
+		final ManagedResourcesImpl rescanned = scan();
+		assertThat( scans.get() ).isEqualTo( 2 );
+		assertThat( rescanned.getAnnotatedClassNames() ).containsExactly( "org.example.Book" );
+
+		scan();
+		assertThat( scans.get() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testChangedMappingFileObsoletesSnapshot() throws IOException {
+		final Path mappingFile = new File( rootDir, "META-INF/orm.xml" ).toPath();
+		final FileTime lastModified = Files.getLastModifiedTime( mappingFile );
+		scan();
+		assertThat( scans.get() ).isEqualTo( 1 );
+
+		// same size and modification time, but different content
+		Files.writeString( mappingFile, "<entity-mappings version=\"3.2\"/>" );
+		Files.setLastModifiedTime( mappingFile, lastModified );
+		scan();
+		assertThat( scans.get() ).isEqualTo( 2 );
+
+		scan();
+		assertThat( scans.get() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testSnapshotOfMovedJarIsUsed() throws IOException {
+		final File jar = new File( tempDir, "app.jar" );
+		try ( JarOutputStream stream = new JarOutputStream( new FileOutputStream( jar ) ) ) {
+			stream.putNextEntry( new JarEntry( "org/example/Book.class" ) );
+			stream.write( new byte[] { 1, 2 } );
+			stream.closeEntry();
+		}
+		when( scanEnvironment.getRootUrl() ).thenReturn( jar.toURI().toURL() );
+		scan();
+		assertThat( scans.get() ).isEqualTo( 1 );
+
+		// the same jar, deployed elsewhere, at a later time
+		final File deployed = new File( rootDir, "deployed.jar" );
+		Files.copy( jar.toPath(), deployed.toPath() );
+		Files.setLastModifiedTime( deployed.toPath(), FileTime.fromMillis( System.currentTimeMillis() + 60_000 ) );
+		when( scanEnvironment.getRootUrl() ).thenReturn( deployed.toURI().toURL() );
+		scan();
+		assertThat( scans.get() ).isEqualTo( 1 );
+	}
+
+	private ManagedResourcesImpl scan() {
+		final ManagedResourcesImpl managedResources =
+				ManagedResourcesImpl.baseline( new MetadataSources(), bootstrapContext );
+		ScanningCoordinator.INSTANCE.coordinateScan( managedResources, bootstrapContext, null );
+		assertThat( managedResources.getAnnotatedClassNames() ).containsExactly( "org.example.Book" );
+		return managedResources;
+	}
+}
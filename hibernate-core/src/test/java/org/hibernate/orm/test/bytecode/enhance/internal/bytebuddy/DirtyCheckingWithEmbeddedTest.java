@@ -12,7 +12,7 @@
 import jakarta.persistence.Id;
 
 import org.hibernate.bytecode.enhance.internal.tracker.CompositeOwnerTracker;
-import org.hibernate.bytecode.enhance.internal.tracker.SimpleFieldTracker;
+import org.hibernate.bytecode.enhance.internal.tracker.OrdinalFieldTracker;
 
 import org.hibernate.testing.bytecode.enhancement.EnhancementOptions;
 import org.hibernate.testing.bytecode.enhancement.extension.BytecodeEnhanced;
@@ -89,7 +89,7 @@ public void shouldCreateTheTracker() throws Exception {
 		assertThat( entity )
 				.extracting( ENTITY_ENTRY_FIELD_NAME ).isNull();
 		assertThat( entity )
-				.extracting( TRACKER_FIELD_NAME ).isInstanceOf( SimpleFieldTracker.class );
+				.extracting( TRACKER_FIELD_NAME ).isInstanceOf( OrdinalFieldTracker.class );
 		assertThat( entity.getFirstPlayerToken() )
 				.extracting( TRACKER_COMPOSITE_FIELD_NAME ).isInstanceOf( CompositeOwnerTracker.class );
 
@@ -25,7 +25,7 @@
 
 import java.lang.reflect.Method;
 
-import org.hibernate.bytecode.enhance.internal.tracker.SimpleFieldTracker;
+import org.hibernate.bytecode.enhance.internal.tracker.OrdinalFieldTracker;
 
 import org.hibernate.testing.bytecode.enhancement.EnhancementOptions;
 import org.hibernate.testing.bytecode.enhancement.extension.BytecodeEnhanced;
@@ -68,7 +68,7 @@ public void shouldCreateTheTracker() throws Exception {
 		assertThat( entity )
 				.extracting( ENTITY_ENTRY_FIELD_NAME ).isNull();
 		assertThat( entity )
-				.extracting( TRACKER_FIELD_NAME ).isInstanceOf( SimpleFieldTracker.class );
+				.extracting( TRACKER_FIELD_NAME ).isInstanceOf( OrdinalFieldTracker.class );
 
 		assertThat( entity ).extracting( resultOf( TRACKER_HAS_CHANGED_NAME ) ).isEqualTo( true );
 		assertThat( entity ).extracting( resultOf( TRACKER_GET_NAME ) ).isEqualTo( new String[] { "name", "code" } );
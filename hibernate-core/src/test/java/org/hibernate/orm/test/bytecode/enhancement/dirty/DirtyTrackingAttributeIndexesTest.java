@@ -0,0 +1,202 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bytecode.enhancement.dirty;
+
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.bytecode.enhancement.EnhancementOptions;
+import org.hibernate.testing.bytecode.enhancement.extension.BytecodeEnhanced;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link EntityPersister#resolveDirtyAttributeIndexes}
+ */
+@DomainModel(annotatedClasses = {
+		DirtyTrackingAttributeIndexesTest.Person.class,
+		DirtyTrackingAttributeIndexesTest.Employee.class
+})
+@SessionFactory
+@BytecodeEnhanced
+@EnhancementOptions(inlineDirtyChecking = true)
+public class DirtyTrackingAttributeIndexesTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testResolveDirtyAttributeIndexes(SessionFactoryScope scope) {
+		final EntityPersister persister = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Person.class );
+		final Object[] state = new Object[persister.getPropertyNames().length];
+		final int[] indexes = persister.resolveDirtyAttributeIndexes(
+				state,
+				state,
+				new String[] { "name", "address.zip.code", "address.city", "name", "unknown" },
+				null
+		);
+		final int address = persister.getPropertyIndex( "address" );
+		final int name = persister.getPropertyIndex( "name" );
+		assertThat( indexes ).containsExactly( Math.min( address, name ), Math.max( address, name ) );
+		assertThat( persister.resolveDirtyAttributeIndexes( state, state, new String[0], null ) ).isEmpty();
+	}
+
+	@Test
+	public void testResolveDirtyAttributeOrdinals(SessionFactoryScope scope) {
+		final EntityPersister persister = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Person.class );
+		final Object[] state = new Object[persister.getPropertyNames().length];
+		final Person person = new Person( 1L, "Gavin" );
+		( (SelfDirtinessTracker) person ).$$_hibernate_clearDirtyAttributes();
+		assertThat( ( (SelfDirtinessTracker) person ).$$_hibernate_getDirtyAttributeOrdinals() )
+				.containsOnly( 0L );
+
+		person.setName( "Max" );
+		final long[] ordinals = ( (SelfDirtinessTracker) person ).$$_hibernate_getDirtyAttributeOrdinals();
+		assertThat( ( (SelfDirtinessTracker) person ).$$_hibernate_getDirtyAttributes() ).containsExactly( "name" );
+		assertThat( persister.resolveDirtyAttributeIndexes( state, state, ordinals, null ) )
+				.containsExactly( persister.getPropertyIndex( "name" ) );
+	}
+
+	@Test
+	public void testResolveDirtyAttributeOrdinalsOfSubclass(SessionFactoryScope scope) {
+		final EntityPersister persister = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Employee.class );
+		final Object[] state = new Object[persister.getPropertyNames().length];
+		final Employee employee = new Employee( 2L, "Steve" );
+		( (SelfDirtinessTracker) employee ).$$_hibernate_clearDirtyAttributes();
+
+		employee.setTitle( "Architect" );
+		employee.setName( "Stephen" );
+		final long[] ordinals = ( (SelfDirtinessTracker) employee ).$$_hibernate_getDirtyAttributeOrdinals();
+		assertThat( ( (SelfDirtinessTracker) employee ).$$_hibernate_getDirtyAttributes() )
+				.containsExactlyInAnyOrder( "name", "title" );
+		final int name = persister.getPropertyIndex( "name" );
+		final int title = persister.getPropertyIndex( "title" );
+		assertThat( persister.resolveDirtyAttributeIndexes( state, state, ordinals, null ) )
+				.containsExactly( Math.min( name, title ), Math.max( name, title ) );
+	}
+
+	@Test
+	public void testUpdateOfSubclass(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Employee( 2L, "Steve" ) ) );
+		scope.inTransaction( session -> session.find( Employee.class, 2L ).setTitle( "Architect" ) );
+		scope.inTransaction( session -> {
+			final Employee employee = session.find( Employee.class, 2L );
+			assertThat( employee.title ).isEqualTo( "Architect" );
+			assertThat( employee.name ).isEqualTo( "Steve" );
+		} );
+	}
+
+	@Test
+	public void testUpdateOfNestedEmbeddable(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Person person = new Person( 1L, "Gavin" );
+			person.address = new Address( "Atlanta", new Zip( "30301" ) );
+			session.persist( person );
+		} );
+		scope.inTransaction( session -> session.find( Person.class, 1L ).getAddress().getZip().setCode( "30302" ) );
+		scope.inTransaction( session -> {
+			final Person person = session.find( Person.class, 1L );
+			assertThat( person.address.zip.code ).isEqualTo( "30302" );
+			assertThat( person.address.city ).isEqualTo( "Atlanta" );
+			assertThat( person.name ).isEqualTo( "Gavin" );
+		} );
+	}
+
+	@Entity(name = "Person")
+	@DynamicUpdate
+	public static class Person {
+		@Id
+		Long id;
+		String name;
+		@Embedded
+		Address address;
+
+		public Person() {
+		}
+
+		public Person(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public Address getAddress() {
+			return address;
+		}
+	}
+
+	@Entity(name = "Employee")
+	@DynamicUpdate
+	public static class Employee extends Person {
+		String title;
+
+		public Employee() {
+		}
+
+		public Employee(Long id, String name) {
+			super( id, name );
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+	}
+
+	@Embeddable
+	public static class Address {
+		String city;
+		@Embedded
+		Zip zip;
+
+		public Address() {
+		}
+
+		public Address(String city, Zip zip) {
+			this.city = city;
+			this.zip = zip;
+		}
+
+		public Zip getZip() {
+			return zip;
+		}
+	}
+
+	@Embeddable
+	public static class Zip {
+		@Column(name = "zip_code")
+		String code;
+
+		public Zip() {
+		}
+
+		public Zip(String code) {
+			this.code = code;
+		}
+
+		public void setCode(String code) {
+			this.code = code;
+		}
+	}
+}
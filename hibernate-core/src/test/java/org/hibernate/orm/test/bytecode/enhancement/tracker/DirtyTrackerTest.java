@@ -5,6 +5,7 @@
 package org.hibernate.orm.test.bytecode.enhancement.tracker;
 
 import org.hibernate.bytecode.enhance.internal.tracker.DirtyTracker;
+import org.hibernate.bytecode.enhance.internal.tracker.OrdinalFieldTracker;
 import org.hibernate.bytecode.enhance.internal.tracker.SimpleFieldTracker;
 import org.hibernate.bytecode.enhance.internal.tracker.SortedFieldTracker;
 import org.junit.Test;
@@ -12,6 +13,7 @@
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -76,6 +78,63 @@ public void testSortedTracker() {
 		assertEquals( 4, tracker.get().length );
 	}
 
+	@Test
+	public void testOrdinalTracker() {
+		OrdinalFieldTracker tracker = new OrdinalFieldTracker( TrackedEntity.class );
+		assertTrue( tracker.isEmpty() );
+		assertEquals( 0, tracker.get().length );
+
+		tracker.add( 1 );
+		assertFalse( tracker.isEmpty() );
+		assertTrue( tracker.contains( "bar" ) );
+		assertArrayEquals( tracker.get(), new String[]{"bar"} );
+		assertArrayEquals( tracker.getOrdinals(), new long[]{0b10} );
+
+		tracker.clear();
+		assertTrue( tracker.isEmpty() );
+		assertEquals( 0, tracker.get().length );
+
+		tracker.add( 0 );
+		tracker.add( "bar" );
+		tracker.add( "another.bar" );
+		tracker.add( 0 );
+		tracker.add( "another.foo" );
+		tracker.add( "another.bar" );
+		assertEquals( 4, tracker.get().length );
+		assertTrue( tracker.contains( "foo" ) );
+		assertTrue( tracker.contains( "another.foo" ) );
+		assertFalse( tracker.contains( "another" ) );
+		// paths into "another" mark it dirty
+		assertArrayEquals( tracker.getOrdinals(), new long[]{0b111} );
+
+		tracker.add( 64 + 3 );
+		assertTrue( tracker.contains( "last" ) );
+		assertArrayEquals( tracker.getOrdinals(), new long[]{0b111, 0b1000} );
+
+		tracker.add( "unknown.path" );
+		assertNull( tracker.getOrdinals() );
+
+		tracker.suspend( true );
+		tracker.add( "one more" );
+		tracker.add( 1 );
+		assertEquals( 6, tracker.get().length );
+	}
+
+	private static class TrackedEntity {
+		@SuppressWarnings("unused")
+		static String[] $$_hibernate_getTrackedAttributeNames() {
+			final String[] names = new String[64 + 4];
+			for ( int i = 0; i < names.length; i++ ) {
+				names[i] = "attribute" + i;
+			}
+			names[0] = "foo";
+			names[1] = "bar";
+			names[2] = "another";
+			names[64 + 3] = "last";
+			return names;
+		}
+	}
+
 	private boolean isSorted(String[] arr) {
 		for ( int i = 1; i < arr.length; i++ ) {
 			if ( arr[i - 1].compareTo( arr[i] ) > 0 ) {
@@ -0,0 +1,180 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.hibernate.cache.spi.Region;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cache.spi.support.NearCacheStorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CacheSettings#NEAR_CACHE_MAX_ENTRIES}
+ */
+@DomainModel(annotatedClasses = NearCacheTest.Item.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = CacheSettings.NEAR_CACHE_MAX_ENTRIES, value = "100"),
+		@Setting(name = CacheSettings.NEAR_CACHE_TIME_TO_LIVE, value = "60000")
+})
+public class NearCacheTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testRepeatedReadsAreServedByNearCache(SessionFactoryScope scope) {
+		final Region region = region( scope );
+		assertThat( ( (DomainDataRegionTemplate) region ).getCacheStorageAccess() )
+				.isInstanceOf( NearCacheStorageAccess.class );
+
+		scope.inTransaction( session -> session.persist( new Item( 1, "first" ) ) );
+
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		final CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics( region.getName() );
+		assertThat( scope.fromTransaction( session -> session.find( Item.class, 1 ).name ) ).isEqualTo( "first" );
+		assertThat( scope.fromTransaction( session -> session.find( Item.class, 1 ).name ) ).isEqualTo( "first" );
+		assertThat( regionStatistics.getNearCacheMissCount() ).isEqualTo( 1 );
+		assertThat( regionStatistics.getNearCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testWritesInvalidateNearCache(SessionFactoryScope scope) {
+		final Region region = region( scope );
+		scope.inTransaction( session -> session.persist( new Item( 1, "first" ) ) );
+		assertThat( scope.fromTransaction( session -> session.find( Item.class, 1 ).name ) ).isEqualTo( "first" );
+
+		scope.inTransaction( session -> session.find( Item.class, 1 ).name = "second" );
+
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		final CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics( region.getName() );
+		assertThat( scope.fromTransaction( session -> session.find( Item.class, 1 ).name ) ).isEqualTo( "second" );
+		assertThat( regionStatistics.getNearCacheMissCount() ).isEqualTo( 1 );
+		assertThat( regionStatistics.getNearCacheHitCount() ).isEqualTo( 0 );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+
+		scope.getSessionFactory().getCache().evictEntityData( Item.class, 1 );
+		statistics.clear();
+		scope.inTransaction( session -> assertThat( session.find( Item.class, 1 ).name ).isEqualTo( "second" ) );
+		assertThat( statistics.getDomainDataRegionStatistics( region.getName() ).getNearCacheHitCount() ).isEqualTo( 0 );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testReadsOverlappingWritesDoNotHideWrites(SessionFactoryScope scope) {
+		final NearCacheStorageAccess storageAccess =
+				new NearCacheStorageAccess( new MapStorageAccess(), "items", 100, 60_000 );
+		scope.inSession( session -> {
+			final AtomicBoolean writing = new AtomicBoolean( true );
+			final Thread reader = new Thread( () -> {
+				while ( writing.get() ) {
+					storageAccess.getFromCache( 1, session );
+					storageAccess.getAllFromCache( new Object[] { 1 }, session );
+				}
+			} );
+			reader.start();
+			try {
+				for ( int i = 1; i <= 100_000; i++ ) {
+					storageAccess.putIntoCache( 1, i, session );
+				}
+			}
+			finally {
+				writing.set( false );
+			}
+			try {
+				reader.join();
+			}
+			catch (InterruptedException e) {
+				throw new RuntimeException( e );
+			}
+			assertThat( storageAccess.getFromCache( 1, session ) ).isEqualTo( 100_000 );
+			assertThat( storageAccess.getAllFromCache( new Object[] { 1 }, session ) ).containsExactly( 100_000 );
+		} );
+	}
+
+	private static Region region(SessionFactoryScope scope) {
+		return scope.getSessionFactory().getMappingMetamodel().getEntityDescriptor( Item.class )
+				.getCacheAccessStrategy().getRegion();
+	}
+
+	private static class MapStorageAccess implements DomainDataStorageAccess {
+		private final Map<Object, Object> map = new ConcurrentHashMap<>();
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			return map.get( key );
+		}
+
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			map.put( key, value );
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return map.containsKey( key );
+		}
+
+		@Override
+		public void evictData() {
+			map.clear();
+		}
+
+		@Override
+		public void evictData(Object key) {
+			map.remove( key );
+		}
+
+		@Override
+		public void release() {
+			map.clear();
+		}
+	}
+
+	@Entity(name = "Item")
+	@Cacheable
+	public static class Item {
+		@Id
+		Integer id;
+		String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
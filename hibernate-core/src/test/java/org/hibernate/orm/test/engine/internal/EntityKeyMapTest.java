@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.engine.internal;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.hibernate.engine.internal.EntityKeyMap;
+import org.hibernate.engine.internal.EntityKeySet;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks {@link EntityKeyMap} and {@link EntityKeySet} against the
+ * {@code LinkedHashMap} they replace.
+ */
+public class EntityKeyMapTest {
+	private EntityPersister persister;
+
+	@BeforeEach
+	public void createPersister() {
+		final Type identifierType = mock( Type.class );
+		when( identifierType.getTypeForEqualsHashCode() ).thenReturn( null );
+		persister = mock( EntityPersister.class );
+		when( persister.getRootEntityName() ).thenReturn( "Book" );
+		when( persister.getIdentifierType() ).thenReturn( identifierType );
+	}
+
+	private EntityKey key(long id) {
+		return new EntityKey( id, persister );
+	}
+
+	@Test
+	public void testBasicOperations() {
+		final EntityKeyMap<String> map = new EntityKeyMap<>();
+		assertThat( map ).isEmpty();
+		assertThat( map.put( key( 1 ), "one" ) ).isNull();
+		assertThat( map.put( key( 2 ), "two" ) ).isNull();
+		assertThat( map.put( key( 1 ), "uno" ) ).isEqualTo( "one" );
+		assertThat( map ).hasSize( 2 );
+		assertThat( map.get( key( 1 ) ) ).isEqualTo( "uno" );
+		assertThat( map.get( "not a key" ) ).isNull();
+		assertThat( map.containsKey( key( 3 ) ) ).isFalse();
+		assertThat( map.remove( key( 1 ) ) ).isEqualTo( "uno" );
+		assertThat( map.remove( key( 1 ) ) ).isNull();
+		assertThat( map ).containsOnlyKeys( key( 2 ) );
+		map.clear();
+		assertThat( map ).isEmpty();
+		assertThat( map.get( key( 2 ) ) ).isNull();
+	}
+
+	@Test
+	public void testBehavesLikeLinkedHashMap() {
+		final EntityKeyMap<Integer> map = new EntityKeyMap<>();
+		final Map<EntityKey, Integer> expected = new LinkedHashMap<>();
+		final Random random = new Random( 42 );
+		for ( int i = 0; i < 100_000; i++ ) {
+			final EntityKey key = key( random.nextInt( 2_000 ) );
+			switch ( random.nextInt( 10 ) ) {
+				case 0, 1, 2 -> assertThat( map.remove( key ) ).isEqualTo( expected.remove( key ) );
+				case 3 -> assertThat( map.get( key ) ).isEqualTo( expected.get( key ) );
+				default -> assertThat( map.put( key, i ) ).isEqualTo( expected.put( key, i ) );
+			}
+			if ( i % 10_000 == 0 ) {
+				assertThat( new ArrayList<>( map.entrySet() ) ).isEqualTo( new ArrayList<>( expected.entrySet() ) );
+			}
+		}
+		assertThat( map ).isEqualTo( expected );
+		assertThat( new ArrayList<>( map.keySet() ) ).isEqualTo( new ArrayList<>( expected.keySet() ) );
+		assertThat( new ArrayList<>( map.values() ) ).isEqualTo( new ArrayList<>( expected.values() ) );
+	}
+
+	@Test
+	public void testIteratorRemove() {
+		final EntityKeyMap<Long> map = new EntityKeyMap<>( 8 );
+		for ( long id = 0; id < 100; id++ ) {
+			map.put( key( id ), id );
+		}
+		final Iterator<Map.Entry<EntityKey, Long>> iterator = map.entrySet().iterator();
+		while ( iterator.hasNext() ) {
+			if ( iterator.next().getValue() % 2 == 0 ) {
+				iterator.remove();
+			}
+		}
+		assertThat( map ).hasSize( 50 );
+		assertThat( map.values() ).allMatch( value -> value % 2 == 1 );
+		for ( long id = 100; id < 200; id++ ) {
+			map.put( key( id ), id );
+		}
+		assertThat( map ).hasSize( 150 );
+		assertThat( map.get( key( 199 ) ) ).isEqualTo( 199L );
+		assertThat( map.get( key( 2 ) ) ).isNull();
+	}
+
+	@Test
+	public void testEntrySetValueWritesThrough() {
+		final EntityKeyMap<String> map = new EntityKeyMap<>();
+		map.put( key( 1 ), "one" );
+		map.entrySet().iterator().next().setValue( "uno" );
+		assertThat( map.get( key( 1 ) ) ).isEqualTo( "uno" );
+	}
+
+	@Test
+	public void testIteratorIsFailFast() {
+		final EntityKeyMap<String> map = new EntityKeyMap<>();
+		map.put( key( 1 ), "one" );
+		map.put( key( 2 ), "two" );
+		final Iterator<EntityKey> iterator = map.keySet().iterator();
+		iterator.next();
+		map.put( key( 3 ), "three" );
+		assertThatThrownBy( iterator::next ).isInstanceOf( ConcurrentModificationException.class );
+	}
+
+	@Test
+	public void testEntityKeySet() {
+		final EntityKeySet set = new EntityKeySet();
+		final List<EntityKey> expected = new ArrayList<>();
+		for ( long id = 10; id > 0; id-- ) {
+			assertThat( set.add( key( id ) ) ).isTrue();
+			expected.add( key( id ) );
+		}
+		assertThat( set.add( key( 5 ) ) ).isFalse();
+		assertThat( set.remove( key( 5 ) ) ).isTrue();
+		expected.remove( key( 5 ) );
+		assertThat( set ).containsExactlyElementsOf( expected );
+		assertThat( set.contains( key( 5 ) ) ).isFalse();
+		assertThat( set.contains( key( 6 ) ) ).isTrue();
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.flush;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.PersistenceSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PersistenceSettings#FLUSH_EXPLICIT_DIRTY_TRACKING}.
+ */
+@DomainModel(annotatedClasses = {
+		ExplicitDirtyTrackingTest.Customer.class,
+		ExplicitDirtyTrackingTest.Invoice.class,
+		ExplicitDirtyTrackingTest.Payment.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = PersistenceSettings.FLUSH_EXPLICIT_DIRTY_TRACKING, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class ExplicitDirtyTrackingTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				final Customer customer = new Customer( i, "Customer " + i );
+				session.persist( customer );
+				session.persist( new Invoice( i, customer, 100 * i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testOnlyMarkedEntitiesAreDirtyChecked(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Customer marked = session.find( Customer.class, 1 );
+			marked.name = "Marked";
+			session.markDirty( marked );
+			final Customer unmarked = session.find( Customer.class, 2 );
+			unmarked.name = "Unmarked";
+			final Invoice invoice = session.find( Invoice.class, 3 );
+			invoice.amount = 0;
+			session.markDirty( invoice );
+		} );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 2 );
+
+		scope.inSession( session -> {
+			assertThat( session.find( Customer.class, 1 ).name ).isEqualTo( "Marked" );
+			assertThat( session.find( Customer.class, 2 ).name ).isEqualTo( "Customer 2" );
+			assertThat( session.find( Invoice.class, 3 ).amount ).isEqualTo( 0 );
+		} );
+	}
+
+	@Test
+	public void testMarkIsResetByUpdate(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Customer customer = session.find( Customer.class, 1 );
+			customer.name = "First";
+			session.markDirty( customer );
+			session.flush();
+			customer.name = "Second";
+		} );
+		scope.inSession( session -> assertThat( session.find( Customer.class, 1 ).name ).isEqualTo( "First" ) );
+	}
+
+	@Test
+	public void testMergedEntitiesAreDirtyChecked(SessionFactoryScope scope) {
+		final Customer detached = scope.fromSession( session -> session.find( Customer.class, 1 ) );
+		detached.name = "Merged";
+		scope.inTransaction( session -> session.merge( detached ) );
+		scope.inSession( session -> assertThat( session.find( Customer.class, 1 ).name ).isEqualTo( "Merged" ) );
+	}
+
+	@Test
+	public void testEntitiesPendingInsertionAreDirtyChecked(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Customer customer = new Customer( 4, "New" );
+			session.persist( customer );
+			customer.name = "Renamed before flush";
+		} );
+		scope.inSession( session ->
+				assertThat( session.find( Customer.class, 4 ).name ).isEqualTo( "Renamed before flush" ) );
+	}
+
+	@Test
+	public void testNullifiedReferenceIsWrittenByUpdate(SessionFactoryScope scope) {
+		final Long paymentId = scope.fromTransaction( session -> {
+			final Customer customer = new Customer( 5, "Not yet persistent" );
+			final Payment payment = new Payment( customer );
+			// the IDENTITY insert happens right away, with the
+			// reference to the transient customer nullified
+			session.persist( payment );
+			session.persist( customer );
+			return payment.id;
+		} );
+		scope.inSession( session -> {
+			final Customer customer = session.find( Payment.class, paymentId ).customer;
+			assertThat( customer ).isNotNull();
+			assertThat( customer.id ).isEqualTo( 5 );
+		} );
+	}
+
+	@Entity(name = "Customer")
+	public static class Customer {
+		@Id
+		Integer id;
+		String name;
+
+		public Customer() {
+		}
+
+		public Customer(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Invoice")
+	public static class Invoice {
+		@Id
+		Integer id;
+		@ManyToOne
+		Customer customer;
+		int amount;
+
+		public Invoice() {
+		}
+
+		public Invoice(Integer id, Customer customer, int amount) {
+			this.id = id;
+			this.customer = customer;
+			this.amount = amount;
+		}
+	}
+
+	@Entity(name = "Payment")
+	public static class Payment {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		Long id;
+		@ManyToOne
+		Customer customer;
+
+		public Payment() {
+		}
+
+		public Payment(Customer customer) {
+			this.customer = customer;
+		}
+	}
+}
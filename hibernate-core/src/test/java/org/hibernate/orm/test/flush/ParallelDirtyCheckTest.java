@@ -0,0 +1,254 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.flush;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.PersistenceSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PreUpdate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PersistenceSettings#FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD}.
+ */
+@DomainModel(annotatedClasses = {
+		ParallelDirtyCheckTest.Item.class,
+		ParallelDirtyCheckTest.OrderLine.class,
+		ParallelDirtyCheckTest.AuditedItem.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = PersistenceSettings.FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD, value = "100"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class ParallelDirtyCheckTest {
+	private static final int ITEMS = 1000;
+
+	// the threads which read the state of an item
+	private static final Set<Thread> readers = ConcurrentHashMap.newKeySet();
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < ITEMS; i++ ) {
+				final Item item = new Item( i, "Item " + i, new BigDecimal( i ), new Dimensions( i, i ) );
+				session.persist( item );
+				session.persist( new OrderLine( i, item, 1 ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testDirtyEntitiesAreUpdated(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class )
+					.getResultList();
+			final List<OrderLine> lines = session.createSelectionQuery( "from OrderLine order by id", OrderLine.class )
+					.getResultList();
+			for ( int i = 0; i < ITEMS; i += 10 ) {
+				items.get( i ).setName( "Renamed " + i );
+			}
+			for ( int i = 5; i < ITEMS; i += 10 ) {
+				items.get( i ).getDimensions().setWidth( -i );
+			}
+			for ( int i = 0; i < ITEMS; i += 100 ) {
+				lines.get( i ).quantity = 2;
+			}
+			statistics.clear();
+			readers.clear();
+			session.flush();
+			assertThat( statistics.getEntityUpdateCount() ).isEqualTo( ITEMS / 5 + ITEMS / 100 );
+			assertThat( readers ).anyMatch( reader -> reader != Thread.currentThread() );
+		} );
+
+		scope.inSession( session -> {
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class )
+					.getResultList();
+			for ( int i = 0; i < ITEMS; i++ ) {
+				final Item item = items.get( i );
+				assertThat( item.getName() ).isEqualTo( i % 10 == 0 ? "Renamed " + i : "Item " + i );
+				assertThat( item.getDimensions().getWidth() ).isEqualTo( i % 10 == 5 ? -i : i );
+				assertThat( item.getPrice() ).isEqualByComparingTo( new BigDecimal( i ) );
+			}
+			assertThat( session.createSelectionQuery( "select count(*) from OrderLine where quantity = 2", Long.class )
+					.getSingleResult() ).isEqualTo( ITEMS / 100 );
+		} );
+	}
+
+	@Test
+	public void testPreUpdateCallbackDisablesParallelDirtyCheck(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < ITEMS; i++ ) {
+				session.persist( new AuditedItem( i, "Item " + i ) );
+			}
+		} );
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class )
+					.getResultList();
+			final AuditedItem audited = session.find( AuditedItem.class, 0 );
+			audited.name = "Renamed";
+			items.get( 1 ).setName( "Renamed" );
+			statistics.clear();
+			readers.clear();
+			session.flush();
+			assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 2 );
+			assertThat( readers ).containsOnly( Thread.currentThread() );
+		} );
+		scope.inSession( session -> assertThat( session.find( AuditedItem.class, 0 ).updates ).isEqualTo( 1 ) );
+	}
+
+	@Entity(name = "Item")
+	@Access(AccessType.PROPERTY)
+	public static class Item {
+		private Integer id;
+		private String name;
+		private BigDecimal price;
+		private Dimensions dimensions;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name, BigDecimal price, Dimensions dimensions) {
+			this.id = id;
+			this.name = name;
+			this.price = price;
+			this.dimensions = dimensions;
+		}
+
+		@Id
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			readers.add( Thread.currentThread() );
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public BigDecimal getPrice() {
+			return price;
+		}
+
+		public void setPrice(BigDecimal price) {
+			this.price = price;
+		}
+
+		@Embedded
+		public Dimensions getDimensions() {
+			return dimensions;
+		}
+
+		public void setDimensions(Dimensions dimensions) {
+			this.dimensions = dimensions;
+		}
+	}
+
+	@Embeddable
+	public static class Dimensions {
+		private int width;
+		private int height;
+
+		public Dimensions() {
+		}
+
+		public Dimensions(int width, int height) {
+			this.width = width;
+			this.height = height;
+		}
+
+		public int getWidth() {
+			return width;
+		}
+
+		public void setWidth(int width) {
+			this.width = width;
+		}
+
+		public int getHeight() {
+			return height;
+		}
+
+		public void setHeight(int height) {
+			this.height = height;
+		}
+	}
+
+	@Entity(name = "OrderLine")
+	public static class OrderLine {
+		@Id
+		Integer id;
+		@ManyToOne
+		Item item;
+		int quantity;
+
+		public OrderLine() {
+		}
+
+		public OrderLine(Integer id, Item item, int quantity) {
+			this.id = id;
+			this.item = item;
+			this.quantity = quantity;
+		}
+	}
+
+	@Entity(name = "AuditedItem")
+	public static class AuditedItem {
+		@Id
+		Integer id;
+		String name;
+		int updates;
+
+		public AuditedItem() {
+		}
+
+		public AuditedItem(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		@PreUpdate
+		void preUpdate() {
+			updates++;
+		}
+	}
+}
@@ -4,6 +4,15 @@
  */
 package org.hibernate.orm.test.id.enhanced;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.id.enhanced.AccessCallback;
@@ -15,6 +24,7 @@
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * {@inheritDoc}
@@ -302,6 +312,83 @@ public void testBasicPooledThreadLocalLoOptimizerUsage() {
 
 	}
 
+	@Test
+	public void testBasicPooledConcurrentOptimizerUsage() {
+		Long next;
+		// test historic sequence behavior, where the initial values start at 1...
+		SourceMock sequence = new SourceMock( 1, 10 );
+		Optimizer optimizer = buildPooledConcurrentOptimizer( -1, 10 );
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 1, next.intValue() );
+		// once to initialize state, and once to prefetch the next range
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( 11, sequence.getCurrentValue() );
+		for ( int i = 2; i <= 11; i++ ) {
+			next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+		}
+		// the range 2..11 was prefetched again half way through
+		assertEquals( 3, sequence.getTimesCalled() );
+		assertEquals( 21, sequence.getCurrentValue() );
+		// "clock over" to the prefetched range
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 12, next.intValue() );
+		assertEquals( 3, sequence.getTimesCalled() );
+	}
+
+	@Test
+	public void testSubsequentPooledConcurrentOptimizerUsage() {
+		// the sequence is already beyond its initial value on init
+		final SourceMock sequence = new SourceMock( 1001, 3, 5 );
+		final Optimizer optimizer = buildPooledConcurrentOptimizer( 1, 3 );
+
+		for ( int i = 1; i <= 6; i++ ) {
+			final Long next = (Long) optimizer.generate( sequence );
+			assertEquals( 1001 + i, next.intValue() );
+		}
+		assertEquals( 5 + 3, sequence.getTimesCalled() );
+		assertEquals( 1001 + 9, sequence.getCurrentValue() );
+	}
+
+	@Test
+	public void testPooledConcurrentOptimizerUnderContention() throws Exception {
+		final int threads = 16;
+		final int valuesPerThread = 10_000;
+		final SourceMock sequence = new SourceMock( 1, 50 );
+		final Optimizer optimizer = buildPooledConcurrentOptimizer( -1, 50 );
+
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+		final List<Long> values = new ArrayList<>();
+		try {
+			final List<Future<List<Long>>> futures = new ArrayList<>();
+			for ( int i = 0; i < threads; i++ ) {
+				futures.add( executor.submit( () -> {
+					final List<Long> generated = new ArrayList<>( valuesPerThread );
+					for ( int j = 0; j < valuesPerThread; j++ ) {
+						generated.add( (Long) optimizer.generate( sequence ) );
+					}
+					return generated;
+				} ) );
+			}
+			for ( Future<List<Long>> future : futures ) {
+				values.addAll( future.get() );
+			}
+		}
+		finally {
+			executor.shutdown();
+			assertTrue( executor.awaitTermination( 1, TimeUnit.MINUTES ) );
+		}
+
+		// every value of every fetched range is handed out exactly once
+		final int total = threads * valuesPerThread;
+		assertEquals(
+				LongStream.rangeClosed( 1, total ).boxed().collect( Collectors.toList() ),
+				values.stream().sorted().collect( Collectors.toList() )
+		);
+		// one range ahead at most
+		assertTrue( sequence.getTimesCalled() <= 2 + total / 50 );
+	}
+
 	private static Optimizer buildNoneOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.NONE, initial, increment );
 	}
@@ -322,6 +409,10 @@ private static Optimizer buildPooledThreadLocalLoOptimizer(long initial, int inc
 		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LOTL, initial, increment );
 	}
 
+	private static Optimizer buildPooledConcurrentOptimizer(long initial, int increment) {
+		return buildOptimizer( StandardOptimizerDescriptor.POOLED_CONCURRENT, initial, increment );
+	}
+
 	private static Optimizer buildOptimizer(
 			StandardOptimizerDescriptor descriptor,
 			long initial,
@@ -0,0 +1,171 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.jdbc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs sessions on many virtual threads and checks, using the JFR
+ * {@code jdk.VirtualThreadPinned} event, that Hibernate never blocks
+ * a virtual thread while pinning its carrier.
+ * <p>
+ * A pinned event is attributed to the code which blocked, that is, to
+ * the topmost frame of its stack trace outside the JDK, so that pinning
+ * within the JDBC driver is not blamed on Hibernate.
+ */
+@DomainModel(annotatedClasses = VirtualThreadPinningTest.Ticket.class)
+@SessionFactory
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10"),
+				@Setting(name = AvailableSettings.POOL_SIZE, value = "100"),
+				@Setting(name = AvailableSettings.SHOW_SQL, value = "false"),
+				@Setting(name = AvailableSettings.LOG_SESSION_METRICS, value = "false")
+		}
+)
+@RequiresDialect(H2Dialect.class)
+@EnabledForJreRange(min = JRE.JAVA_21)
+public class VirtualThreadPinningTest {
+	private static final int THREADS = 10_000;
+	// the size of the connection pool
+	private static final int CONNECTIONS = 100;
+
+	@Test
+	public void testNoPinning(SessionFactoryScope scope) throws Exception {
+		// the connection pool fails rather than waits when exhausted
+		final Semaphore connections = new Semaphore( CONNECTIONS );
+		final List<RecordedEvent> pinnedEvents;
+		try ( Recording recording = new Recording() ) {
+			recording.enable( "jdk.VirtualThreadPinned" ).withThreshold( Duration.ZERO ).withStackTrace();
+			recording.start();
+			final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+			try {
+				final List<Future<?>> futures = new ArrayList<>( THREADS );
+				for ( int i = 0; i < THREADS; i++ ) {
+					final int number = i;
+					futures.add( executor.submit( () -> {
+						connections.acquireUninterruptibly();
+						try {
+							scope.inTransaction( session -> {
+								session.persist( new Ticket( "ticket " + number ) );
+								session.persist( new Ticket( "ticket " + number + "'" ) );
+								session.flush();
+								session.createSelectionQuery( "from Ticket where name = :name", Ticket.class )
+										.setParameter( "name", "ticket " + number )
+										.getSingleResult();
+							} );
+						}
+						finally {
+							connections.release();
+						}
+					} ) );
+				}
+				for ( Future<?> future : futures ) {
+					future.get();
+				}
+			}
+			finally {
+				executor.shutdown();
+				assertThat( executor.awaitTermination( 1, TimeUnit.MINUTES ) ).isTrue();
+			}
+			recording.stop();
+			final Path file = Files.createTempFile( "virtual-thread-pinning", ".jfr" );
+			try {
+				recording.dump( file );
+				pinnedEvents = RecordingFile.readAllEvents( file ).stream()
+						.filter( event -> event.getEventType().getName().equals( "jdk.VirtualThreadPinned" ) )
+						.filter( VirtualThreadPinningTest::isPinnedByHibernate )
+						.collect( Collectors.toList() );
+			}
+			finally {
+				Files.deleteIfExists( file );
+			}
+		}
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Ticket", Long.class ).getSingleResult()
+		).isEqualTo( 2L * THREADS ) );
+		assertThat( pinnedEvents ).as( "Pinned virtual threads" )
+				.extracting( VirtualThreadPinningTest::describe )
+				.isEmpty();
+	}
+
+	private static boolean isPinnedByHibernate(RecordedEvent event) {
+		if ( event.getStackTrace() != null ) {
+			for ( RecordedFrame frame : event.getStackTrace().getFrames() ) {
+				final String typeName = frame.getMethod().getType().getName();
+				if ( !typeName.startsWith( "java." )
+						&& !typeName.startsWith( "jdk." )
+						&& !typeName.startsWith( "sun." ) ) {
+					return typeName.startsWith( "org.hibernate." )
+						&& !typeName.startsWith( "org.hibernate.orm.test." );
+				}
+			}
+		}
+		return false;
+	}
+
+	private static String describe(RecordedEvent event) {
+		return event.getStackTrace().getFrames().stream()
+				.map( frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+						+ ":" + frame.getLineNumber() )
+				.collect( Collectors.joining( "\n\tat ", "Pinned for " + event.getDuration() + "\n\tat ", "" ) );
+	}
+
+	private static ExecutorService newVirtualThreadPerTaskExecutor() throws ReflectiveOperationException {
+		// the test sources are compiled for the baseline JDK, which has no virtual threads
+		return (ExecutorService) Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" ).invoke( null );
+	}
+
+	@Entity(name = "Ticket")
+	public static class Ticket {
+		@Id
+		@GeneratedValue(generator = "ticket_seq")
+		@SequenceGenerator(name = "ticket_seq", allocationSize = 20)
+		private Long id;
+		private String name;
+
+		public Ticket() {
+		}
+
+		public Ticket(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.loading.multiLoad;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionEventListener;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the second-level cache entries of a batch of entities are read at once
+ */
+@DomainModel(annotatedClasses = MultiLoadBulkSecondLevelCacheTest.Item.class)
+@SessionFactory(generateStatistics = true, useCollectingStatementInspector = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+				value = "org.hibernate.orm.test.loading.multiLoad.MultiLoadBulkSecondLevelCacheTest$CacheGetCounter")
+})
+public class MultiLoadBulkSecondLevelCacheTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testFindMultiple(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictEntityData( Item.class, 5 );
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		statistics.clear();
+		inspector.clear();
+		CacheGetCounter.COUNT.set( 0 );
+
+		scope.inTransaction( session -> {
+			final List<Object> ids = new ArrayList<>();
+			for ( int i = 1; i <= 10; i++ ) {
+				ids.add( i );
+			}
+			final List<Item> items = session.findMultiple( Item.class, ids );
+			assertThat( items ).hasSize( 10 ).doesNotContainNull();
+			assertThat( items.get( 4 ).name ).isEqualTo( "item 5" );
+		} );
+
+		assertThat( CacheGetCounter.COUNT.get() ).isEqualTo( 1 );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 9 );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 1 );
+		assertThat( inspector.getSqlQueries() ).hasSize( 1 );
+	}
+
+	@Test
+	public void testBatchFetch(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictEntityData( Item.class, 1 );
+		scope.getSessionFactory().getCache().evictEntityData( Item.class, 3 );
+		scope.getSessionFactory().getCache().evictEntityData( Item.class, 4 );
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+
+		scope.inTransaction( session -> {
+			final List<Item> proxies = new ArrayList<>();
+			for ( int i = 1; i <= 10; i++ ) {
+				proxies.add( session.getReference( Item.class, i ) );
+			}
+			CacheGetCounter.COUNT.set( 0 );
+			Hibernate.initialize( proxies.get( 0 ) );
+			// one read for the requested item, and one for the rest of the batch
+			assertThat( CacheGetCounter.COUNT.get() ).isEqualTo( 2 );
+			assertThat( inspector.getSqlQueries() ).hasSize( 1 );
+			// only the items missing from the cache were loaded
+			assertThat( Hibernate.isInitialized( proxies.get( 2 ) ) ).isTrue();
+			assertThat( Hibernate.isInitialized( proxies.get( 3 ) ) ).isTrue();
+			assertThat( Hibernate.isInitialized( proxies.get( 1 ) ) ).isFalse();
+		} );
+	}
+
+	public static class CacheGetCounter implements SessionEventListener {
+		static final AtomicInteger COUNT = new AtomicInteger();
+
+		@Override
+		public void cacheGetStart() {
+			COUNT.incrementAndGet();
+		}
+	}
+
+	@Entity(name = "Item")
+	@Cacheable
+	@BatchSize(size = 10)
+	public static class Item {
+		@Id
+		Integer id;
+		String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
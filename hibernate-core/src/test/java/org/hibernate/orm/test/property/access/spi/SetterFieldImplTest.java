@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.property.access.spi;
+
+import java.lang.reflect.Field;
+
+import org.hibernate.PropertyAccessException;
+import org.hibernate.property.access.internal.FieldAccessor;
+import org.hibernate.property.access.spi.Setter;
+import org.hibernate.property.access.spi.SetterFieldImpl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SetterFieldImplTest {
+
+	@Test
+	public void testSet() {
+		final Target target = new Target();
+
+		setter( "active" ).set( target, true );
+		assertThat( target.active ).isTrue();
+		setter( "children" ).set( target, (byte) 2 );
+		assertThat( target.children ).isEqualTo( (byte) 2 );
+		setter( "gender" ).set( target, 'M' );
+		assertThat( target.gender ).isEqualTo( 'M' );
+		setter( "code" ).set( target, Integer.MAX_VALUE );
+		assertThat( target.code ).isEqualTo( Integer.MAX_VALUE );
+		setter( "id" ).set( target, Long.MAX_VALUE );
+		assertThat( target.id ).isEqualTo( Long.MAX_VALUE );
+		setter( "age" ).set( target, (short) 34 );
+		assertThat( target.age ).isEqualTo( (short) 34 );
+		setter( "name" ).set( target, "John Doe" );
+		assertThat( target.name ).isEqualTo( "John Doe" );
+		setter( "name" ).set( target, null );
+		assertThat( target.name ).isNull();
+	}
+
+	@Test
+	public void testWideningConversion() {
+		final Target target = new Target();
+		setter( "id" ).set( target, 5 );
+		assertThat( target.id ).isEqualTo( 5L );
+	}
+
+	@Test
+	public void testFinalField() {
+		final Target target = new Target();
+		setter( "version" ).set( target, 3 );
+		assertThat( target.version ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testNullForPrimitive() {
+		assertThatThrownBy( () -> setter( "code" ).set( new Target(), null ) )
+				.isInstanceOf( PropertyAccessException.class )
+				.hasMessageContaining( "Null value was assigned to a property" );
+	}
+
+	@Test
+	public void testWrongType() {
+		assertThatThrownBy( () -> setter( "name" ).set( new Target(), 1 ) )
+				.isInstanceOf( PropertyAccessException.class )
+				.hasMessageContaining( "Could not set value of type [java.lang.Integer]" );
+	}
+
+	@Test
+	public void testGeneratedFieldAccessor() throws NoSuchFieldException {
+		final Field field = Target.class.getDeclaredField( "code" );
+		field.setAccessible( true );
+		final FieldAccessor accessor = FieldAccessor.forField( field );
+		assertThat( accessor.getClass().isHidden() ).isTrue();
+		assertThat( FieldAccessor.forField( field ) ).isSameAs( accessor );
+
+		final Target target = new Target();
+		accessor.set( target, 42 );
+		assertThat( accessor.get( target ) ).isEqualTo( 42 );
+		// no widening conversion, unlike Field.set()
+		assertThatThrownBy( () -> accessor.set( target, (short) 1 ) ).isInstanceOf( ClassCastException.class );
+	}
+
+	private static class Target {
+
+		private boolean active;
+
+		private byte children;
+
+		private char gender;
+
+		private int code;
+
+		private long id;
+
+		private short age;
+
+		private String name;
+
+		private final Integer version = 0;
+	}
+
+	private Setter setter(String property) {
+		try {
+			final Field field = Target.class.getDeclaredField( property );
+			field.setAccessible( true );
+			return new SetterFieldImpl( Target.class, property, field );
+		}
+		catch (NoSuchFieldException e) {
+			throw new IllegalArgumentException( e );
+		}
+	}
+}
@@ -0,0 +1,182 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.cfg.QuerySettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link QuerySettings#QUERY_ROW_READER_COMPILE_THRESHOLD}.
+ */
+@DomainModel(annotatedClasses = { CompiledRowReaderTest.Department.class, CompiledRowReaderTest.Employee.class })
+@ServiceRegistry(settings = @Setting(name = QuerySettings.QUERY_ROW_READER_COMPILE_THRESHOLD, value = "3"))
+@SessionFactory
+public class CompiledRowReaderTest {
+	private static final String COMPILED_ROW_READER = "HibernateCompiledRowReader";
+	private static final StackWalker STACK_WALKER = StackWalker.getInstance(
+			Set.of( StackWalker.Option.SHOW_HIDDEN_FRAMES, StackWalker.Option.RETAIN_CLASS_REFERENCE )
+	);
+
+	// whether the last employee was initialized by a generated row reader
+	private static volatile boolean initializedByCompiledRowReader;
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Department department = new Department( 1, "Engineering" );
+			session.persist( department );
+			for ( int i = 1; i <= 5; i++ ) {
+				session.persist( new Employee( i, "Employee " + i, department ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@BeforeEach
+	public void reset() {
+		initializedByCompiledRowReader = false;
+	}
+
+	@Test
+	public void testEntityQueryUsesCompiledRowReaderAfterThreshold(SessionFactoryScope scope) {
+		final String hql = "from Employee e join fetch e.department order by e.id";
+		for ( int execution = 1; execution <= 5; execution++ ) {
+			final List<Employee> employees = scope.fromSession( session ->
+					session.createSelectionQuery( hql, Employee.class ).getResultList() );
+			assertThat( employees ).extracting( Employee::getName )
+					.containsExactly( "Employee 1", "Employee 2", "Employee 3", "Employee 4", "Employee 5" );
+			assertThat( employees ).allSatisfy( employee ->
+					assertThat( employee.getDepartment().getName() ).isEqualTo( "Engineering" ) );
+			assertThat( initializedByCompiledRowReader )
+					.as( "initialized by a generated row reader on execution %s", execution )
+					.isEqualTo( execution >= 3 );
+		}
+	}
+
+	@Test
+	public void testProjections(SessionFactoryScope scope) {
+		final List<List<Object>> expected = new ArrayList<>();
+		for ( int i = 1; i <= 5; i++ ) {
+			expected.add( List.of( i, "Employee " + i, "Engineering" ) );
+		}
+		for ( int execution = 1; execution <= 5; execution++ ) {
+			scope.inSession( session -> {
+				final List<Object[]> rows = session.createSelectionQuery(
+						"select e.id, e.name, e.department.name from Employee e order by e.id",
+						Object[].class
+				).getResultList();
+				assertThat( rows ).extracting( Arrays::asList ).containsExactlyElementsOf( expected );
+
+				final List<String> names = session.createSelectionQuery(
+						"select e.name from Employee e where e.id <= 2 order by e.id",
+						String.class
+				).getResultList();
+				assertThat( names ).containsExactly( "Employee 1", "Employee 2" );
+
+				final List<EmployeeSummary> summaries = session.createSelectionQuery(
+						"select new " + EmployeeSummary.class.getName() + "( e.id, e.name ) from Employee e order by e.id",
+						EmployeeSummary.class
+				).getResultList();
+				assertThat( summaries ).extracting( EmployeeSummary::id ).containsExactly( 1, 2, 3, 4, 5 );
+			} );
+		}
+	}
+
+	public record EmployeeSummary(Integer id, String name) {
+	}
+
+	@Entity(name = "Department")
+	public static class Department {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Department() {
+		}
+
+		public Department(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Employee")
+	@Access(AccessType.PROPERTY)
+	public static class Employee {
+		private Integer id;
+		private String name;
+		private Department department;
+
+		public Employee() {
+		}
+
+		public Employee(Integer id, String name, Department department) {
+			this.id = id;
+			this.name = name;
+			this.department = department;
+		}
+
+		@Id
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+			// generated row readers are hidden classes, which can be unloaded
+			initializedByCompiledRowReader = STACK_WALKER.walk( frames -> frames.anyMatch(
+					frame -> frame.getClassName().contains( COMPILED_ROW_READER )
+							&& frame.getDeclaringClass().isHidden()
+			) );
+		}
+
+		@ManyToOne
+		public Department getDepartment() {
+			return department;
+		}
+
+		public void setDepartment(Department department) {
+			this.department = department;
+		}
+	}
+}
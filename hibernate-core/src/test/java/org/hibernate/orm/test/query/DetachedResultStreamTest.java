@@ -0,0 +1,238 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.query.SelectionQuery;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link org.hibernate.query.SelectionQuery#getDetachedResultStream(int)}.
+ */
+@DomainModel(annotatedClasses = {
+		DetachedResultStreamTest.Owner.class,
+		DetachedResultStreamTest.Item.class,
+		DetachedResultStreamTest.Part.class
+})
+@SessionFactory
+public class DetachedResultStreamTest {
+	private static final int ITEMS = 25;
+	private static final int CHUNK_SIZE = 10;
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Owner owner = new Owner( 1, "owner" );
+			session.persist( owner );
+			for ( int i = 1; i <= ITEMS; i++ ) {
+				final Item item = new Item( i, owner );
+				session.persist( item );
+				for ( int j = 1; j <= 2; j++ ) {
+					session.persist( new Part( i * 10 + j, item ) );
+				}
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testEntitiesAreDetachedChunkByChunk(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Item> read = new ArrayList<>();
+			int maximumManagedEntities = 0;
+			try ( Stream<Item> items = session.createSelectionQuery( "from Item i order by i.id", Item.class )
+					.getDetachedResultStream( CHUNK_SIZE ) ) {
+				for ( Item item : (Iterable<Item>) items::iterator ) {
+					assertThat( session.contains( item ) ).isTrue();
+					// lazy associations may be fetched while the chunk is being processed
+					assertThat( item.getParts() ).hasSize( 2 );
+					assertThat( item.getOwner().getName() ).isEqualTo( "owner" );
+					if ( read.size() >= CHUNK_SIZE ) {
+						final Item previous = read.get( read.size() - CHUNK_SIZE );
+						assertThat( session.contains( previous ) ).isFalse();
+						// the owner was loaded lazily, and detached along with the previous chunk
+						assertThat( session.contains( previous.getOwner() ) ).isFalse();
+					}
+					read.add( item );
+					maximumManagedEntities = Math.max(
+							maximumManagedEntities,
+							session.getPersistenceContextInternal().getNumberOfManagedEntities()
+					);
+				}
+			}
+			assertThat( read ).extracting( Item::getId ).containsExactlyElementsOf( ids( 1, ITEMS ) );
+			// a chunk of items, their parts, and the owner
+			assertThat( maximumManagedEntities ).isLessThanOrEqualTo( CHUNK_SIZE * 3 + 1 );
+			// the parts and the owner, which were loaded lazily, are detached too
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isZero();
+			for ( Item item : read ) {
+				assertThat( Hibernate.isInitialized( item.getParts() ) ).isTrue();
+			}
+		} );
+	}
+
+	@Test
+	public void testPreviouslyManagedEntitiesAreNotDetached(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Item managed = session.find( Item.class, 5 );
+			final Owner owner = session.find( Owner.class, 1 );
+			final Set<Integer> ids = new HashSet<>();
+			try ( Stream<Item> items = session.createSelectionQuery( "from Item i order by i.id", Item.class )
+					.getDetachedResultStream( 3 ) ) {
+				items.forEach( item -> ids.add( item.getId() ) );
+			}
+			assertThat( ids ).hasSize( ITEMS );
+			assertThat( session.contains( managed ) ).isTrue();
+			assertThat( session.contains( owner ) ).isTrue();
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( 2 );
+		} );
+	}
+
+	@Test
+	public void testRemovedEntitiesAreNotDetached(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Item> removed = new ArrayList<>();
+			final SelectionQuery<Item> query = session.createSelectionQuery( "from Item i order by i.id", Item.class );
+			try ( Stream<Item> items = query.getDetachedResultStream( 4 ) ) {
+				items.forEach( item -> {
+					if ( item.getId() % 5 == 0 ) {
+						session.remove( item );
+						removed.add( item );
+					}
+				} );
+			}
+			assertThat( query.getFetchSize() ).isNull();
+			assertThat( removed ).hasSize( ITEMS / 5 );
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			for ( Item item : removed ) {
+				assertThat( persistenceContext.getEntry( item ).getStatus() ).isEqualTo( Status.DELETED );
+				assertThat( session.getActionQueue().getEntitiesWithQueuedActions() ).contains( item );
+			}
+			session.getTransaction().markRollbackOnly();
+		} );
+	}
+
+	@Test
+	public void testProjection(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try ( Stream<Integer> results = session.createSelectionQuery( "select i.id from Item i order by i.id", Integer.class )
+					.getDetachedResultStream( 7 ) ) {
+				assertThat( results ).containsExactlyElementsOf( ids( 1, ITEMS ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testStatelessSession(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> {
+			try ( Stream<Item> items = session.createSelectionQuery( "from Item i order by i.id", Item.class )
+					.getDetachedResultStream( CHUNK_SIZE ) ) {
+				assertThat( items ).extracting( Item::getId ).containsExactlyElementsOf( ids( 1, ITEMS ) );
+			}
+		} );
+	}
+
+	private static List<Integer> ids(int from, int to) {
+		final List<Integer> ids = new ArrayList<>();
+		for ( int i = from; i <= to; i++ ) {
+			ids.add( i );
+		}
+		return ids;
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Owner() {
+		}
+
+		public Owner(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Owner owner;
+		@OneToMany(mappedBy = "item", cascade = CascadeType.DETACH)
+		@BatchSize(size = CHUNK_SIZE)
+		private Set<Part> parts = new HashSet<>();
+
+		public Item() {
+		}
+
+		public Item(Integer id, Owner owner) {
+			this.id = id;
+			this.owner = owner;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public Owner getOwner() {
+			return owner;
+		}
+
+		public Set<Part> getParts() {
+			return parts;
+		}
+	}
+
+	@Entity(name = "Part")
+	public static class Part {
+		@Id
+		private Integer id;
+		@ManyToOne
+		private Item item;
+
+		public Part() {
+		}
+
+		public Part(Integer id, Item item) {
+			this.id = id;
+			this.item = item;
+		}
+	}
+}
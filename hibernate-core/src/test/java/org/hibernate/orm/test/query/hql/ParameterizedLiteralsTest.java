@@ -0,0 +1,213 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.hql;
+
+import java.util.List;
+
+import org.hibernate.cfg.JpaComplianceSettings;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.query.Query;
+import org.hibernate.query.hql.internal.ParameterizedHql;
+import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.ParameterizedHqlInterpretation;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Parameter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link QuerySettings#QUERY_PLAN_CACHE_PARAMETERIZE_LITERALS}
+ */
+@DomainModel(annotatedClasses = { ParameterizedLiteralsTest.Ticket.class, ParameterizedLiteralsTest.Agent.class })
+@SessionFactory
+@ServiceRegistry(settings = {
+		@Setting(name = QuerySettings.QUERY_PLAN_CACHE_PARAMETERIZE_LITERALS, value = "true"),
+		@Setting(name = JpaComplianceSettings.JPA_LOAD_BY_ID_COMPLIANCE, value = "true")
+})
+public class ParameterizedLiteralsTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 6; i++ ) {
+				session.persist( new Ticket( i, i % 2 == 0 ? "OPEN" : "CLOSED", i % 3, Priority.values()[i % 2] ) );
+			}
+			session.persist( new Agent( 5L, "Alice" ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testParameterize() {
+		final ParameterizedHql parameterized =
+				ParameterizedHql.parameterize( "from Ticket where status = 'it''s' and (region <> 42 or id >= 10_000L) order by id" );
+		assertThat( parameterized ).isNotNull();
+		assertThat( parameterized.getQueryString() )
+				.isEqualTo( "from Ticket where status = :_literal0 and (region <> :_literal1 or id >= :_literal2) order by id" );
+
+		// literals outside a simple comparison are left alone
+		assertThat( ParameterizedHql.parameterize( "select 1 from Ticket where region = 1 + id" ) ).isNull();
+		assertThat( ParameterizedHql.parameterize( "from Ticket where region = -1" ) ).isNull();
+		assertThat( ParameterizedHql.parameterize( "from Ticket where region between 1 and 2" ) ).isNull();
+		// ordinal parameters cannot be mixed with the synthetic named parameters
+		assertThat( ParameterizedHql.parameterize( "from Ticket where region = 1 and id = ?1" ) ).isNull();
+
+		// assignments are left alone, but not the predicates of subqueries
+		assertThat( ParameterizedHql.parameterize( "update Ticket set status = 'DONE' where region = 0" ).getQueryString() )
+				.isEqualTo( "update Ticket set status = 'DONE' where region = :_literal0" );
+		assertThat( ParameterizedHql.parameterize( "update Ticket set region = (select max(region) from Ticket where id = 1), status = 'DONE'" ).getQueryString() )
+				.isEqualTo( "update Ticket set region = (select max(region) from Ticket where id = :_literal0), status = 'DONE'" );
+		assertThat( ParameterizedHql.parameterize( "select t.id from Ticket t join Ticket u on u.id = 1 where t.region in (select region from Ticket where id = 2) and t.status = 'OPEN'" ).getQueryString() )
+				.isEqualTo( "select t.id from Ticket t join Ticket u on u.id = :_literal0 where t.region in (select region from Ticket where id = :_literal1) and t.status = :_literal2" );
+		assertThat( ParameterizedHql.parameterize( "select case when region = 1 then 'one' else 'other' end from Ticket" ) ).isNull();
+	}
+
+	@Test
+	public void testQueriesShareInterpretation(SessionFactoryScope scope) {
+		final QueryInterpretationCache cache = scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+		final int interpretations = cache.getNumberOfCachedHqlInterpretations();
+		final int plans = cache.getNumberOfCachedQueryPlans();
+		scope.inSession( session -> {
+			for ( int region = 0; region < 3; region++ ) {
+				final List<Ticket> tickets = session.createSelectionQuery(
+						"from Ticket where status = 'OPEN' and region = " + region + " order by id",
+						Ticket.class
+				).getResultList();
+				assertThat( tickets ).hasSize( 1 );
+				assertThat( tickets.get( 0 ).status ).isEqualTo( "OPEN" );
+				assertThat( tickets.get( 0 ).region ).isEqualTo( region );
+			}
+			assertThat( session.createQuery( "from Ticket where status = 'CLOSED'", Ticket.class ).getResultList() )
+					.hasSize( 3 );
+			assertThat( session.createQuery( "from Ticket where status = 'OPEN'", Ticket.class ).getResultList() )
+					.hasSize( 3 );
+		} );
+		// one for each shape of query
+		assertThat( cache.getNumberOfCachedHqlInterpretations() ).isEqualTo( interpretations + 2 );
+		assertThat( cache.getNumberOfCachedQueryPlans() ).isEqualTo( plans + 2 );
+	}
+
+	@Test
+	public void testQueryStringIsLexedOnce(SessionFactoryScope scope) {
+		final QueryInterpretationCache cache = scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+		final String hql = "from Ticket where status = 'OPEN' and region = 2";
+		final HqlInterpretation<Ticket> interpretation = cache.resolveHqlInterpretation(
+				hql,
+				Ticket.class,
+				scope.getSessionFactory().getQueryEngine().getHqlTranslator()
+		);
+		assertThat( interpretation ).isInstanceOf( ParameterizedHqlInterpretation.class );
+		assertThat( cache.resolveHqlInterpretation(
+				hql,
+				Ticket.class,
+				scope.getSessionFactory().getQueryEngine().getHqlTranslator()
+		) ).isSameAs( interpretation );
+	}
+
+	@Test
+	public void testLiteralParametersAreHidden(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final Query<Ticket> query =
+					session.createQuery( "from Ticket where status = 'OPEN' and region = :region", Ticket.class );
+			assertThat( query.getParameters() ).extracting( Parameter::getName ).containsExactly( "region" );
+			assertThat( query.getParameterMetadata().getNamedParameterNames() ).containsExactly( "region" );
+			assertThat( query.getParameterMetadata().findQueryParameter( "_literal0" ) ).isNull();
+			assertThat( query.setParameter( "region", 2 ).getResultList() ).hasSize( 1 );
+
+			assertThat( session.createQuery( "from Ticket where status = 'OPEN'", Ticket.class ).getParameters() )
+					.isEmpty();
+		} );
+	}
+
+	@Test
+	public void testLiteralCoercedToParameterType(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			// the integer literal is bound to the Long identifier, even with load by id compliance
+			final Agent agent =
+					session.createQuery( "from Agent where id = 5", Agent.class ).getSingleResult();
+			assertThat( agent.name ).isEqualTo( "Alice" );
+			assertThat( session.createQuery( "from Agent where id = 6", Agent.class ).getResultList() ).isEmpty();
+		} );
+	}
+
+	@Test
+	public void testUnbindableLiteral(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			// a string literal compared to an enumerated value is interpreted as written
+			assertThat( session.createQuery( "from Ticket where priority = 'HIGH'", Ticket.class ).getResultList() )
+					.hasSize( 3 );
+			assertThat( session.createQuery( "from Ticket where priority = 'HIGH'", Ticket.class ).getResultList() )
+					.hasSize( 3 );
+		} );
+	}
+
+	@Test
+	public void testMutationQuery(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			assertThat( session.createMutationQuery( "update Ticket set status = 'DONE' where region = 0" ).executeUpdate() )
+					.isEqualTo( 2 );
+			assertThat( session.createQuery( "select count(*) from Ticket where status = 'DONE'", Long.class )
+					.getSingleResult() ).isEqualTo( 2L );
+		} );
+	}
+
+	@Entity(name = "Agent")
+	public static class Agent {
+		@Id
+		Long id;
+		String name;
+
+		public Agent() {
+		}
+
+		public Agent(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	public enum Priority {
+		LOW,
+		HIGH
+	}
+
+	@Entity(name = "Ticket")
+	public static class Ticket {
+		@Id
+		Integer id;
+		String status;
+		int region;
+		@Enumerated(EnumType.STRING)
+		Priority priority;
+
+		public Ticket() {
+		}
+
+		public Ticket(Integer id, String status, int region, Priority priority) {
+			this.id = id;
+			this.status = status;
+			this.region = region;
+			this.priority = priority;
+		}
+	}
+}
@@ -0,0 +1,174 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.cache.internal.CompactQueryResults;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CompactQueryResults}
+ */
+@DomainModel(annotatedClasses = { CompactQueryResultsTest.Author.class, CompactQueryResultsTest.Book.class })
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true")
+})
+public class CompactQueryResultsTest {
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = new Author( 1L, "Jane" );
+			session.persist( author );
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Book( i, i % 3 == 0 ? null : "Book " + i, author ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testCachedQueryResults(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictQueryRegions();
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final List<Object[]> results = session.createSelectionQuery(
+								"select b.id, b.title, b.author from Book b order by b.id",
+								Object[].class
+						)
+						.setCacheable( true )
+						.getResultList();
+				assertThat( results ).hasSize( 10 );
+				for ( Object[] result : results ) {
+					final int id = (Integer) result[0];
+					assertThat( result[1] ).isEqualTo( id % 3 == 0 ? null : "Book " + id );
+					assertThat( ( (Author) result[2] ).name ).isEqualTo( "Jane" );
+				}
+				session.clear();
+			} );
+		}
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testEncoding() throws Exception {
+		final List<Object> cached = new ArrayList<>();
+		for ( int i = 0; i < 5; i++ ) {
+			cached.add( new Object[] { (long) i, "title " + i, new String( "shared" ), i % 2 == 0 ? null : i } );
+		}
+		cached.add( 5 );
+		final CompactQueryResults results = CompactQueryResults.from( cached );
+		assertThat( results ).isNotNull();
+		assertThat( results.getRowCount() ).isEqualTo( 5 );
+		assertThat( results.getResultCount() ).isEqualTo( 5 );
+		assertThat( results.getColumnCount() ).isEqualTo( 4 );
+		assertThat( results.isLongColumn( 0 ) ).isTrue();
+		assertThat( results.getLong( 3, 0 ) ).isEqualTo( 3L );
+		// a column with nulls is not stored as primitives
+		assertThat( results.isIntColumn( 3 ) ).isFalse();
+		assertThat( results.getObject( 2, 3 ) ).isNull();
+		assertThat( results.getObject( 3, 3 ) ).isEqualTo( 3 );
+		// equal values are stored once
+		assertThat( results.getObject( 0, 2 ) ).isSameAs( results.getObject( 4, 2 ) );
+		// the rows of the list view are only reconstructed once
+		assertThat( results.get( 1 ) ).isSameAs( results.get( 1 ) );
+
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try ( ObjectOutputStream out = new ObjectOutputStream( bytes ) ) {
+			out.writeObject( results );
+		}
+		try ( ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) ) ) {
+			final List<?> deserialized = (List<?>) in.readObject();
+			assertThat( deserialized ).hasSize( cached.size() );
+			for ( int i = 0; i < cached.size() - 1; i++ ) {
+				assertThat( Arrays.equals( (Object[]) deserialized.get( i ), (Object[]) cached.get( i ) ) ).isTrue();
+			}
+			assertThat( deserialized.get( cached.size() - 1 ) ).isEqualTo( 5 );
+		}
+	}
+
+	@Test
+	public void testSingleValueRows() {
+		final CompactQueryResults results = CompactQueryResults.from( List.of( 10L, 20L, 2 ) );
+		assertThat( results ).isNotNull();
+		assertThat( results.hasSingleValueRows() ).isTrue();
+		assertThat( results ).containsExactly( 10L, 20L, 2 );
+	}
+
+	@Test
+	public void testUnexpectedFormat() {
+		assertThat( CompactQueryResults.from( List.of() ) ).isNull();
+		assertThat( CompactQueryResults.from( List.of( "a", "b" ) ) ).isNull();
+		assertThat( CompactQueryResults.from( List.of( new Object[] { 1 }, new Object[] { 1, 2 }, 2 ) ) ).isNull();
+	}
+
+	@Entity(name = "Author")
+	@Cacheable
+	public static class Author {
+		@Id
+		Long id;
+		String name;
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+		@ManyToOne
+		Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
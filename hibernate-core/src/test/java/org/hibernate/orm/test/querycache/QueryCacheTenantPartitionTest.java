@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.querycache;
+
+import org.hibernate.annotations.TenantId;
+import org.hibernate.boot.SessionFactoryBuilder;
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryProducer;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CacheSettings#QUERY_CACHE_PARTITION_BY_TENANT}
+ */
+@DomainModel(annotatedClasses = QueryCacheTenantPartitionTest.Purchase.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = CacheSettings.QUERY_CACHE_PARTITION_BY_TENANT, value = "true")
+})
+public class QueryCacheTenantPartitionTest implements SessionFactoryProducer {
+	private String currentTenant;
+
+	@Override
+	public SessionFactoryImplementor produceSessionFactory(MetadataImplementor model) {
+		final SessionFactoryBuilder sessionFactoryBuilder = model.getSessionFactoryBuilder();
+		sessionFactoryBuilder.applyCurrentTenantIdentifierResolver( new CurrentTenantIdentifierResolver<String>() {
+			@Override
+			public String resolveCurrentTenantIdentifier() {
+				return currentTenant;
+			}
+
+			@Override
+			public boolean validateExistingCurrentSessions() {
+				return false;
+			}
+
+			@Override
+			public boolean isRoot(String tenantId) {
+				return "root".equals( tenantId );
+			}
+		} );
+		return (SessionFactoryImplementor) sessionFactoryBuilder.build();
+	}
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		currentTenant = "root";
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Purchase" ).executeUpdate() );
+		scope.getSessionFactory().getCache().evictQueryRegions();
+	}
+
+	@Test
+	public void testWritesOnlyInvalidateTheirTenant(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		persist( scope, "a", 1 );
+		persist( scope, "b", 2 );
+		assertThat( count( scope, "a" ) ).isEqualTo( 1L );
+		assertThat( count( scope, "b" ) ).isEqualTo( 1L );
+
+		persist( scope, "a", 3 );
+		statistics.clear();
+		// the cached results of the other tenant are still up-to-date
+		assertThat( count( scope, "b" ) ).isEqualTo( 1L );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( count( scope, "a" ) ).isEqualTo( 2L );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testWritesInvalidateRootTenant(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		persist( scope, "a", 1 );
+		persist( scope, "b", 2 );
+		// the root tenant reads the rows of every tenant
+		assertThat( count( scope, "root" ) ).isEqualTo( 2L );
+
+		persist( scope, "a", 3 );
+		statistics.clear();
+		assertThat( count( scope, "root" ) ).isEqualTo( 3L );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testBulkMutationsInvalidateAllTenants(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		persist( scope, "a", 1 );
+		persist( scope, "b", 2 );
+		assertThat( count( scope, "a" ) ).isEqualTo( 1L );
+		assertThat( count( scope, "b" ) ).isEqualTo( 1L );
+
+		currentTenant = "a";
+		scope.inTransaction( session -> session.createMutationQuery( "update Purchase set amount = amount + 1" )
+				.executeUpdate() );
+		statistics.clear();
+		assertThat( count( scope, "b" ) ).isEqualTo( 1L );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	private void persist(SessionFactoryScope scope, String tenant, int id) {
+		currentTenant = tenant;
+		scope.inTransaction( session -> session.persist( new Purchase( id, 10 ) ) );
+	}
+
+	private long count(SessionFactoryScope scope, String tenant) {
+		currentTenant = tenant;
+		return scope.fromTransaction( session -> session.createSelectionQuery( "select count(*) from Purchase", Long.class )
+				.setCacheable( true )
+				.getSingleResult() );
+	}
+
+	@Entity(name = "Purchase")
+	public static class Purchase {
+		@Id
+		Integer id;
+		int amount;
+		@TenantId
+		String tenant;
+
+		public Purchase() {
+		}
+
+		public Purchase(Integer id, int amount) {
+			this.id = id;
+			this.amount = amount;
+		}
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Hibernate;
+import org.hibernate.stat.LatencyHistogram;
+import org.hibernate.stat.internal.LatencyHistogramImpl;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link LatencyHistogramImpl}
+ */
+@DomainModel(annotatedClasses = { LatencyHistogramTest.Team.class, LatencyHistogramTest.Player.class })
+@SessionFactory(generateStatistics = true)
+public class LatencyHistogramTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testPercentiles() {
+		final LatencyHistogramImpl histogram = new LatencyHistogramImpl();
+		assertThat( histogram.getValueAtPercentile( 50.0 ) ).isEqualTo( 0 );
+		for ( long micros = 1; micros <= 1000; micros++ ) {
+			histogram.record( TimeUnit.MICROSECONDS.toNanos( micros ) );
+		}
+		assertThat( histogram.getCount() ).isEqualTo( 1000 );
+		assertThat( histogram.getMaxValue() ).isEqualTo( 1000 );
+		assertThat( histogram.getValueAtPercentile( 0.0 ) ).isEqualTo( 1 );
+		assertThat( histogram.getValueAtPercentile( 100.0 ) ).isEqualTo( 1000 );
+		// the relative error is at most one part in sixteen
+		assertThat( histogram.getValueAtPercentile( 50.0 ) ).isBetween( 500L, 500L + 500 / 16 );
+		assertThat( histogram.getValueAtPercentile( 99.0 ) ).isBetween( 990L, 1000L );
+	}
+
+	@Test
+	public void testLargeValues() {
+		final LatencyHistogramImpl histogram = new LatencyHistogramImpl();
+		histogram.record( TimeUnit.HOURS.toNanos( 1 ) );
+		histogram.record( Long.MAX_VALUE );
+		histogram.record( -1 );
+		assertThat( histogram.getCount() ).isEqualTo( 3 );
+		assertThat( histogram.getValueAtPercentile( 0.0 ) ).isEqualTo( 0 );
+		assertThat( histogram.getValueAtPercentile( 50.0 ) )
+				.isBetween( TimeUnit.HOURS.toMicros( 1 ), TimeUnit.HOURS.toMicros( 1 ) * 17 / 16 );
+		assertThat( histogram.getValueAtPercentile( 100.0 ) ).isEqualTo( histogram.getMaxValue() );
+	}
+
+	@Test
+	public void testStatistics(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Team team = new Team( 1L );
+			session.persist( team );
+			final Player player = new Player( 1L );
+			session.persist( player );
+			team.players.add( player );
+		} );
+
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		final String hql = "from Team";
+		scope.inTransaction( session -> {
+			session.createSelectionQuery( hql, Team.class ).getResultList();
+			session.createSelectionQuery( hql, Team.class ).getResultList();
+		} );
+		scope.inTransaction( session -> {
+			final Team team = session.find( Team.class, 1L );
+			Hibernate.initialize( team.players );
+		} );
+
+		final LatencyHistogram queryHistogram = statistics.getQueryLatencyHistogram( hql );
+		assertThat( queryHistogram ).isNotNull();
+		assertThat( queryHistogram.getCount() ).isEqualTo( 2 );
+		assertThat( queryHistogram.getValueAtPercentile( 100.0 ) ).isEqualTo( queryHistogram.getMaxValue() );
+
+		final LatencyHistogram entityHistogram = statistics.getEntityFetchLatencyHistogram( Team.class.getName() );
+		assertThat( entityHistogram ).isNotNull();
+		assertThat( entityHistogram.getCount() ).isEqualTo( 1 );
+
+		final LatencyHistogram collectionHistogram =
+				statistics.getCollectionFetchLatencyHistogram( Team.class.getName() + ".players" );
+		assertThat( collectionHistogram ).isNotNull();
+		assertThat( collectionHistogram.getCount() ).isEqualTo( 1 );
+
+		assertThat( statistics.getQueryLatencyHistogram( "from Player" ) ).isNull();
+	}
+
+	@Entity(name = "Team")
+	public static class Team {
+		@Id
+		Long id;
+		@OneToMany
+		Set<Player> players = new HashSet<>();
+
+		public Team() {
+		}
+
+		public Team(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Player")
+	public static class Player {
+		@Id
+		Long id;
+
+		public Player() {
+		}
+
+		public Player(Long id) {
+			this.id = id;
+		}
+	}
+}
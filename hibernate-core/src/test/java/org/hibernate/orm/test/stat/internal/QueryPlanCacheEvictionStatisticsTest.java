@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = QueryPlanCacheEvictionStatisticsTest.Employee.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, value = "10"),
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_EVICTION, value = "tinylfu")
+})
+@SessionFactory
+public class QueryPlanCacheEvictionStatisticsTest {
+
+	@Test
+	public void testEvictionsAreCounted(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final QueryInterpretationCache cache = scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+		statistics.clear();
+
+		scope.inSession( session -> {
+			for ( int i = 0; i < 50; i++ ) {
+				session.createQuery( "select e from Employee e where e.id > " + i, Employee.class );
+			}
+		} );
+
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 50 );
+		assertThat( statistics.getQueryPlanCacheEvictionCount() ).isGreaterThanOrEqualTo( 40 );
+		assertThat( cache.getNumberOfCachedHqlInterpretations() ).isLessThanOrEqualTo( 10 );
+	}
+
+	@Test
+	public void testFrequentlyUsedQueryIsRetained(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final String hotQuery = "select e from Employee e where e.name = :name";
+
+		scope.inSession( session -> {
+			for ( int i = 0; i < 20; i++ ) {
+				session.createQuery( hotQuery, Employee.class );
+			}
+			for ( int i = 0; i < 100; i++ ) {
+				session.createQuery( "select e.name from Employee e where e.id = " + i, String.class );
+			}
+
+			statistics.clear();
+			session.createQuery( hotQuery, Employee.class );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 1 );
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 0 );
+		} );
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Long id;
+		private String name;
+	}
+}
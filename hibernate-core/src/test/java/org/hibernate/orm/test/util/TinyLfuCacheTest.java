@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.internal.util.cache.TinyLfuCache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TinyLfuCacheTest {
+
+	@Test
+	public void testGetAndPut() {
+		final TinyLfuCache<String, Integer> cache = new TinyLfuCache<>( 10, null, null );
+		assertNull( cache.get( "a" ) );
+		cache.put( "a", 1 );
+		assertEquals( 1, cache.get( "a" ) );
+		cache.put( "a", 2 );
+		assertEquals( 2, cache.get( "a" ) );
+		assertEquals( 1, cache.size() );
+		assertEquals( 1, cache.weightedSize() );
+		assertEquals( 3, cache.computeIfAbsent( "b", key -> 3 ) );
+		assertEquals( 3, cache.computeIfAbsent( "b", key -> 4 ) );
+		cache.clear();
+		assertEquals( 0, cache.size() );
+		assertEquals( 0, cache.weightedSize() );
+	}
+
+	@Test
+	public void testBoundedByWeight() {
+		final AtomicInteger evictions = new AtomicInteger();
+		final TinyLfuCache<Integer, String> cache = new TinyLfuCache<>(
+				100,
+				(key, value) -> value.length(),
+				(key, value) -> evictions.incrementAndGet()
+		);
+		for ( int i = 0; i < 100; i++ ) {
+			cache.put( i, "x".repeat( 1 + i % 20 ) );
+		}
+		assertTrue( cache.weightedSize() <= 100 );
+		assertEquals( 100, cache.size() + evictions.get() );
+	}
+
+	@Test
+	public void testFrequentlyUsedEntriesSurviveScan() {
+		final TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>( 100, null, null );
+		for ( int i = 0; i < 50; i++ ) {
+			cache.put( i, i );
+		}
+		for ( int round = 0; round < 10; round++ ) {
+			for ( int i = 0; i < 50; i++ ) {
+				cache.get( i );
+			}
+		}
+		// a burst of entries which are used only once
+		for ( int i = 1_000; i < 10_000; i++ ) {
+			cache.put( i, i );
+		}
+
+		int retained = 0;
+		for ( int i = 0; i < 50; i++ ) {
+			if ( cache.get( i ) != null ) {
+				retained++;
+			}
+		}
+		assertTrue( retained >= 45, "Only " + retained + " frequently used entries were retained" );
+		assertEquals( 100, cache.size() );
+	}
+
+	@Test
+	public void testConcurrentAccess() throws Exception {
+		final TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>( 500, null, null );
+		final ExecutorService executor = Executors.newFixedThreadPool( 8 );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int t = 0; t < 8; t++ ) {
+				futures.add( executor.submit( () -> {
+					final ThreadLocalRandom random = ThreadLocalRandom.current();
+					for ( int i = 0; i < 100_000; i++ ) {
+						final int key = random.nextInt( 2_000 );
+						assertEquals( key * 2, cache.computeIfAbsent( key, k -> k * 2 ) );
+						if ( i % 1_000 == 0 ) {
+							cache.put( key, key * 2 );
+						}
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get( 1, TimeUnit.MINUTES );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertTrue( cache.size() <= 500 );
+		assertEquals( cache.size(), cache.weightedSize() );
+	}
+}
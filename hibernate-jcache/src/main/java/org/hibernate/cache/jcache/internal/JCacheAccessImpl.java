@@ -4,6 +4,9 @@
  */
 package org.hibernate.cache.jcache.internal;
 
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import javax.cache.Cache;
 
 import org.hibernate.cache.spi.support.DomainDataStorageAccess;
@@ -36,6 +39,20 @@ public Object getFromCache(Object key, SharedSessionContractImplementor session)
 		return underlyingCache.get( key );
 	}
 
+	@Override
+	public Object[] getAllFromCache(Object[] keys, SharedSessionContractImplementor session) {
+		final Set<Object> keySet = new HashSet<>( keys.length );
+		for ( Object key : keys ) {
+			keySet.add( key );
+		}
+		final Map<Object, Object> entries = underlyingCache.getAll( keySet );
+		final Object[] items = new Object[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			items[i] = entries.get( keys[i] );
+		}
+		return items;
+	}
+
 	@Override
 	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
 		underlyingCache.put( key, value );
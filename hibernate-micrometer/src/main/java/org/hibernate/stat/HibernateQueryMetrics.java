@@ -15,6 +15,7 @@
 import org.hibernate.event.spi.EventType;
 import org.hibernate.event.spi.PostLoadEvent;
 import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import java.util.concurrent.TimeUnit;
 
@@ -32,6 +33,8 @@ public class HibernateQueryMetrics implements MeterBinder {
 
 	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
 
+	private static final double[] PERCENTILES = { 0.5, 0.95, 0.99 };
+
 	private final Iterable<Tag> tags;
 
 	private final SessionFactory sessionFactory;
@@ -102,7 +105,7 @@ public void onPostLoad(PostLoadEvent event) {
 			registerQueryMetric( event.getFactory().getStatistics() );
 		}
 
-		void registerQueryMetric(Statistics statistics) {
+		void registerQueryMetric(StatisticsImplementor statistics) {
 			for ( String query : statistics.getQueries() ) {
 				QueryStatistics queryStatistics = statistics.getQueryStatistics( query );
 
@@ -179,6 +182,22 @@ void registerQueryMetric(Statistics statistics) {
 						.tags( "query", query )
 						.description( "Number of rows processed for a query" )
 						.register( meterRegistry );
+
+				final LatencyHistogram histogram = statistics.getQueryLatencyHistogram( query );
+				if ( histogram != null ) {
+					for ( double percentile : PERCENTILES ) {
+						TimeGauge.builder(
+								"hibernate.query.execution.percentile",
+								histogram,
+								TimeUnit.MICROSECONDS,
+								h -> h.getValueAtPercentile( percentile * 100 )
+						)
+								.tags( tags )
+								.tags( "query", query, "quantile", Double.toString( percentile ) )
+								.description( "Query execution time percentile" )
+								.register( meterRegistry );
+					}
+				}
 			}
 		}
 	}
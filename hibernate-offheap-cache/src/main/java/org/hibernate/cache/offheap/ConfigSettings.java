@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.offheap;
+
+/**
+ * Settings for the off-heap second-level cache, enabled by setting
+ * {@value org.hibernate.cfg.CacheSettings#CACHE_REGION_FACTORY} to
+ * {@value #SIMPLE_FACTORY_NAME}.
+ * <p>
+ * Every region is given a maximum amount of off-heap memory, split into
+ * {@linkplain #SEGMENTS segments}. Entries are appended to the segment
+ * their key belongs to, together with the index from keys to the location
+ * of their entries, so that nothing is kept on heap for each entry. A
+ * segment grows as needed, and once it has reached its maximum size, its
+ * oldest entries are evicted to make room.
+ *
+ * @since 7.0
+ */
+public interface ConfigSettings {
+	String SIMPLE_FACTORY_NAME = "offheap";
+
+	String PROP_PREFIX = "hibernate.cache.offheap.";
+
+	/**
+	 * The maximum amount of off-heap memory, in bytes, used by each cache region.
+	 * The size of a particular region may be specified by appending its name,
+	 * for example, {@code hibernate.cache.offheap.region_size.com.acme.Book}.
+	 * <p>
+	 * The memory is not reserved up front: each segment of a region starts out
+	 * with 64 KiB, and doubles in size whenever it is full, until it reaches its
+	 * share of the region size. The direct memory used by the cache is therefore
+	 * 64 KiB times the number of {@linkplain #SEGMENTS segments} per region to
+	 * begin with, and at most the sum of the sizes of the entity, collection,
+	 * natural id, and query results regions, which should be accounted for in
+	 * {@code -XX:MaxDirectMemorySize}. A region {@linkplain #PERSISTENCE_DIRECTORY
+	 * persisted} to a file is mapped with its full size instead, though its pages
+	 * only take up memory once they are written.
+	 * <p>
+	 * Entries which do not fit into a single segment of the region are not cached.
+	 *
+	 * @settingDefault {@code 67108864} (64 MiB)
+	 */
+	String REGION_SIZE = PROP_PREFIX + "region_size";
+
+	/**
+	 * The number of segments each region is split into. Each segment is locked
+	 * and evicted independently of the others.
+	 *
+	 * @settingDefault {@code 16}
+	 */
+	String SEGMENTS = PROP_PREFIX + "segments";
+
+	/**
+	 * A directory in which to keep the entity, collection, and natural id regions
+	 * in memory-mapped files, so that their contents survive a restart and the
+	 * cache starts warm. The query results and update timestamps regions are never
+	 * persisted.
+	 * <p>
+	 * The cached data is not validated against the database on startup, so this
+	 * should only be enabled when the database is not modified by anything else
+	 * while the application is down. Files written with a different configuration
+	 * of the cache, or which cannot be read, are discarded.
+	 *
+	 * @settingDefault none, the cache is kept in direct buffers and lost on shutdown
+	 */
+	String PERSISTENCE_DIRECTORY = PROP_PREFIX + "persistence_directory";
+}
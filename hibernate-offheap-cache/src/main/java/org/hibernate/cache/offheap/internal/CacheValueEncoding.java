@@ -0,0 +1,319 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.offheap.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.internal.BasicCacheKeyImplementation;
+import org.hibernate.cache.internal.CacheKeyImplementation;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+
+/**
+ * A compact binary encoding of the values stored in the cache.
+ * <p>
+ * Entity cache entries, the read-write items wrapping them, and the values
+ * of their disassembled state which have one of the common basic types are
+ * written as a type tag followed by their content, and so are the standard
+ * cache keys, whose encoding identifies them in the off-heap index. Anything
+ * else falls back to Java serialization.
+ */
+final class CacheValueEncoding {
+	private static final byte NULL = 0;
+	private static final byte STRING = 1;
+	private static final byte INTEGER = 2;
+	private static final byte LONG = 3;
+	private static final byte SHORT = 4;
+	private static final byte BYTE = 5;
+	private static final byte TRUE = 6;
+	private static final byte FALSE = 7;
+	private static final byte DOUBLE = 8;
+	private static final byte FLOAT = 9;
+	private static final byte CHARACTER = 10;
+	private static final byte BIG_DECIMAL = 11;
+	private static final byte BIG_INTEGER = 12;
+	private static final byte UUID_VALUE = 13;
+	private static final byte LOCAL_DATE = 14;
+	private static final byte LOCAL_TIME = 15;
+	private static final byte LOCAL_DATE_TIME = 16;
+	private static final byte INSTANT = 17;
+	private static final byte BYTES = 18;
+	private static final byte OBJECT_ARRAY = 19;
+	private static final byte SERIALIZABLE_ARRAY = 20;
+	private static final byte UNFETCHED_PROPERTY = 21;
+	private static final byte UNKNOWN_BACK_REFERENCE = 22;
+	private static final byte ENTITY_ENTRY = 23;
+	private static final byte READ_WRITE_ITEM = 24;
+	private static final byte CACHE_KEY = 25;
+	private static final byte BASIC_CACHE_KEY = 26;
+	private static final byte SERIALIZED = 127;
+
+	private final ClassLoader classLoader;
+
+	CacheValueEncoding(ClassLoader classLoader) {
+		this.classLoader = classLoader;
+	}
+
+	byte[] encode(Object value) {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream( 128 );
+		try ( DataOutputStream output = new DataOutputStream( bytes ) ) {
+			write( value, output );
+		}
+		catch (IOException e) {
+			throw new CacheException( "Unable to encode cache value", e );
+		}
+		return bytes.toByteArray();
+	}
+
+	Object decode(byte[] bytes) {
+		try ( DataInputStream input = new DataInputStream( new ByteArrayInputStream( bytes ) ) ) {
+			return read( input );
+		}
+		catch (IOException e) {
+			throw new CacheException( "Unable to decode cache value", e );
+		}
+	}
+
+	/**
+	 * Encode a cache key, such that equal keys have the same encoding.
+	 */
+	byte[] encodeKey(Object key) {
+		return encode( key );
+	}
+
+	private void write(Object value, DataOutputStream output) throws IOException {
+		if ( value == null ) {
+			output.writeByte( NULL );
+		}
+		else if ( value instanceof String string ) {
+			output.writeByte( STRING );
+			writeString( string, output );
+		}
+		else if ( value instanceof Integer integer ) {
+			output.writeByte( INTEGER );
+			output.writeInt( integer );
+		}
+		else if ( value instanceof Long longValue ) {
+			output.writeByte( LONG );
+			output.writeLong( longValue );
+		}
+		else if ( value instanceof Boolean bool ) {
+			output.writeByte( bool ? TRUE : FALSE );
+		}
+		else if ( value instanceof Short shortValue ) {
+			output.writeByte( SHORT );
+			output.writeShort( shortValue );
+		}
+		else if ( value instanceof Byte byteValue ) {
+			output.writeByte( BYTE );
+			output.writeByte( byteValue );
+		}
+		else if ( value instanceof Double doubleValue ) {
+			output.writeByte( DOUBLE );
+			output.writeDouble( doubleValue );
+		}
+		else if ( value instanceof Float floatValue ) {
+			output.writeByte( FLOAT );
+			output.writeFloat( floatValue );
+		}
+		else if ( value instanceof Character character ) {
+			output.writeByte( CHARACTER );
+			output.writeChar( character );
+		}
+		else if ( value.getClass() == BigDecimal.class ) {
+			final BigDecimal bigDecimal = (BigDecimal) value;
+			output.writeByte( BIG_DECIMAL );
+			output.writeInt( bigDecimal.scale() );
+			writeBytes( bigDecimal.unscaledValue().toByteArray(), output );
+		}
+		else if ( value.getClass() == BigInteger.class ) {
+			output.writeByte( BIG_INTEGER );
+			writeBytes( ( (BigInteger) value ).toByteArray(), output );
+		}
+		else if ( value instanceof UUID uuid ) {
+			output.writeByte( UUID_VALUE );
+			output.writeLong( uuid.getMostSignificantBits() );
+			output.writeLong( uuid.getLeastSignificantBits() );
+		}
+		else if ( value instanceof LocalDate date ) {
+			output.writeByte( LOCAL_DATE );
+			output.writeLong( date.toEpochDay() );
+		}
+		else if ( value instanceof LocalTime time ) {
+			output.writeByte( LOCAL_TIME );
+			output.writeLong( time.toNanoOfDay() );
+		}
+		else if ( value instanceof LocalDateTime dateTime ) {
+			output.writeByte( LOCAL_DATE_TIME );
+			output.writeLong( dateTime.toLocalDate().toEpochDay() );
+			output.writeLong( dateTime.toLocalTime().toNanoOfDay() );
+		}
+		else if ( value instanceof Instant instant ) {
+			output.writeByte( INSTANT );
+			output.writeLong( instant.getEpochSecond() );
+			output.writeInt( instant.getNano() );
+		}
+		else if ( value instanceof byte[] byteArray ) {
+			output.writeByte( BYTES );
+			writeBytes( byteArray, output );
+		}
+		else if ( value.getClass() == Object[].class ) {
+			output.writeByte( OBJECT_ARRAY );
+			writeArray( (Object[]) value, output );
+		}
+		else if ( value.getClass() == Serializable[].class ) {
+			output.writeByte( SERIALIZABLE_ARRAY );
+			writeArray( (Object[]) value, output );
+		}
+		else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+			output.writeByte( UNFETCHED_PROPERTY );
+		}
+		else if ( value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+			output.writeByte( UNKNOWN_BACK_REFERENCE );
+		}
+		else if ( value.getClass() == StandardCacheEntryImpl.class ) {
+			final StandardCacheEntryImpl entry = (StandardCacheEntryImpl) value;
+			output.writeByte( ENTITY_ENTRY );
+			writeString( entry.getSubclass(), output );
+			write( entry.getVersion(), output );
+			writeArray( entry.getDisassembledState(), output );
+		}
+		else if ( value.getClass() == CacheKeyImplementation.class ) {
+			final CacheKeyImplementation key = (CacheKeyImplementation) value;
+			output.writeByte( CACHE_KEY );
+			write( key.getId(), output );
+			writeString( key.getEntityOrRoleName(), output );
+			write( key.getTenantId(), output );
+			output.writeInt( key.hashCode() );
+		}
+		else if ( value.getClass() == BasicCacheKeyImplementation.class ) {
+			final BasicCacheKeyImplementation key = (BasicCacheKeyImplementation) value;
+			output.writeByte( BASIC_CACHE_KEY );
+			write( key.getId(), output );
+			writeString( key.getEntityOrRoleName(), output );
+			output.writeInt( key.hashCode() );
+		}
+		else if ( value instanceof AbstractReadWriteAccess.Item item ) {
+			output.writeByte( READ_WRITE_ITEM );
+			output.writeLong( item.getTimestamp() );
+			write( item.getVersion(), output );
+			write( item.getValue(), output );
+		}
+		else {
+			output.writeByte( SERIALIZED );
+			writeBytes( SerializationHelper.serialize( (Serializable) value ), output );
+		}
+	}
+
+	private Object read(DataInputStream input) throws IOException {
+		final byte tag = input.readByte();
+		return switch ( tag ) {
+			case NULL -> null;
+			case STRING -> readString( input );
+			case INTEGER -> input.readInt();
+			case LONG -> input.readLong();
+			case TRUE -> Boolean.TRUE;
+			case FALSE -> Boolean.FALSE;
+			case SHORT -> input.readShort();
+			case BYTE -> input.readByte();
+			case DOUBLE -> input.readDouble();
+			case FLOAT -> input.readFloat();
+			case CHARACTER -> input.readChar();
+			case BIG_DECIMAL -> {
+				final int scale = input.readInt();
+				yield new BigDecimal( new BigInteger( readBytes( input ) ), scale );
+			}
+			case BIG_INTEGER -> new BigInteger( readBytes( input ) );
+			case UUID_VALUE -> new UUID( input.readLong(), input.readLong() );
+			case LOCAL_DATE -> LocalDate.ofEpochDay( input.readLong() );
+			case LOCAL_TIME -> LocalTime.ofNanoOfDay( input.readLong() );
+			case LOCAL_DATE_TIME -> LocalDateTime.of(
+					LocalDate.ofEpochDay( input.readLong() ),
+					LocalTime.ofNanoOfDay( input.readLong() )
+			);
+			case INSTANT -> Instant.ofEpochSecond( input.readLong(), input.readInt() );
+			case BYTES -> readBytes( input );
+			case OBJECT_ARRAY -> readArray( new Object[input.readInt()], input );
+			case SERIALIZABLE_ARRAY -> readArray( new Serializable[input.readInt()], input );
+			case UNFETCHED_PROPERTY -> LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			case UNKNOWN_BACK_REFERENCE -> PropertyAccessStrategyBackRefImpl.UNKNOWN;
+			case ENTITY_ENTRY -> {
+				final String subclass = readString( input );
+				final Object version = read( input );
+				final Serializable[] state = readArray( new Serializable[input.readInt()], input );
+				yield new StandardCacheEntryImpl( state, subclass, version );
+			}
+			case READ_WRITE_ITEM -> {
+				final long timestamp = input.readLong();
+				final Object version = read( input );
+				yield new AbstractReadWriteAccess.Item( read( input ), version, timestamp );
+			}
+			case CACHE_KEY -> {
+				final Object id = read( input );
+				final String entityOrRoleName = readString( input );
+				final String tenantId = (String) read( input );
+				yield new CacheKeyImplementation( id, entityOrRoleName, tenantId, input.readInt() );
+			}
+			case BASIC_CACHE_KEY -> {
+				final Serializable id = (Serializable) read( input );
+				final String entityOrRoleName = readString( input );
+				yield new BasicCacheKeyImplementation( id, entityOrRoleName, input.readInt() );
+			}
+			case SERIALIZED -> SerializationHelper.deserialize( readBytes( input ), classLoader );
+			default -> throw new CacheException( "Unknown type tag in cache value: " + tag );
+		};
+	}
+
+	private void writeArray(Object[] array, DataOutputStream output) throws IOException {
+		output.writeInt( array.length );
+		for ( Object element : array ) {
+			write( element, output );
+		}
+	}
+
+	private <T> T[] readArray(T[] array, DataInputStream input) throws IOException {
+		for ( int i = 0; i < array.length; i++ ) {
+			//noinspection unchecked
+			array[i] = (T) read( input );
+		}
+		return array;
+	}
+
+	private static void writeString(String string, DataOutputStream output) throws IOException {
+		writeBytes( string.getBytes( StandardCharsets.UTF_8 ), output );
+	}
+
+	private static String readString(DataInputStream input) throws IOException {
+		return new String( readBytes( input ), StandardCharsets.UTF_8 );
+	}
+
+	private static void writeBytes(byte[] bytes, DataOutputStream output) throws IOException {
+		output.writeInt( bytes.length );
+		output.write( bytes );
+	}
+
+	private static byte[] readBytes(DataInputStream input) throws IOException {
+		final byte[] bytes = new byte[input.readInt()];
+		input.readFully( bytes );
+		return bytes;
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.offheap.internal;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.List;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.cfg.spi.CollectionDataCachingConfig;
+import org.hibernate.cache.cfg.spi.DomainDataCachingConfig;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.cfg.spi.EntityDataCachingConfig;
+import org.hibernate.cache.cfg.spi.NaturalIdDataCachingConfig;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.metamodel.model.domain.NavigableRole;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+
+/**
+ * Computes a fingerprint of the mapping of the data cached in a region, so
+ * that entries persisted by a previous run are only restored if they were
+ * disassembled from the same mapping.
+ */
+final class MappingFingerprint {
+	private MappingFingerprint() {
+	}
+
+	static long of(DomainDataRegionConfig regionConfig, MappingMetamodel mappingMetamodel) {
+		final StringBuilder mapping = new StringBuilder();
+		for ( EntityDataCachingConfig entityCaching : sorted( regionConfig.getEntityCaching() ) ) {
+			entityCaching.getCachedTypes().stream()
+					.map( NavigableRole::getFullPath )
+					.sorted()
+					.forEach( entityName -> appendEntity(
+							mapping,
+							mappingMetamodel.getEntityDescriptor( entityName )
+					) );
+		}
+		for ( NaturalIdDataCachingConfig naturalIdCaching : sorted( regionConfig.getNaturalIdCaching() ) ) {
+			appendNaturalId(
+					mapping,
+					mappingMetamodel.getEntityDescriptor( naturalIdCaching.getNavigableRole().getFullPath() )
+			);
+		}
+		for ( CollectionDataCachingConfig collectionCaching : sorted( regionConfig.getCollectionCaching() ) ) {
+			appendCollection(
+					mapping,
+					mappingMetamodel.getCollectionDescriptor( collectionCaching.getNavigableRole().getFullPath() )
+			);
+		}
+		return hash( mapping );
+	}
+
+	private static <C extends DomainDataCachingConfig> List<C> sorted(List<C> cachingConfigs) {
+		return cachingConfigs.stream()
+				.sorted( Comparator.comparing( config -> config.getNavigableRole().getFullPath() ) )
+				.toList();
+	}
+
+	private static void appendEntity(StringBuilder mapping, EntityPersister persister) {
+		mapping.append( "entity " ).append( persister.getEntityName() )
+				.append( " id " ).append( persister.getIdentifierType().getName() );
+		if ( persister.isVersioned() ) {
+			mapping.append( " version " ).append( persister.getVersionType().getName() );
+		}
+		final String[] propertyNames = persister.getPropertyNames();
+		final Type[] propertyTypes = persister.getPropertyTypes();
+		for ( int i = 0; i < propertyNames.length; i++ ) {
+			mapping.append( ' ' ).append( propertyNames[i] ).append( ':' ).append( propertyTypes[i].getName() );
+		}
+		mapping.append( '\n' );
+	}
+
+	private static void appendNaturalId(StringBuilder mapping, EntityPersister persister) {
+		mapping.append( "natural-id " ).append( persister.getEntityName() );
+		final String[] propertyNames = persister.getPropertyNames();
+		final Type[] propertyTypes = persister.getPropertyTypes();
+		for ( int property : persister.getNaturalIdentifierProperties() ) {
+			mapping.append( ' ' ).append( propertyNames[property] ).append( ':' ).append( propertyTypes[property].getName() );
+		}
+		mapping.append( '\n' );
+	}
+
+	private static void appendCollection(StringBuilder mapping, CollectionPersister persister) {
+		mapping.append( "collection " ).append( persister.getRole() )
+				.append( " key " ).append( persister.getKeyType().getName() )
+				.append( " element " ).append( persister.getElementType().getName() );
+		final Type indexType = persister.getIndexType();
+		if ( indexType != null ) {
+			mapping.append( " index " ).append( indexType.getName() );
+		}
+		mapping.append( '\n' );
+	}
+
+	private static long hash(CharSequence mapping) {
+		try {
+			final byte[] digest = MessageDigest.getInstance( "SHA-256" )
+					.digest( mapping.toString().getBytes( StandardCharsets.UTF_8 ) );
+			return ByteBuffer.wrap( digest ).getLong();
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new CacheException( "Unable to compute the fingerprint of the mapping", e );
+		}
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.offheap.internal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.offheap.ConfigSettings;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link org.hibernate.cache.spi.RegionFactory} which keeps cached data
+ * outside the Java heap, in a compact binary encoding.
+ * <p>
+ * Each region grows as entries are added, up to its
+ * {@linkplain ConfigSettings#REGION_SIZE size}, so that a region holding
+ * little data, like the query results region of an application which
+ * caches few queries, does not take up its full size.
+ *
+ * @see ConfigSettings
+ *
+ * @since 7.0
+ */
+public class OffHeapRegionFactory extends RegionFactoryTemplate {
+	/**
+	 * The maximum size of a region, which is only reached by the
+	 * regions holding enough data.
+	 */
+	public static final int DEFAULT_REGION_SIZE = 64 * 1024 * 1024;
+	public static final int DEFAULT_SEGMENTS = 16;
+
+	private final List<OffHeapStore> stores = new CopyOnWriteArrayList<>();
+
+	private Map<String, Object> configValues;
+	private int segments;
+	private @Nullable Path persistenceDirectory;
+	private CacheValueEncoding encoding;
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+		this.configValues = configValues;
+		this.segments = ConfigurationHelper.getInt( ConfigSettings.SEGMENTS, configValues, DEFAULT_SEGMENTS );
+		final String directory = ConfigurationHelper.getString( ConfigSettings.PERSISTENCE_DIRECTORY, configValues );
+		if ( directory != null ) {
+			persistenceDirectory = Path.of( directory );
+			try {
+				Files.createDirectories( persistenceDirectory );
+			}
+			catch (IOException e) {
+				throw new CacheException( "Unable to create cache directory [" + directory + "]", e );
+			}
+		}
+		final ClassLoader classLoader = settings.getServiceRegistry()
+				.requireService( ClassLoaderService.class )
+				.workWithClassLoader( loader -> loader );
+		this.encoding = new CacheValueEncoding( classLoader );
+	}
+
+	@Override
+	protected DomainDataStorageAccess createDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		final OffHeapStore store = createStore( regionConfig.getRegionName(), persistenceDirectory != null );
+		if ( store.isPersistent() ) {
+			// the persisted entries may only be restored once it is known
+			// that they were cached for the same mapping of the domain model
+			buildingContext.getSessionFactory().addObserver( new SessionFactoryObserver() {
+				@Override
+				public void sessionFactoryCreated(SessionFactory factory) {
+					store.restore( MappingFingerprint.of(
+							regionConfig,
+							( (SessionFactoryImplementor) factory ).getMappingMetamodel()
+					) );
+				}
+			} );
+		}
+		return new OffHeapStorageAccess( store );
+	}
+
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new OffHeapStorageAccess( createStore( regionName, false ) );
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new TimestampsStorageAccess();
+	}
+
+	private OffHeapStore createStore(String regionName, boolean persistent) {
+		final long regionSize = ConfigurationHelper.getLong( ConfigSettings.REGION_SIZE + '.' + regionName, configValues, -1 );
+		final long size = regionSize > 0
+				? regionSize
+				: ConfigurationHelper.getLong( ConfigSettings.REGION_SIZE, configValues, DEFAULT_REGION_SIZE );
+		final OffHeapStore store = persistent
+				? OffHeapStore.map( regionName, cacheFile( regionName ), size, segments, encoding )
+				: OffHeapStore.allocate( regionName, size, segments, encoding );
+		stores.add( store );
+		return store;
+	}
+
+	private Path cacheFile(String regionName) {
+		assert persistenceDirectory != null;
+		return persistenceDirectory.resolve( regionName.replaceAll( "[^A-Za-z0-9._-]", "_" ) + ".cache" );
+	}
+
+	@Override
+	protected void releaseFromUse() {
+		for ( OffHeapStore store : stores ) {
+			store.close();
+		}
+		stores.clear();
+	}
+}
@@ -0,0 +1,548 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.offheap.internal;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A segment of an {@link OffHeapStore}, holding its entries, and the index
+ * from their keys to them, in a single buffer.
+ * <p>
+ * The buffer starts with a header recording the state of the segment, followed
+ * by the index, and by a log of records. New records are appended at the head
+ * of the log, and when there is no room left, or the index is too full, the
+ * records at its tail, which are the oldest, are evicted. Replacing or removing
+ * an entry just marks its record dead, and its space is reclaimed when the tail
+ * of the log passes it.
+ * <p>
+ * The index is an open-addressing hash table with linear probing, whose slots
+ * hold the hash of the encoded key of a record, and the position of the record
+ * in the log. Each record is made of its length, a flag telling whether it is
+ * live, the hash and the length of the encoded key, the encoded key, and the
+ * encoded value. Since nothing is kept on heap, a segment mapped from a file
+ * is restored without reading its records.
+ * <p>
+ * A segment held in a direct buffer starts out with a small buffer, and
+ * only evicts records once its buffer has grown to its maximum size, by
+ * doubling whenever it is full.
+ */
+final class OffHeapSegment {
+	static final int HEADER_SIZE = 40;
+	// the size of the buffer of a new direct segment
+	static final int INITIAL_SIZE = 64 * 1024;
+
+	private static final int MAGIC = 0x48424f44;
+	private static final int MAGIC_OFFSET = 0;
+	private static final int CAPACITY_OFFSET = 4;
+	private static final int SLOTS_OFFSET = 8;
+	private static final int HEAD_OFFSET = 12;
+	private static final int TAIL_OFFSET = 16;
+	private static final int SIZE_OFFSET = 20;
+	private static final int EMPTY_OFFSET = 24;
+	private static final int FINGERPRINT_OFFSET = 32;
+
+	// each slot holds the hash of the key, and the position of the record plus one
+	private static final int SLOT_SIZE = 8;
+	private static final int FREE = 0;
+	// the size of the log per slot of the index, which is the expected size of a record
+	private static final int BYTES_PER_SLOT = 64;
+
+	private static final int RECORD_HEADER_SIZE = 13;
+	private static final int LIVE_OFFSET = 4;
+	private static final int HASH_OFFSET = 5;
+	private static final int KEY_LENGTH_OFFSET = 9;
+	private static final byte LIVE = 1;
+	private static final byte DEAD = 0;
+	// marks the end of the log before the end of the buffer
+	private static final int WRAP = -1;
+
+	private final int maximumBufferSize;
+
+	private ByteBuffer buffer;
+	private int slots;
+	private int maximumSize;
+	private int logOffset;
+	private int capacity;
+
+	private final Lock readLock;
+	private final Lock writeLock;
+
+	private int head;
+	private int tail;
+	private int size;
+	private boolean empty = true;
+
+	/**
+	 * @param buffer The buffer holding the segment, which is either to be
+	 *               {@linkplain #restore restored} or {@linkplain #clear cleared}
+	 *               before use
+	 */
+	OffHeapSegment(ByteBuffer buffer) {
+		this( buffer, buffer.capacity() );
+	}
+
+	private OffHeapSegment(ByteBuffer buffer, int maximumBufferSize) {
+		this.maximumBufferSize = maximumBufferSize;
+		layOut( buffer );
+		final ReadWriteLock lock = new ReentrantReadWriteLock();
+		this.readLock = lock.readLock();
+		this.writeLock = lock.writeLock();
+	}
+
+	/**
+	 * An empty segment held in a direct buffer, which grows as needed.
+	 *
+	 * @param maximumBufferSize The size up to which the buffer may grow
+	 */
+	static OffHeapSegment allocateDirect(int maximumBufferSize) {
+		final OffHeapSegment segment = new OffHeapSegment(
+				ByteBuffer.allocateDirect( Math.min( INITIAL_SIZE, maximumBufferSize ) ),
+				maximumBufferSize
+		);
+		segment.clear( 0L );
+		return segment;
+	}
+
+	private void layOut(ByteBuffer buffer) {
+		final int available = buffer.capacity() - HEADER_SIZE;
+		final int slots = Math.max( 2, Integer.highestOneBit( available / ( SLOT_SIZE + BYTES_PER_SLOT ) ) );
+		final int logOffset = HEADER_SIZE + slots * SLOT_SIZE;
+		if ( buffer.capacity() - logOffset <= 0 ) {
+			throw new IllegalArgumentException( "Segment of " + buffer.capacity() + " bytes is too small" );
+		}
+		this.buffer = buffer;
+		this.slots = slots;
+		// keep the probe sequences short, and at least one slot free
+		this.maximumSize = slots - Math.max( 1, slots >> 2 );
+		this.logOffset = logOffset;
+		this.capacity = buffer.capacity() - logOffset;
+	}
+
+	/**
+	 * Take over the entries left in the buffer by a previous run, or discard
+	 * them if they were written for a different layout, or a different
+	 * fingerprint of the mapping of the cached data.
+	 *
+	 * @param fingerprint The fingerprint of the mapping of the cached data
+	 *
+	 * @return {@code true} if the entries were restored
+	 */
+	boolean restore(long fingerprint) {
+		writeLock.lock();
+		try {
+			if ( buffer.getInt( MAGIC_OFFSET ) == MAGIC
+					&& buffer.getInt( CAPACITY_OFFSET ) == capacity
+					&& buffer.getInt( SLOTS_OFFSET ) == slots
+					&& buffer.getLong( FINGERPRINT_OFFSET ) == fingerprint ) {
+				head = buffer.getInt( HEAD_OFFSET );
+				tail = buffer.getInt( TAIL_OFFSET );
+				size = buffer.getInt( SIZE_OFFSET );
+				empty = buffer.get( EMPTY_OFFSET ) != 0;
+				if ( isConsistent() ) {
+					return true;
+				}
+			}
+			reset( fingerprint );
+			return false;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Check that every slot of the index refers to a live record with the same
+	 * hash, which might not be the case if the previous run did not terminate
+	 * normally.
+	 */
+	private boolean isConsistent() {
+		if ( head < 0 || head > capacity || tail < 0 || tail > capacity || size < 0 || size > maximumSize ) {
+			return false;
+		}
+		int used = 0;
+		for ( int slot = 0; slot < slots; slot++ ) {
+			final int reference = slotReference( slot );
+			if ( reference != FREE ) {
+				final int position = reference - 1;
+				if ( position < 0 || capacity - position < RECORD_HEADER_SIZE ) {
+					return false;
+				}
+				final int length = recordLength( position );
+				if ( length < RECORD_HEADER_SIZE || length > capacity - position
+						|| keyLength( position ) > length - RECORD_HEADER_SIZE
+						|| !isLive( position ) || recordHash( position ) != slotHash( slot ) ) {
+					return false;
+				}
+				used++;
+			}
+		}
+		return used == size;
+	}
+
+	byte[] get(byte[] key, int hash) {
+		readLock.lock();
+		try {
+			final int slot = find( key, hash );
+			if ( slot < 0 ) {
+				return null;
+			}
+			final int position = slotReference( slot ) - 1;
+			final int valueOffset = RECORD_HEADER_SIZE + key.length;
+			final byte[] value = new byte[recordLength( position ) - valueOffset];
+			buffer.get( logOffset + position + valueOffset, value );
+			return value;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	boolean contains(byte[] key, int hash) {
+		readLock.lock();
+		try {
+			return find( key, hash ) >= 0;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * Append a record for the given key, replacing the current one.
+	 *
+	 * @return {@code false} if the record is too large for this segment,
+	 *         in which case the current record is just removed
+	 */
+	boolean put(byte[] key, int hash, byte[] value) {
+		final long length = (long) RECORD_HEADER_SIZE + key.length + value.length;
+		writeLock.lock();
+		try {
+			removeEntry( key, hash );
+			// grow before evicting anything
+			while ( size >= maximumSize || !hasRoomFor( length ) ) {
+				if ( !grow() ) {
+					break;
+				}
+			}
+			if ( length > capacity ) {
+				writeState();
+				return false;
+			}
+			while ( size >= maximumSize ) {
+				evictOldest();
+			}
+			final int position = allocate( (int) length );
+			final int start = logOffset + position;
+			buffer.putInt( start, (int) length );
+			buffer.put( start + LIVE_OFFSET, LIVE );
+			buffer.putInt( start + HASH_OFFSET, hash );
+			buffer.putInt( start + KEY_LENGTH_OFFSET, key.length );
+			buffer.put( start + RECORD_HEADER_SIZE, key );
+			buffer.put( start + RECORD_HEADER_SIZE + key.length, value );
+			// the record is complete before the index refers to it
+			insertSlot( hash, position );
+			size++;
+			writeState();
+			return true;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	void remove(byte[] key, int hash) {
+		writeLock.lock();
+		try {
+			if ( removeEntry( key, hash ) ) {
+				writeState();
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Discard every entry.
+	 *
+	 * @param fingerprint The fingerprint of the mapping of the cached data
+	 */
+	void clear(long fingerprint) {
+		writeLock.lock();
+		try {
+			reset( fingerprint );
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	int size() {
+		readLock.lock();
+		try {
+			return size;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * @return The slot referring to the record of the given key, or {@code -1}
+	 */
+	private int find(byte[] key, int hash) {
+		final int mask = slots - 1;
+		for ( int slot = hash & mask; ; slot = ( slot + 1 ) & mask ) {
+			final int reference = slotReference( slot );
+			if ( reference == FREE ) {
+				return -1;
+			}
+			if ( slotHash( slot ) == hash && hasKey( reference - 1, key ) ) {
+				return slot;
+			}
+		}
+	}
+
+	private boolean hasKey(int position, byte[] key) {
+		if ( keyLength( position ) != key.length ) {
+			return false;
+		}
+		final int start = logOffset + position + RECORD_HEADER_SIZE;
+		return buffer.slice( start, key.length ).mismatch( ByteBuffer.wrap( key ) ) < 0;
+	}
+
+	private boolean removeEntry(byte[] key, int hash) {
+		final int slot = find( key, hash );
+		if ( slot < 0 ) {
+			return false;
+		}
+		markDead( slotReference( slot ) - 1 );
+		deleteSlot( slot );
+		size--;
+		return true;
+	}
+
+	private void insertSlot(int hash, int position) {
+		final int mask = slots - 1;
+		int slot = hash & mask;
+		while ( slotReference( slot ) != FREE ) {
+			slot = ( slot + 1 ) & mask;
+		}
+		writeSlot( slot, hash, position + 1 );
+	}
+
+	/**
+	 * Free the given slot, shifting back the following slots of its cluster
+	 * which would no longer be found by probing from their home slot.
+	 */
+	private void deleteSlot(int slot) {
+		final int mask = slots - 1;
+		int free = slot;
+		int next = slot;
+		while ( true ) {
+			next = ( next + 1 ) & mask;
+			final int reference = slotReference( next );
+			if ( reference == FREE ) {
+				break;
+			}
+			final int hash = slotHash( next );
+			final int home = hash & mask;
+			// move the entry unless its home lies cyclically in (free, next]
+			final boolean stays = free <= next
+					? free < home && home <= next
+					: free < home || home <= next;
+			if ( !stays ) {
+				writeSlot( free, hash, reference );
+				free = next;
+			}
+		}
+		writeSlot( free, 0, FREE );
+	}
+
+	private void deleteSlotOf(int position) {
+		final int mask = slots - 1;
+		final int reference = position + 1;
+		for ( int slot = recordHash( position ) & mask; ; slot = ( slot + 1 ) & mask ) {
+			final int slotReference = slotReference( slot );
+			if ( slotReference == reference ) {
+				deleteSlot( slot );
+				return;
+			}
+			if ( slotReference == FREE ) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Is there room for a record of the given length at the head of the log,
+	 * or at the start of the buffer, without evicting any record?
+	 */
+	private boolean hasRoomFor(long length) {
+		if ( empty ) {
+			return capacity >= length;
+		}
+		else if ( head > tail ) {
+			return capacity - head >= length || tail >= length;
+		}
+		else {
+			return tail - head >= length;
+		}
+	}
+
+	/**
+	 * Move the live records, oldest first, to a new buffer twice as large,
+	 * unless the buffer already has its maximum size. The previous buffer is
+	 * released when it is garbage collected.
+	 *
+	 * @return {@code false} if the segment cannot grow
+	 */
+	private boolean grow() {
+		final ByteBuffer previousBuffer = buffer;
+		if ( previousBuffer.capacity() >= maximumBufferSize ) {
+			return false;
+		}
+		final int previousLogOffset = logOffset;
+		final int previousCapacity = capacity;
+		int position = tail;
+		int remaining = size;
+		layOut( ByteBuffer.allocateDirect( (int) Math.min( 2L * previousBuffer.capacity(), maximumBufferSize ) ) );
+		reset( previousBuffer.getLong( FINGERPRINT_OFFSET ) );
+		while ( remaining > 0 ) {
+			if ( previousCapacity - position < Integer.BYTES
+					|| previousBuffer.getInt( previousLogOffset + position ) == WRAP ) {
+				position = 0;
+			}
+			else {
+				final int start = previousLogOffset + position;
+				final int length = previousBuffer.getInt( start );
+				if ( previousBuffer.get( start + LIVE_OFFSET ) == LIVE ) {
+					if ( length <= capacity ) {
+						final int newPosition = allocate( length );
+						buffer.put( logOffset + newPosition, previousBuffer, start, length );
+						insertSlot( previousBuffer.getInt( start + HASH_OFFSET ), newPosition );
+						size++;
+					}
+					remaining--;
+				}
+				position += length;
+			}
+		}
+		writeState();
+		return true;
+	}
+
+	/**
+	 * Make room for a record of the given length at the head of the log,
+	 * evicting the oldest records as needed.
+	 *
+	 * @return The position of the new record
+	 */
+	private int allocate(int length) {
+		while ( true ) {
+			if ( empty ) {
+				head = 0;
+				tail = 0;
+				break;
+			}
+			if ( head > tail ) {
+				if ( capacity - head >= length ) {
+					break;
+				}
+				// continue the log from the start of the buffer
+				if ( capacity - head >= Integer.BYTES ) {
+					buffer.putInt( logOffset + head, WRAP );
+				}
+				head = 0;
+			}
+			if ( head < tail && tail - head >= length ) {
+				break;
+			}
+			evictOldest();
+		}
+		final int position = head;
+		head += length;
+		empty = false;
+		return position;
+	}
+
+	private void evictOldest() {
+		if ( isWrapAt( tail ) ) {
+			tail = 0;
+		}
+		else {
+			if ( isLive( tail ) ) {
+				deleteSlotOf( tail );
+				size--;
+			}
+			tail += recordLength( tail );
+		}
+		if ( tail == head ) {
+			empty = true;
+		}
+	}
+
+	private boolean isWrapAt(int position) {
+		return capacity - position < Integer.BYTES || buffer.getInt( logOffset + position ) == WRAP;
+	}
+
+	private int slotHash(int slot) {
+		return buffer.getInt( HEADER_SIZE + slot * SLOT_SIZE );
+	}
+
+	private int slotReference(int slot) {
+		return buffer.getInt( HEADER_SIZE + slot * SLOT_SIZE + Integer.BYTES );
+	}
+
+	private void writeSlot(int slot, int hash, int reference) {
+		buffer.putInt( HEADER_SIZE + slot * SLOT_SIZE, hash );
+		buffer.putInt( HEADER_SIZE + slot * SLOT_SIZE + Integer.BYTES, reference );
+	}
+
+	private int recordLength(int position) {
+		return buffer.getInt( logOffset + position );
+	}
+
+	private int recordHash(int position) {
+		return buffer.getInt( logOffset + position + HASH_OFFSET );
+	}
+
+	private int keyLength(int position) {
+		return buffer.getInt( logOffset + position + KEY_LENGTH_OFFSET );
+	}
+
+	private boolean isLive(int position) {
+		return buffer.get( logOffset + position + LIVE_OFFSET ) == LIVE;
+	}
+
+	private void markDead(int position) {
+		buffer.put( logOffset + position + LIVE_OFFSET, DEAD );
+	}
+
+	private void reset(long fingerprint) {
+		for ( int slot = 0; slot < slots; slot++ ) {
+			writeSlot( slot, 0, FREE );
+		}
+		head = 0;
+		tail = 0;
+		size = 0;
+		empty = true;
+		buffer.putInt( MAGIC_OFFSET, MAGIC );
+		buffer.putInt( CAPACITY_OFFSET, capacity );
+		buffer.putInt( SLOTS_OFFSET, slots );
+		buffer.putLong( FINGERPRINT_OFFSET, fingerprint );
+		writeState();
+	}
+
+	private void writeState() {
+		buffer.putInt( HEAD_OFFSET, head );
+		buffer.putInt( TAIL_OFFSET, tail );
+		buffer.putInt( SIZE_OFFSET, size );
+		buffer.put( EMPTY_OFFSET, empty ? (byte) 1 : (byte) 0 );
+	}
+}
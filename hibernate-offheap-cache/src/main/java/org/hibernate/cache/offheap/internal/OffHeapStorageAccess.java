@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.offheap.internal;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Storage access for a region held in an {@link OffHeapStore}.
+ */
+public class OffHeapStorageAccess implements DomainDataStorageAccess {
+	private final OffHeapStore store;
+
+	OffHeapStorageAccess(OffHeapStore store) {
+		this.store = store;
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		return store.get( key );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		store.put( key, value );
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return store.contains( key );
+	}
+
+	@Override
+	public void evictData() {
+		store.clear();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		store.remove( key );
+	}
+
+	@Override
+	public void release() {
+		store.close();
+	}
+}
@@ -0,0 +1,307 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.offheap.internal;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.hibernate.cache.CacheException;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+
+/**
+ * The off-heap storage of a cache region, split into {@link OffHeapSegment}s,
+ * either held in direct buffers, or mapped from a file so that it can be
+ * restored after a restart.
+ * <p>
+ * Entries are looked up by their encoded key, so that neither the keys nor
+ * the index of the entries are kept on heap.
+ */
+final class OffHeapStore {
+	private final String regionName;
+	private final CacheValueEncoding encoding;
+	private final OffHeapSegment[] segments;
+	private final @Nullable FileChannel channel;
+	private final @Nullable FileLock fileLock;
+	private final MappedByteBuffer @Nullable [] mappedBuffers;
+	private long fingerprint;
+	private volatile boolean available;
+	private volatile boolean closed;
+
+	private OffHeapStore(
+			String regionName,
+			CacheValueEncoding encoding,
+			OffHeapSegment[] segments,
+			@Nullable FileChannel channel,
+			@Nullable FileLock fileLock,
+			MappedByteBuffer @Nullable [] mappedBuffers) {
+		this.regionName = regionName;
+		this.encoding = encoding;
+		this.segments = segments;
+		this.channel = channel;
+		this.fileLock = fileLock;
+		this.mappedBuffers = mappedBuffers;
+		// a mapped store is only available once restored
+		this.available = channel == null;
+	}
+
+	/**
+	 * A store held in direct buffers, which start out small, and grow as
+	 * entries are added, up to their share of the given size.
+	 */
+	static OffHeapStore allocate(String regionName, long size, int segmentCount, CacheValueEncoding encoding) {
+		final int segmentSize = segmentSize( regionName, size, segmentCount );
+		final OffHeapSegment[] segments = new OffHeapSegment[segmentCount];
+		for ( int i = 0; i < segmentCount; i++ ) {
+			segments[i] = OffHeapSegment.allocateDirect( segmentSize );
+		}
+		return new OffHeapStore( regionName, encoding, segments, null, null, null );
+	}
+
+	/**
+	 * A store mapped from the given file, which is to be {@linkplain #restore restored}
+	 * before use. If the file is locked by another store, falls back to direct buffers.
+	 */
+	static OffHeapStore map(String regionName, Path file, long size, int segmentCount, CacheValueEncoding encoding) {
+		final int segmentSize = segmentSize( regionName, size, segmentCount );
+		FileChannel channel = null;
+		try {
+			channel = FileChannel.open(
+					file,
+					StandardOpenOption.CREATE,
+					StandardOpenOption.READ,
+					StandardOpenOption.WRITE
+			);
+			final FileLock fileLock = tryLock( channel );
+			if ( fileLock == null ) {
+				L2CACHE_LOGGER.warnf(
+						"Cache file [%s] for region [%s] is in use, the region will not be persisted",
+						file,
+						regionName
+				);
+				channel.close();
+				return allocate( regionName, size, segmentCount, encoding );
+			}
+			final long fileSize = (long) segmentSize * segmentCount;
+			if ( channel.size() != fileSize ) {
+				// a different layout, the segments will be cleared when restored
+				channel.truncate( 0 );
+			}
+			final OffHeapSegment[] segments = new OffHeapSegment[segmentCount];
+			final MappedByteBuffer[] mappedBuffers = new MappedByteBuffer[segmentCount];
+			for ( int i = 0; i < segmentCount; i++ ) {
+				mappedBuffers[i] = channel.map( FileChannel.MapMode.READ_WRITE, (long) i * segmentSize, segmentSize );
+				segments[i] = new OffHeapSegment( mappedBuffers[i] );
+			}
+			return new OffHeapStore( regionName, encoding, segments, channel, fileLock, mappedBuffers );
+		}
+		catch (IOException e) {
+			if ( channel != null ) {
+				try {
+					channel.close();
+				}
+				catch (IOException ignore) {
+				}
+			}
+			throw new CacheException( "Unable to map cache file [" + file + "] for region [" + regionName + "]", e );
+		}
+	}
+
+	private static @Nullable FileLock tryLock(FileChannel channel) throws IOException {
+		try {
+			return channel.tryLock();
+		}
+		catch (OverlappingFileLockException e) {
+			return null;
+		}
+	}
+
+	private static int segmentSize(String regionName, long size, int segmentCount) {
+		if ( segmentCount < 1 ) {
+			throw new CacheException( "Region [" + regionName + "] must have at least one segment" );
+		}
+		final long segmentSize = size / segmentCount;
+		if ( segmentSize <= OffHeapSegment.HEADER_SIZE || segmentSize > Integer.MAX_VALUE ) {
+			throw new CacheException(
+					"Segments of region [" + regionName + "] must be larger than "
+							+ OffHeapSegment.HEADER_SIZE + " bytes and at most " + Integer.MAX_VALUE
+							+ " bytes, but region size " + size + " and " + segmentCount + " segments were configured"
+			);
+		}
+		return (int) segmentSize;
+	}
+
+	/**
+	 * Take over the entries left in the file of a mapped store by a previous run,
+	 * unless they were cached for a different mapping, and make the store available.
+	 *
+	 * @param fingerprint The fingerprint of the mapping of the data cached in the region
+	 */
+	void restore(long fingerprint) {
+		if ( available || closed ) {
+			return;
+		}
+		int restored = 0;
+		for ( OffHeapSegment segment : segments ) {
+			if ( segment.restore( fingerprint ) ) {
+				restored++;
+			}
+		}
+		this.fingerprint = fingerprint;
+		L2CACHE_LOGGER.debugf(
+				"Restored %s of %s segments of region [%s]",
+				restored,
+				segments.length,
+				regionName
+		);
+		available = true;
+	}
+
+	String getRegionName() {
+		return regionName;
+	}
+
+	boolean isPersistent() {
+		return channel != null;
+	}
+
+	Object get(Object key) {
+		final byte[] keyBytes = encodeKey( key );
+		if ( keyBytes == null ) {
+			return null;
+		}
+		final int hash = hash( keyBytes );
+		final OffHeapSegment segment = segmentFor( hash );
+		final byte[] value = segment.get( keyBytes, hash );
+		if ( value == null ) {
+			return null;
+		}
+		try {
+			return encoding.decode( value );
+		}
+		catch (RuntimeException e) {
+			// for example, a class which changed since the entry was persisted
+			L2CACHE_LOGGER.debugf( e, "Unable to decode entry of region [%s], treating it as a miss", regionName );
+			segment.remove( keyBytes, hash );
+			return null;
+		}
+	}
+
+	void put(Object key, Object value) {
+		final byte[] keyBytes = encodeKey( key );
+		if ( keyBytes == null ) {
+			return;
+		}
+		final int hash = hash( keyBytes );
+		final OffHeapSegment segment = segmentFor( hash );
+		final byte[] valueBytes;
+		try {
+			valueBytes = encoding.encode( value );
+		}
+		catch (RuntimeException e) {
+			L2CACHE_LOGGER.debugf( e, "Unable to encode entry of region [%s], it will not be cached", regionName );
+			segment.remove( keyBytes, hash );
+			return;
+		}
+		segment.put( keyBytes, hash, valueBytes );
+	}
+
+	boolean contains(Object key) {
+		final byte[] keyBytes = encodeKey( key );
+		if ( keyBytes == null ) {
+			return false;
+		}
+		final int hash = hash( keyBytes );
+		return segmentFor( hash ).contains( keyBytes, hash );
+	}
+
+	void remove(Object key) {
+		final byte[] keyBytes = encodeKey( key );
+		if ( keyBytes != null ) {
+			final int hash = hash( keyBytes );
+			segmentFor( hash ).remove( keyBytes, hash );
+		}
+	}
+
+	void clear() {
+		if ( available && !closed ) {
+			for ( OffHeapSegment segment : segments ) {
+				segment.clear( fingerprint );
+			}
+		}
+	}
+
+	int size() {
+		int size = 0;
+		for ( OffHeapSegment segment : segments ) {
+			size += segment.size();
+		}
+		return size;
+	}
+
+	/**
+	 * Flush a mapped store to its file and release the file. The memory
+	 * itself is released when the buffers are garbage collected.
+	 */
+	void close() {
+		if ( closed ) {
+			return;
+		}
+		closed = true;
+		if ( channel != null ) {
+			try {
+				for ( MappedByteBuffer mappedBuffer : mappedBuffers ) {
+					mappedBuffer.force();
+				}
+				if ( fileLock != null ) {
+					fileLock.release();
+				}
+				channel.close();
+			}
+			catch (IOException e) {
+				L2CACHE_LOGGER.debugf( e, "Unable to close cache file of region [%s]", regionName );
+			}
+		}
+	}
+
+	/**
+	 * @return The encoded key, or {@code null} if the store is not available,
+	 *         or the key cannot be encoded
+	 */
+	private byte @Nullable [] encodeKey(Object key) {
+		if ( !available || closed ) {
+			return null;
+		}
+		try {
+			return encoding.encodeKey( key );
+		}
+		catch (RuntimeException e) {
+			L2CACHE_LOGGER.debugf( e, "Unable to encode key of region [%s], it will not be cached", regionName );
+			return null;
+		}
+	}
+
+	/**
+	 * A hash of the encoded key, which, unlike the hash code of the key, is the
+	 * same in every run.
+	 */
+	private static int hash(byte[] keyBytes) {
+		final int hash = Arrays.hashCode( keyBytes );
+		return hash ^ ( hash >>> 16 );
+	}
+
+	private OffHeapSegment segmentFor(int hash) {
+		// the low bits of the hash pick the slot of the index of the segment
+		return segments[Math.floorMod( Integer.reverse( hash ), segments.length )];
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.offheap.internal;
+
+import java.util.Collections;
+
+import org.hibernate.boot.registry.selector.SimpleStrategyRegistrationImpl;
+import org.hibernate.boot.registry.selector.StrategyRegistration;
+import org.hibernate.boot.registry.selector.StrategyRegistrationProvider;
+import org.hibernate.cache.offheap.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+
+/**
+ * Makes the off-heap RegionFactory available to the Hibernate
+ * {@link org.hibernate.boot.registry.selector.spi.StrategySelector} service
+ * under the name {@value ConfigSettings#SIMPLE_FACTORY_NAME}.
+ */
+public final class StrategyRegistrationProviderImpl implements StrategyRegistrationProvider {
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Iterable<StrategyRegistration> getStrategyRegistrations() {
+		final SimpleStrategyRegistrationImpl simpleStrategyRegistration = new SimpleStrategyRegistrationImpl(
+				RegionFactory.class,
+				OffHeapRegionFactory.class,
+				ConfigSettings.SIMPLE_FACTORY_NAME,
+				OffHeapRegionFactory.class.getName(),
+				OffHeapRegionFactory.class.getSimpleName()
+		);
+
+		return Collections.singleton( simpleStrategyRegistration );
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.offheap.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Storage access for the update timestamps region, which is kept on heap,
+ * since it only holds one small entry per table, and must never evict it.
+ */
+public class TimestampsStorageAccess implements StorageAccess {
+	private final ConcurrentHashMap<Object, Object> timestamps = new ConcurrentHashMap<>();
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		return timestamps.get( key );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		timestamps.put( key, value );
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return timestamps.containsKey( key );
+	}
+
+	@Override
+	public void evictData() {
+		timestamps.clear();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		timestamps.remove( key );
+	}
+
+	@Override
+	public void release() {
+		timestamps.clear();
+	}
+}
@@ -0,0 +1,12 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+
+/**
+ * Hibernate caching provider which stores cached data outside the Java heap,
+ * optionally persisting it to memory-mapped files, so that it survives restarts.
+ *
+ * @see org.hibernate.cache.offheap.ConfigSettings
+ */
+package org.hibernate.cache.offheap;
@@ -0,0 +1,153 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.offheap.internal;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OffHeapStoreTest {
+	private final CacheValueEncoding encoding = new CacheValueEncoding( getClass().getClassLoader() );
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void testEncoding() {
+		final Serializable[] state = {
+				"title", 1, 2L, (short) 3, (byte) 4, true, 5.0d, 6.0f, 'c',
+				new BigDecimal( "12.345" ), BigInteger.TEN, UUID.randomUUID(),
+				LocalDate.now(), LocalTime.now(), LocalDateTime.now(), Instant.now(),
+				null, new Object[] { 1, "embedded" }, LazyPropertyInitializer.UNFETCHED_PROPERTY,
+				new java.util.Date()
+		};
+		final AbstractReadWriteAccess.Item item = new AbstractReadWriteAccess.Item(
+				new StandardCacheEntryImpl( state, "Book", 7 ),
+				7,
+				123L
+		);
+
+		final AbstractReadWriteAccess.Item decoded =
+				(AbstractReadWriteAccess.Item) encoding.decode( encoding.encode( item ) );
+		assertThat( decoded.getTimestamp() ).isEqualTo( 123L );
+		assertThat( decoded.getVersion() ).isEqualTo( 7 );
+		final StandardCacheEntryImpl entry = (StandardCacheEntryImpl) decoded.getValue();
+		assertThat( entry.getSubclass() ).isEqualTo( "Book" );
+		assertThat( entry.getVersion() ).isEqualTo( 7 );
+		assertThat( entry.getDisassembledState() ).hasSize( state.length );
+		for ( int i = 0; i < state.length; i++ ) {
+			if ( state[i] instanceof Object[] array ) {
+				assertThat( (Object[]) entry.getDisassembledState()[i] ).containsExactly( array );
+			}
+			else {
+				assertThat( entry.getDisassembledState()[i] ).isEqualTo( state[i] );
+			}
+		}
+		assertThat( entry.getDisassembledState()[18] ).isSameAs( LazyPropertyInitializer.UNFETCHED_PROPERTY );
+	}
+
+	@Test
+	public void testOldestEntriesAreEvicted() {
+		final OffHeapStore store = OffHeapStore.allocate( "region", 1024, 1, encoding );
+		for ( int i = 0; i < 100; i++ ) {
+			store.put( i, "value " + i );
+		}
+		assertThat( store.size() ).isLessThan( 100 );
+		assertThat( store.get( 99 ) ).isEqualTo( "value 99" );
+		assertThat( store.get( 0 ) ).isNull();
+		final int size = store.size();
+		for ( int i = 100 - size; i < 100; i++ ) {
+			assertThat( store.get( i ) ).isEqualTo( "value " + i );
+		}
+		assertThat( store.contains( 100 - size - 1 ) ).isFalse();
+	}
+
+	@Test
+	public void testReplaceAndRemove() {
+		final OffHeapStore store = OffHeapStore.allocate( "region", 1024, 2, encoding );
+		store.put( "key", "value" );
+		store.put( "key", List.of( "replaced" ) );
+		assertThat( store.get( "key" ) ).isEqualTo( List.of( "replaced" ) );
+		assertThat( store.size() ).isEqualTo( 1 );
+		store.remove( "key" );
+		assertThat( store.get( "key" ) ).isNull();
+		store.put( "key", "value" );
+		store.clear();
+		assertThat( store.contains( "key" ) ).isFalse();
+		// too large for a segment
+		store.put( "key", "value" );
+		store.put( "key", new byte[1024] );
+		assertThat( store.contains( "key" ) ).isFalse();
+	}
+
+	@Test
+	public void testRestoreFromFile() {
+		final Path file = directory.resolve( "region.cache" );
+		final OffHeapStore store = OffHeapStore.map( "region", file, 4096, 4, encoding );
+		assertThat( store.isPersistent() ).isTrue();
+		// a mapped store is not available before it is restored
+		store.put( 0, "value 0" );
+		assertThat( store.size() ).isZero();
+		store.restore( 1L );
+		for ( int i = 0; i < 1000; i++ ) {
+			store.put( i, i % 2 == 0 ? "value " + i : i );
+		}
+		store.put( 999, "replaced" );
+		store.remove( 998 );
+		final int size = store.size();
+		store.close();
+
+		final OffHeapStore restored = OffHeapStore.map( "region", file, 4096, 4, encoding );
+		restored.restore( 1L );
+		assertThat( restored.size() ).isEqualTo( size );
+		assertThat( restored.get( 999 ) ).isEqualTo( "replaced" );
+		assertThat( restored.get( 998 ) ).isNull();
+		assertThat( restored.get( 996 ) ).isEqualTo( "value 996" );
+		restored.close();
+
+		// a different mapping discards the contents
+		final OffHeapStore remapped = OffHeapStore.map( "region", file, 4096, 4, encoding );
+		remapped.restore( 2L );
+		assertThat( remapped.size() ).isZero();
+		assertThat( remapped.get( 996 ) ).isNull();
+		remapped.put( 996, "value 996" );
+		remapped.close();
+
+		// a different layout discards the contents
+		final OffHeapStore resized = OffHeapStore.map( "region", file, 8192, 4, encoding );
+		resized.restore( 2L );
+		assertThat( resized.size() ).isZero();
+		resized.close();
+	}
+
+	@Test
+	public void testCollidingHashes() {
+		final OffHeapStore store = OffHeapStore.allocate( "region", 64 * 1024, 1, encoding );
+		// keys with the same hash code are told apart by their encoding
+		store.put( "Aa", "first" );
+		store.put( "BB", "second" );
+		assertThat( store.get( "Aa" ) ).isEqualTo( "first" );
+		assertThat( store.get( "BB" ) ).isEqualTo( "second" );
+		store.remove( "Aa" );
+		assertThat( store.get( "Aa" ) ).isNull();
+		assertThat( store.get( "BB" ) ).isEqualTo( "second" );
+	}
+}
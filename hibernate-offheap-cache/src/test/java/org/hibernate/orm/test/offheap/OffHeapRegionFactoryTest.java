@@ -0,0 +1,210 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.offheap;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.cache.offheap.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OffHeapRegionFactoryTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void testEntitiesAreCached() {
+		try ( StandardServiceRegistry registry = buildServiceRegistry( null );
+				SessionFactory sessionFactory = buildSessionFactory( registry ) ) {
+			final Statistics statistics = sessionFactory.getStatistics();
+			sessionFactory.inTransaction( session -> {
+				session.persist( new Book( 1L, "Hibernate in Action", new BigDecimal( "39.95" ), LocalDate.of( 2004, 8, 1 ) ) );
+				session.persist( new Book( 2L, "Java Persistence with Hibernate", null, null ) );
+			} );
+			statistics.clear();
+
+			sessionFactory.inTransaction( session -> {
+				final Book book = session.find( Book.class, 1L );
+				assertThat( book.title ).isEqualTo( "Hibernate in Action" );
+				assertThat( book.price ).isEqualTo( new BigDecimal( "39.95" ) );
+				assertThat( book.published ).isEqualTo( LocalDate.of( 2004, 8, 1 ) );
+				final Book other = session.find( Book.class, 2L );
+				assertThat( other.price ).isNull();
+				other.title = "Java Persistence with Hibernate, Second Edition";
+			} );
+			assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 2 );
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+
+			sessionFactory.inTransaction( session -> {
+				assertThat( session.find( Book.class, 2L ).title )
+						.isEqualTo( "Java Persistence with Hibernate, Second Edition" );
+			} );
+			assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 3 );
+
+			sessionFactory.getCache().evictEntityData( Book.class, 1L );
+			sessionFactory.inTransaction( session -> session.find( Book.class, 1L ) );
+			assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 1 );
+		}
+	}
+
+	@Test
+	public void testOldestEntriesAreEvicted() {
+		try ( StandardServiceRegistry registry = buildServiceRegistry( null, ConfigSettings.REGION_SIZE, "4096" );
+				SessionFactory sessionFactory = buildSessionFactory( registry ) ) {
+			sessionFactory.inTransaction( session -> {
+				for ( long id = 1; id <= 200; id++ ) {
+					session.persist( new Book( id, "Book " + id, null, null ) );
+				}
+			} );
+			final Statistics statistics = sessionFactory.getStatistics();
+			statistics.clear();
+
+			sessionFactory.inTransaction( session -> {
+				assertThat( session.find( Book.class, 200L ).title ).isEqualTo( "Book 200" );
+				assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+				assertThat( session.find( Book.class, 1L ).title ).isEqualTo( "Book 1" );
+				assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 1 );
+			} );
+		}
+	}
+
+	@Test
+	public void testRegionGrowsBeforeEvicting() {
+		try ( StandardServiceRegistry registry = buildServiceRegistry( null );
+				SessionFactory sessionFactory = buildSessionFactory( registry ) ) {
+			// more entries than fit into the initial size of the segment
+			sessionFactory.inTransaction( session -> {
+				for ( long id = 1; id <= 2000; id++ ) {
+					session.persist( new Book( id, "Book " + id, null, null ) );
+				}
+			} );
+			final Statistics statistics = sessionFactory.getStatistics();
+			statistics.clear();
+
+			sessionFactory.inTransaction( session -> {
+				assertThat( session.find( Book.class, 1L ).title ).isEqualTo( "Book 1" );
+				assertThat( session.find( Book.class, 2000L ).title ).isEqualTo( "Book 2000" );
+			} );
+			assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 2 );
+			assertThat( statistics.getSecondLevelCacheMissCount() ).isZero();
+		}
+	}
+
+	@Test
+	public void testCacheSurvivesRestart() {
+		try ( StandardServiceRegistry registry = buildServiceRegistry( directory );
+				SessionFactory sessionFactory = buildSessionFactory( registry ) ) {
+			sessionFactory.inTransaction( session ->
+					session.persist( new Book( 1L, "Hibernate in Action", null, LocalDate.of( 2004, 8, 1 ) ) ) );
+		}
+
+		try ( StandardServiceRegistry registry = buildServiceRegistry( directory );
+				SessionFactory sessionFactory = buildSessionFactory( registry ) ) {
+			// the new session factory starts with an empty database, so
+			// the book can only have been found in the restored cache
+			sessionFactory.inTransaction( session -> {
+				final Book book = session.find( Book.class, 1L );
+				assertThat( book ).isNotNull();
+				assertThat( book.title ).isEqualTo( "Hibernate in Action" );
+				assertThat( book.published ).isEqualTo( LocalDate.of( 2004, 8, 1 ) );
+			} );
+			assertThat( sessionFactory.getStatistics().getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+		}
+	}
+
+	@Test
+	public void testRestoredEntriesOfChangedMappingAreDiscarded() {
+		try ( StandardServiceRegistry registry = buildServiceRegistry( directory, AvailableSettings.CACHE_KEYS_FACTORY, "simple" );
+				SessionFactory sessionFactory = buildSessionFactory( registry, Book.class ) ) {
+			sessionFactory.inTransaction( session ->
+					session.persist( new Book( 1L, "Hibernate in Action", null, LocalDate.of( 2004, 8, 1 ) ) ) );
+		}
+
+		// the same entity and region, and, with simple keys, the same cache keys, but another property
+		try ( StandardServiceRegistry registry = buildServiceRegistry( directory, AvailableSettings.CACHE_KEYS_FACTORY, "simple" );
+				SessionFactory sessionFactory = buildSessionFactory( registry, RevisedBook.class ) ) {
+			sessionFactory.inTransaction( session -> assertThat( session.find( RevisedBook.class, 1L ) ).isNull() );
+			assertThat( sessionFactory.getStatistics().getSecondLevelCacheHitCount() ).isZero();
+		}
+	}
+
+	private static StandardServiceRegistry buildServiceRegistry(Path directory, String... settings) {
+		final var builder = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME )
+				.applySetting( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" )
+				.applySetting( AvailableSettings.GENERATE_STATISTICS, "true" )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( ConfigSettings.SEGMENTS, "1" );
+		if ( directory != null ) {
+			builder.applySetting( ConfigSettings.PERSISTENCE_DIRECTORY, directory.toString() );
+		}
+		for ( int i = 0; i < settings.length; i += 2 ) {
+			builder.applySetting( settings[i], settings[i + 1] );
+		}
+		return builder.build();
+	}
+
+	private static SessionFactory buildSessionFactory(StandardServiceRegistry registry) {
+		return buildSessionFactory( registry, Book.class );
+	}
+
+	private static SessionFactory buildSessionFactory(StandardServiceRegistry registry, Class<?> entityClass) {
+		return new MetadataSources( registry )
+				.addAnnotatedClass( entityClass )
+				.buildMetadata()
+				.buildSessionFactory();
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "books")
+	public static class Book {
+		@Id
+		Long id;
+		String title;
+		BigDecimal price;
+		LocalDate published;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, BigDecimal price, LocalDate published) {
+			this.id = id;
+			this.title = title;
+			this.price = price;
+			this.published = published;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "books")
+	public static class RevisedBook {
+		@Id
+		Long id;
+		String title;
+		String isbn;
+		BigDecimal price;
+		LocalDate published;
+	}
+}